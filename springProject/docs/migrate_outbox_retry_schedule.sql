@@ -0,0 +1,45 @@
+-- =====================================================
+-- outbox_messages 재시도 일정 컬럼 및 인덱스 추가
+-- =====================================================
+--
+-- 변경: OutboxMessage.nextAttemptAt (next_attempt_at, NOT NULL)
+--       - Relay는 status = 'PENDING' AND next_attempt_at <= now 인 메시지만 잠근다
+--       - 발행 실패 시 지수 백오프로 다음 시도 시각을 미룬다
+--       보관 기간 정리는 (status, published_at) 순서로 만료된 ID를 청크 단위로 조회한다
+-- 대상: next_attempt_at 도입 이전에 만들어진 기존 DB (prod는 ddl-auto: validate이므로 배포 전에 실행)
+--
+-- 기존 행은 생성 시각을 다음 시도 시각으로 채워 즉시 발행 대상이 되게 한다.
+-- 실행 전 반드시 백업 필요!
+-- =====================================================
+
+-- 1. 컬럼 추가 (기존 행을 채우기 전까지 NULL 허용)
+ALTER TABLE outbox_messages
+    ADD COLUMN next_attempt_at DATETIME NULL AFTER retry_count;
+
+-- 2. 기존 행의 다음 시도 시각 = 생성 시각
+UPDATE outbox_messages
+SET next_attempt_at = created_at
+WHERE next_attempt_at IS NULL;
+
+-- 3. NOT NULL 제약 적용
+ALTER TABLE outbox_messages
+    MODIFY COLUMN next_attempt_at DATETIME NOT NULL;
+
+-- 4. Relay 조회 인덱스 (PENDING + 다음 시도 시각 + id 순서, ORDER BY가 인덱스 순서와 같아 LIMIT에서 탐색이 끝남)
+ALTER TABLE outbox_messages
+    ADD INDEX idx_status_next_attempt (status, next_attempt_at, id);
+
+-- 5. 보관 기간 정리 인덱스 (PUBLISHED + 발행 시각)
+ALTER TABLE outbox_messages
+    ADD INDEX idx_status_published (status, published_at);
+
+-- 6. 확인
+SHOW CREATE TABLE outbox_messages;
+
+SELECT COUNT(*) AS missing_next_attempt
+FROM outbox_messages
+WHERE next_attempt_at IS NULL;
+
+-- =====================================================
+-- 완료!
+-- =====================================================
@@ -0,0 +1,72 @@
+-- =====================================================
+-- room_time_slots (room_id, slot_date, slot_time) Unique Key 적용
+-- =====================================================
+--
+-- 변경: idx_room_date_time (일반 인덱스) → uk_room_date_time (UNIQUE KEY)
+--       - LAZY 방식과 Rolling Window 밖 날짜는 첫 예약 시 INSERT IGNORE로 슬롯 행을 만든다
+--       - Unique Key가 없으면 INSERT IGNORE가 일반 INSERT로 동작해, 같은 날짜를 동시에 생성하면
+--         같은 슬롯 행이 두 개 생기고 각각 예약될 수 있다
+-- 대상: schema.sql로 만든 기존 DB (dev는 ddl-auto: none, prod는 validate이므로 Hibernate가 키를 추가하지 않음)
+--
+-- 중복 행은 예약 상태를 보존하도록 RESERVED > PENDING > CLOSED > AVAILABLE 순, 같으면 slot_id가 큰 행을 남긴다.
+-- 실행 전 반드시 백업 필요!
+-- =====================================================
+
+-- 1. 중복 데이터 확인
+SELECT room_id,
+       slot_date,
+       slot_time,
+       COUNT(*)                                      AS duplicate_count,
+       GROUP_CONCAT(slot_id ORDER BY slot_id)        AS slot_ids,
+       GROUP_CONCAT(status ORDER BY slot_id)         AS statuses,
+       GROUP_CONCAT(reservation_id ORDER BY slot_id) AS reservation_ids
+FROM room_time_slots
+GROUP BY room_id, slot_date, slot_time
+HAVING COUNT(*) > 1
+ORDER BY duplicate_count DESC;
+
+-- 2. 서로 다른 예약이 같은 슬롯을 잡은 중복 (이중 예약) - 삭제 전에 예약 서비스와 확인 필요
+SELECT room_id,
+       slot_date,
+       slot_time,
+       GROUP_CONCAT(DISTINCT reservation_id ORDER BY reservation_id) AS reservation_ids
+FROM room_time_slots
+WHERE status IN ('PENDING', 'RESERVED')
+GROUP BY room_id, slot_date, slot_time
+HAVING COUNT(DISTINCT reservation_id) > 1;
+
+-- 3. 조합마다 한 행만 남기고 삭제 (예약 상태 우선, 같으면 slot_id가 큰 행)
+DELETE t1
+FROM room_time_slots t1
+         INNER JOIN room_time_slots t2
+                    ON t1.room_id = t2.room_id
+                        AND t1.slot_date = t2.slot_date
+                        AND t1.slot_time = t2.slot_time
+                        AND t1.slot_id <> t2.slot_id
+WHERE (CASE t2.status WHEN 'RESERVED' THEN 3 WHEN 'PENDING' THEN 2 WHEN 'CLOSED' THEN 1 ELSE 0 END)
+          > (CASE t1.status WHEN 'RESERVED' THEN 3 WHEN 'PENDING' THEN 2 WHEN 'CLOSED' THEN 1 ELSE 0 END)
+   OR ((CASE t2.status WHEN 'RESERVED' THEN 3 WHEN 'PENDING' THEN 2 WHEN 'CLOSED' THEN 1 ELSE 0 END)
+          = (CASE t1.status WHEN 'RESERVED' THEN 3 WHEN 'PENDING' THEN 2 WHEN 'CLOSED' THEN 1 ELSE 0 END)
+       AND t2.slot_id > t1.slot_id);
+
+-- 4. 삭제 결과 확인 (중복이 없어야 함)
+SELECT room_id,
+       slot_date,
+       slot_time,
+       COUNT(*) AS count
+FROM room_time_slots
+GROUP BY room_id, slot_date, slot_time
+HAVING COUNT(*) > 1;
+
+-- 5. 일반 인덱스를 Unique Key로 교체 (같은 컬럼 순서이므로 조회 계획은 그대로)
+--    fix_duplicate_slots.sql로 이미 키를 추가한 DB에서도 실행할 수 있도록 IF [NOT] EXISTS 사용 (MariaDB)
+ALTER TABLE room_time_slots
+    DROP INDEX IF EXISTS idx_room_date_time,
+    ADD UNIQUE KEY IF NOT EXISTS uk_room_date_time (room_id, slot_date, slot_time);
+
+-- 6. 확인
+SHOW CREATE TABLE room_time_slots;
+
+-- =====================================================
+-- 완료!
+-- =====================================================
@@ -0,0 +1,187 @@
+package com.teambind.springproject.message.consume;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.message.event.Event;
+import com.teambind.springproject.message.handler.BatchEventHandler;
+import com.teambind.springproject.room.event.event.PaymentCompletedEvent;
+import com.teambind.springproject.room.event.event.SlotCancelledEvent;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * 임베디드 Kafka(KRaft)에서 EventConsumer의 초당 처리 이벤트 수 비교.
+ * <p>
+ * perRecord: 기존 방식 (레코드마다 트랜잭션 하나)
+ * batched: poll 단위로 핸들러 타입/예약별로 묶어 묶음마다 트랜잭션 하나
+ * <p>
+ * 두 방식 모두 offset은 poll마다 한 번 커밋하므로 차이는 트랜잭션 묶음 효과만 반영한다.
+ * 핸들러는 트랜잭션 한 번의 고정 비용(IN 조회 + bulk UPDATE + 커밋 왕복) TX_COST_MICROS와
+ * 이벤트마다 늘어나는 행 처리 비용 ROW_COST_MICROS를 합한 시간만큼 대기로 흉내 낸다.
+ * 매 호출마다 같은 파티션을 처음부터 다시 읽는다 (그룹 재조인 없이 assign).
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EventConsumerBatchBenchmark {
+
+	private static final String TOPIC = "benchmark-events";
+	private static final int EVENTS = 2000;
+	private static final int RESERVATIONS = 500;
+	private static final int MAX_POLL_RECORDS = 500;
+	private static final long TX_COST_MICROS = 200;
+	private static final long ROW_COST_MICROS = 20;
+
+	private EmbeddedKafkaKraftBroker broker;
+	private KafkaConsumer<String, String> kafkaConsumer;
+	private TopicPartition partition;
+	private EventConsumer eventConsumer;
+	private Acknowledgment acknowledgment;
+	// perRecord는 레코드마다 ack를 받지만 커밋은 poll 단위로 모아서 한다
+	private final Acknowledgment deferredAcknowledgment = () -> {
+	};
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		broker = new EmbeddedKafkaKraftBroker(1, 1, TOPIC);
+		broker.afterPropertiesSet();
+
+		// 결제 완료 / 슬롯 취소 이벤트를 예약 ID 키로 섞어서 적재
+		Random random = new Random(42L);
+		try (KafkaProducer<String, String> producer = new KafkaProducer<>(Map.of(
+				ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+				ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+				ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class))) {
+			for (int i = 0; i < EVENTS; i++) {
+				long reservationId = 1 + random.nextInt(RESERVATIONS);
+				String value = random.nextInt(4) == 0
+						? "{\"eventType\":\"SlotCancelled\",\"reservationId\":\"" + reservationId + "\"}"
+						: "{\"eventType\":\"PaymentCompleted\",\"paymentId\":\"P" + i
+						+ "\",\"reservationId\":\"" + reservationId + "\",\"amount\":10000}";
+				producer.send(new ProducerRecord<>(TOPIC, String.valueOf(reservationId), value));
+			}
+			producer.flush();
+		}
+
+		kafkaConsumer = new KafkaConsumer<>(Map.of(
+				ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+				ConsumerConfig.GROUP_ID_CONFIG, "benchmark-group",
+				ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+				ConsumerConfig.MAX_POLL_RECORDS_CONFIG, MAX_POLL_RECORDS,
+				ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+				ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class));
+		partition = new TopicPartition(TOPIC, 0);
+		kafkaConsumer.assign(List.of(partition));
+		acknowledgment = kafkaConsumer::commitSync;
+
+		eventConsumer = new EventConsumer(List.of(
+				new SimulatedHandler<PaymentCompletedEvent>("PaymentCompleted",
+						event -> Long.parseLong(event.getReservationId())),
+				new SimulatedHandler<SlotCancelledEvent>("SlotCancelled", SlotCancelledEvent::getReservationId)
+		), new ObjectMapper());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		kafkaConsumer.close();
+		broker.destroy();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(EVENTS)
+	public int perRecord() {
+		kafkaConsumer.seekToBeginning(List.of(partition));
+		int consumed = 0;
+		while (consumed < EVENTS) {
+			int polled = 0;
+			for (ConsumerRecord<String, String> record : kafkaConsumer.poll(Duration.ofSeconds(1))) {
+				eventConsumer.consume(List.of(record), deferredAcknowledgment);
+				polled++;
+			}
+			if (polled > 0) {
+				acknowledgment.acknowledge();
+				consumed += polled;
+			}
+		}
+		return consumed;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(EVENTS)
+	public int batched() {
+		kafkaConsumer.seekToBeginning(List.of(partition));
+		int consumed = 0;
+		while (consumed < EVENTS) {
+			List<ConsumerRecord<String, String>> records = new ArrayList<>(MAX_POLL_RECORDS);
+			kafkaConsumer.poll(Duration.ofSeconds(1)).forEach(records::add);
+			if (!records.isEmpty()) {
+				eventConsumer.consume(records, acknowledgment);
+				consumed += records.size();
+			}
+		}
+		return consumed;
+	}
+
+	/**
+	 * handleBatch 한 번을 트랜잭션 하나로 보고 TX_COST_MICROS + 이벤트 수 * ROW_COST_MICROS만큼 대기한다.
+	 */
+	private static final class SimulatedHandler<T extends Event> implements BatchEventHandler<T> {
+
+		private final String eventType;
+		private final Function<T, Long> reservationId;
+
+		private SimulatedHandler(String eventType, Function<T, Long> reservationId) {
+			this.eventType = eventType;
+			this.reservationId = reservationId;
+		}
+
+		@Override
+		public void handle(T event) {
+			handleBatch(List.of(event));
+		}
+
+		@Override
+		public void handleBatch(List<T> events) {
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(TX_COST_MICROS + ROW_COST_MICROS * events.size()));
+		}
+
+		@Override
+		public Long reservationIdOf(T event) {
+			return reservationId.apply(event);
+		}
+
+		@Override
+		public String getSupportedEventType() {
+			return eventType;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.teambind.springproject.room.entity.vo;
+
+import com.teambind.springproject.room.entity.enums.RecurrencePattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 휴무 범위 수(10 / 100 / 1,000)에 따른 휴무 판단 비용 비교.
+ * <p>
+ * linear*: 기존 방식 (ClosedDateRange 목록 전체 순회)
+ * indexed*: ClosedDateIndex 사용
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClosedDateIndexBenchmark {
+
+	private static final LocalDate BASE = LocalDate.of(2020, 1, 1);
+	private static final int HISTORY_DAYS = 3650;
+	private static final int QUERIES = 1024;
+
+	@Param({"10", "100", "1000"})
+	private int rangeCount;
+
+	private List<ClosedDateRange> ranges;
+	private ClosedDateIndex index;
+	private LocalDate[] queryDates;
+	private LocalTime[] queryTimes;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(42L);
+		ranges = new ArrayList<>(rangeCount);
+		for (int i = 0; i < rangeCount; i++) {
+			LocalDate start = BASE.plusDays(random.nextInt(HISTORY_DAYS));
+			// 대부분 날짜 기반 휴무 이력, 일부 패턴 기반 휴무
+			switch (random.nextInt(10)) {
+				case 0 -> ranges.add(ClosedDateRange.ofPatternTimeRange(
+						DayOfWeek.of(1 + random.nextInt(7)), RecurrencePattern.ODD_WEEK,
+						LocalTime.of(9, 0), LocalTime.of(12, 0)));
+				case 1, 2, 3 -> ranges.add(ClosedDateRange.ofTimeRange(
+						start, LocalTime.of(13, 0), LocalTime.of(15, 0)));
+				case 4, 5 -> ranges.add(ClosedDateRange.ofDateRange(start, start.plusDays(random.nextInt(14))));
+				default -> ranges.add(ClosedDateRange.ofFullDay(start));
+			}
+		}
+		index = ClosedDateIndex.of(ranges);
+
+		queryDates = new LocalDate[QUERIES];
+		queryTimes = new LocalTime[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			queryDates[i] = BASE.plusDays(random.nextInt(HISTORY_DAYS));
+			queryTimes[i] = LocalTime.of(random.nextInt(24), random.nextInt(2) * 30);
+		}
+	}
+
+	@Benchmark
+	public boolean linearIsClosedAt() {
+		int i = next();
+		LocalDate date = queryDates[i];
+		LocalTime time = queryTimes[i];
+		for (ClosedDateRange range : ranges) {
+			if (range.contains(date, time)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Benchmark
+	public boolean indexedIsClosedAt() {
+		int i = next();
+		return index.isClosedAt(queryDates[i], queryTimes[i]);
+	}
+
+	@Benchmark
+	public List<ClosedDateRange> linearClosuresInMonth() {
+		LocalDate from = queryDates[next()];
+		LocalDate to = from.plusDays(30);
+		List<ClosedDateRange> result = new ArrayList<>();
+		for (ClosedDateRange range : ranges) {
+			// 31일 기간에는 모든 패턴 기반 휴무가 포함된다
+			if (range.isPatternBased()) {
+				result.add(range);
+				continue;
+			}
+			LocalDate end = range.getEndDate() != null ? range.getEndDate() : range.getStartDate();
+			if (!range.getStartDate().isAfter(to) && !end.isBefore(from)) {
+				result.add(range);
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<ClosedDateRange> indexedClosuresInMonth() {
+		LocalDate from = queryDates[next()];
+		return index.closuresIntersecting(from, from.plusDays(30));
+	}
+
+	private int next() {
+		cursor = (cursor + 1) & (QUERIES - 1);
+		return cursor;
+	}
+}
@@ -1,6 +1,31 @@
 package com.teambind.springproject.common.config;
 
+import com.teambind.springproject.room.infrastructure.stream.RedisSlotTransitionFanoutAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
-//TODO
+/**
+ * Redis Pub/Sub 설정.
+ * <p>
+ * 슬롯 상태 전이 채널을 구독하여 인스턴스 간 실시간 스트림 이벤트를 전파한다.
+ */
+@Configuration
 public class RedisConfig {
+	
+	@Bean
+	@ConditionalOnProperty(name = "room.slot-stream.fanout", havingValue = "redis", matchIfMissing = true)
+	public RedisMessageListenerContainer slotTransitionListenerContainer(
+			RedisConnectionFactory connectionFactory,
+			RedisSlotTransitionFanoutAdapter slotTransitionFanoutAdapter
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(slotTransitionFanoutAdapter,
+				new ChannelTopic(RedisSlotTransitionFanoutAdapter.CHANNEL));
+		return container;
+	}
 }
@@ -24,6 +24,7 @@ public enum ErrorCode {
 	EXTERNAL_API_ERROR("SYSTEM_003", "External API error", HttpStatus.BAD_GATEWAY),
 	CACHE_ERROR("SYSTEM_004", "Cache error", HttpStatus.INTERNAL_SERVER_ERROR),
 	EVENT_PUBLISH_FAILED("SYSTEM_005", "Failed to publish event", HttpStatus.INTERNAL_SERVER_ERROR),
+	STREAM_SUBSCRIBER_LIMIT_EXCEEDED("SYSTEM_006", "Too many stream subscribers", HttpStatus.SERVICE_UNAVAILABLE),
 	
 	// Room 관련 에러 (ROOM_0XX)
 	ROOM_NOT_FOUND("ROOM_001", "Room not found", HttpStatus.NOT_FOUND),
@@ -46,6 +47,11 @@ public enum ErrorCode {
 	TIME_INVALID_RANGE("TIME_001", "Invalid time range", HttpStatus.BAD_REQUEST),
 	TIME_PAST_DATE_NOT_ALLOWED("TIME_002", "Past date is not allowed", HttpStatus.BAD_REQUEST),
 	TIME_SLOT_GENERATION_FAILED("TIME_003", "Failed to generate time slots", HttpStatus.INTERNAL_SERVER_ERROR),
+	
+	// 슬롯 생성 요청 관련 에러 (GENERATION_0XX)
+	GENERATION_NOT_CANCELLABLE("GENERATION_001", "Slot generation request cannot be cancelled", HttpStatus.CONFLICT),
+	GENERATION_QUEUE_FULL("GENERATION_002", "Too many pending slot generation requests", HttpStatus.TOO_MANY_REQUESTS),
+	GENERATION_CONFLICT("GENERATION_003", "Slot generation request was modified concurrently", HttpStatus.CONFLICT),
 	;
 	private final String errCode;
 	private final String message;
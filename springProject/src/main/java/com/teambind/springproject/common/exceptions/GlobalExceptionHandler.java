@@ -3,6 +3,7 @@ package com.teambind.springproject.common.exceptions;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -48,6 +49,23 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 		return ResponseEntity.badRequest().body(body);
 	}
 	
+	/**
+	 * 동시 변경 충돌 처리 (재시도 후에도 충돌하면 409로 응답해 클라이언트가 다시 요청하도록 한다)
+	 */
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+			OptimisticLockingFailureException ex, HttpServletRequest request) {
+		log.warn("Concurrent modification conflict: {}", ex.getMessage());
+		
+		ErrorResponse errorResponse = ErrorResponse.of(
+				HttpStatus.CONFLICT.value(),
+				ErrorCode.GENERATION_CONFLICT.getErrCode(),
+				ErrorCode.GENERATION_CONFLICT.getMessage(),
+				request.getRequestURI()
+		);
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+	}
+	
 	/**
 	 * 일반 예외 처리 (최종 fallback)
 	 */
@@ -0,0 +1,34 @@
+package com.teambind.springproject.common.exceptions.application;
+
+import com.teambind.springproject.common.exceptions.CustomException;
+import com.teambind.springproject.common.exceptions.ErrorCode;
+
+/**
+ * 서버가 수용 가능한 한도(구독자 수, 작업 큐 등)를 초과했을 때 발생하는 예외
+ * HTTP 상태는 ErrorCode에 따름 (503 Service Unavailable 등)
+ */
+public class CapacityExceededException extends CustomException {
+	
+	public CapacityExceededException(ErrorCode errorCode, String message) {
+		super(errorCode, message);
+	}
+	
+	public static CapacityExceededException streamSubscribers(int limit) {
+		return new CapacityExceededException(
+				ErrorCode.STREAM_SUBSCRIBER_LIMIT_EXCEEDED,
+				"실시간 구독자 수가 한도를 초과했습니다. 최대: " + limit
+		);
+	}
+	
+	public static CapacityExceededException slotGenerationQueue(int limit) {
+		return new CapacityExceededException(
+				ErrorCode.GENERATION_QUEUE_FULL,
+				"대기 중인 슬롯 생성 요청이 한도를 초과했습니다. 잠시 후 다시 시도해주세요. 최대: " + limit
+		);
+	}
+	
+	@Override
+	public String getExceptionType() {
+		return "APPLICATION";
+	}
+}
@@ -22,6 +22,13 @@ public class InvalidRequestException extends CustomException {
 		super(errorCode, message);
 	}
 	
+	public static InvalidRequestException generationNotCancellable(String currentStatus) {
+		return new InvalidRequestException(
+				ErrorCode.GENERATION_NOT_CANCELLABLE,
+				"대기 중인 요청만 취소할 수 있습니다. 현재 상태: " + currentStatus
+		);
+	}
+	
 	public static InvalidRequestException invalidFormat(String fieldName) {
 		return new InvalidRequestException(
 				ErrorCode.INVALID_FORMAT,
@@ -1,6 +1,7 @@
 package com.teambind.springproject.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -16,7 +17,10 @@ import java.util.concurrent.ThreadPoolExecutor;
  * @Async 어노테이션을 사용하는 비동기 메서드들을 위한 스레드풀을 설정합니다.
  * <p>
  * 설정된 Executor:
- * - outboxExecutor: Outbox 즉시 발행 전용 (ImmediatePublisher)
+ * - slotStreamExecutor: 슬롯 실시간 스트림(SSE) 전송 전용
+ * - slotGenerationExecutor: 전체 룸 슬롯 생성 워커 전용
+ * - regenerationExecutor: 운영 시간 변경에 따른 룸별 슬롯 재생성 작업 전용
+ * - slotGenerationJobExecutor: 룸 초기 설정 슬롯 생성 작업(체크포인트/재개) 전용
  */
 @Slf4j
 @Configuration
@@ -24,53 +28,132 @@ import java.util.concurrent.ThreadPoolExecutor;
 public class AsyncConfig {
 	
 	/**
-	 * Outbox 즉시 발행을 위한 전용 스레드풀.
+	 * 슬롯 실시간 스트림(SSE) 전송을 위한 전용 스레드풀.
 	 * <p>
-	 * 설정 근거:
-	 * - Core Size: 5 - 일반적인 동시 이벤트 발행량
-	 * - Max Size: 20 - 부하 시 확장 가능
-	 * - Queue Capacity: 100 - 스레드 대기열
-	 * - Keep Alive: 60초 - 유휴 스레드 정리
+	 * 구독자별 전송 작업(버퍼 drain)을 실행한다. 구독자당 동시에 하나의 작업만 제출되므로
+	 * 큐에는 최대 (구독자 수)만큼의 작업만 쌓인다.
 	 * <p>
-	 * CallerRunsPolicy:
-	 * - 큐가 가득 찬 경우 호출 스레드에서 직접 실행
-	 * - 메시지 손실 방지 (Outbox에는 이미 저장됨)
-	 * - 자연스러운 백프레셔 (시스템 과부하 시)
+	 * AbortPolicy:
+	 * - 큐가 가득 찬 경우 작업을 거부하고, 구독자는 다음 이벤트/heartbeat 시 재시도
+	 * - 커밋 스레드(이벤트 발행자)가 느린 클라이언트 전송에 묶이지 않도록 CallerRuns를 사용하지 않음
 	 *
-	 * @return Outbox 전용 Executor
+	 * @return 슬롯 스트림 전송 전용 Executor
 	 */
-	@Bean(name = "outboxExecutor")
-	public Executor outboxExecutor() {
+	@Bean(name = "slotStreamExecutor")
+	public Executor slotStreamExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(16);
+		executor.setQueueCapacity(5000);
+		executor.setKeepAliveSeconds(60);
+		executor.setThreadNamePrefix("slot-stream-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
 		
-		// 기본 스레드 수
-		executor.setCorePoolSize(5);
-		
-		// 최대 스레드 수
-		executor.setMaxPoolSize(20);
+		log.info("Slot stream executor initialized: coreSize={}, maxSize={}, queueCapacity={}",
+				executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
 		
-		// 큐 용량
-		executor.setQueueCapacity(100);
+		return executor;
+	}
+	
+	/**
+	 * 전체 룸 슬롯 생성(Rolling Window 배치)을 위한 워커 스레드풀.
+	 * <p>
+	 * 워커마다 룸 단위 트랜잭션으로 DB 커넥션 하나를 점유하므로, 워커 수는 Hikari 풀 크기에서
+	 * 예약 커넥션(API 요청, Outbox 등)을 뺀 값을 넘지 않도록 제한한다.
+	 * <p>
+	 * 엔진은 워커 수만큼의 작업만 제출하고 각 워커가 공유 큐에서 룸을 꺼내 처리하므로
+	 * 큐 용량은 워커 수와 같다. 실행이 겹쳐 제출이 거부되면 엔진은 제출된 워커만으로 처리하거나,
+	 * 하나도 제출하지 못하면 호출 스레드에서 직접 처리한다.
+	 *
+	 * @return 슬롯 생성 전용 Executor
+	 */
+	@Bean(name = "slotGenerationExecutor")
+	public ThreadPoolTaskExecutor slotGenerationExecutor(
+			@Value("${room.slot-generation.max-workers:8}") int maxWorkers,
+			@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+			@Value("${room.slot-generation.reserved-connections:4}") int reservedConnections
+	) {
+		int workers = Math.max(1, Math.min(maxWorkers, connectionPoolSize - reservedConnections));
 		
-		// 유휴 스레드 유지 시간 (초)
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setQueueCapacity(workers);
 		executor.setKeepAliveSeconds(60);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("slot-generation-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
 		
-		// 스레드 이름 접두사 (로그 추적용)
-		executor.setThreadNamePrefix("outbox-async-");
-		
-		// 큐 초과 시 정책: 호출 스레드에서 실행
-		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		log.info("Slot generation executor initialized: workers={}, connectionPoolSize={}, reservedConnections={}",
+				workers, connectionPoolSize, reservedConnections);
 		
-		// 초기화 대기
+		return executor;
+	}
+	
+	/**
+	 * 운영 시간 변경에 따른 슬롯 재생성 작업을 위한 스레드풀.
+	 * <p>
+	 * 작업 실행기가 룸마다 동시에 하나의 작업만 제출하므로 큐에는 서로 다른 룸의 작업만 쌓인다.
+	 * <p>
+	 * AbortPolicy:
+	 * - 큐가 가득 찬 경우 작업을 거부하고 요청을 FAILED로 기록
+	 * - 요청 스레드(커밋 이후 리스너)가 재생성 작업을 직접 실행해 API 응답이 지연되지 않도록 CallerRuns를 사용하지 않음
+	 *
+	 * @return 슬롯 재생성 전용 Executor
+	 */
+	@Bean(name = "regenerationExecutor")
+	public ThreadPoolTaskExecutor regenerationExecutor(
+			@Value("${room.operating-hours.regeneration.workers:2}") int workers,
+			@Value("${room.operating-hours.regeneration.queue-capacity:100}") int queueCapacity
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setKeepAliveSeconds(60);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("slot-regeneration-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 		executor.setWaitForTasksToCompleteOnShutdown(true);
-		
-		// 종료 대기 시간 (초)
 		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
 		
+		log.info("Regeneration executor initialized: workers={}, queueCapacity={}", workers, queueCapacity);
+		
+		return executor;
+	}
+	
+	/**
+	 * 룸 초기 설정 슬롯 생성 작업을 위한 스레드풀.
+	 * <p>
+	 * Kafka 리스너는 작업을 제출만 하고 바로 반환하므로, 슬롯 생성이 다른 이벤트 처리를 막지 않는다.
+	 * <p>
+	 * AbortPolicy:
+	 * - 큐가 가득 차면 작업을 거부하고 요청은 REQUESTED로 남음 (복구 스케줄러가 여유가 생기면 다시 제출)
+	 * - 요청 레코드가 작업 큐의 원본이므로 거부되어도 유실되지 않음
+	 *
+	 * @return 슬롯 생성 작업 전용 Executor
+	 */
+	@Bean(name = "slotGenerationJobExecutor")
+	public ThreadPoolTaskExecutor slotGenerationJobExecutor(
+			@Value("${room.slot-generation.jobs.workers:2}") int workers,
+			@Value("${room.slot-generation.jobs.queue-capacity:50}") int queueCapacity
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setKeepAliveSeconds(60);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("slot-generation-job-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 		executor.initialize();
 		
-		log.info("Outbox async executor initialized: coreSize={}, maxSize={}, queueCapacity={}",
-				executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+		log.info("Slot generation job executor initialized: workers={}, queueCapacity={}", workers, queueCapacity);
 		
 		return executor;
 	}
@@ -0,0 +1,58 @@
+package com.teambind.springproject.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.time.Duration;
+
+/**
+ * Kafka 컨슈머 에러 처리 설정.
+ * <p>
+ * EventConsumer가 BatchListenerFailedException으로 알린 레코드 이전까지 offset을 커밋하고,
+ * 실패한 레코드부터 지수 백오프로 재전달한다. 재시도 시간을 넘기면 실패한 레코드를 {topic}-dlt로 보내고 다음 레코드로 넘어간다.
+ * <p>
+ * 업무 규칙 위반처럼 재시도해도 결과가 같은 예외는 EventConsumer가 로그만 남기고 건너뛰므로 여기까지 오지 않는다.
+ * Spring Boot는 이 빈을 기본 리스너 컨테이너 팩토리에 적용한다.
+ */
+@Slf4j
+@Configuration
+public class KafkaConsumerConfig {
+	
+	private static final String DEAD_LETTER_SUFFIX = "-dlt";
+	
+	/**
+	 * 재전달 백오프와 DLT 발행을 갖춘 리스너 에러 핸들러.
+	 *
+	 * @return 리스너 컨테이너 공통 에러 핸들러
+	 */
+	@Bean
+	public DefaultErrorHandler kafkaErrorHandler(
+			KafkaTemplate<String, String> kafkaTemplate,
+			@Value("${message.consumer.retry.initial-interval:PT1S}") Duration initialInterval,
+			@Value("${message.consumer.retry.multiplier:2.0}") double multiplier,
+			@Value("${message.consumer.retry.max-interval:PT30S}") Duration maxInterval,
+			@Value("${message.consumer.retry.max-elapsed-time:PT2M}") Duration maxElapsedTime
+	) {
+		// DLT의 파티션 수가 원본과 달라도 발행되도록 파티션은 지정하지 않는다
+		DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+				(record, exception) -> new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, -1));
+		
+		ExponentialBackOff backOff = new ExponentialBackOff(initialInterval.toMillis(), multiplier);
+		backOff.setMaxInterval(maxInterval.toMillis());
+		backOff.setMaxElapsedTime(maxElapsedTime.toMillis());
+		
+		DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+		
+		log.info("Kafka error handler initialized: initialInterval={}, multiplier={}, maxInterval={}, maxElapsedTime={}",
+				initialInterval, multiplier, maxInterval, maxElapsedTime);
+		
+		return errorHandler;
+	}
+}
@@ -2,15 +2,23 @@ package com.teambind.springproject.message.consume;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.common.exceptions.CustomException;
 import com.teambind.springproject.message.dto.*;
 import com.teambind.springproject.message.event.Event;
+import com.teambind.springproject.message.handler.BatchEventHandler;
 import com.teambind.springproject.message.handler.EventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +26,7 @@ import java.util.Map;
  * 통합 이벤트 컨슈머
  * <p>
  * 모든 이벤트 토픽을 구독하여 eventType에 따라 적절한 핸들러로 라우팅한다.
+ * poll 단위 배치 리스너로 동작하며 (spring.kafka.listener.type: batch), 처리 후 offset을 직접 커밋한다.
  */
 @Slf4j
 @Component
@@ -46,17 +55,93 @@ public class EventConsumer {
 	private final ObjectMapper objectMapper;
 	
 	/**
-	 * Kafka에서 이벤트를 수신하여 처리한다.
+	 * Kafka에서 한 번의 poll로 받은 이벤트를 묶어서 처리한다.
+	 * <p>
+	 * 처리 방식:
+	 * - BatchEventHandler가 처리하는 이벤트는 핸들러 타입별로 묶어 handleBatch를 한 번 호출 (묶음마다 트랜잭션 하나)
+	 * - 같은 예약의 이벤트가 다른 핸들러 묶음에 이미 있으면, 지금까지의 묶음을 먼저 처리해 도착 순서를 지킴
+	 * - 그 외 핸들러의 이벤트는 앞선 묶음을 처리한 뒤 하나씩 처리
+	 * - 모두 성공하면 offset 커밋 (ack-mode: manual)
+	 * <p>
+	 * 실패 시:
+	 * - 업무 규칙 위반(원인 없는 CustomException, 잘못된 입력값)은 재전달해도 결과가 같으므로 기존처럼 로그만 남기고 건너뜀
+	 * - 묶음 처리가 실패하면 남은 묶음의 이벤트를 도착 순서대로 하나씩 다시 처리해 실제로 실패한 레코드를 찾음
+	 * - 재시도할 수 있는 실패는 해당 레코드 위치로 BatchListenerFailedException을 던짐
+	 *   (앞선 레코드의 offset은 커밋되고, 실패한 레코드부터 KafkaConsumerConfig의 에러 핸들러가 재전달/DLT 처리)
+	 * - 형식이 잘못되었거나 알 수 없는 이벤트는 로그만 남기고 건너뜀
 	 *
-	 * @param message JSON 형식의 이벤트 메시지
+	 * @param records        poll로 받은 레코드 목록
+	 * @param acknowledgment offset 커밋
 	 */
 	@KafkaListener(
 			topics = {"reservation-reserved", "reservation-cancelled", "reservation-restored",
 					"payment-completed", "refund-completed", "payment-cancelled",
 					"slot-generation-requested", "closed-date-update-requested"},
-			groupId = "room-operation-consumer-group"
+			groupId = "room-operation-consumer-group",
+			batch = "true"
 	)
-	public void consume(String message) {
+	public void consume(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+		BatchGroups groups = new BatchGroups();
+		int processed = 0;
+		
+		for (int index = 0; index < records.size(); index++) {
+			Event event = toEvent(records.get(index).value());
+			if (event == null) {
+				continue;
+			}
+			
+			// 해당 이벤트를 처리할 핸들러 찾기 (변환된 이벤트 타입 기준)
+			EventHandler handler = findHandler(event.getEventTypeName());
+			if (handler == null) {
+				log.warn("No handler found for event type: {}", event.getEventTypeName());
+				continue;
+			}
+			
+			if (handler instanceof BatchEventHandler batchHandler) {
+				Long reservationId = reservationIdOf(batchHandler, event);
+				if (reservationId == null) {
+					continue;
+				}
+				// 같은 예약의 이벤트가 다른 묶음에 있으면 순서를 지키기 위해 먼저 처리
+				if (groups.conflicts(reservationId, batchHandler)) {
+					processed += groups.flush();
+				}
+				groups.add(batchHandler, reservationId, event, index);
+				continue;
+			}
+			
+			processed += groups.flush();
+			if (handleSingle(handler, event, index)) {
+				processed++;
+			}
+		}
+		processed += groups.flush();
+		
+		acknowledgment.acknowledge();
+		log.info("Event batch processed: records={}, processed={}", records.size(), processed);
+	}
+	
+	/**
+	 * 다시 전달해도 결과가 바뀌지 않는 예외인지 판단한다.
+	 * <p>
+	 * 원인 없이 던진 CustomException(슬롯 없음, 잘못된 상태 전이 등 업무 규칙 위반)과 잘못된 입력값은 재시도하지 않는다.
+	 * 원인을 감싼 CustomException(SlotGenerationFailedException 등)과 그 외 예외(DB/네트워크 장애 등)는 재시도한다.
+	 *
+	 * @param e 핸들러가 던진 예외
+	 * @return 재시도할 수 없으면 true
+	 */
+	static boolean isNonRetryable(Throwable e) {
+		return (e instanceof CustomException && e.getCause() == null)
+				|| e instanceof IllegalArgumentException;
+	}
+	
+	/**
+	 * JSON 메시지를 Event로 변환한다.
+	 *
+	 * @param message JSON 형식의 이벤트 메시지
+	 * @return 변환된 이벤트 (건너뛸 메시지면 null)
+	 */
+	private Event toEvent(String message) {
 		try {
 			// 1. JSON에서 eventType 추출
 			JsonNode jsonNode = objectMapper.readTree(message);
@@ -66,41 +151,136 @@ public class EventConsumer {
 			if (eventTypeNode == null || eventTypeNode.isNull()) {
 				log.warn("Skipping message without eventType field: {}",
 						message.length() > 100 ? message.substring(0, 100) + "..." : message);
-				return;
+				return null;
 			}
 
 			String eventType = eventTypeNode.asText();
 
-			log.info("Received event: type={}", eventType);
+			log.debug("Received event: type={}", eventType);
 			
 			// 2. eventType에 해당하는 Message DTO 클래스 찾기
 			Class<?> messageClass = MESSAGE_TYPE_MAP.get(eventType);
 			if (messageClass == null) {
 				log.error("Unknown event type: {}", eventType);
-				return;
+				return null;
 			}
 			
 			// 3. JSON을 Message DTO로 역직렬화 (ID: String)
 			Object messageDto = objectMapper.readValue(message, messageClass);
 			
 			// 4. Message DTO를 Event로 변환 (ID: String → Long)
-			Event event = convertToEvent(messageDto);
+			return convertToEvent(messageDto);
 			
-			// 5. 해당 이벤트를 처리할 핸들러 찾기 (변환된 이벤트 타입 기준)
-			EventHandler handler = findHandler(event.getEventTypeName());
-			if (handler == null) {
-				log.warn("No handler found for event type: {}", eventType);
-				return;
-			}
-			
-			// 6. 핸들러로 이벤트 처리 위임
+		} catch (Exception e) {
+			log.error("Failed to parse event: {}", message, e);
+			return null;
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private Long reservationIdOf(BatchEventHandler handler, Event event) {
+		try {
+			return handler.reservationIdOf(event);
+		} catch (Exception e) {
+			log.error("Skipping event with invalid reservationId: type={}, reason={}",
+					event.getEventTypeName(), e.getMessage());
+			return null;
+		}
+	}
+	
+	/**
+	 * 이벤트 하나를 처리한다.
+	 *
+	 * @return 처리했으면 true, 재시도할 수 없는 예외로 건너뛰었으면 false
+	 * @throws BatchListenerFailedException 재시도할 수 있는 예외 (index 레코드부터 재전달)
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean handleSingle(EventHandler handler, Event event, int index) {
+		try {
+			// 핸들러로 이벤트 처리 위임
 			handler.handle(event);
+			return true;
+		} catch (Exception e) {
+			if (isNonRetryable(e)) {
+				log.error("Skipping event rejected by business rule: type={}, reason={}",
+						event.getEventTypeName(), e.getMessage());
+				return false;
+			}
+			throw new BatchListenerFailedException(
+					"Failed to process event: type=" + event.getEventTypeName(), e, index);
+		}
+	}
+	
+	/**
+	 * 묶음에 들어간 이벤트와 레코드 위치.
+	 */
+	private record PendingEvent(BatchEventHandler handler, Event event, int index) {
+	}
+	
+	/**
+	 * 핸들러 타입별 이벤트 묶음.
+	 * <p>
+	 * 묶음에 들어간 예약 ID와 그 핸들러를 기록해, 같은 예약이 다른 핸들러로 들어오면 순서 충돌로 판단한다.
+	 */
+	private final class BatchGroups {
+		
+		private final Map<BatchEventHandler, List<PendingEvent>> eventsByHandler = new LinkedHashMap<>();
+		private final Map<Long, BatchEventHandler> handlerByReservation = new HashMap<>();
+		
+		boolean conflicts(Long reservationId, BatchEventHandler handler) {
+			BatchEventHandler owner = handlerByReservation.get(reservationId);
+			return owner != null && owner != handler;
+		}
+		
+		void add(BatchEventHandler handler, Long reservationId, Event event, int index) {
+			eventsByHandler.computeIfAbsent(handler, key -> new ArrayList<>())
+					.add(new PendingEvent(handler, event, index));
+			handlerByReservation.put(reservationId, handler);
+		}
+		
+		/**
+		 * 쌓인 묶음을 핸들러별로 한 번씩 처리한다.
+		 * <p>
+		 * 묶음 하나가 실패하면 그 묶음과 아직 처리하지 않은 묶음의 이벤트를 도착 순서대로 하나씩 처리한다.
+		 *
+		 * @return 처리한 이벤트 수
+		 */
+		@SuppressWarnings("unchecked")
+		int flush() {
+			if (eventsByHandler.isEmpty()) {
+				return 0;
+			}
+			List<List<PendingEvent>> groups = new ArrayList<>(eventsByHandler.values());
+			eventsByHandler.clear();
+			handlerByReservation.clear();
 			
-			log.info("Event processed successfully: type={}", eventType);
+			int processed = 0;
+			for (int i = 0; i < groups.size(); i++) {
+				List<PendingEvent> group = groups.get(i);
+				try {
+					group.get(0).handler().handleBatch(group.stream().map(PendingEvent::event).toList());
+					processed += group.size();
+				} catch (Exception e) {
+					log.warn("Event batch failed, retrying one by one: type={}, events={}, reason={}",
+							group.get(0).event().getEventTypeName(), group.size(), e.getMessage());
+					return processed + handleOneByOne(groups.subList(i, groups.size()));
+				}
+			}
+			return processed;
+		}
+		
+		private int handleOneByOne(List<List<PendingEvent>> groups) {
+			List<PendingEvent> remaining = new ArrayList<>();
+			groups.forEach(remaining::addAll);
+			remaining.sort(Comparator.comparingInt(PendingEvent::index));
 			
-		} catch (Exception e) {
-			log.error("Failed to process event: {}", message, e);
-			// TODO: 에러 처리 전략 (DLQ 전송, 재시도 등)
+			int processed = 0;
+			for (PendingEvent pending : remaining) {
+				if (handleSingle(pending.handler(), pending.event(), pending.index())) {
+					processed++;
+				}
+			}
+			return processed;
 		}
 	}
 	
@@ -0,0 +1,34 @@
+package com.teambind.springproject.message.handler;
+
+import com.teambind.springproject.message.event.Event;
+
+import java.util.List;
+
+/**
+ * 여러 이벤트를 한 번에 처리할 수 있는 이벤트 핸들러 인터페이스
+ * <p>
+ * EventConsumer는 한 번의 poll에서 받은 이벤트를 핸들러 타입별로 묶어 handleBatch를 한 번 호출한다.
+ * 같은 예약의 이벤트가 다른 핸들러 묶음에 걸쳐 있으면 도착 순서를 지키기 위해 묶음을 나눈다.
+ * <p>
+ * 구현체는 handleBatch를 하나의 트랜잭션에서 집합 단위(조회 한 번, 조건부 UPDATE 한 번)로 처리해야 하며,
+ * 같은 이벤트가 다시 전달되어도 결과가 같아야 한다 (실패 시 묶음 전체가 재전달됨).
+ *
+ * @param <T> 처리할 이벤트 타입
+ */
+public interface BatchEventHandler<T extends Event> extends EventHandler<T> {
+	
+	/**
+	 * 같은 타입의 이벤트 묶음을 처리한다.
+	 *
+	 * @param events 도착 순서대로 정렬된 이벤트 목록
+	 */
+	void handleBatch(List<T> events);
+	
+	/**
+	 * 이벤트가 대상으로 하는 예약 ID를 반환한다 (묶음 순서 판단용).
+	 *
+	 * @param event 이벤트
+	 * @return 예약 ID
+	 */
+	Long reservationIdOf(T event);
+}
@@ -5,6 +5,7 @@ import com.teambind.springproject.message.outbox.enums.OutboxStatus;
 import com.teambind.springproject.message.outbox.event.OutboxSavedEvent;
 import jakarta.persistence.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -24,6 +25,8 @@ import java.util.Objects;
 		name = "outbox_messages",
 		indexes = {
 				@Index(name = "idx_status_created", columnList = "status,created_at"),
+				@Index(name = "idx_status_next_attempt", columnList = "status,next_attempt_at,id"),
+				@Index(name = "idx_status_published", columnList = "status,published_at"),
 				@Index(name = "idx_aggregate", columnList = "aggregate_type,aggregate_id")
 		}
 )
@@ -88,6 +91,12 @@ public class OutboxMessage {
 	@Column(name = "retry_count", nullable = false)
 	private Integer retryCount;
 	
+	/**
+	 * 다음 발행 시도 가능 시각 (Relay는 이 시각이 지난 메시지만 잠금).
+	 */
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+	
 	/**
 	 * 마지막 에러 메시지.
 	 */
@@ -103,7 +112,8 @@ public class OutboxMessage {
 			String aggregateId,
 			String topic,
 			String eventType,
-			String payload
+			String payload,
+			Duration relayDelay
 	) {
 		this.aggregateType = Objects.requireNonNull(aggregateType, "aggregateType must not be null");
 		this.aggregateId = Objects.requireNonNull(aggregateId, "aggregateId must not be null");
@@ -112,6 +122,7 @@ public class OutboxMessage {
 		this.payload = Objects.requireNonNull(payload, "payload must not be null");
 		this.status = OutboxStatus.PENDING;
 		this.createdAt = LocalDateTime.now();
+		this.nextAttemptAt = this.createdAt.plus(Objects.requireNonNull(relayDelay, "relayDelay must not be null"));
 		this.retryCount = 0;
 	}
 	
@@ -132,7 +143,32 @@ public class OutboxMessage {
 			String eventType,
 			String payload
 	) {
-		return new OutboxMessage(aggregateType, aggregateId, topic, eventType, payload);
+		return create(aggregateType, aggregateId, topic, eventType, payload, Duration.ZERO);
+	}
+	
+	/**
+	 * 즉시 발행이 끝날 때까지 Relay가 발행하지 않는 Outbox 메시지를 생성합니다.
+	 * <p>
+	 * 다음 발행 시도 시각을 생성 시각 + relayDelay로 둡니다. 즉시 발행 버퍼에서 전송/Ack 반영을 기다리는 메시지를
+	 * Relay가 잠가 중복 발행하지 않도록, relayDelay는 즉시 발행과 PUBLISHED 반영에 걸리는 시간보다 길어야 합니다.
+	 *
+	 * @param aggregateType Aggregate 타입
+	 * @param aggregateId   Aggregate ID
+	 * @param topic         Kafka 토픽
+	 * @param eventType     이벤트 타입
+	 * @param payload       JSON 페이로드
+	 * @param relayDelay    Relay 발행 대상이 되기까지의 유예 시간
+	 * @return 생성된 OutboxMessage
+	 */
+	public static OutboxMessage create(
+			String aggregateType,
+			String aggregateId,
+			String topic,
+			String eventType,
+			String payload,
+			Duration relayDelay
+	) {
+		return new OutboxMessage(aggregateType, aggregateId, topic, eventType, payload, relayDelay);
 	}
 	
 	/**
@@ -178,6 +214,16 @@ public class OutboxMessage {
 		this.retryCount++;
 	}
 	
+	/**
+	 * 재시도 횟수를 증가시키고 다음 발행 시도 시각을 지정합니다.
+	 *
+	 * @param nextAttemptAt 다음 발행 시도 가능 시각
+	 */
+	public void scheduleRetry(LocalDateTime nextAttemptAt) {
+		this.retryCount++;
+		this.nextAttemptAt = Objects.requireNonNull(nextAttemptAt, "nextAttemptAt must not be null");
+	}
+	
 	/**
 	 * 최대 재시도 횟수를 초과했는지 확인합니다.
 	 *
@@ -229,6 +275,10 @@ public class OutboxMessage {
 		return retryCount;
 	}
 	
+	public LocalDateTime getNextAttemptAt() {
+		return nextAttemptAt;
+	}
+	
 	public String getErrorMessage() {
 		return errorMessage;
 	}
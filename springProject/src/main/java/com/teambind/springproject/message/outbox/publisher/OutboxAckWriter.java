@@ -0,0 +1,232 @@
+package com.teambind.springproject.message.outbox.publisher;
+
+import com.teambind.springproject.message.outbox.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 즉시 발행에 성공한 Outbox 메시지의 PUBLISHED 반영을 모아서 처리하는 Writer.
+ * <p>
+ * 처리 방식:
+ * <p>
+ * 즉시 발행 스레드는 메시지 ID를 lock-free 큐에 넣고 바로 반환 (메시지당 조회/저장 없음)
+ * 전용 스레드가 flush-interval마다 큐를 비워 UPDATE ... WHERE id IN (...) 한 번으로 반영 (max-batch-size 단위)
+ * UPDATE는 lock-timeout 안에 끝나야 한다 - Relay가 잠근 행을 기다리느라 반영 스레드가 멈추지 않도록 짧게 제한
+ * <p>
+ * 유실 시 동작:
+ * <p>
+ * 잠금 대기 시간을 넘긴 배치는 큐에 다시 넣어 다음 주기에 반영한다 (용량을 넘는 ID는 버림)
+ * 큐가 capacity에 도달했거나 그 밖의 이유로 반영에 실패한 ID는 버린다 - 해당 메시지는 PENDING으로 남아 OutboxRelay가 다시 발행
+ * 프로세스가 비정상 종료되어 큐의 ID를 잃어도 같은 방식으로 복구된다 (at-least-once)
+ * 정상 종료 시에는 남은 ID를 모두 반영한 뒤 종료한다.
+ */
+@Component
+public class OutboxAckWriter implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(OutboxAckWriter.class);
+
+	private final OutboxMessageRepository outboxRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int capacity;
+	private final int maxBatchSize;
+	private final Duration flushInterval;
+
+	private final ConcurrentLinkedQueue<Long> acks = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pending = new AtomicInteger();
+	private final Counter flushedCounter;
+	private final Counter droppedCounter;
+	private final Counter requeuedCounter;
+
+	private volatile ScheduledExecutorService flusher;
+
+	public OutboxAckWriter(
+			OutboxMessageRepository outboxRepository,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${outbox.ack-writer.capacity:10000}") int capacity,
+			@Value("${outbox.ack-writer.max-batch-size:500}") int maxBatchSize,
+			@Value("${outbox.ack-writer.flush-interval:PT0.01S}") Duration flushInterval,
+			@Value("${outbox.ack-writer.lock-timeout:PT1S}") Duration lockTimeout
+	) {
+		this.outboxRepository = outboxRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		// 트랜잭션 timeout은 UPDATE의 쿼리 timeout으로 적용되어 행 잠금 대기 시간을 제한한다 (초 단위, 최소 1초)
+		this.transactionTemplate.setTimeout((int) Math.max(1, lockTimeout.toSeconds()));
+		this.capacity = capacity;
+		this.maxBatchSize = maxBatchSize;
+		this.flushInterval = flushInterval;
+
+		Gauge.builder("outbox.ack_writer.pending", pending, AtomicInteger::get)
+				.description("PUBLISHED 반영을 기다리는 즉시 발행 성공 메시지 수")
+				.register(meterRegistry);
+		this.flushedCounter = Counter.builder("outbox.ack_writer.acks")
+				.tag("result", "flushed")
+				.description("즉시 발행 성공 반영 결과")
+				.register(meterRegistry);
+		this.droppedCounter = Counter.builder("outbox.ack_writer.acks")
+				.tag("result", "dropped")
+				.description("즉시 발행 성공 반영 결과")
+				.register(meterRegistry);
+		this.requeuedCounter = Counter.builder("outbox.ack_writer.acks")
+				.tag("result", "requeued")
+				.description("즉시 발행 성공 반영 결과")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 즉시 발행에 성공한 메시지 ID를 등록한다. 호출 스레드를 블록하지 않는다.
+	 *
+	 * @param outboxId Outbox 메시지 ID
+	 * @return 등록 여부 (큐가 가득 차면 false - Relay가 다시 발행)
+	 */
+	public boolean acknowledge(Long outboxId) {
+		if (pending.incrementAndGet() > capacity) {
+			pending.decrementAndGet();
+			droppedCounter.increment();
+			return false;
+		}
+		acks.offer(outboxId);
+		return true;
+	}
+
+	/**
+	 * 큐에 쌓인 ID를 max-batch-size 단위의 UPDATE로 반영한다.
+	 *
+	 * @return PUBLISHED로 변경된 메시지 수
+	 */
+	public int flush() {
+		int updated = 0;
+		List<Long> batch = drain();
+		while (!batch.isEmpty()) {
+			Integer written = write(batch);
+			if (written == null) {
+				// 잠금 대기로 다시 넣은 배치는 다음 주기에 반영한다
+				break;
+			}
+			updated += written;
+			if (batch.size() < maxBatchSize) {
+				break;
+			}
+			batch = drain();
+		}
+		return updated;
+	}
+
+	private List<Long> drain() {
+		List<Long> batch = new ArrayList<>(Math.min(maxBatchSize, Math.max(pending.get(), 1)));
+		Long id;
+		while (batch.size() < maxBatchSize && (id = acks.poll()) != null) {
+			batch.add(id);
+		}
+		pending.addAndGet(-batch.size());
+		return batch;
+	}
+
+	/**
+	 * 배치를 반영한다.
+	 *
+	 * @return 변경된 메시지 수, 잠금 대기 시간을 넘겨 큐에 다시 넣었으면 null
+	 */
+	private Integer write(List<Long> batch) {
+		try {
+			Integer updated = transactionTemplate.execute(status ->
+					outboxRepository.markAsPublished(batch, LocalDateTime.now()));
+			flushedCounter.increment(batch.size());
+			return updated != null ? updated : 0;
+		} catch (QueryTimeoutException | PessimisticLockingFailureException | TransactionTimedOutException e) {
+			requeue(batch);
+			log.debug("Outbox ack flush timed out waiting for row locks, requeued {} messages: {}",
+					batch.size(), e.getMessage());
+			return null;
+		} catch (Exception e) {
+			droppedCounter.increment(batch.size());
+			log.warn("Outbox ack flush failed, {} messages will be republished by relay: {}",
+					batch.size(), e.getMessage());
+			return 0;
+		}
+	}
+
+	private void requeue(List<Long> batch) {
+		int requeued = 0;
+		for (Long id : batch) {
+			if (acknowledge(id)) {
+				requeued++;
+			}
+		}
+		requeuedCounter.increment(requeued);
+	}
+
+	private void flushSafely() {
+		try {
+			flush();
+		} catch (Exception e) {
+			log.error("Outbox ack writer encountered an error", e);
+		}
+	}
+
+	@Override
+	public void start() {
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "outbox-ack-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long intervalMicros = Math.max(1, flushInterval.toNanos() / 1000);
+		executor.scheduleWithFixedDelay(this::flushSafely, intervalMicros, intervalMicros, TimeUnit.MICROSECONDS);
+		this.flusher = executor;
+		log.info("Outbox ack writer started: capacity={}, maxBatchSize={}, flushInterval={}",
+				capacity, maxBatchSize, flushInterval);
+	}
+
+	@Override
+	public void stop() {
+		ScheduledExecutorService executor = this.flusher;
+		if (executor == null) {
+			return;
+		}
+		executor.shutdown();
+		try {
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		this.flusher = null;
+		// 종료 전 남은 ID 반영 (반영하지 못한 메시지는 다음 기동 후 Relay가 발행)
+		int updated = flush();
+		log.info("Outbox ack writer stopped: flushedOnShutdown={}", updated);
+	}
+
+	@Override
+	public boolean isRunning() {
+		return flusher != null;
+	}
+
+	/**
+	 * 즉시 발행 Publisher(기본 phase)보다 먼저 시작하고 나중에 멈춘다 - 마지막 전송 결과까지 반영.
+	 */
+	@Override
+	public int getPhase() {
+		return SmartLifecycle.DEFAULT_PHASE - 1;
+	}
+}
@@ -0,0 +1,104 @@
+package com.teambind.springproject.message.outbox.publisher;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 브로커 장애 시 Outbox Relay를 멈추는 Circuit Breaker.
+ * <p>
+ * 상태 전이:
+ * <p>
+ * CLOSED: 정상 발행. 메시지를 하나도 발행하지 못한 배치가 failure-threshold번 연속되면 OPEN
+ * OPEN: open-duration 동안 배치를 잠그지 않음 - 장애 중 DB/브로커에 반복 요청하지 않고 재시도 횟수도 소모하지 않음
+ * HALF_OPEN: open-duration 경과 후 메시지 하나로 시험 발행. 성공하면 CLOSED, 실패하면 다시 OPEN
+ * <p>
+ * 같은 스케줄러 스레드에서만 호출되지만 지표 조회를 위해 상태는 synchronized로 보호한다.
+ */
+@Component
+public class OutboxCircuitBreaker {
+
+	private static final Logger log = LoggerFactory.getLogger(OutboxCircuitBreaker.class);
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openDurationNanos;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+
+	public OutboxCircuitBreaker(
+			MeterRegistry meterRegistry,
+			@Value("${outbox.scheduler.circuit-breaker.failure-threshold:3}") int failureThreshold,
+			@Value("${outbox.scheduler.circuit-breaker.open-duration:PT30S}") Duration openDuration
+	) {
+		this.failureThreshold = failureThreshold;
+		this.openDurationNanos = openDuration.toNanos();
+
+		Gauge.builder("outbox.relay.circuit", this, breaker -> breaker.getState().ordinal())
+				.description("Outbox Relay Circuit Breaker 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 이번 실행에서 배치를 잠가도 되는지 반환한다. OPEN 상태에서 open-duration이 지나면 HALF_OPEN으로 전환한다.
+	 *
+	 * @return CLOSED 또는 HALF_OPEN이면 true
+	 */
+	public synchronized boolean allowRequest() {
+		if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+			state = State.HALF_OPEN;
+			log.info("Outbox relay circuit half-open, sending probe message");
+		}
+		return state != State.OPEN;
+	}
+
+	/**
+	 * 다음 배치의 최대 크기를 반환한다 (HALF_OPEN이면 시험 발행용 1개).
+	 *
+	 * @param batchSize 설정된 배치 크기
+	 * @return 잠글 메시지 수
+	 */
+	public synchronized int batchLimit(int batchSize) {
+		return state == State.HALF_OPEN ? 1 : batchSize;
+	}
+
+	/**
+	 * 하나 이상 발행에 성공한 배치를 기록한다.
+	 */
+	public synchronized void recordSuccess() {
+		if (state != State.CLOSED) {
+			log.info("Outbox relay circuit closed, broker reachable again");
+		}
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+	}
+
+	/**
+	 * 메시지를 하나도 발행하지 못한 배치를 기록한다.
+	 */
+	public synchronized void recordFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			if (state != State.OPEN) {
+				log.warn("Outbox relay circuit opened: consecutiveFailures={}, openDuration={}ms",
+						consecutiveFailures, Duration.ofNanos(openDurationNanos).toMillis());
+			}
+			state = State.OPEN;
+			openedAt = System.nanoTime();
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+}
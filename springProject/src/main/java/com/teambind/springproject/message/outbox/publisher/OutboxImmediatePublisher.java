@@ -1,19 +1,27 @@
 package com.teambind.springproject.message.outbox.publisher;
 
-import com.teambind.springproject.message.outbox.entity.OutboxMessage;
 import com.teambind.springproject.message.outbox.event.OutboxSavedEvent;
-import com.teambind.springproject.message.outbox.repository.OutboxMessageRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Outbox 메시지를 즉시 Kafka로 발행하는 Publisher.
@@ -28,79 +36,225 @@ import java.util.concurrent.TimeUnit;
  * 2. OutboxSavedEvent 발행
  * 3. DB 트랜잭션 커밋
  * 4. @TransactionalEventListener(AFTER_COMMIT)가 이벤트 수신 (이 클래스)
- * 5. @Async로 비동기 Kafka 발행 시도 (타임아웃: 1초)
- * 6. 성공 시 PUBLISHED 마킹, 실패 시 Scheduler가 5초 내 재시도
+ * 5. 링 버퍼에 넣고 즉시 반환 - 커밋 스레드(요청 스레드)는 Kafka 전송을 기다리거나 직접 실행하지 않음
+ * 6. 전송 스레드가 버퍼를 배치 단위로 꺼내 비동기 전송 후 배치 완료를 함께 대기 (타임아웃: send-timeout)
+ *    버퍼가 비면 전송 스레드는 다음 등록이 깨울 때까지 대기 (유휴 시 주기적으로 깨어나지 않음)
+ * 7. 성공 시 OutboxAckWriter에 등록 (PUBLISHED 반영은 모아서 일괄 처리), 실패 시 Scheduler가 재시도
  * <p>
  * 실패 처리:
  * - 즉시 발행 실패는 심각한 문제가 아님 (Scheduler가 백업)
- * - WARN 레벨 로그만 남기고 계속 진행
+ * - 버퍼가 가득 차면 이벤트를 버림 - 메시지는 PENDING으로 남아 Scheduler(OutboxRelay)가 발행
  * - 메시지 손실 없음 (Outbox에 이미 저장됨)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class OutboxImmediatePublisher {
-	
+public class OutboxImmediatePublisher implements SmartLifecycle {
+
 	private final KafkaTemplate<String, String> kafkaTemplate;
-	private final OutboxMessageRepository outboxRepository;
-	
+	private final OutboxAckWriter ackWriter;
+	private final OutboxRingBuffer<OutboxSavedEvent> buffer;
+	private final int consumers;
+	private final int maxBatchSize;
+	private final Duration sendTimeout;
+	// 버퍼가 비어 대기 중인 전송 스레드 - 이벤트를 등록한 스레드가 하나씩 깨운다
+	private final ConcurrentLinkedQueue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+
+	private final Counter enqueuedCounter;
+	private final Counter droppedCounter;
+	private final Counter publishedCounter;
+	private final Counter failedCounter;
+	private final DistributionSummary batchSizeSummary;
+
+	private final List<Thread> workers = new ArrayList<>();
+	private volatile boolean running;
+
+	public OutboxImmediatePublisher(
+			KafkaTemplate<String, String> kafkaTemplate,
+			OutboxAckWriter ackWriter,
+			MeterRegistry meterRegistry,
+			@Value("${outbox.immediate.buffer-capacity:4096}") int bufferCapacity,
+			@Value("${outbox.immediate.consumers:2}") int consumers,
+			@Value("${outbox.immediate.max-batch-size:200}") int maxBatchSize,
+			@Value("${outbox.immediate.send-timeout:PT1S}") Duration sendTimeout
+	) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.ackWriter = ackWriter;
+		this.buffer = new OutboxRingBuffer<>(bufferCapacity);
+		this.consumers = consumers;
+		this.maxBatchSize = maxBatchSize;
+		this.sendTimeout = sendTimeout;
+
+		Gauge.builder("outbox.immediate.buffer.occupancy", buffer, OutboxRingBuffer::size)
+				.description("즉시 발행 링 버퍼에서 전송을 기다리는 이벤트 수")
+				.register(meterRegistry);
+		Gauge.builder("outbox.immediate.buffer.capacity", buffer, OutboxRingBuffer::capacity)
+				.description("즉시 발행 링 버퍼 용량")
+				.register(meterRegistry);
+		this.enqueuedCounter = Counter.builder("outbox.immediate.events")
+				.tag("result", "enqueued")
+				.description("즉시 발행 링 버퍼 등록 결과")
+				.register(meterRegistry);
+		this.droppedCounter = Counter.builder("outbox.immediate.events")
+				.tag("result", "dropped")
+				.description("즉시 발행 링 버퍼 등록 결과")
+				.register(meterRegistry);
+		this.publishedCounter = Counter.builder("outbox.immediate.sends")
+				.tag("result", "published")
+				.description("즉시 발행 전송 결과")
+				.register(meterRegistry);
+		this.failedCounter = Counter.builder("outbox.immediate.sends")
+				.tag("result", "failed")
+				.description("즉시 발행 전송 결과")
+				.register(meterRegistry);
+		this.batchSizeSummary = DistributionSummary.builder("outbox.immediate.batch.size")
+				.description("전송 스레드가 한 번에 꺼낸 이벤트 수")
+				.register(meterRegistry);
+	}
+
 	/**
-	 * OutboxSavedEvent를 수신하여 즉시 Kafka 발행을 시도합니다.
+	 * OutboxSavedEvent를 수신하여 즉시 발행 버퍼에 등록합니다.
 	 * <p>
 	 * TransactionPhase.AFTER_COMMIT:
 	 * - DB 트랜잭션 커밋 후 실행
 	 * - Outbox 메시지가 확실히 DB에 저장된 상태
 	 * <p>
+	 * 커밋 스레드에서 실행되므로 블록하지 않습니다 (CAS 한 번으로 등록 또는 버림, 대기 중인 전송 스레드 하나를 깨움).
 	 *
 	 * @param event OutboxSavedEvent
-	 * @Async("outboxExecutor"): - 비동기 실행으로 메인 트랜잭션 스레드를 블록하지 않음
-	 * - 전용 스레드풀(outboxExecutor) 사용
-	 * - 여러 메시지 동시 발행 가능
-	 * <p>
-	 * 타임아웃: 1초
-	 * - ImmediatePublisher는 빠른 시도만 담당
-	 * - 타임아웃 시 Scheduler가 2초 타임아웃으로 재시도
 	 */
-	@Async("outboxExecutor")
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void onOutboxSaved(OutboxSavedEvent event) {
+		if (running && buffer.offer(event)) {
+			enqueuedCounter.increment();
+			Thread idle = idleWorkers.poll();
+			if (idle != null) {
+				LockSupport.unpark(idle);
+			}
+			return;
+		}
+		droppedCounter.increment();
+		log.debug("Immediate publish buffer full, outbox id={} will be published by scheduler",
+				event.getOutboxId());
+	}
+
+	/**
+	 * 버퍼에서 한 배치를 꺼내 전송하고 배치 완료를 기다립니다.
+	 *
+	 * @return 꺼낸 이벤트 수 (버퍼가 비어 있으면 0)
+	 */
+	int publishBatch() {
+		List<OutboxSavedEvent> batch = new ArrayList<>(Math.min(maxBatchSize, Math.max(buffer.size(), 1)));
+		if (buffer.drainTo(batch, maxBatchSize) == 0) {
+			return 0;
+		}
+		batchSizeSummary.record(batch.size());
+
+		List<CompletableFuture<?>> futures = new ArrayList<>(batch.size());
+		for (OutboxSavedEvent event : batch) {
+			futures.add(send(event));
+		}
+
+		// 배치 완료를 함께 대기 - 브로커가 느리면 그동안 버퍼에 쌓인 이벤트가 다음 배치로 묶임
 		try {
-			// Kafka 발행 시도 (타임아웃: 1초)
-			kafkaTemplate.send(
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+					.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException | TimeoutException e) {
+			// 개별 결과는 전송 콜백에서 처리 (시간 초과된 메시지는 Scheduler가 재시도)
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return batch.size();
+	}
+
+	private CompletableFuture<?> send(OutboxSavedEvent event) {
+		try {
+			return kafkaTemplate.send(
 					event.getTopic(),
 					event.getKey(),          // 파티셔닝 키
 					event.getPayload()
-			).get(1, TimeUnit.SECONDS);
-			
-			// 성공 시 PUBLISHED 마킹 (새 트랜잭션)
-			markAsPublished(event.getOutboxId());
-			
-			log.debug("Outbox message immediately published: id={}, topic={}",
-					event.getOutboxId(), event.getTopic());
-			
+			).whenComplete((result, ex) -> {
+				if (ex == null) {
+					// 성공 시 PUBLISHED 반영 요청 (Writer가 모아서 한 번의 UPDATE로 처리)
+					ackWriter.acknowledge(event.getOutboxId());
+					publishedCounter.increment();
+					return;
+				}
+				failed(event, ex);
+			});
 		} catch (Exception e) {
-			// 실패 시 경고 로그만 남김 (Scheduler가 재시도할 것임)
-			log.warn("Immediate publish failed for outbox id={}, will be retried by scheduler: {}",
-					event.getOutboxId(), e.getMessage());
+			failed(event, e);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	private void failed(OutboxSavedEvent event, Throwable cause) {
+		failedCounter.increment();
+		// 실패 시 경고 로그만 남김 (Scheduler가 재시도할 것임)
+		log.warn("Immediate publish failed for outbox id={}, will be retried by scheduler: {}",
+				event.getOutboxId(), cause.getMessage());
+	}
+
+	private void consume() {
+		Thread self = Thread.currentThread();
+		while (running) {
+			try {
+				if (publishBatch() == 0) {
+					awaitEvents(self);
+				}
+			} catch (Exception e) {
+				log.error("Immediate publish worker encountered an error", e);
+			}
 		}
 	}
-	
+
 	/**
-	 * Outbox 메시지를 PUBLISHED 상태로 마킹합니다.
+	 * 버퍼에 이벤트가 등록되거나 Publisher가 멈출 때까지 대기한다.
 	 * <p>
-	 * REQUIRES_NEW: 새로운 트랜잭션에서 실행
-	 * - 발행 성공/실패와 무관하게 독립적으로 커밋
-	 * - 메인 비즈니스 트랜잭션에 영향 없음
-	 *
-	 * @param outboxId Outbox 메시지 ID
+	 * 대기 목록에 먼저 등록한 뒤 버퍼를 다시 확인한다 - 등록 직전에 들어온 이벤트는 다시 확인에서,
+	 * 등록 이후에 들어온 이벤트는 unpark 허가로 잡히므로 깨우기를 놓치지 않는다.
 	 */
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	protected void markAsPublished(Long outboxId) {
-		OutboxMessage message = outboxRepository.findById(outboxId)
-				.orElseThrow(() -> new IllegalStateException(
-						"Outbox message not found: " + outboxId));
-		
-		message.markAsPublished();
-		outboxRepository.save(message);
+	private void awaitEvents(Thread self) {
+		idleWorkers.offer(self);
+		try {
+			if (running && buffer.size() == 0) {
+				LockSupport.park(this);
+			}
+		} finally {
+			idleWorkers.remove(self);
+		}
+	}
+
+	@Override
+	public synchronized void start() {
+		running = true;
+		for (int i = 0; i < consumers; i++) {
+			Thread worker = new Thread(this::consume, "outbox-publisher-" + i);
+			worker.setDaemon(true);
+			worker.start();
+			workers.add(worker);
+		}
+		log.info("Outbox immediate publisher started: bufferCapacity={}, consumers={}, maxBatchSize={}",
+				buffer.capacity(), consumers, maxBatchSize);
+	}
+
+	@Override
+	public synchronized void stop() {
+		running = false;
+		workers.forEach(LockSupport::unpark);
+		for (Thread worker : workers) {
+			try {
+				worker.join(sendTimeout.toMillis() + 1000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		workers.clear();
+		// 버퍼에 남은 이벤트는 PENDING으로 남아 다음 기동 후 Scheduler가 발행
+		log.info("Outbox immediate publisher stopped: remaining={}", buffer.size());
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
 	}
 }
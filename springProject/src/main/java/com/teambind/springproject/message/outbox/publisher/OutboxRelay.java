@@ -0,0 +1,257 @@
+package com.teambind.springproject.message.outbox.publisher;
+
+import com.teambind.springproject.message.outbox.entity.OutboxMessage;
+import com.teambind.springproject.message.outbox.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PENDING Outbox 메시지를 배치 단위로 Kafka에 발행하는 Relay.
+ * <p>
+ * 처리 방식:
+ * <p>
+ * SELECT ... FOR UPDATE SKIP LOCKED LIMIT batchSize로 시도 시각(next_attempt_at)이 된 배치를 시도 시각, id 순으로 잠금
+ * - 여러 인스턴스가 서로 다른 배치를 나누어 처리
+ * 배치의 모든 메시지를 비동기로 전송한 뒤 전체 완료를 한 번에 기다림 (메시지당 블로킹 대기 없음)
+ * 성공한 메시지는 UPDATE ... WHERE id IN (...) 한 번으로 PUBLISHED 처리
+ * 실패하거나 제한 시간 안에 완료되지 않은 메시지는 지수 백오프 + jitter로 다음 시도 시각을 미룸 (최대 초과 시 FAILED)
+ * <p>
+ * 브로커 장애 시:
+ * <p>
+ * 메시지를 하나도 발행하지 못한 배치가 이어지면 OutboxCircuitBreaker가 Relay를 멈춤 (배치를 잠그지 않음)
+ * 복구 후에는 시험 발행 1건이 성공한 뒤 시도 시각 순으로 배치를 이어서 처리 - 재시도 시각이 jitter로 분산되어 한꺼번에 몰리지 않음
+ * <p>
+ * 배치 하나가 트랜잭션 하나이며, 잠금은 전송 대기 시간(send-timeout) 동안만 유지된다.
+ */
+@Component
+public class OutboxRelay {
+
+	private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+	private final OutboxMessageRepository outboxRepository;
+	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final OutboxCircuitBreaker circuitBreaker;
+	private final int batchSize;
+	private final int maxRetries;
+	private final Duration sendTimeout;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+
+	private final AtomicLong lagMillis = new AtomicLong();
+	private final Counter publishedCounter;
+	private final Counter retryCounter;
+	private final Counter failedCounter;
+	private final Timer batchTimer;
+
+	public OutboxRelay(
+			OutboxMessageRepository outboxRepository,
+			KafkaTemplate<String, String> kafkaTemplate,
+			OutboxCircuitBreaker circuitBreaker,
+			MeterRegistry meterRegistry,
+			@Value("${outbox.scheduler.batch-size:100}") int batchSize,
+			@Value("${outbox.scheduler.max-retries:5}") int maxRetries,
+			@Value("${outbox.scheduler.send-timeout:PT5S}") Duration sendTimeout,
+			@Value("${outbox.scheduler.backoff.initial:PT5S}") Duration initialBackoff,
+			@Value("${outbox.scheduler.backoff.max:PT10M}") Duration maxBackoff
+	) {
+		this.outboxRepository = outboxRepository;
+		this.kafkaTemplate = kafkaTemplate;
+		this.circuitBreaker = circuitBreaker;
+		this.batchSize = batchSize;
+		this.maxRetries = maxRetries;
+		this.sendTimeout = sendTimeout;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+
+		Gauge.builder("outbox.relay.lag", lagMillis, AtomicLong::get)
+				.baseUnit("milliseconds")
+				.description("마지막으로 잠근 배치에서 가장 오래된 메시지의 대기 시간 (저장 ~ 발행 시도)")
+				.register(meterRegistry);
+		this.publishedCounter = Counter.builder("outbox.relay.messages")
+				.tag("result", "published")
+				.description("Relay가 처리한 Outbox 메시지 수")
+				.register(meterRegistry);
+		this.retryCounter = Counter.builder("outbox.relay.messages")
+				.tag("result", "retry")
+				.description("Relay가 처리한 Outbox 메시지 수")
+				.register(meterRegistry);
+		this.failedCounter = Counter.builder("outbox.relay.messages")
+				.tag("result", "failed")
+				.description("Relay가 처리한 Outbox 메시지 수")
+				.register(meterRegistry);
+		this.batchTimer = Timer.builder("outbox.relay.batch")
+				.description("배치 하나의 잠금 ~ 상태 반영 시간")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 재시도 가능한 PENDING 메시지 한 배치를 잠그고 발행한다.
+	 *
+	 * @return 배치 처리 결과 (잠근 메시지가 없거나 Circuit이 열려 있으면 RelayResult.EMPTY)
+	 */
+	@Transactional
+	public RelayResult relayBatch() {
+		if (!circuitBreaker.allowRequest()) {
+			return RelayResult.EMPTY;
+		}
+		int limit = circuitBreaker.batchLimit(batchSize);
+		LocalDateTime now = LocalDateTime.now();
+		List<OutboxMessage> claimed = outboxRepository.claimRetryableMessages(
+				maxRetries, now, PageRequest.of(0, limit));
+		if (claimed.isEmpty()) {
+			lagMillis.set(0);
+			return RelayResult.EMPTY;
+		}
+
+		long startedAt = System.nanoTime();
+		LocalDateTime oldest = claimed.stream()
+				.map(OutboxMessage::getCreatedAt)
+				.min(LocalDateTime::compareTo)
+				.orElse(now);
+		lagMillis.set(Math.max(0, Duration.between(oldest, now).toMillis()));
+
+		// 1. 배치 전체를 비동기로 전송
+		List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(claimed.size());
+		for (OutboxMessage message : claimed) {
+			futures.add(send(message));
+		}
+
+		// 2. 전체 완료를 한 번에 대기 (제한 시간 안에 완료되지 않은 메시지는 실패로 처리)
+		awaitAll(futures);
+
+		// 3. 성공은 한 번의 UPDATE, 실패는 메시지별 다음 시도 시각 지정 (커밋 시 반영)
+		List<Long> publishedIds = new ArrayList<>(claimed.size());
+		int failed = 0;
+		for (int i = 0; i < claimed.size(); i++) {
+			OutboxMessage message = claimed.get(i);
+			CompletableFuture<SendResult<String, String>> future = futures.get(i);
+			if (future.isDone() && !future.isCompletedExceptionally()) {
+				publishedIds.add(message.getId());
+				continue;
+			}
+			failed++;
+			handleFailure(message, failureOf(future));
+		}
+
+		if (!publishedIds.isEmpty()) {
+			outboxRepository.markAsPublished(publishedIds, LocalDateTime.now());
+			publishedCounter.increment(publishedIds.size());
+			circuitBreaker.recordSuccess();
+		} else {
+			circuitBreaker.recordFailure();
+		}
+		batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+		log.debug("Outbox relay batch finished: claimed={}, published={}, failed={}",
+				claimed.size(), publishedIds.size(), failed);
+		return new RelayResult(claimed.size(), publishedIds.size(), failed, claimed.size() >= limit);
+	}
+
+	private CompletableFuture<SendResult<String, String>> send(OutboxMessage message) {
+		try {
+			return kafkaTemplate.send(message.getTopic(), message.getAggregateId(), message.getPayload());
+		} catch (Exception e) {
+			// 메타데이터 조회 실패 등 send 호출 자체가 실패한 경우
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	private void awaitAll(List<CompletableFuture<SendResult<String, String>>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+					.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException | TimeoutException e) {
+			// 개별 결과는 메시지별 future로 판정
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void handleFailure(OutboxMessage message, String reason) {
+		message.scheduleRetry(nextAttemptAt(message.getRetryCount() + 1, LocalDateTime.now()));
+		if (message.exceedsMaxRetries(maxRetries)) {
+			message.markAsFailed(String.format("Max retries exceeded: %s", reason));
+			failedCounter.increment();
+			log.error("Outbox message permanently failed: id={}, eventType={}, retries={}, reason={}",
+					message.getId(), message.getEventType(), message.getRetryCount(), reason);
+			return;
+		}
+		retryCounter.increment();
+		log.warn("Outbox message publish failed, will retry: id={}, eventType={}, retries={}, nextAttemptAt={}, reason={}",
+				message.getId(), message.getEventType(), message.getRetryCount(), message.getNextAttemptAt(), reason);
+	}
+
+	/**
+	 * 지수 백오프 + jitter로 다음 시도 시각을 계산한다.
+	 * <p>
+	 * 지연 = min(initial * 2^(retryCount-1), max)의 절반 + [0, 절반) 무작위
+	 * - 같은 시각에 실패한 메시지들의 재시도가 한 시점에 몰리지 않도록 분산
+	 *
+	 * @param retryCount 증가된 재시도 횟수 (1부터)
+	 * @param now        기준 시각
+	 * @return 다음 시도 가능 시각
+	 */
+	LocalDateTime nextAttemptAt(int retryCount, LocalDateTime now) {
+		int exponent = Math.min(Math.max(retryCount - 1, 0), 30);
+		long delayMillis = Math.min(initialBackoff.toMillis() << exponent, maxBackoff.toMillis());
+		long half = delayMillis / 2;
+		long jitter = half > 0 ? ThreadLocalRandom.current().nextLong(half) : 0;
+		return now.plus(Duration.ofMillis(delayMillis - half + jitter));
+	}
+
+	private String failureOf(CompletableFuture<?> future) {
+		if (!future.isDone()) {
+			return "Send timed out after " + sendTimeout;
+		}
+		try {
+			future.join();
+			return "unknown";
+		} catch (Exception e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			return cause.getMessage();
+		}
+	}
+
+	/**
+	 * 배치 하나의 처리 결과.
+	 *
+	 * @param claimed   잠근 메시지 수
+	 * @param published 발행에 성공한 메시지 수
+	 * @param failed    발행에 실패한 메시지 수
+	 * @param full      배치 크기만큼 잠갔는지 여부 (남은 메시지가 더 있을 수 있음)
+	 */
+	public record RelayResult(int claimed, int published, int failed, boolean full) {
+
+		public static final RelayResult EMPTY = new RelayResult(0, 0, 0, false);
+
+		/**
+		 * 이어서 다음 배치를 처리해도 되는지 반환한다.
+		 * <p>
+		 * 가득 찬 배치가 모두 성공한 경우에만 계속한다 - 실패가 있으면 브로커 장애일 수 있으므로 다음 주기까지 대기
+		 */
+		public boolean hasMore() {
+			return full && failed == 0;
+		}
+	}
+}
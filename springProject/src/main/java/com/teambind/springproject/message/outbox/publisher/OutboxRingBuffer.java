@@ -0,0 +1,119 @@
+package com.teambind.springproject.message.outbox.publisher;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기의 lock-free 링 버퍼 (bounded MPMC).
+ * <p>
+ * 슬롯마다 시퀀스 번호를 두어 생산자/소비자가 CAS로 위치를 확보한다.
+ * <p>
+ * offer는 버퍼가 가득 차면 기다리지 않고 false를 반환한다 - 커밋 스레드를 블록하지 않음
+ * poll은 비어 있으면 null을 반환한다
+ * 용량은 2의 거듭제곱으로 올림한다
+ *
+ * @param <E> 원소 타입
+ */
+final class OutboxRingBuffer<E> {
+
+	private final int capacity;
+	private final int mask;
+	private final Object[] items;
+	// 슬롯별 시퀀스: pos이면 pos번째 offer 가능, pos + 1이면 pos번째 poll 가능
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong head = new AtomicLong();
+
+	OutboxRingBuffer(int requestedCapacity) {
+		if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+			throw new IllegalArgumentException("capacity must be between 2 and 2^30: " + requestedCapacity);
+		}
+		this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+		this.mask = capacity - 1;
+		this.items = new Object[capacity];
+		this.sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * 원소를 추가한다. 블록하지 않는다.
+	 *
+	 * @return 버퍼가 가득 차서 추가하지 못하면 false
+	 */
+	boolean offer(E item) {
+		long pos = tail.get();
+		while (true) {
+			int index = (int) (pos & mask);
+			long diff = sequences.get(index) - pos;
+			if (diff == 0) {
+				if (tail.compareAndSet(pos, pos + 1)) {
+					items[index] = item;
+					sequences.set(index, pos + 1);
+					return true;
+				}
+				pos = tail.get();
+			} else if (diff < 0) {
+				return false;
+			} else {
+				pos = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * 가장 먼저 추가된 원소를 꺼낸다. 블록하지 않는다.
+	 *
+	 * @return 비어 있으면 null
+	 */
+	@SuppressWarnings("unchecked")
+	E poll() {
+		long pos = head.get();
+		while (true) {
+			int index = (int) (pos & mask);
+			long diff = sequences.get(index) - (pos + 1);
+			if (diff == 0) {
+				if (head.compareAndSet(pos, pos + 1)) {
+					E item = (E) items[index];
+					items[index] = null;
+					sequences.set(index, pos + capacity);
+					return item;
+				}
+				pos = head.get();
+			} else if (diff < 0) {
+				return null;
+			} else {
+				pos = head.get();
+			}
+		}
+	}
+
+	/**
+	 * 최대 maxItems개를 꺼내 target에 추가한다.
+	 *
+	 * @return 꺼낸 원소 수
+	 */
+	int drainTo(List<? super E> target, int maxItems) {
+		int drained = 0;
+		E item;
+		while (drained < maxItems && (item = poll()) != null) {
+			target.add(item);
+			drained++;
+		}
+		return drained;
+	}
+
+	/**
+	 * 현재 원소 수 (동시 변경 중에는 근사값).
+	 */
+	int size() {
+		long size = tail.get() - head.get();
+		return (int) Math.max(0, Math.min(size, capacity));
+	}
+
+	int capacity() {
+		return capacity;
+	}
+}
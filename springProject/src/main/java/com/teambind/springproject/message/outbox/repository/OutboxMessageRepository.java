@@ -2,11 +2,18 @@ package com.teambind.springproject.message.outbox.repository;
 
 import com.teambind.springproject.message.outbox.entity.OutboxMessage;
 import com.teambind.springproject.message.outbox.enums.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -14,6 +21,11 @@ import java.util.List;
  */
 public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
 	
+	/**
+	 * 잠긴 행을 건너뛰는 잠금 대기 시간 값 (Hibernate LockOptions.SKIP_LOCKED).
+	 */
+	String SKIP_LOCKED = "-2";
+	
 	/**
 	 * PENDING 상태의 메시지를 생성 시각 순으로 조회합니다.
 	 * <p>
@@ -34,15 +46,74 @@ public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Lo
 	List<OutboxMessage> findRetryableMessages(@Param("maxRetries") int maxRetries);
 	
 	/**
-	 * 특정 시각 이전에 발행 완료된 메시지를 조회합니다.
+	 * 발행 시도 시각이 된 재시도 가능한 PENDING 메시지를 최대 limit개까지 잠그고 조회합니다.
 	 * <p>
-	 * 정리 작업(cleanup)에 사용됩니다.
+	 * SELECT ... WHERE next_attempt_at <= now ORDER BY next_attempt_at, id LIMIT n FOR UPDATE SKIP LOCKED:
+	 * - idx_status_next_attempt(status, next_attempt_at, id)로 시도 시각이 된 메시지만 탐색 (백오프 중인 메시지는 읽지 않음)
+	 * - 정렬이 인덱스 순서와 같아 filesort 없이 limit개를 잠그면 탐색이 끝남 (대기 메시지 수와 무관)
+	 * - 다른 인스턴스가 잠근 행은 기다리지 않고 건너뜀 (여러 인스턴스가 작업을 나누어 처리)
+	 * - 잠금은 호출한 트랜잭션이 끝날 때 해제
+	 *
+	 * @param maxRetries 최대 재시도 횟수
+	 * @param now        기준 시각
+	 * @param pageable   조회 개수 (PageRequest.of(0, limit))
+	 * @return 잠근 메시지 목록 (다음 시도 시각, id 순)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+	@Query("SELECT o FROM OutboxMessage o WHERE o.status = 'PENDING' AND o.nextAttemptAt <= :now "
+			+ "AND o.retryCount < :maxRetries ORDER BY o.nextAttemptAt ASC, o.id ASC")
+	List<OutboxMessage> claimRetryableMessages(
+			@Param("maxRetries") int maxRetries,
+			@Param("now") LocalDateTime now,
+			Pageable pageable);
+	
+	/**
+	 * 발행에 성공한 메시지를 한 번의 UPDATE로 PUBLISHED 상태로 변경합니다.
+	 *
+	 * @param ids         발행에 성공한 메시지 ID 목록
+	 * @param publishedAt 발행 완료 시각
+	 * @return 변경된 메시지 개수
+	 */
+	@Modifying
+	@Query("UPDATE OutboxMessage o SET o.status = 'PUBLISHED', o.publishedAt = :publishedAt "
+			+ "WHERE o.id IN :ids AND o.status = 'PENDING'")
+	int markAsPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+	
+	/**
+	 * 특정 시각 이전에 발행 완료된 메시지의 ID를 발행 시각 순으로 조회합니다.
+	 * <p>
+	 * 보관 기간 정리에 사용됩니다. 엔티티를 로딩하지 않고 idx_status_published(status, published_at)만 읽습니다.
+	 * 정렬이 인덱스 순서와 같아 전체 만료 행을 정렬하지 않고 청크 크기만큼 읽으면 탐색이 끝납니다.
 	 *
 	 * @param beforeDate 기준 시각
-	 * @return 삭제 대상 메시지 목록
+	 * @param pageable   조회 개수 (청크 크기)
+	 * @return 삭제 대상 메시지 ID 목록
+	 */
+	@Query("SELECT o.id FROM OutboxMessage o WHERE o.status = 'PUBLISHED' AND o.publishedAt < :beforeDate ORDER BY o.publishedAt ASC")
+	List<Long> findPublishedIdsBefore(@Param("beforeDate") LocalDateTime beforeDate, Pageable pageable);
+	
+	/**
+	 * 특정 시각 이전에 생성된 FAILED 메시지의 ID를 생성 시각 순으로 조회합니다.
+	 * <p>
+	 * 보관 기간 정리에 사용됩니다. idx_status_created(status, created_at)만 읽으며, 정렬이 인덱스 순서와 같아 청크 크기만큼 읽으면 탐색이 끝납니다.
+	 *
+	 * @param beforeDate 기준 시각
+	 * @param pageable   조회 개수 (청크 크기)
+	 * @return 삭제 대상 메시지 ID 목록
+	 */
+	@Query("SELECT o.id FROM OutboxMessage o WHERE o.status = 'FAILED' AND o.createdAt < :beforeDate ORDER BY o.createdAt ASC")
+	List<Long> findFailedIdsCreatedBefore(@Param("beforeDate") LocalDateTime beforeDate, Pageable pageable);
+	
+	/**
+	 * 메시지를 ID로 일괄 삭제합니다 (엔티티 로딩 없이 DELETE 한 번).
+	 *
+	 * @param ids 삭제할 메시지 ID 목록
+	 * @return 삭제된 메시지 개수
 	 */
-	@Query("SELECT o FROM OutboxMessage o WHERE o.status = 'PUBLISHED' AND o.publishedAt < :beforeDate")
-	List<OutboxMessage> findPublishedBefore(@Param("beforeDate") LocalDateTime beforeDate);
+	@Modifying
+	@Query("DELETE FROM OutboxMessage o WHERE o.id IN :ids")
+	int deleteByIds(@Param("ids") Collection<Long> ids);
 	
 	/**
 	 * 특정 Aggregate의 메시지를 조회합니다.
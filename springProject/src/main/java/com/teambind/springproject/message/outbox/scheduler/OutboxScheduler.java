@@ -1,16 +1,13 @@
 package com.teambind.springproject.message.outbox.scheduler;
 
-import com.teambind.springproject.message.outbox.entity.OutboxMessage;
-import com.teambind.springproject.message.outbox.repository.OutboxMessageRepository;
+import com.teambind.springproject.message.outbox.publisher.OutboxRelay;
+import com.teambind.springproject.message.outbox.service.OutboxRetentionPurger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -29,14 +26,11 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class OutboxScheduler {
 	
-	private final OutboxMessageRepository outboxRepository;
-	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final OutboxRelay outboxRelay;
+	private final OutboxRetentionPurger retentionPurger;
 	
-	@Value("${outbox.scheduler.max-retries:5}")
-	private int maxRetries;
-	
-	@Value("${outbox.scheduler.batch-size:100}")
-	private int batchSize;
+	@Value("${outbox.scheduler.max-batches-per-run:50}")
+	private int maxBatchesPerRun;
 	
 	/**
 	 * PENDING 상태의 메시지를 주기적으로 발행합니다.
@@ -46,95 +40,51 @@ public class OutboxScheduler {
 	 * - 시스템 부하를 고려한 적절한 주기
 	 * <p>
 	 * 처리 흐름:
-	 * 1. PENDING 상태이면서 재시도 제한 내의 메시지 조회
-	 * 2. Kafka 발행 시도 (타임아웃: 2초)
-	 * 3. 성공 시 PUBLISHED로 마킹
-	 * 4. 실패 시 재시도 횟수 증가, 최대 초과 시 FAILED로 마킹
+	 * 1. OutboxRelay가 배치 하나를 잠그고(SKIP LOCKED) 비동기 전송 후 상태를 일괄 반영 (배치마다 별도 트랜잭션)
+	 * 2. 가득 찬 배치가 모두 성공하면 다음 배치를 이어서 처리 (최대 max-batches-per-run)
+	 * 3. 실패가 있거나 남은 메시지가 없으면 다음 주기까지 대기
 	 */
 	@Scheduled(fixedDelay = 5000) // 5초마다 실행
-	@Transactional
 	public void publishPendingMessages() {
+		long startedAt = System.nanoTime();
+		int batches = 0;
+		int published = 0;
+		int failed = 0;
+		
 		try {
-			// 1. 재시도 가능한 PENDING 메시지 조회 (배치 처리)
-			List<OutboxMessage> pendingMessages = outboxRepository.findRetryableMessages(maxRetries);
-			
-			if (pendingMessages.isEmpty()) {
-				return;
-			}
-			
-			log.info("Publishing {} pending outbox messages", pendingMessages.size());
-			
-			int successCount = 0;
-			int failedCount = 0;
-			
-			// 2. 각 메시지 발행 시도
-			for (OutboxMessage message : pendingMessages) {
-				try {
-					// Kafka 발행 (타임아웃: 2초)
-					kafkaTemplate.send(
-							message.getTopic(),
-							message.getAggregateId(), // 파티셔닝 키
-							message.getPayload()
-					).get(2, TimeUnit.SECONDS);
-					
-					// 성공 시 PUBLISHED로 마킹
-					message.markAsPublished();
-					outboxRepository.save(message);
-					
-					successCount++;
-					
-					log.debug("Outbox message published: id={}, eventType={}",
-							message.getId(), message.getEventType());
-					
-				} catch (Exception e) {
-					// 실패 시 재시도 횟수 증가
-					message.incrementRetryCount();
-					
-					// 최대 재시도 초과 시 FAILED로 마킹
-					if (message.exceedsMaxRetries(maxRetries)) {
-						message.markAsFailed(
-								String.format("Max retries exceeded: %s", e.getMessage())
-						);
-						failedCount++;
-						
-						log.error("Outbox message permanently failed: id={}, eventType={}, retries={}",
-								message.getId(), message.getEventType(), message.getRetryCount(), e);
-					} else {
-						log.warn("Outbox message publish failed, will retry: id={}, eventType={}, retries={}",
-								message.getId(), message.getEventType(), message.getRetryCount());
-					}
-					
-					outboxRepository.save(message);
+			OutboxRelay.RelayResult result;
+			do {
+				result = outboxRelay.relayBatch();
+				if (result.claimed() == 0) {
+					break;
 				}
-			}
-			
-			log.info("Outbox scheduler completed: success={}, failed={}, total={}",
-					successCount, failedCount, pendingMessages.size());
+				batches++;
+				published += result.published();
+				failed += result.failed();
+			} while (result.hasMore() && batches < maxBatchesPerRun);
 			
 		} catch (Exception e) {
 			log.error("Outbox scheduler encountered an error", e);
 		}
+		
+		if (batches > 0) {
+			long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+			log.info("Outbox scheduler completed: batches={}, published={}, failed={}, elapsedMs={}, throughput={}/s",
+					batches, published, failed, elapsedMillis, published * 1000L / elapsedMillis);
+		}
 	}
 	
 	/**
-	 * 오래된 PUBLISHED 메시지를 정리합니다.
+	 * 보관 기간이 지난 메시지를 정리합니다.
 	 * <p>
 	 * 실행 주기: 1시간마다
-	 * - 7일 이상 지난 PUBLISHED 메시지 삭제
-	 * - DB 공간 절약 및 성능 유지
+	 * - 보관 기간이 지난 PUBLISHED / FAILED 메시지를 청크 단위로 삭제 (OutboxRetentionPurger)
+	 * - 청크마다 별도 트랜잭션으로 처리하여 발행 경로와 잠금 경합 최소화
 	 */
 	@Scheduled(fixedRate = 3600000) // 1시간마다 실행
-	@Transactional
 	public void cleanupPublishedMessages() {
 		try {
-			java.time.LocalDateTime sevenDaysAgo = java.time.LocalDateTime.now().minusDays(7);
-			List<OutboxMessage> oldMessages = outboxRepository.findPublishedBefore(sevenDaysAgo);
-			
-			if (!oldMessages.isEmpty()) {
-				outboxRepository.deleteAll(oldMessages);
-				log.info("Cleaned up {} old outbox messages", oldMessages.size());
-			}
-			
+			retentionPurger.purge();
 		} catch (Exception e) {
 			log.error("Outbox cleanup encountered an error", e);
 		}
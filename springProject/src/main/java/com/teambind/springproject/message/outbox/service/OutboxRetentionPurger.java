@@ -0,0 +1,135 @@
+package com.teambind.springproject.message.outbox.service;
+
+import com.teambind.springproject.message.outbox.enums.OutboxStatus;
+import com.teambind.springproject.message.outbox.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 보관 기간이 지난 Outbox 메시지를 청크 단위로 삭제하는 정리기.
+ * <p>
+ * 처리 방식:
+ * <p>
+ * 인덱스(status, published_at / status, created_at)로 삭제 대상 ID만 인덱스 순서(오래된 순)로 chunk-size개 조회 - 정렬 없이 LIMIT에서 탐색이 끝남
+ * DELETE ... WHERE id IN (...) 한 번으로 삭제 - 엔티티를 로딩하지 않음
+ * 청크마다 별도의 짧은 트랜잭션 - 잠금과 undo/binlog 크기가 청크 크기로 제한되어 발행 경로와 경합하지 않음
+ * 청크 사이에 chunk-pause만큼 쉬어 복제 지연이 쌓이지 않도록 함
+ * <p>
+ * 보관 기간:
+ * <p>
+ * PUBLISHED: 발행 시각(published_at) 기준 retention.published
+ * FAILED: 생성 시각(created_at) 기준 retention.failed (수동 확인 기간을 위해 더 길게 유지)
+ */
+@Component
+public class OutboxRetentionPurger {
+
+	private static final Logger log = LoggerFactory.getLogger(OutboxRetentionPurger.class);
+
+	private final OutboxMessageRepository outboxRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration publishedRetention;
+	private final Duration failedRetention;
+	private final int chunkSize;
+	private final int maxChunksPerRun;
+	private final Duration chunkPause;
+
+	private final Counter publishedDeletedCounter;
+	private final Counter failedDeletedCounter;
+
+	public OutboxRetentionPurger(
+			OutboxMessageRepository outboxRepository,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${outbox.retention.published:P7D}") Duration publishedRetention,
+			@Value("${outbox.retention.failed:P30D}") Duration failedRetention,
+			@Value("${outbox.retention.chunk-size:1000}") int chunkSize,
+			@Value("${outbox.retention.max-chunks-per-run:500}") int maxChunksPerRun,
+			@Value("${outbox.retention.chunk-pause:PT0.05S}") Duration chunkPause
+	) {
+		this.outboxRepository = outboxRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.publishedRetention = publishedRetention;
+		this.failedRetention = failedRetention;
+		this.chunkSize = chunkSize;
+		this.maxChunksPerRun = maxChunksPerRun;
+		this.chunkPause = chunkPause;
+
+		this.publishedDeletedCounter = Counter.builder("outbox.retention.deleted")
+				.tag("status", OutboxStatus.PUBLISHED.name())
+				.description("보관 기간이 지나 삭제한 Outbox 메시지 수")
+				.register(meterRegistry);
+		this.failedDeletedCounter = Counter.builder("outbox.retention.deleted")
+				.tag("status", OutboxStatus.FAILED.name())
+				.description("보관 기간이 지나 삭제한 Outbox 메시지 수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 보관 기간이 지난 PUBLISHED, FAILED 메시지를 삭제한다.
+	 *
+	 * @return 삭제한 메시지 수
+	 */
+	public int purge() {
+		LocalDateTime now = LocalDateTime.now();
+		int published = purge(OutboxStatus.PUBLISHED, now.minus(publishedRetention),
+				before -> outboxRepository.findPublishedIdsBefore(before, PageRequest.of(0, chunkSize)),
+				publishedDeletedCounter);
+		int failed = purge(OutboxStatus.FAILED, now.minus(failedRetention),
+				before -> outboxRepository.findFailedIdsCreatedBefore(before, PageRequest.of(0, chunkSize)),
+				failedDeletedCounter);
+
+		if (published + failed > 0) {
+			log.info("Outbox retention purge completed: published={}, failed={}", published, failed);
+		}
+		return published + failed;
+	}
+
+	private int purge(
+			OutboxStatus status,
+			LocalDateTime before,
+			Function<LocalDateTime, List<Long>> findChunk,
+			Counter deletedCounter) {
+		int deleted = 0;
+		for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+			Integer count = transactionTemplate.execute(tx -> {
+				List<Long> ids = findChunk.apply(before);
+				return ids.isEmpty() ? 0 : outboxRepository.deleteByIds(ids);
+			});
+			int removed = count != null ? count : 0;
+			deleted += removed;
+			deletedCounter.increment(removed);
+
+			if (removed < chunkSize || !pause()) {
+				return deleted;
+			}
+		}
+		log.warn("Outbox retention purge reached max chunks per run: status={}, deleted={}", status, deleted);
+		return deleted;
+	}
+
+	private boolean pause() {
+		if (chunkPause.isZero()) {
+			return true;
+		}
+		try {
+			TimeUnit.MILLISECONDS.sleep(chunkPause.toMillis());
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
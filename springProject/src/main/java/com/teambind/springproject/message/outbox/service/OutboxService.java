@@ -6,9 +6,12 @@ import com.teambind.springproject.message.outbox.entity.OutboxMessage;
 import com.teambind.springproject.message.outbox.repository.OutboxMessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+
 /**
  * Transactional Outbox Pattern을 위한 서비스.
  * <p>
@@ -29,6 +32,15 @@ public class OutboxService {
 	private final OutboxMessageRepository outboxRepository;
 	private final JsonUtil jsonUtil;
 	
+	@Value("${outbox.immediate.send-timeout:PT1S}")
+	private Duration immediateSendTimeout = Duration.ofSeconds(1);
+	
+	@Value("${outbox.ack-writer.flush-interval:PT0.01S}")
+	private Duration ackFlushInterval = Duration.ofMillis(10);
+	
+	@Value("${outbox.ack-writer.lock-timeout:PT1S}")
+	private Duration ackLockTimeout = Duration.ofSeconds(1);
+	
 	/**
 	 * Aggregate ID를 추출하는 헬퍼 메서드.
 	 * <p>
@@ -60,13 +72,14 @@ public class OutboxService {
 		// 1. Message DTO를 JSON으로 직렬화
 		String payload = jsonUtil.toJson(messageDto);
 		
-		// 2. OutboxMessage 생성
+		// 2. OutboxMessage 생성 (즉시 발행 결과가 반영될 때까지 Relay 발행 대상에서 제외)
 		OutboxMessage outbox = OutboxMessage.create(
 				aggregateType,
 				aggregateId,
 				event.getTopic(),
 				event.getEventTypeName(),
-				payload
+				payload,
+				relayGracePeriod()
 		);
 		
 		// 3. DB에 저장 (현재 트랜잭션 내에서)
@@ -75,4 +88,14 @@ public class OutboxService {
 		log.debug("Event saved to outbox: aggregateType={}, aggregateId={}, eventType={}",
 				aggregateType, aggregateId, event.getEventTypeName());
 	}
+	
+	/**
+	 * 즉시 발행 경로가 메시지를 끝까지 처리하는 데 걸릴 수 있는 최대 시간.
+	 * <p>
+	 * 버퍼에서 앞 배치의 전송을 기다리는 시간과 자기 배치의 전송 시간(각각 send-timeout),
+	 * Ack 반영 주기와 반영 UPDATE의 잠금 대기 시간을 더한다.
+	 */
+	private Duration relayGracePeriod() {
+		return immediateSendTimeout.multipliedBy(2).plus(ackFlushInterval).plus(ackLockTimeout);
+	}
 }
@@ -0,0 +1,129 @@
+package com.teambind.springproject.room.command.application;
+
+import com.teambind.springproject.common.exceptions.domain.PolicyNotFoundException;
+import com.teambind.springproject.room.command.domain.service.TimeSlotGenerationService;
+import com.teambind.springproject.room.command.dto.BookingHorizonUpdateRequest;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.port.GenerationWatermarkPort;
+import com.teambind.springproject.room.domain.port.OperatingPolicyPort;
+import com.teambind.springproject.room.domain.port.TimeSlotPort;
+import com.teambind.springproject.room.entity.RoomOperatingPolicy;
+import com.teambind.springproject.room.query.dto.BookingHorizonUpdateResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 예약 가능 기간 변경 Application Service.
+ * <p>
+ * 슬롯은 구간별로 다르게 저장된다:
+ * <p>
+ * hot 구간 (오늘 ~ room.timeSlot.rollingWindow.days): 배치가 미리 슬롯 행을 생성
+ * 먼 구간 (hot 구간 이후 ~ 룸의 예약 가능 기간): 행 없이 정책으로 계산해 응답하고, 첫 예약 시점에 생성
+ * <p>
+ * 따라서 예약 가능 기간을 늘려도 hot 구간 밖의 슬롯 행은 늘어나지 않는다.
+ */
+@Slf4j
+@Service
+public class BookingHorizonApplicationService {
+
+	private final OperatingPolicyPort operatingPolicyPort;
+	private final TimeSlotPort timeSlotPort;
+	private final GenerationWatermarkPort generationWatermarkPort;
+	private final TimeSlotGenerationService timeSlotGenerationService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Value("${room.timeSlot.rollingWindow.days:30}")
+	private int rollingWindowDays;
+
+	public BookingHorizonApplicationService(
+			OperatingPolicyPort operatingPolicyPort,
+			TimeSlotPort timeSlotPort,
+			GenerationWatermarkPort generationWatermarkPort,
+			TimeSlotGenerationService timeSlotGenerationService,
+			ApplicationEventPublisher eventPublisher
+	) {
+		this.operatingPolicyPort = operatingPolicyPort;
+		this.timeSlotPort = timeSlotPort;
+		this.generationWatermarkPort = generationWatermarkPort;
+		this.timeSlotGenerationService = timeSlotGenerationService;
+		this.eventPublisher = eventPublisher;
+	}
+
+	/**
+	 * 룸의 예약 가능 기간을 변경한다.
+	 * <p>
+	 * 플로우:
+	 * 1. 정책의 예약 가능 기간 변경
+	 * 2. 기간이 줄어들면 기간 밖의 AVAILABLE 슬롯 삭제 (PENDING/RESERVED 슬롯은 유지)
+	 * 3. 기간이 늘어나면 워터마크를 이전 기간 끝으로 되돌리고 hot 구간 안의 누락 날짜를 생성
+	 *
+	 * @param request 예약 가능 기간 변경 요청
+	 * @return 변경 결과
+	 */
+	@Transactional
+	public BookingHorizonUpdateResponse updateBookingHorizon(BookingHorizonUpdateRequest request) {
+		Long roomId = request.getRoomId();
+		log.info("Booking horizon update requested: roomId={}, bookingHorizonDays={}",
+				roomId, request.getBookingHorizonDays());
+
+		// 슬롯 생성 경로와 같은 순서(정책 → 워터마크)로 잠가 교착을 피한다
+		RoomOperatingPolicy policy = operatingPolicyPort.findByRoomIdWithLock(roomId)
+				.orElseThrow(() -> new PolicyNotFoundException(roomId, true));
+
+		LocalDate today = LocalDate.now();
+		LocalDate previousEnd = policy.bookableThrough(today, rollingWindowDays);
+		policy.updateBookingHorizonDays(request.getBookingHorizonDays());
+		operatingPolicyPort.save(policy);
+		LocalDate newEnd = policy.bookableThrough(today, rollingWindowDays);
+
+		int deleted = 0;
+		int generated = 0;
+		if (newEnd.isBefore(previousEnd)) {
+			deleted = removeSlotsAfter(roomId, newEnd, previousEnd);
+		} else if (newEnd.isAfter(previousEnd)) {
+			generated = generateHotZoneGap(roomId, previousEnd, newEnd, today);
+		}
+
+		log.info("Booking horizon updated: roomId={}, bookableThrough={} -> {}, generated={}, deleted={}",
+				roomId, previousEnd, newEnd, generated, deleted);
+
+		return new BookingHorizonUpdateResponse(
+				roomId, policy.getBookingHorizonDays(), newEnd, generated, deleted);
+	}
+
+	private int removeSlotsAfter(Long roomId, LocalDate newEnd, LocalDate previousEnd) {
+		LocalDate from = newEnd.plusDays(1);
+		List<LocalDate> affectedDates =
+				timeSlotPort.findSlotDatesByRoomIdAndSlotDateBetween(roomId, from, previousEnd);
+		int deleted = timeSlotPort.deleteAvailableSlotsByRoomIdAndDateRange(roomId, from, previousEnd);
+		// 삭제한 날짜가 다시 예약 가능해지면 생성되도록 워터마크를 새 기간 끝으로 되돌린다
+		generationWatermarkPort.findByRoomIdWithLock(roomId).ifPresent(watermark -> {
+			watermark.rewindTo(newEnd);
+			generationWatermarkPort.save(watermark);
+		});
+		affectedDates.forEach(date -> eventPublisher.publishEvent(new SlotAvailabilityChangedEvent(roomId, date)));
+		return deleted;
+	}
+
+	private int generateHotZoneGap(Long roomId, LocalDate previousEnd, LocalDate newEnd, LocalDate today) {
+		LocalDate hotThrough = today.plusDays(rollingWindowDays);
+		if (!previousEnd.isBefore(hotThrough)) {
+			// 늘어난 구간이 모두 먼 구간이면 행을 만들지 않는다
+			return 0;
+		}
+
+		// 이전 기간 끝 이후는 생성하지 않고 넘겼으므로 워터마크를 되돌려 다시 생성 대상으로 만든다
+		generationWatermarkPort.findByRoomIdWithLock(roomId).ifPresent(watermark -> {
+			watermark.rewindTo(previousEnd);
+			generationWatermarkPort.save(watermark);
+		});
+		return timeSlotGenerationService.generateSlotsThrough(
+				roomId, newEnd.isBefore(hotThrough) ? newEnd : hotThrough);
+	}
+}
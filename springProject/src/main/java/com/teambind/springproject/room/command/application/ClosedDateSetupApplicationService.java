@@ -1,5 +1,6 @@
 package com.teambind.springproject.room.command.application;
 
+import com.teambind.springproject.common.exceptions.application.InvalidRequestException;
 import com.teambind.springproject.common.exceptions.domain.RequestNotFoundException;
 import com.teambind.springproject.message.publish.EventPublisher;
 import com.teambind.springproject.room.command.dto.ClosedDateDto;
@@ -15,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -75,47 +77,7 @@ public class ClosedDateSetupApplicationService {
 		// 2. ClosedDateRange 생성 및 정책에 추가
 		List<ClosedDateRange> closedDateRanges = new ArrayList<>();
 		for (ClosedDateDto dto : request.getClosedDates()) {
-			ClosedDateRange range;
-			
-			// 패턴 기반 휴무일인 경우
-			if (dto.getDayOfWeek() != null && dto.getRecurrencePattern() != null) {
-				if (dto.getStartTime() != null && dto.getEndTime() != null) {
-					// 패턴 기반 특정 시간 범위 휴무 (예: 매주 월요일 09:00~10:00)
-					range = ClosedDateRange.ofPatternTimeRange(
-							dto.getDayOfWeek(),
-							dto.getRecurrencePattern(),
-							dto.getStartTime(),
-							dto.getEndTime()
-					);
-				} else {
-					// 패턴 기반 하루 종일 휴무 (예: 매주 월요일 종일)
-					range = ClosedDateRange.ofPatternFullDay(
-							dto.getDayOfWeek(),
-							dto.getRecurrencePattern()
-					);
-				}
-			}
-			// 날짜 기반 휴무일인 경우
-			else {
-				if (dto.getStartTime() != null && dto.getEndTime() != null) {
-					// 특정 시간 범위 휴무
-					range = ClosedDateRange.ofTimeRange(
-							dto.getStartDate(),
-							dto.getStartTime(),
-							dto.getEndTime()
-					);
-				} else if (dto.getEndDate() != null) {
-					// 날짜 범위 하루 종일 휴무
-					range = ClosedDateRange.ofDateRange(
-							dto.getStartDate(),
-							dto.getEndDate()
-					);
-				} else {
-					// 단일 날짜 하루 종일 휴무
-					range = ClosedDateRange.ofFullDay(dto.getStartDate());
-				}
-			}
-			
+			ClosedDateRange range = toClosedDateRange(dto);
 			closedDateRanges.add(range);
 			policy.addClosedDate(range);
 		}
@@ -156,4 +118,122 @@ public class ClosedDateSetupApplicationService {
 				updateRequest.getRequestedAt()
 		);
 	}
+	
+	/**
+	 * 휴무일을 해제하고 슬롯 복구를 요청한다.
+	 * <p>
+	 * 플로우:
+	 * 1. RoomOperatingPolicy에서 일치하는 휴무일 제거
+	 * 2. 휴무 해제 요청을 DB에 저장 (상태: REQUESTED, 대상 기간: 해제한 휴무가 덮던 날짜)
+	 * 3. Kafka 이벤트 발행
+	 * 4. 즉시 응답 반환 (202 Accepted)
+	 * <p>
+	 * 해제한 휴무에 패턴 기반 휴무가 있으면 대상 기간은 최대 예약 가능 기간 전체다.
+	 *
+	 * @param request 해제할 휴무일 (설정 요청과 같은 형식)
+	 * @return 설정 응답 (요청 ID 포함)
+	 * @throws InvalidRequestException 일치하는 휴무일이 하나도 없는 경우
+	 */
+	@Transactional
+	public ClosedDateSetupResponse removeClosedDates(ClosedDateSetupRequest request) {
+		log.info("Closed date removal requested: roomId={}, closedDateCount={}",
+				request.getRoomId(), request.getClosedDates().size());
+		
+		// 1. RoomOperatingPolicy 조회 및 휴무일 제거
+		RoomOperatingPolicy policy = operatingPolicyPort.findByRoomId(request.getRoomId())
+				.orElseThrow(() -> new RequestNotFoundException(
+						"Room operating policy not found for roomId: " + request.getRoomId()
+				));
+		
+		List<ClosedDateRange> removedRanges = new ArrayList<>();
+		for (ClosedDateDto dto : request.getClosedDates()) {
+			ClosedDateRange range = toClosedDateRange(dto);
+			if (policy.getClosedDates().contains(range)) {
+				policy.removeClosedDate(range);
+				removedRanges.add(range);
+			}
+		}
+		if (removedRanges.isEmpty()) {
+			throw InvalidRequestException.valueOutOfRange("closedDates", "등록된 휴무일");
+		}
+		
+		operatingPolicyPort.save(policy);
+		
+		// 2. 휴무 해제 요청 저장 - 해제한 휴무가 덮던 날짜만 다시 계산한다
+		boolean patternRemoved = removedRanges.stream().anyMatch(ClosedDateRange::isPatternBased);
+		LocalDate targetStartDate = patternRemoved ? null : removedRanges.stream()
+				.map(ClosedDateRange::getStartDate)
+				.min(LocalDate::compareTo)
+				.orElseThrow();
+		LocalDate targetEndDate = patternRemoved ? null : removedRanges.stream()
+				.map(range -> range.getEndDate() != null ? range.getEndDate() : range.getStartDate())
+				.max(LocalDate::compareTo)
+				.orElseThrow();
+		
+		String requestId = UUID.randomUUID().toString();
+		ClosedDateUpdateRequest updateRequest = ClosedDateUpdateRequest.forReopen(
+				requestId,
+				request.getRoomId(),
+				removedRanges.size(),
+				targetStartDate,
+				targetEndDate
+		);
+		updateRequestPort.save(updateRequest);
+		
+		// 3. Kafka 이벤트 발행 (작업 유형은 핸들러가 요청에서 조회)
+		eventPublisher.publish(ClosedDateUpdateRequestedEvent.of(requestId, request.getRoomId()));
+		
+		log.info("Closed date removal requested: requestId={}, roomId={}, removed={}, range=[{} to {}]",
+				requestId, request.getRoomId(), removedRanges.size(), targetStartDate, targetEndDate);
+		
+		return new ClosedDateSetupResponse(
+				updateRequest.getRequestId(),
+				updateRequest.getRoomId(),
+				updateRequest.getClosedDateCount(),
+				updateRequest.getStatus(),
+				updateRequest.getRequestedAt()
+		);
+	}
+	
+	/**
+	 * 휴무일 DTO를 휴무 범위로 변환한다.
+	 */
+	private ClosedDateRange toClosedDateRange(ClosedDateDto dto) {
+		// 패턴 기반 휴무일인 경우
+		if (dto.getDayOfWeek() != null && dto.getRecurrencePattern() != null) {
+			if (dto.getStartTime() != null && dto.getEndTime() != null) {
+				// 패턴 기반 특정 시간 범위 휴무 (예: 매주 월요일 09:00~10:00)
+				return ClosedDateRange.ofPatternTimeRange(
+						dto.getDayOfWeek(),
+						dto.getRecurrencePattern(),
+						dto.getStartTime(),
+						dto.getEndTime()
+				);
+			}
+			// 패턴 기반 하루 종일 휴무 (예: 매주 월요일 종일)
+			return ClosedDateRange.ofPatternFullDay(
+					dto.getDayOfWeek(),
+					dto.getRecurrencePattern()
+			);
+		}
+		
+		// 날짜 기반 휴무일인 경우
+		if (dto.getStartTime() != null && dto.getEndTime() != null) {
+			// 특정 시간 범위 휴무
+			return ClosedDateRange.ofTimeRange(
+					dto.getStartDate(),
+					dto.getStartTime(),
+					dto.getEndTime()
+			);
+		}
+		if (dto.getEndDate() != null) {
+			// 날짜 범위 하루 종일 휴무
+			return ClosedDateRange.ofDateRange(
+					dto.getStartDate(),
+					dto.getEndDate()
+			);
+		}
+		// 단일 날짜 하루 종일 휴무
+		return ClosedDateRange.ofFullDay(dto.getStartDate());
+	}
 }
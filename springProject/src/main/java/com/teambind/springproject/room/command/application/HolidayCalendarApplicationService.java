@@ -0,0 +1,90 @@
+package com.teambind.springproject.room.command.application;
+
+import com.teambind.springproject.common.exceptions.application.InvalidRequestException;
+import com.teambind.springproject.message.publish.EventPublisher;
+import com.teambind.springproject.room.command.dto.HolidayCalendarSetupRequest;
+import com.teambind.springproject.room.domain.port.ClosedDateUpdateRequestPort;
+import com.teambind.springproject.room.domain.port.HolidayCalendarPort;
+import com.teambind.springproject.room.entity.ClosedDateUpdateRequest;
+import com.teambind.springproject.room.entity.Holiday;
+import com.teambind.springproject.room.event.event.ClosedDateUpdateRequestedEvent;
+import com.teambind.springproject.room.query.dto.ClosedDateSetupResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 공통 휴일 달력 Application Service.
+ * <p>
+ * 모든 룸에 공통으로 적용되는 휴일을 등록하고, 이미 생성된 슬롯의 상태를 하나의 작업으로 업데이트한다.
+ * 룸별 휴무일 설정과 달리 룸마다 정책을 수정하거나 작업/이벤트를 만들지 않는다.
+ */
+@Slf4j
+@Service
+public class HolidayCalendarApplicationService {
+	
+	private final HolidayCalendarPort holidayCalendarPort;
+	private final ClosedDateUpdateRequestPort updateRequestPort;
+	private final EventPublisher eventPublisher;
+	
+	public HolidayCalendarApplicationService(
+			HolidayCalendarPort holidayCalendarPort,
+			ClosedDateUpdateRequestPort updateRequestPort,
+			EventPublisher eventPublisher
+	) {
+		this.holidayCalendarPort = holidayCalendarPort;
+		this.updateRequestPort = updateRequestPort;
+		this.eventPublisher = eventPublisher;
+	}
+	
+	/**
+	 * 공통 휴일을 등록하고 모든 룸의 슬롯 업데이트를 요청한다.
+	 * <p>
+	 * 플로우:
+	 * 1. 휴일 저장 (이후 슬롯 생성/조회 시 운영 정책과 함께 적용)
+	 * 2. 업데이트 요청을 DB에 저장 (상태: REQUESTED, roomId 없음)
+	 * 3. Kafka 이벤트 발행
+	 * 4. 즉시 응답 반환 (202 Accepted)
+	 *
+	 * @param request 공통 휴일 등록 요청
+	 * @return 설정 응답 (요청 ID 포함)
+	 */
+	@Transactional
+	public ClosedDateSetupResponse registerHolidays(HolidayCalendarSetupRequest request) {
+		if (request.getHolidays() == null || request.getHolidays().isEmpty()) {
+			throw InvalidRequestException.requiredFieldMissing("holidays");
+		}
+		
+		log.info("Holiday calendar setup requested: holidayCount={}", request.getHolidays().size());
+		
+		// 1. 휴일 저장
+		List<Holiday> holidays = request.getHolidays().stream()
+				.map(dto -> Holiday.of(dto.getDate(), dto.getName()))
+				.toList();
+		holidayCalendarPort.saveAll(holidays);
+		
+		// 2. 업데이트 요청을 DB에 저장 (모든 룸 대상 작업 하나)
+		String requestId = UUID.randomUUID().toString();
+		ClosedDateUpdateRequest updateRequest = ClosedDateUpdateRequest.forHolidayCalendar(
+				requestId,
+				holidays.size()
+		);
+		updateRequestPort.save(updateRequest);
+		
+		// 3. Kafka 이벤트 발행 (경량 이벤트 - 휴일은 핸들러가 DB에서 조회)
+		eventPublisher.publish(ClosedDateUpdateRequestedEvent.forHolidayCalendar(requestId));
+		
+		log.info("Holiday calendar update requested: requestId={}, holidayCount={}", requestId, holidays.size());
+		
+		return new ClosedDateSetupResponse(
+				updateRequest.getRequestId(),
+				updateRequest.getRoomId(),
+				updateRequest.getClosedDateCount(),
+				updateRequest.getStatus(),
+				updateRequest.getRequestedAt()
+		);
+	}
+}
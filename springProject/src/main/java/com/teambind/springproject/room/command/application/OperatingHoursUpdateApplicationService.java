@@ -8,6 +8,7 @@ import com.teambind.springproject.room.entity.vo.WeeklySlotTime;
 import com.teambind.springproject.room.query.dto.OperatingHoursUpdateResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalTime;
@@ -18,13 +19,16 @@ import java.util.List;
  * 운영 시간 업데이트 Application Service.
  * <p>
  * 룸의 운영 시간 변경을 담당한다.
- * 정책 업데이트 후 비동기로 슬롯을 재생성한다.
+ * 정책 업데이트 후 재생성 작업 실행기가 비동기로 슬롯을 재생성한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OperatingHoursUpdateApplicationService {
 
+	// 대기 중인 이전 요청이 동시에 취소/실행되어 대체에 실패했을 때 다시 시도하는 횟수
+	private static final int MAX_UPDATE_ATTEMPTS = 3;
+
 	private final OperatingHoursUpdateService operatingHoursUpdateService;
 
 	/**
@@ -51,15 +55,47 @@ public class OperatingHoursUpdateApplicationService {
 		WeeklySlotSchedule weeklySchedule = WeeklySlotSchedule.of(slotTimes);
 
 		// 2. 업데이트 요청
-		String requestId = operatingHoursUpdateService.requestOperatingHoursUpdate(
-				request.getRoomId(),
-				weeklySchedule,
-				request.getSlotUnit()
-		);
+		String requestId = requestWithRetry(request, weeklySchedule);
 
 		log.info("Operating hours update request accepted: requestId={}", requestId);
 
 		// 3. 응답 생성
 		return new OperatingHoursUpdateResponse(requestId, request.getRoomId());
 	}
+
+	/**
+	 * 업데이트를 요청하되, 대체하려던 대기 요청이 동시에 변경되어 충돌하면 새 트랜잭션으로 다시 시도한다.
+	 * <p>
+	 * 다시 읽으면 이미 실행/취소된 요청은 대기 상태가 아니므로 대체 대상에서 빠진다.
+	 */
+	private String requestWithRetry(OperatingHoursUpdateRequest request, WeeklySlotSchedule weeklySchedule) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return operatingHoursUpdateService.requestOperatingHoursUpdate(
+						request.getRoomId(),
+						weeklySchedule,
+						request.getSlotUnit()
+				);
+			} catch (OptimisticLockingFailureException e) {
+				if (attempt >= MAX_UPDATE_ATTEMPTS) {
+					throw e;
+				}
+				log.info("Operating hours update conflicted with a concurrent request change, retrying: roomId={}, attempt={}",
+						request.getRoomId(), attempt);
+			}
+		}
+	}
+
+	/**
+	 * 처리 대기 중인 운영 시간 업데이트 요청을 취소한다.
+	 * <p>
+	 * 취소 후에도 요청은 CANCELLED 상태로 남아 상태 조회가 가능하다.
+	 *
+	 * @param requestId 요청 ID
+	 */
+	public void cancelOperatingHoursUpdate(String requestId) {
+		log.info("Operating hours update cancel requested: requestId={}", requestId);
+
+		operatingHoursUpdateService.cancelOperatingHoursUpdate(requestId);
+	}
 }
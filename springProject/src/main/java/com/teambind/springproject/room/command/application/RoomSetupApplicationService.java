@@ -2,10 +2,13 @@ package com.teambind.springproject.room.command.application;
 
 import com.teambind.springproject.common.exceptions.domain.RequestNotFoundException;
 import com.teambind.springproject.message.publish.EventPublisher;
+import com.teambind.springproject.room.command.domain.service.SlotGenerationJobQueue;
 import com.teambind.springproject.room.command.dto.RoomOperatingPolicySetupRequest;
 import com.teambind.springproject.room.command.dto.WeeklySlotDto;
+import com.teambind.springproject.room.domain.port.GenerationWatermarkPort;
 import com.teambind.springproject.room.domain.port.OperatingPolicyPort;
 import com.teambind.springproject.room.domain.port.SlotGenerationRequestPort;
+import com.teambind.springproject.room.entity.RoomGenerationWatermark;
 import com.teambind.springproject.room.entity.RoomOperatingPolicy;
 import com.teambind.springproject.room.entity.SlotGenerationRequest;
 import com.teambind.springproject.room.entity.enums.RecurrencePattern;
@@ -46,6 +49,8 @@ public class RoomSetupApplicationService {
 	private final OperatingPolicyPort operatingPolicyPort;
 	private final SlotGenerationRequestPort slotGenerationRequestPort;
 	private final EventPublisher eventPublisher;
+	private final SlotGenerationJobQueue slotGenerationJobQueue;
+	private final GenerationWatermarkPort generationWatermarkPort;
 	
 	@Value("${room.timeSlot.rollingWindow.days:30}")
 	private int rollingWindowDays;
@@ -53,17 +58,22 @@ public class RoomSetupApplicationService {
 	public RoomSetupApplicationService(
 			OperatingPolicyPort operatingPolicyPort,
 			SlotGenerationRequestPort slotGenerationRequestPort,
-			EventPublisher eventPublisher
+			EventPublisher eventPublisher,
+			SlotGenerationJobQueue slotGenerationJobQueue,
+			GenerationWatermarkPort generationWatermarkPort
 	) {
 		this.operatingPolicyPort = operatingPolicyPort;
 		this.slotGenerationRequestPort = slotGenerationRequestPort;
 		this.eventPublisher = eventPublisher;
+		this.slotGenerationJobQueue = slotGenerationJobQueue;
+		this.generationWatermarkPort = generationWatermarkPort;
 	}
 	
 	/**
 	 * 룸 운영 정책을 설정하고 슬롯 생성을 요청한다.
 	 * <p>
 	 * 플로우:
+	 * 0. 끝나지 않은 슬롯 생성 요청이 한도 이상이면 거부 (429 Too Many Requests)
 	 * 1. 운영 정책을 RoomOperatingPolicy에 저장
 	 * 2. 슬롯 생성 요청을 DB에 저장 (상태: REQUESTED)
 	 * 3. Kafka 이벤트 발행
@@ -74,6 +84,9 @@ public class RoomSetupApplicationService {
 	 */
 	@Transactional
 	public RoomSetupResponse setupRoom(RoomOperatingPolicySetupRequest request) {
+		// 0. 작업 큐 백프레셔
+		slotGenerationJobQueue.ensureCapacity();
+		
 		// 1. RecurrencePattern 추출 (첫 번째 슬롯의 패턴 사용)
 		RecurrencePattern recurrencePattern = request.getSlots().isEmpty()
 				? RecurrencePattern.EVERY_WEEK
@@ -99,14 +112,25 @@ public class RoomSetupApplicationService {
 				request.getSlotUnit(), // 클라이언트가 제공한 slotUnit 사용
 				Collections.emptyList() // 초기 설정 시 휴무일 없음
 		);
+		if (request.getBookingHorizonDays() != null) {
+			policy.updateBookingHorizonDays(request.getBookingHorizonDays());
+		}
 		operatingPolicyPort.save(policy);
 		
 		log.info("Room operating policy saved: roomId={}, policyId={}",
 				request.getRoomId(), policy.getPolicyId());
 		
+		// 슬롯 생성 경로(초기 생성 작업, Rolling Window 배치)가 잠글 워터마크 행을 미리 만들어 둔다
+		if (generationWatermarkPort.findByRoomId(request.getRoomId()).isEmpty()) {
+			generationWatermarkPort.save(RoomGenerationWatermark.create(request.getRoomId()));
+		}
+		
 		// 3. 슬롯 생성 날짜 범위 계산 (오늘부터 N일, 설정값 사용)
+		// 예약 가능 기간이 더 길어도 Rolling Window 밖은 미리 생성하지 않는다 (예약 시점에 생성)
 		LocalDate startDate = LocalDate.now();
-		LocalDate endDate = startDate.plusDays(rollingWindowDays);
+		LocalDate hotThrough = startDate.plusDays(rollingWindowDays);
+		LocalDate bookableThrough = policy.bookableThrough(startDate, rollingWindowDays);
+		LocalDate endDate = bookableThrough.isBefore(hotThrough) ? bookableThrough : hotThrough;
 		
 		log.debug("Slot generation date range calculated: startDate={}, endDate={}, rollingWindowDays={}",
 				startDate, endDate, rollingWindowDays);
@@ -0,0 +1,269 @@
+package com.teambind.springproject.room.command.domain.service;
+
+import com.teambind.springproject.room.domain.event.OperatingHoursRegenerationRequestedEvent;
+import com.teambind.springproject.room.domain.port.OperatingPolicyPort;
+import com.teambind.springproject.room.domain.port.SlotGenerationRequestPort;
+import com.teambind.springproject.room.entity.SlotGenerationRequest;
+import com.teambind.springproject.room.entity.enums.GenerationJobType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * 운영 시간 변경에 따른 슬롯 재생성 작업 실행기.
+ * <p>
+ * 처리 방식:
+ * <p>
+ * 요청 트랜잭션 커밋 이후 regenerationExecutor(제한된 큐)에 작업을 제출 - API 응답 시간은 윈도우 크기와 무관
+ * 인스턴스 안에서는 룸마다 하나의 작업만 실행하고, 실행 중 들어온 요청은 룸별로 마지막 하나만 대기시킴
+ * 요청 레코드(SlotGenerationRequest)가 작업 상태의 기준 - REQUESTED인 요청만 IN_PROGRESS로 가져가 실행
+ * (SUPERSEDED / CANCELLED로 바뀐 요청은 실행하지 않고 건너뜀)
+ * 인스턴스 간에는 룸 운영 정책 행 Lock 아래에서 가져가므로, 다른 실행자가 처리 중인 룸의 요청은 REQUESTED로 남음
+ * 대기 중이거나 생존 신호(heartbeatAt)가 lease보다 오래된 요청은 복구 스케줄러가 다시 제출
+ * <p>
+ * 작업이 끝나도 요청 레코드는 COMPLETED / FAILED로 남으므로 완료 후에도 상태 조회가 가능하다.
+ */
+@Component
+public class OperatingHoursRegenerationJobRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(OperatingHoursRegenerationJobRunner.class);
+
+	private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+	private final OperatingHoursUpdateService updateService;
+	private final SlotGenerationRequestPort requestPort;
+	private final OperatingPolicyPort operatingPolicyPort;
+	private final ThreadPoolTaskExecutor executor;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration lease;
+
+	// 실행 중인 룸 -> 실행 중에 들어온 다음 요청 ID (없으면 null)
+	private final ConcurrentMap<Long, RoomJobs> activeRooms = new ConcurrentHashMap<>();
+
+	public OperatingHoursRegenerationJobRunner(
+			OperatingHoursUpdateService updateService,
+			SlotGenerationRequestPort requestPort,
+			OperatingPolicyPort operatingPolicyPort,
+			@Qualifier("regenerationExecutor") ThreadPoolTaskExecutor executor,
+			PlatformTransactionManager transactionManager,
+			@Value("${room.operating-hours.regeneration.lease:PT10M}") Duration lease
+	) {
+		this.updateService = updateService;
+		this.requestPort = requestPort;
+		this.operatingPolicyPort = operatingPolicyPort;
+		this.executor = executor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.lease = lease;
+	}
+
+	/**
+	 * 재생성 요청이 커밋되면 작업을 제출한다.
+	 *
+	 * @param event 재생성 요청 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onRegenerationRequested(OperatingHoursRegenerationRequestedEvent event) {
+		submit(event.requestId(), event.roomId());
+	}
+
+	/**
+	 * 룸의 재생성 작업을 제출한다.
+	 * <p>
+	 * 같은 룸의 작업이 실행 중이면 대기 요청을 이 요청으로 교체하고, 실행 중인 작업이 끝난 뒤 실행한다.
+	 *
+	 * @param requestId 요청 ID
+	 * @param roomId    룸 ID
+	 */
+	public void submit(String requestId, Long roomId) {
+		boolean[] startNow = new boolean[1];
+		activeRooms.compute(roomId, (id, jobs) -> {
+			if (jobs == null) {
+				startNow[0] = true;
+				return new RoomJobs();
+			}
+			jobs.nextRequestId = requestId;
+			return jobs;
+		});
+
+		if (startNow[0]) {
+			dispatch(requestId, roomId);
+		} else {
+			log.info("Regeneration queued behind running job: roomId={}, requestId={}", roomId, requestId);
+		}
+	}
+
+	/**
+	 * 대기 중이거나 중단된 재생성 요청을 작업 큐 여유만큼 다시 제출한다.
+	 * <p>
+	 * 큐 초과 이외의 이유로 제출되지 못한 요청(커밋 직후 재배포, 다른 인스턴스가 처리 중이던 룸)과
+	 * 실행 중 인스턴스가 종료되어 IN_PROGRESS로 남은 요청이 대상이다. 재생성은 비교(diff) 기반이므로 다시 실행해도 된다.
+	 */
+	@Scheduled(
+			fixedDelayString = "${room.operating-hours.regeneration.recovery-interval:PT30S}",
+			initialDelayString = "${room.operating-hours.regeneration.recovery-interval:PT30S}")
+	public void resubmitPendingJobs() {
+		try {
+			int capacity = executor.getThreadPoolExecutor().getQueue().remainingCapacity();
+			if (capacity <= 0) {
+				return;
+			}
+
+			List<SlotGenerationRequest> resumable = requestPort.findResumable(
+					GenerationJobType.OPERATING_HOURS_UPDATE, LocalDateTime.now().minus(lease), capacity);
+			for (SlotGenerationRequest request : resumable) {
+				submit(request.getRequestId(), request.getRoomId());
+			}
+
+			if (!resumable.isEmpty()) {
+				log.info("Resubmitted {} pending regeneration jobs", resumable.size());
+			}
+		} catch (Exception e) {
+			log.error("Failed to resubmit pending regeneration jobs", e);
+		}
+	}
+
+	/**
+	 * @return 재생성 작업이 실행 중이거나 대기 중인 룸 수
+	 */
+	public int getActiveRoomCount() {
+		return activeRooms.size();
+	}
+
+	private void dispatch(String requestId, Long roomId) {
+		try {
+			executor.execute(() -> runAndContinue(requestId, roomId));
+		} catch (TaskRejectedException e) {
+			// 룸 상태를 정리하고 대기 중이던 요청까지 실패로 기록
+			RoomJobs dropped = activeRooms.remove(roomId);
+			log.warn("Regeneration queue is full, rejecting job: roomId={}, requestId={}", roomId, requestId);
+			rejectWaiting(requestId);
+			if (dropped != null && dropped.nextRequestId != null) {
+				rejectWaiting(dropped.nextRequestId);
+			}
+		}
+	}
+
+	private void runAndContinue(String requestId, Long roomId) {
+		try {
+			run(requestId, roomId);
+		} finally {
+			String next = takeNextOrRelease(roomId);
+			if (next != null) {
+				dispatch(next, roomId);
+			}
+		}
+	}
+
+	private void run(String requestId, Long roomId) {
+		String claimToken = UUID.randomUUID().toString();
+		if (!claim(requestId, roomId, claimToken)) {
+			log.info("Skipping regeneration that is no longer claimable: roomId={}, requestId={}", roomId, requestId);
+			return;
+		}
+
+		long startedAt = System.nanoTime();
+		try {
+			int created = updateService.regenerateSlots(requestId, roomId);
+			log.info("Regeneration job finished: roomId={}, requestId={}, created={}, elapsedMs={}",
+					roomId, requestId, created, (System.nanoTime() - startedAt) / 1_000_000);
+		} catch (Exception e) {
+			log.error("Regeneration job failed: roomId={}, requestId={}", roomId, requestId, e);
+			markAsFailed(requestId, claimToken, e.getMessage());
+		}
+	}
+
+	/**
+	 * 대기 중이거나 중단된 요청을 IN_PROGRESS로 가져간다.
+	 * <p>
+	 * 룸 운영 정책 행을 잠근 채 같은 룸에서 처리 중인 다른 요청이 없는지 확인하므로,
+	 * 여러 인스턴스가 동시에 가져가려 해도 룸마다 하나만 처리된다.
+	 * 중단된 요청을 다시 가져가면 version이 바뀌므로, 이전 실행자가 뒤늦게 완료를 기록하면 충돌로 롤백된다.
+	 *
+	 * @return 취소/대체/완료된 요청이거나, 다른 실행자가 같은 룸을 처리 중이거나, 동시에 변경되면 false
+	 */
+	private boolean claim(String requestId, Long roomId, String claimToken) {
+		LocalDateTime staleBefore = LocalDateTime.now().minus(lease);
+		try {
+			Boolean claimed = transactionTemplate.execute(status -> {
+				operatingPolicyPort.findByRoomIdWithLock(roomId);
+				SlotGenerationRequest request = requestPort.findById(requestId).orElse(null);
+				if (request == null || !request.isClaimable(staleBefore)) {
+					return false;
+				}
+				if (requestPort.existsRunning(roomId, GenerationJobType.OPERATING_HOURS_UPDATE, staleBefore, requestId)) {
+					// REQUESTED로 남겨두면 복구 스케줄러가 다시 제출한다
+					log.info("Room is being regenerated by another worker: roomId={}, requestId={}", roomId, requestId);
+					return false;
+				}
+				request.claim(claimToken);
+				requestPort.save(request);
+				return true;
+			});
+			return Boolean.TRUE.equals(claimed);
+		} catch (OptimisticLockingFailureException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 큐 초과로 실행하지 못한 요청을 FAILED로 기록한다. 이미 다른 실행자가 가져간 요청은 건드리지 않는다.
+	 */
+	private void rejectWaiting(String requestId) {
+		recordFailure(requestId, SlotGenerationRequest::isWaiting, "Regeneration queue is full");
+	}
+
+	private void markAsFailed(String requestId, String claimToken, String errorMessage) {
+		recordFailure(requestId, request -> request.isClaimedBy(claimToken), errorMessage);
+	}
+
+	private void recordFailure(String requestId, Predicate<SlotGenerationRequest> owned, String errorMessage) {
+		String message = errorMessage == null ? "Unknown error"
+				: errorMessage.substring(0, Math.min(errorMessage.length(), MAX_ERROR_MESSAGE_LENGTH));
+		try {
+			transactionTemplate.executeWithoutResult(status -> requestPort.findById(requestId)
+					.filter(owned)
+					.ifPresent(request -> {
+						request.markAsFailed(message);
+						requestPort.save(request);
+					}));
+		} catch (Exception e) {
+			log.error("Failed to record regeneration failure: requestId={}", requestId, e);
+		}
+	}
+
+	private String takeNextOrRelease(Long roomId) {
+		String[] next = new String[1];
+		activeRooms.computeIfPresent(roomId, (id, jobs) -> {
+			next[0] = jobs.nextRequestId;
+			jobs.nextRequestId = null;
+			return next[0] == null ? null : jobs;
+		});
+		return next[0];
+	}
+
+	/**
+	 * 룸 단위 실행 상태. activeRooms.compute 안에서만 변경된다.
+	 */
+	private static final class RoomJobs {
+
+		private String nextRequestId;
+	}
+}
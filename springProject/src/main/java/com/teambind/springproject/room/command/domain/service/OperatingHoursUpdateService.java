@@ -9,7 +9,7 @@ import com.teambind.springproject.room.entity.vo.WeeklySlotSchedule;
  * 주요 책임:
  * <p>
  * RoomOperatingPolicy 업데이트 (WeeklySchedule, SlotUnit)
- * AVAILABLE 슬롯 삭제 및 새 운영 시간 기준 슬롯 재생성
+ * 새 운영 시간과 저장된 슬롯의 차이만 반영 (제거된 AVAILABLE 삭제, 추가된 시간대 생성)
  * CLOSED, RESERVED, PENDING 슬롯은 유지
  */
 public interface OperatingHoursUpdateService {
@@ -17,8 +17,8 @@ public interface OperatingHoursUpdateService {
 	/**
 	 * 운영 시간 업데이트를 요청한다.
 	 * <p>
-	 * 동기적으로 RoomOperatingPolicy를 업데이트하고,
-	 * 비동기로 슬롯 재생성 작업을 시작한다.
+	 * 동기적으로 RoomOperatingPolicy를 업데이트하고 재생성 요청(SlotGenerationRequest)을 저장한다.
+	 * 같은 룸의 대기 중인 요청은 SUPERSEDED로 대체되며, 재생성 작업은 커밋 이후 작업 실행기에서 처리된다.
 	 *
 	 * @param roomId          룸 ID
 	 * @param newSchedule     새로운 주간 스케줄
@@ -28,15 +28,28 @@ public interface OperatingHoursUpdateService {
 	String requestOperatingHoursUpdate(Long roomId, WeeklySlotSchedule newSchedule, SlotUnit newSlotUnit);
 
 	/**
-	 * 비동기로 슬롯을 재생성한다.
+	 * 슬롯을 재생성한다. 재생성 작업 실행기의 워커 스레드에서 호출된다.
 	 * <p>
 	 * 처리 과정:
-	 * 1. 오늘 이후 AVAILABLE 슬롯 삭제
-	 * 2. 새 운영 시간 기준으로 슬롯 생성
-	 * 3. 기존 CLOSED/RESERVED/PENDING 시간대는 생성에서 제외
+	 * 1. 오늘 이후 저장된 슬롯과 새 운영 시간 기준 슬롯을 비교
+	 * 2. 새 스케줄에 없는 AVAILABLE 슬롯만 삭제하고, 새로 생긴 시간대만 생성
+	 * 3. 기존 CLOSED/RESERVED/PENDING 시간대는 유지
+	 * 4. 변경이 있는 날짜에 대해서만 가용성 변경 이벤트 발행
+	 * 5. 요청을 COMPLETED로 전환 (상태 조회를 위해 삭제하지 않음)
 	 *
 	 * @param requestId 요청 ID
 	 * @param roomId    룸 ID
+	 * @return 새로 생성된 슬롯 개수
 	 */
-	void regenerateSlotsAsync(String requestId, Long roomId);
+	int regenerateSlots(String requestId, Long roomId);
+
+	/**
+	 * 처리 대기 중인 운영 시간 업데이트 요청을 취소한다.
+	 * <p>
+	 * 운영 정책 변경은 이미 반영되어 있으므로 슬롯만 이전 상태로 남는다.
+	 *
+	 * @param requestId 요청 ID
+	 * @throws com.teambind.springproject.common.exceptions.application.InvalidRequestException 이미 처리가 시작된 경우
+	 */
+	void cancelOperatingHoursUpdate(String requestId);
 }
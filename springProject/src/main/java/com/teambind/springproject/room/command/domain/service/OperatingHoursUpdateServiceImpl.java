@@ -1,28 +1,38 @@
 package com.teambind.springproject.room.command.domain.service;
 
 import com.teambind.springproject.common.exceptions.domain.PolicyNotFoundException;
+import com.teambind.springproject.common.exceptions.domain.RequestNotFoundException;
+import com.teambind.springproject.room.domain.event.OperatingHoursRegenerationRequestedEvent;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.port.HolidayCalendarPort;
 import com.teambind.springproject.room.domain.port.OperatingPolicyPort;
+import com.teambind.springproject.room.domain.port.SlotGenerationRequestPort;
 import com.teambind.springproject.room.domain.port.TimeSlotPort;
 import com.teambind.springproject.room.entity.RoomOperatingPolicy;
 import com.teambind.springproject.room.entity.RoomTimeSlot;
 import com.teambind.springproject.room.entity.SlotGenerationRequest;
+import com.teambind.springproject.room.entity.enums.GenerationJobType;
+import com.teambind.springproject.room.entity.enums.GenerationStatus;
 import com.teambind.springproject.room.entity.enums.SlotStatus;
+import com.teambind.springproject.room.entity.enums.SlotStorageMode;
 import com.teambind.springproject.room.entity.enums.SlotUnit;
+import com.teambind.springproject.room.entity.vo.CompiledOperatingPolicy;
 import com.teambind.springproject.room.entity.vo.WeeklySlotSchedule;
-import com.teambind.springproject.room.repository.SlotGenerationRequestRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * 운영 시간 업데이트 서비스 구현체.
@@ -34,33 +44,54 @@ public class OperatingHoursUpdateServiceImpl implements OperatingHoursUpdateServ
 
 	private final TimeSlotPort timeSlotPort;
 	private final OperatingPolicyPort operatingPolicyPort;
-	private final SlotGenerationRequestRepository requestRepository;
+	private final SlotGenerationRequestPort requestPort;
+	private final ApplicationEventPublisher eventPublisher;
+	private final HolidayCalendarPort holidayCalendarPort;
 
 	@Value("${room.timeSlot.rollingWindow.days:30}")
 	private int rollingWindowDays;
 
+	@Value("${room.timeSlot.storage-mode:EAGER}")
+	private SlotStorageMode storageMode = SlotStorageMode.EAGER;
+
 	public OperatingHoursUpdateServiceImpl(
 			TimeSlotPort timeSlotPort,
 			OperatingPolicyPort operatingPolicyPort,
-			SlotGenerationRequestRepository requestRepository
+			SlotGenerationRequestPort requestPort,
+			ApplicationEventPublisher eventPublisher,
+			HolidayCalendarPort holidayCalendarPort
 	) {
 		this.timeSlotPort = timeSlotPort;
 		this.operatingPolicyPort = operatingPolicyPort;
-		this.requestRepository = requestRepository;
+		this.requestPort = requestPort;
+		this.eventPublisher = eventPublisher;
+		this.holidayCalendarPort = holidayCalendarPort;
 	}
 
 	@Override
 	@Transactional
 	public String requestOperatingHoursUpdate(Long roomId, WeeklySlotSchedule newSchedule, SlotUnit newSlotUnit) {
 		// 1. 정책 조회 및 업데이트
+		// 재생성 실행기는 같은 정책 행 Lock 아래에서 요청을 가져가므로, 먼저 잠가 대기 요청의 대체와 경합하지 않게 한다
 		RoomOperatingPolicy policy = operatingPolicyPort
-				.findByRoomId(roomId)
+				.findByRoomIdWithLock(roomId)
 				.orElseThrow(() -> new PolicyNotFoundException(roomId, true));
 
 		policy.updateOperatingHours(newSchedule, newSlotUnit);
 		operatingPolicyPort.save(policy);
 
-		// 2. 요청 생성
+		// 2. 대기 중인 이전 요청은 새 요청으로 대체
+		for (SlotGenerationRequest waiting : requestPort.findByRoomIdAndStatus(roomId, GenerationStatus.REQUESTED)) {
+			if (waiting.getJobType() != GenerationJobType.OPERATING_HOURS_UPDATE) {
+				continue;
+			}
+			waiting.markAsSuperseded();
+			requestPort.save(waiting);
+			log.info("Superseded waiting regeneration request: roomId={}, requestId={}",
+					roomId, waiting.getRequestId());
+		}
+
+		// 3. 요청 생성
 		LocalDate today = LocalDate.now();
 		LocalDate endDate = today.plusDays(rollingWindowDays);
 		String requestId = UUID.randomUUID().toString();
@@ -69,81 +100,126 @@ public class OperatingHoursUpdateServiceImpl implements OperatingHoursUpdateServ
 				requestId,
 				roomId,
 				today,
-				endDate
+				endDate,
+				GenerationJobType.OPERATING_HOURS_UPDATE
 		);
-		requestRepository.save(request);
+		requestPort.save(request);
 
 		log.info("Operating hours update requested: roomId={}, requestId={}", roomId, requestId);
 
-		// 3. 비동기 작업 시작
-		regenerateSlotsAsync(requestId, roomId);
+		// 4. 커밋 이후 재생성 작업 실행기에 전달
+		eventPublisher.publishEvent(new OperatingHoursRegenerationRequestedEvent(requestId, roomId));
 
 		return requestId;
 	}
 
 	@Override
-	@Async
 	@Transactional
-	public void regenerateSlotsAsync(String requestId, Long roomId) {
-		SlotGenerationRequest request = requestRepository.findById(requestId)
-				.orElseThrow(() -> new IllegalStateException("Request not found: " + requestId));
-
-		try {
-			request.markAsInProgress();
-			requestRepository.save(request);
-
-			LocalDate today = LocalDate.now();
-			LocalDate endDate = today.plusDays(rollingWindowDays);
-
-			// 1. 기존 슬롯 중 CLOSED, RESERVED, PENDING 시간대 수집
-			List<RoomTimeSlot> existingSlots = timeSlotPort.findByRoomIdAndSlotDateBetween(roomId, today, endDate);
-			Set<String> preservedSlotKeys = existingSlots.stream()
-					.filter(slot -> slot.getStatus() != SlotStatus.AVAILABLE)
-					.map(slot -> slotKey(slot.getSlotDate(), slot.getSlotTime()))
-					.collect(Collectors.toSet());
-
-			// 2. AVAILABLE 슬롯만 삭제
-			int deletedCount = timeSlotPort.deleteAvailableSlotsByRoomIdAndDateRange(roomId, today, endDate);
-			log.info("Deleted {} AVAILABLE slots for roomId={}", deletedCount, roomId);
-
-			// 3. 새 운영 시간 기준으로 슬롯 생성 (보존된 시간대 제외)
-			RoomOperatingPolicy policy = operatingPolicyPort.findByRoomId(roomId)
-					.orElseThrow(() -> new PolicyNotFoundException(roomId, true));
-
-			int createdCount = 0;
-			LocalDate currentDate = today;
-			while (!currentDate.isAfter(endDate)) {
-				List<RoomTimeSlot> newSlots = policy.generateSlotsFor(currentDate, policy.getSlotUnit());
-
-				// 보존된 시간대와 겹치는 슬롯은 제외
-				LocalDate finalCurrentDate = currentDate;
-				List<RoomTimeSlot> filteredSlots = newSlots.stream()
-						.filter(slot -> !preservedSlotKeys.contains(slotKey(finalCurrentDate, slot.getSlotTime())))
-						.collect(Collectors.toList());
-
-				if (!filteredSlots.isEmpty()) {
-					timeSlotPort.saveAll(filteredSlots);
-					createdCount += filteredSlots.size();
-				}
-
-				currentDate = currentDate.plusDays(1);
+	public int regenerateSlots(String requestId, Long roomId) {
+		SlotGenerationRequest request = requestPort.findById(requestId)
+				.orElseThrow(() -> new RequestNotFoundException("Slot generation request not found: " + requestId));
+
+		LocalDate today = LocalDate.now();
+		LocalDate hotThrough = storageMode.materializedThrough(today, rollingWindowDays);
+
+		// 1. 저장된 슬롯과 새 운영 시간 기준 슬롯을 비교
+		RoomOperatingPolicy policy = operatingPolicyPort.findByRoomId(roomId)
+				.orElseThrow(() -> new PolicyNotFoundException(roomId, true));
+		LocalDate bookableThrough = policy.bookableThrough(today, rollingWindowDays);
+		LocalDate endDate = bookableThrough.isBefore(hotThrough) ? bookableThrough : hotThrough;
+
+		List<RoomTimeSlot> existingSlots = new ArrayList<>(
+				timeSlotPort.findByRoomIdAndSlotDateBetween(roomId, today, endDate));
+		// 공통 휴일은 새 스케줄에서도 슬롯이 없는 날짜로 비교한다
+		CompiledOperatingPolicy compiled = policy.compile()
+				.withHolidays(holidayCalendarPort.findCalendar(today, bookableThrough));
+		List<RoomTimeSlot> generatedSlots = compiled.generateSlotsBetween(today, endDate);
+
+		// Rolling Window 밖은 예약으로 행이 생성된 날짜만 비교한다 (나머지는 정책으로 계산되므로 반영할 행이 없음)
+		if (bookableThrough.isAfter(hotThrough)) {
+			LocalDate farFrom = hotThrough.isBefore(today) ? today : hotThrough.plusDays(1);
+			for (LocalDate date : timeSlotPort.findSlotDatesByRoomIdAndSlotDateBetween(
+					roomId, farFrom, bookableThrough)) {
+				existingSlots.addAll(timeSlotPort.findByRoomIdAndSlotDateBetween(roomId, date, date));
+				generatedSlots.addAll(compiled.generateSlotsFor(date));
 			}
+		}
+		SlotScheduleDiff diff = SlotScheduleDiff.between(existingSlots, generatedSlots);
+
+		// 2. 차이만 반영 (하나의 트랜잭션으로 커밋되므로 중간 상태는 노출되지 않음)
+		int deletedCount = 0;
+		if (!diff.getRemoved().isEmpty()) {
+			deletedCount = timeSlotPort.deleteAvailableSlotsByIds(
+					diff.getRemoved().stream().map(RoomTimeSlot::getSlotId).toList());
+		}
+		// 휴무 반영도 상태 조건부 UPDATE로 처리 - 조회 이후 예약된 슬롯을 CLOSED로 덮어쓰지 않는다
+		int closedCount = 0;
+		if (!diff.getClosed().isEmpty()) {
+			closedCount = timeSlotPort.closeAvailableSlotsByIds(
+					diff.getClosed().stream().map(RoomTimeSlot::getSlotId).toList());
+		}
+		// LAZY 방식은 새 스케줄의 AVAILABLE 슬롯을 조회 시 계산하므로 행을 추가하지 않는다
+		List<RoomTimeSlot> added = storageMode.isLazy() ? List.of() : diff.getAdded();
+		if (!added.isEmpty()) {
+			timeSlotPort.saveAll(added);
+		}
+
+		// 3. 변경이 있는 날짜만 이벤트 발행
+		// LAZY 방식은 행이 없는 날짜도 계산 결과가 바뀌므로 예약 가능 기간 전체를 알린다
+		Collection<LocalDate> changedDates = storageMode.isLazy()
+				? today.datesUntil(bookableThrough.plusDays(1)).toList()
+				: appliedChangedDates(diff, added, deletedCount, closedCount);
+		for (LocalDate changedDate : changedDates) {
+			eventPublisher.publishEvent(new SlotAvailabilityChangedEvent(roomId, changedDate));
+		}
+
+		log.info("Operating hours update completed: roomId={}, deleted={}, created={}, closed={}, changedDates={}",
+				roomId, deletedCount, added.size(), closedCount, changedDates.size());
 
-			log.info("Operating hours update completed: roomId={}, deleted={}, created={}",
-					roomId, deletedCount, createdCount);
+		request.markAsCompleted(added.size());
+		requestPort.save(request);
 
-			// 완료 후 요청 삭제
-			requestRepository.delete(request);
+		return added.size();
+	}
 
-		} catch (Exception e) {
-			log.error("Failed to regenerate slots for roomId={}", roomId, e);
-			// 실패 시에도 요청 삭제
-			requestRepository.delete(request);
-			throw e;
+	/**
+	 * 실제로 반영된 변경이 있는 날짜를 반환한다.
+	 * <p>
+	 * 삭제/휴무 반영 건수가 비교 결과와 같으면 비교 결과의 날짜를 그대로 쓴다.
+	 * 조회 이후 예약되어 상태 조건으로 제외된 슬롯이 있으면, 현재 상태를 한 번 조회해
+	 * 삭제된 슬롯과 CLOSED가 된 슬롯의 날짜만 남긴다.
+	 */
+	private Collection<LocalDate> appliedChangedDates(
+			SlotScheduleDiff diff, List<RoomTimeSlot> added, int deletedCount, int closedCount) {
+		if (deletedCount == diff.getRemoved().size() && closedCount == diff.getClosed().size()) {
+			return diff.getChangedDates();
 		}
+
+		List<Long> slotIds = new ArrayList<>();
+		diff.getRemoved().forEach(slot -> slotIds.add(slot.getSlotId()));
+		diff.getClosed().forEach(slot -> slotIds.add(slot.getSlotId()));
+		Map<Long, SlotStatus> statuses = timeSlotPort.findStatusesByIds(slotIds);
+
+		Set<LocalDate> changedDates = new TreeSet<>();
+		added.forEach(slot -> changedDates.add(slot.getSlotDate()));
+		diff.getRemoved().stream()
+				.filter(slot -> !statuses.containsKey(slot.getSlotId()))
+				.forEach(slot -> changedDates.add(slot.getSlotDate()));
+		diff.getClosed().stream()
+				.filter(slot -> statuses.get(slot.getSlotId()) == SlotStatus.CLOSED)
+				.forEach(slot -> changedDates.add(slot.getSlotDate()));
+		return changedDates;
 	}
 
-	private String slotKey(LocalDate date, LocalTime time) {
-		return date.toString() + "_" + time.toString();
+	@Override
+	@Transactional
+	public void cancelOperatingHoursUpdate(String requestId) {
+		SlotGenerationRequest request = requestPort.findById(requestId)
+				.orElseThrow(() -> new RequestNotFoundException("Slot generation request not found: " + requestId));
+
+		request.cancel();
+		requestPort.save(request);
+
+		log.info("Operating hours update cancelled: roomId={}, requestId={}", request.getRoomId(), requestId);
 	}
 }
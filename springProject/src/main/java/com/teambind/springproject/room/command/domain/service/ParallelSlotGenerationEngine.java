@@ -0,0 +1,284 @@
+package com.teambind.springproject.room.command.domain.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 다수 룸의 슬롯 생성을 병렬로 실행하는 엔진.
+ * <p>
+ * 처리 방식:
+ * <p>
+ * 워커 수(slotGenerationExecutor 크기)만큼의 작업만 제출하고, 각 워커가 공유 커서에서 다음 작업 단위(룸 또는 룸 묶음)를 꺼내 처리
+ * 작업 단위마다 별도 트랜잭션(TransactionTemplate, REQUIRES_NEW)으로 실행 - 한 단위의 실패가 다른 단위에 영향을 주지 않음
+ * 호출 스레드는 완료를 기다리며 주기적으로 heartbeat를 호출 (분산 Lock 연장 등)
+ * <p>
+ * 여러 실행이 겹치면 Executor 큐가 가득 차 워커 제출이 거부될 수 있다. 일부 워커만 제출되면 그 워커들이
+ * 공유 커서를 끝까지 처리하고, 하나도 제출되지 않으면 호출 스레드가 직접 처리한다.
+ * 남은 룸 수 게이지는 실행 중인 모든 실행의 남은 룸 수 합계다.
+ * <p>
+ * 호출자가 이미 트랜잭션 안에 있으면 호출 스레드에서 순차 실행하되, 작업 단위는 여전히 새 트랜잭션에서 실행한다.
+ * 호출자의 트랜잭션에 참여하면 한 단위의 실패가 rollback-only로 전체를 되돌리기 때문이다.
+ * 따라서 작업 단위는 호출자가 아직 커밋하지 않은 데이터를 볼 수 없다.
+ */
+@Component
+public class ParallelSlotGenerationEngine {
+
+	private static final Logger log = LoggerFactory.getLogger(ParallelSlotGenerationEngine.class);
+
+	private final ThreadPoolTaskExecutor executor;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration heartbeatInterval;
+
+	private final Set<RunProgress<?>> activeRuns = ConcurrentHashMap.newKeySet();
+	private final Counter succeededRoomsCounter;
+	private final Counter failedRoomsCounter;
+	private final Counter generatedSlotsCounter;
+	private final Timer runTimer;
+
+	public ParallelSlotGenerationEngine(
+			@Qualifier("slotGenerationExecutor") ThreadPoolTaskExecutor executor,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${room.slot-generation.heartbeat-interval:PT30S}") Duration heartbeatInterval
+	) {
+		this.executor = executor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.heartbeatInterval = heartbeatInterval;
+
+		Gauge.builder("room.slot_generation.remaining_rooms", activeRuns,
+						runs -> runs.stream().mapToInt(run -> run.remaining()).sum())
+				.description("진행 중인 슬롯 생성 실행에서 아직 처리되지 않은 룸 수")
+				.register(meterRegistry);
+		this.succeededRoomsCounter = Counter.builder("room.slot_generation.rooms")
+				.tag("result", "success")
+				.description("슬롯 생성을 완료한 룸 수")
+				.register(meterRegistry);
+		this.failedRoomsCounter = Counter.builder("room.slot_generation.rooms")
+				.tag("result", "failure")
+				.description("슬롯 생성에 실패한 룸 수")
+				.register(meterRegistry);
+		this.generatedSlotsCounter = Counter.builder("room.slot_generation.slots")
+				.description("생성된 슬롯 수")
+				.register(meterRegistry);
+		this.runTimer = Timer.builder("room.slot_generation.run")
+				.description("전체 룸 슬롯 생성 실행 시간")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 작업 단위 목록에 대해 슬롯 생성 작업을 실행한다.
+	 * <p>
+	 * 작업 단위는 룸 ID 하나이거나, 같은 스케줄 템플릿을 공유하는 룸 묶음이다.
+	 *
+	 * @param roomIds   처리할 작업 단위 목록
+	 * @param perRoom   작업 단위 하나를 처리하고 생성된 슬롯 수를 반환하는 작업 (단위별 트랜잭션 안에서 실행)
+	 * @param heartbeat 실행 중 주기적으로 호출 스레드에서 실행되는 콜백
+	 * @return 생성된 슬롯 총 개수
+	 */
+	public <T> int run(List<T> roomIds, ToIntFunction<T> perRoom, Runnable heartbeat) {
+		if (roomIds.isEmpty()) {
+			return 0;
+		}
+
+		RunProgress<T> progress = new RunProgress<>(roomIds, perRoom);
+		activeRuns.add(progress);
+		long startedAt = System.nanoTime();
+
+		try {
+			if (TransactionSynchronizationManager.isActualTransactionActive()) {
+				progress.drainInTransactions();
+			} else {
+				awaitWorkers(progress, heartbeat, startedAt);
+			}
+		} finally {
+			activeRuns.remove(progress);
+			runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+
+		log.info("Slot generation run finished: rooms={}, succeeded={}, failed={}, slots={}, elapsedMs={}",
+				roomIds.size(), progress.succeeded.get(), progress.failed.get(), progress.slots.get(),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+		return progress.slots.get();
+	}
+
+	private void awaitWorkers(RunProgress<?> progress, Runnable heartbeat, long startedAt) {
+		int workers = Math.min(executor.getMaxPoolSize(), progress.roomIds.size());
+		List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+		for (int i = 0; i < workers; i++) {
+			try {
+				futures.add(CompletableFuture.runAsync(progress::drainInTransactions, executor));
+			} catch (RejectedExecutionException e) {
+				// 겹친 실행이 큐를 채운 경우: 제출된 워커만으로 공유 커서를 끝까지 처리한다
+				log.warn("Slot generation worker rejected, continuing with {} of {} workers",
+						futures.size(), workers);
+				break;
+			}
+		}
+		if (futures.isEmpty()) {
+			drainInCaller(progress, heartbeat, startedAt);
+			return;
+		}
+		CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+
+		while (true) {
+			try {
+				all.get(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+				return;
+			} catch (TimeoutException e) {
+				logProgress(progress, startedAt);
+				heartbeat.run();
+			} catch (InterruptedException e) {
+				// 남은 룸은 처리하지 않고 진행 중인 룸까지만 완료시킨다
+				stopAndAwait(progress, all);
+				Thread.currentThread().interrupt();
+				log.warn("Slot generation run interrupted: processed={}/{}",
+						progress.processed(), progress.roomIds.size());
+				return;
+			} catch (ExecutionException e) {
+				// 룸 단위 예외는 워커 내부에서 처리되므로 여기까지 오는 것은 예상치 못한 오류
+				stopAndAwait(progress, all);
+				throw new IllegalStateException("Slot generation worker failed", e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * 워커를 하나도 제출하지 못했을 때 호출 스레드에서 작업 단위를 순차 처리한다.
+	 * <p>
+	 * 작업 단위 사이마다 heartbeat 주기를 확인하여 워커 완료를 기다릴 때와 같은 간격으로 heartbeat를 호출한다.
+	 */
+	private void drainInCaller(RunProgress<?> progress, Runnable heartbeat, long startedAt) {
+		long heartbeatAt = System.nanoTime() + heartbeatInterval.toNanos();
+		while (progress.processNext()) {
+			if (System.nanoTime() - heartbeatAt >= 0) {
+				logProgress(progress, startedAt);
+				heartbeat.run();
+				heartbeatAt = System.nanoTime() + heartbeatInterval.toNanos();
+			}
+			if (Thread.currentThread().isInterrupted()) {
+				progress.stopped.set(true);
+				log.warn("Slot generation run interrupted: processed={}/{}",
+						progress.processed(), progress.roomIds.size());
+			}
+		}
+	}
+
+	/**
+	 * 워커가 다음 작업 단위를 꺼내지 않도록 멈추고, 이미 처리 중인 작업 단위가 끝날 때까지 기다린다.
+	 * <p>
+	 * 실행 중인 트랜잭션을 중간에 끊지 않으며, 반환 시점에는 이 실행의 어떤 작업도 남아 있지 않다.
+	 */
+	private void stopAndAwait(RunProgress<?> progress, CompletableFuture<Void> all) {
+		progress.stopped.set(true);
+		try {
+			all.join(); // 인터럽트와 무관하게 대기
+		} catch (CompletionException | CancellationException e) {
+			log.warn("Slot generation worker ended abnormally while stopping", e);
+		}
+	}
+
+	private void logProgress(RunProgress<?> progress, long startedAt) {
+		int processed = progress.processed();
+		double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+		log.info("Slot generation in progress: processed={}/{}, failed={}, slots={}, roomsPerSecond={}",
+				processed, progress.roomIds.size(), progress.failed.get(), progress.slots.get(),
+				String.format("%.1f", processed / Math.max(elapsedSeconds, 0.001)));
+	}
+
+	/**
+	 * 한 번의 실행 상태. 워커들이 공유 커서로 룸을 나눠 가진다.
+	 */
+	private final class RunProgress<T> {
+
+		private final List<T> roomIds;
+		private final ToIntFunction<T> perRoom;
+		private final AtomicInteger cursor = new AtomicInteger();
+		private final AtomicInteger succeeded = new AtomicInteger();
+		private final AtomicInteger failed = new AtomicInteger();
+		private final AtomicInteger slots = new AtomicInteger();
+		private final AtomicBoolean stopped = new AtomicBoolean();
+
+		private RunProgress(List<T> roomIds, ToIntFunction<T> perRoom) {
+			this.roomIds = roomIds;
+			this.perRoom = perRoom;
+		}
+
+		private void drainInTransactions() {
+			while (processNext()) {
+				// 커서가 끝나거나 중단될 때까지 반복
+			}
+		}
+
+		private boolean processNext() {
+			T roomId = next();
+			if (roomId == null) {
+				return false;
+			}
+			process(roomId, () -> transactionTemplate.execute(status -> perRoom.applyAsInt(roomId)));
+			return true;
+		}
+
+		private T next() {
+			if (stopped.get()) {
+				return null;
+			}
+			int index = cursor.getAndIncrement();
+			return index < roomIds.size() ? roomIds.get(index) : null;
+		}
+
+		private void process(T roomId, Supplier<Integer> task) {
+			try {
+				Integer generated = task.get();
+				int count = generated != null ? generated : 0;
+				slots.addAndGet(count);
+				succeeded.incrementAndGet();
+				succeededRoomsCounter.increment();
+				generatedSlotsCounter.increment(count);
+			} catch (Exception e) {
+				// 한 룸 실패해도 다른 룸은 계속 처리
+				failed.incrementAndGet();
+				failedRoomsCounter.increment();
+				log.error("Failed to generate slots for roomId={}", roomId, e);
+			}
+		}
+
+		private int processed() {
+			return succeeded.get() + failed.get();
+		}
+
+		private int remaining() {
+			return stopped.get() ? 0 : roomIds.size() - processed();
+		}
+	}
+}
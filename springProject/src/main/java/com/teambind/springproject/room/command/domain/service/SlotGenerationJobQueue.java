@@ -0,0 +1,286 @@
+package com.teambind.springproject.room.command.domain.service;
+
+import com.teambind.springproject.common.exceptions.application.CapacityExceededException;
+import com.teambind.springproject.room.domain.port.SlotGenerationRequestPort;
+import com.teambind.springproject.room.entity.SlotGenerationRequest;
+import com.teambind.springproject.room.entity.enums.GenerationJobType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 룸 초기 설정 슬롯 생성 작업 큐.
+ * <p>
+ * 처리 방식:
+ * <p>
+ * 요청 레코드(SlotGenerationRequest)가 작업 큐의 원본 - 인스턴스 내 실행은 slotGenerationJobExecutor(제한된 큐)
+ * 날짜마다 별도 트랜잭션에서 슬롯 생성과 진행 기록(lastCompletedDate)을 함께 커밋 - 체크포인트
+ * 중단(재배포, 장애)된 작업은 생존 신호(heartbeatAt)가 lease보다 오래되면 복구 스케줄러가 마지막 완료일 다음 날부터 재개
+ * 작업을 가져갈 때 claimToken을 기록하고, 날짜마다 자신이 여전히 소유자인지 확인 - 다른 실행자가 재개했으면 중단
+ * <p>
+ * 끝나지 않은 요청이 max-pending 이상이면 새 요청을 받지 않는다 (429 Too Many Requests).
+ */
+@Component
+public class SlotGenerationJobQueue {
+
+	private static final Logger log = LoggerFactory.getLogger(SlotGenerationJobQueue.class);
+
+	private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+	private final TimeSlotGenerationService generationService;
+	private final SlotGenerationRequestPort requestPort;
+	private final ThreadPoolTaskExecutor executor;
+	private final TransactionTemplate transactionTemplate;
+	private final int maxPendingJobs;
+	private final Duration lease;
+
+	// 이 인스턴스에서 제출되어 대기/실행 중인 요청 ID
+	private final Set<String> localJobs = ConcurrentHashMap.newKeySet();
+
+	private final Counter completedJobsCounter;
+	private final Counter failedJobsCounter;
+	private final Counter rejectedJobsCounter;
+	private final Counter resumedJobsCounter;
+	private final Counter generatedDaysCounter;
+
+	public SlotGenerationJobQueue(
+			TimeSlotGenerationService generationService,
+			SlotGenerationRequestPort requestPort,
+			@Qualifier("slotGenerationJobExecutor") ThreadPoolTaskExecutor executor,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${room.slot-generation.jobs.max-pending:200}") int maxPendingJobs,
+			@Value("${room.slot-generation.jobs.lease:PT5M}") Duration lease
+	) {
+		this.generationService = generationService;
+		this.requestPort = requestPort;
+		this.executor = executor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.maxPendingJobs = maxPendingJobs;
+		this.lease = lease;
+
+		Gauge.builder("room.slot_generation.jobs.queue_depth", executor,
+						e -> e.getThreadPoolExecutor().getQueue().size())
+				.description("인스턴스 작업 큐에서 실행을 기다리는 슬롯 생성 작업 수")
+				.register(meterRegistry);
+		Gauge.builder("room.slot_generation.jobs.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+				.description("실행 중인 슬롯 생성 작업 수")
+				.register(meterRegistry);
+		this.completedJobsCounter = Counter.builder("room.slot_generation.jobs")
+				.tag("result", "completed")
+				.description("완료된 슬롯 생성 작업 수")
+				.register(meterRegistry);
+		this.failedJobsCounter = Counter.builder("room.slot_generation.jobs")
+				.tag("result", "failed")
+				.description("실패한 슬롯 생성 작업 수")
+				.register(meterRegistry);
+		this.rejectedJobsCounter = Counter.builder("room.slot_generation.jobs")
+				.tag("result", "rejected")
+				.description("작업 큐가 가득 차 제출이 거부된 횟수")
+				.register(meterRegistry);
+		this.resumedJobsCounter = Counter.builder("room.slot_generation.jobs.resumed")
+				.description("중단 후 재개된 슬롯 생성 작업 수")
+				.register(meterRegistry);
+		this.generatedDaysCounter = Counter.builder("room.slot_generation.jobs.days")
+				.description("슬롯 생성 작업이 처리한 날짜 수 (처리량)")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 새 요청을 받을 수 있는지 확인한다.
+	 *
+	 * @throws CapacityExceededException 끝나지 않은 요청이 한도 이상인 경우 (429)
+	 */
+	public void ensureCapacity() {
+		long unfinished = requestPort.countUnfinished(GenerationJobType.INITIAL_SETUP);
+		if (unfinished >= maxPendingJobs) {
+			log.warn("Slot generation queue is full: unfinished={}, maxPending={}", unfinished, maxPendingJobs);
+			throw CapacityExceededException.slotGenerationQueue(maxPendingJobs);
+		}
+	}
+
+	/**
+	 * 작업을 인스턴스 작업 큐에 제출한다.
+	 * <p>
+	 * 큐가 가득 차서 거부되어도 요청은 REQUESTED로 남아 복구 스케줄러가 다시 제출한다.
+	 *
+	 * @param requestId 요청 ID
+	 * @return 제출되었으면 true
+	 */
+	public boolean submit(String requestId) {
+		if (!localJobs.add(requestId)) {
+			return false;
+		}
+		try {
+			executor.execute(() -> process(requestId));
+			return true;
+		} catch (TaskRejectedException e) {
+			localJobs.remove(requestId);
+			rejectedJobsCounter.increment();
+			log.warn("Slot generation job queue is full, will retry later: requestId={}", requestId);
+			return false;
+		}
+	}
+
+	/**
+	 * 대기 중이거나 중단된 작업을 작업 큐 여유만큼 다시 제출한다.
+	 */
+	@Scheduled(
+			fixedDelayString = "${room.slot-generation.jobs.recovery-interval:PT30S}",
+			initialDelayString = "${room.slot-generation.jobs.recovery-interval:PT30S}")
+	public void resubmitPendingJobs() {
+		try {
+			int capacity = executor.getThreadPoolExecutor().getQueue().remainingCapacity();
+			if (capacity <= 0) {
+				return;
+			}
+
+			List<SlotGenerationRequest> resumable = requestPort.findResumable(
+					GenerationJobType.INITIAL_SETUP, LocalDateTime.now().minus(lease), capacity);
+			int submitted = 0;
+			for (SlotGenerationRequest request : resumable) {
+				if (submit(request.getRequestId())) {
+					submitted++;
+				}
+			}
+
+			if (submitted > 0) {
+				log.info("Resubmitted {} pending slot generation jobs", submitted);
+			}
+		} catch (Exception e) {
+			log.error("Failed to resubmit pending slot generation jobs", e);
+		}
+	}
+
+	/**
+	 * 작업 하나를 처리한다. 마지막 완료일 다음 날부터 종료일까지 날짜별 트랜잭션으로 생성한다.
+	 */
+	void process(String requestId) {
+		String claimToken = UUID.randomUUID().toString();
+		try {
+			SlotGenerationRequest request = claim(requestId, claimToken);
+			if (request == null) {
+				return;
+			}
+			if (request.getLastCompletedDate() != null) {
+				resumedJobsCounter.increment();
+				log.info("Resuming slot generation: requestId={}, from={}",
+						requestId, request.nextDateToGenerate());
+			}
+
+			Long roomId = request.getRoomId();
+			for (LocalDate date = request.nextDateToGenerate(); !date.isAfter(request.getEndDate());
+					date = date.plusDays(1)) {
+				if (Thread.currentThread().isInterrupted()) {
+					// 종료 중 - 진행 상황은 기록되어 있으므로 lease 만료 후 재개된다
+					log.info("Slot generation interrupted: requestId={}, next={}", requestId, date);
+					return;
+				}
+				if (!generateDay(requestId, claimToken, roomId, date)) {
+					log.warn("Slot generation taken over by another worker: requestId={}", requestId);
+					return;
+				}
+				generatedDaysCounter.increment();
+			}
+
+			complete(requestId, claimToken);
+		} catch (Exception e) {
+			failedJobsCounter.increment();
+			log.error("Slot generation job failed: requestId={}", requestId, e);
+			markAsFailed(requestId, claimToken, e.getMessage());
+		} finally {
+			localJobs.remove(requestId);
+		}
+	}
+
+	private SlotGenerationRequest claim(String requestId, String claimToken) {
+		LocalDateTime staleBefore = LocalDateTime.now().minus(lease);
+		try {
+			return transactionTemplate.execute(status -> {
+				SlotGenerationRequest request = requestPort.findById(requestId).orElse(null);
+				if (request == null || !request.isClaimable(staleBefore)) {
+					return null;
+				}
+				request.claim(claimToken);
+				return requestPort.save(request);
+			});
+		} catch (OptimisticLockingFailureException e) {
+			// 다른 실행자가 먼저 가져감
+			return null;
+		}
+	}
+
+	/**
+	 * 하루치 슬롯을 생성하고 진행 상황을 같은 트랜잭션에서 기록한다.
+	 *
+	 * 소유권 확인은 잠그지 않고 읽으므로, 확인 이후 다른 실행자가 가져가면 진행 기록 저장 시 version 충돌로 드러난다.
+	 * 이 경우 트랜잭션 전체가 롤백되므로 소유권을 잃은 것과 같이 처리한다.
+	 *
+	 * @return 소유권을 잃었으면 false (아무것도 반영하지 않음)
+	 */
+	private boolean generateDay(String requestId, String claimToken, Long roomId, LocalDate date) {
+		try {
+			Boolean done = transactionTemplate.execute(status -> {
+				SlotGenerationRequest request = requestPort.findById(requestId).orElse(null);
+				if (request == null || !request.isClaimedBy(claimToken)) {
+					return false;
+				}
+				// 워터마크를 통해 생성하므로 Rolling Window 배치가 이미 만든 날짜는 건너뛴다
+				int generated = generationService.generateSlotsThrough(roomId, date);
+				request.recordProgress(date, generated);
+				requestPort.save(request);
+				return true;
+			});
+			return Boolean.TRUE.equals(done);
+		} catch (OptimisticLockingFailureException e) {
+			return false;
+		}
+	}
+
+	private void complete(String requestId, String claimToken) {
+		transactionTemplate.executeWithoutResult(status -> requestPort.findById(requestId)
+				.filter(request -> request.isClaimedBy(claimToken))
+				.ifPresent(request -> {
+					request.markAsCompleted();
+					requestPort.save(request);
+					completedJobsCounter.increment();
+					log.info("Slot generation completed: requestId={}, roomId={}, totalSlots={}",
+							requestId, request.getRoomId(), request.getTotalSlots());
+				}));
+	}
+
+	private void markAsFailed(String requestId, String claimToken, String errorMessage) {
+		String message = errorMessage == null ? "Unknown error"
+				: errorMessage.substring(0, Math.min(errorMessage.length(), MAX_ERROR_MESSAGE_LENGTH));
+		try {
+			transactionTemplate.executeWithoutResult(status -> requestPort.findById(requestId)
+					.filter(request -> request.isClaimedBy(claimToken))
+					.ifPresent(request -> {
+						// 진행 상황(lastCompletedDate)은 유지된다
+						request.markAsFailed(message);
+						requestPort.save(request);
+					}));
+		} catch (Exception e) {
+			log.error("Failed to record slot generation failure: requestId={}", requestId, e);
+		}
+	}
+}
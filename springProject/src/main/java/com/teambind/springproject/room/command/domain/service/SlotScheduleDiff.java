@@ -0,0 +1,150 @@
+package com.teambind.springproject.room.command.domain.service;
+
+import com.teambind.springproject.room.entity.RoomTimeSlot;
+import com.teambind.springproject.room.entity.enums.SlotStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 저장된 슬롯과 새 스케줄로 생성한 슬롯의 차이.
+ * <p>
+ * 슬롯 위치를 (epochDay * 1440 + 분) long 키로 바꾸어 두 목록을 정렬된 상태로 병합 비교한다.
+ * 문자열 키나 해시 집합 없이 O(n log n) 정렬 한 번과 선형 병합으로 끝난다.
+ * <p>
+ * 판단 규칙 (기존 "AVAILABLE 전체 삭제 후 재생성"과 같은 결과):
+ * <p>
+ * 기존에만 있는 AVAILABLE 슬롯: 삭제
+ * 새 스케줄에만 있는 슬롯: 추가
+ * 양쪽에 있고 기존 AVAILABLE, 새 CLOSED: CLOSED로 변경
+ * CLOSED, RESERVED, PENDING 슬롯: 유지
+ */
+final class SlotScheduleDiff {
+
+	private static final int MINUTES_PER_DAY = 24 * 60;
+	// 패킹 키의 하위 비트에 기존 목록 내 위치를 담는다
+	private static final int INDEX_BITS = 24;
+	private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+	private final List<RoomTimeSlot> removed;
+	private final List<RoomTimeSlot> added;
+	private final List<RoomTimeSlot> closed;
+	private final Set<LocalDate> changedDates;
+
+	private SlotScheduleDiff(
+			List<RoomTimeSlot> removed,
+			List<RoomTimeSlot> added,
+			List<RoomTimeSlot> closed,
+			Set<LocalDate> changedDates) {
+		this.removed = removed;
+		this.added = added;
+		this.closed = closed;
+		this.changedDates = changedDates;
+	}
+
+	/**
+	 * 저장된 슬롯과 생성된 슬롯을 비교한다.
+	 *
+	 * @param existing  저장된 슬롯 목록 (순서 무관)
+	 * @param generated 새 스케줄로 생성한 슬롯 목록 (날짜, 시작 시각 오름차순)
+	 * @return 비교 결과
+	 */
+	static SlotScheduleDiff between(List<RoomTimeSlot> existing, List<RoomTimeSlot> generated) {
+		if (existing.size() > INDEX_MASK) {
+			throw new IllegalArgumentException("Too many existing slots to diff: " + existing.size());
+		}
+
+		long[] existingKeys = new long[existing.size()];
+		for (int i = 0; i < existingKeys.length; i++) {
+			RoomTimeSlot slot = existing.get(i);
+			existingKeys[i] = (key(slot.getSlotDate(), slot.getSlotTime()) << INDEX_BITS) | i;
+		}
+		Arrays.sort(existingKeys);
+
+		List<RoomTimeSlot> removed = new ArrayList<>();
+		List<RoomTimeSlot> added = new ArrayList<>();
+		List<RoomTimeSlot> closed = new ArrayList<>();
+		Set<LocalDate> changedDates = new TreeSet<>();
+
+		int e = 0;
+		int g = 0;
+		long previousGeneratedKey = Long.MIN_VALUE;
+		while (e < existingKeys.length || g < generated.size()) {
+			long existingKey = e < existingKeys.length ? existingKeys[e] >>> INDEX_BITS : Long.MAX_VALUE;
+			RoomTimeSlot next = g < generated.size() ? generated.get(g) : null;
+			long generatedKey = next != null ? key(next.getSlotDate(), next.getSlotTime()) : Long.MAX_VALUE;
+			if (next != null && generatedKey <= previousGeneratedKey) {
+				throw new IllegalArgumentException("Generated slots must be strictly ordered by date and time");
+			}
+
+			if (existingKey < generatedKey) {
+				RoomTimeSlot slot = existing.get((int) (existingKeys[e] & INDEX_MASK));
+				if (slot.getStatus() == SlotStatus.AVAILABLE) {
+					removed.add(slot);
+					changedDates.add(slot.getSlotDate());
+				}
+				e++;
+				continue;
+			}
+
+			if (generatedKey < existingKey) {
+				added.add(next);
+				changedDates.add(next.getSlotDate());
+			} else {
+				// 같은 위치에 저장된 슬롯이 여러 개면 첫 슬롯만 비교하고 나머지는 다음 반복에서 기존 전용으로 처리
+				RoomTimeSlot slot = existing.get((int) (existingKeys[e] & INDEX_MASK));
+				if (slot.getStatus() == SlotStatus.AVAILABLE && next.getStatus() == SlotStatus.CLOSED) {
+					closed.add(slot);
+					changedDates.add(slot.getSlotDate());
+				}
+				e++;
+			}
+			previousGeneratedKey = generatedKey;
+			g++;
+		}
+
+		return new SlotScheduleDiff(removed, added, closed, Collections.unmodifiableSet(changedDates));
+	}
+
+	static long key(LocalDate date, LocalTime time) {
+		return date.toEpochDay() * MINUTES_PER_DAY + time.getHour() * 60L + time.getMinute();
+	}
+
+	/**
+	 * @return 삭제할 AVAILABLE 슬롯 목록
+	 */
+	List<RoomTimeSlot> getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * @return 새로 추가할 슬롯 목록
+	 */
+	List<RoomTimeSlot> getAdded() {
+		return added;
+	}
+
+	/**
+	 * @return AVAILABLE에서 CLOSED로 바꿀 기존 슬롯 목록
+	 */
+	List<RoomTimeSlot> getClosed() {
+		return closed;
+	}
+
+	/**
+	 * @return 변경이 발생한 날짜 (오름차순)
+	 */
+	Set<LocalDate> getChangedDates() {
+		return changedDates;
+	}
+
+	boolean isEmpty() {
+		return changedDates.isEmpty();
+	}
+}
@@ -1,6 +1,8 @@
 package com.teambind.springproject.room.command.domain.service;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 
 /**
  * 시간 슬롯 생성 서비스.
@@ -53,6 +55,106 @@ public interface TimeSlotGenerationService {
 	 */
 	int generateSlotsForAllRooms(LocalDate date);
 	
+	/**
+	 * 모든 룸의 특정 날짜에 대한 슬롯을 병렬로 생성한다.
+	 * <p>
+	 * 룸마다 별도 트랜잭션으로 처리되며, 한 룸의 실패는 다른 룸에 영향을 주지 않는다.
+	 * 실행 중에는 heartbeat가 호출 스레드에서 주기적으로 호출된다 (분산 Lock 연장 용도).
+	 *
+	 * @param date      슬롯을 생성할 날짜
+	 * @param heartbeat 실행 중 주기적으로 호출되는 콜백
+	 * @return 생성된 슬롯 개수
+	 */
+	int generateSlotsForAllRooms(LocalDate date, Runnable heartbeat);
+	
+	/**
+	 * 특정 룸의 슬롯을 기준 날짜까지 빠짐없이 생성한다.
+	 * <p>
+	 * 워터마크 다음 날부터 horizon까지 중 슬롯이 없는 날짜만 생성하고 워터마크를 horizon으로 전진시킨다.
+	 * 룸의 예약 가능 기간(RoomOperatingPolicy.bookingHorizonDays)을 넘는 날짜는 생성하지 않는다.
+	 * 같은 룸에 대한 호출은 워터마크 행 잠금으로 직렬화되며, 여러 번 호출해도 결과가 같다.
+	 *
+	 * @param roomId  룸 ID
+	 * @param horizon 생성되어 있어야 하는 마지막 날짜
+	 * @return 새로 생성된 슬롯 개수
+	 */
+	int generateSlotsThrough(Long roomId, LocalDate horizon);
+	
+	/**
+	 * 미리 생성되지 않은 날짜의 슬롯을 요청 시점에 생성한다 (On-demand materialization).
+	 * <p>
+	 * Rolling Window(hot 구간) 밖이지만 룸의 예약 가능 기간 안에 있는 날짜는 배치가 미리 생성하지 않는다.
+	 * 예약 요청처럼 실제 행이 필요한 시점에 해당 날짜만 생성한다.
+	 * 워터마크가 이미 날짜를 지났거나, 날짜에 슬롯이 있거나, 예약 가능 기간 밖이면 아무것도 하지 않는다.
+	 *
+	 * @param roomId 룸 ID
+	 * @param date   슬롯이 필요한 날짜
+	 * @return 새로 생성된 슬롯 개수
+	 */
+	int materializeDate(Long roomId, LocalDate date);
+	
+	/**
+	 * 예약하려는 슬롯의 행이 없을 때 요청 시점에 생성한다.
+	 * <p>
+	 * EAGER 저장 방식에서는 materializeDate와 같다 (날짜 전체 생성).
+	 * LAZY 저장 방식에서는 운영 정책이 만드는 슬롯 중 요청한 시각의 행만 삽입하며, 이미 있는 행은 건너뛴다.
+	 * 과거 날짜나 예약 가능 기간 밖이면 아무것도 하지 않는다.
+	 *
+	 * @param roomId    룸 ID
+	 * @param date      슬롯 날짜
+	 * @param slotTimes 예약하려는 슬롯 시각 목록
+	 * @return 행이 준비된 슬롯 개수 (0이면 다시 조회할 필요 없음)
+	 */
+	int materializeSlots(Long roomId, LocalDate date, List<LocalTime> slotTimes);
+	
+	/**
+	 * 이미 생성된 구간(워터마크 이전)에서 슬롯 행이 없는 날짜를 다시 생성한다.
+	 * <p>
+	 * 종일 휴무로 생성을 건너뛴 날짜의 휴무가 해제되었을 때 사용한다.
+	 * 워터마크 이후 날짜는 배치나 요청 시 생성이 처리하므로 건드리지 않으며, LAZY 저장 방식에서는 아무것도 하지 않는다.
+	 *
+	 * @param roomId    룸 ID
+	 * @param startDate 시작 날짜 (inclusive, 오늘 이전은 무시)
+	 * @param endDate   종료 날짜 (inclusive)
+	 * @return 새로 생성된 슬롯 개수
+	 */
+	int fillMissingDates(Long roomId, LocalDate startDate, LocalDate endDate);
+	
+	/**
+	 * 워터마크가 기준 날짜에 도달하지 못한 모든 룸의 슬롯을 병렬로 보충 생성한다.
+	 * <p>
+	 * 배치가 하루 이상 실행되지 않았더라도 누락된 구간 전체를 생성한다.
+	 * 룸마다 별도 트랜잭션으로 처리되며, 실패한 룸은 워터마크가 전진하지 않아 다음 실행에서 다시 처리된다.
+	 *
+	 * @param horizon   생성되어 있어야 하는 마지막 날짜
+	 * @param heartbeat 실행 중 주기적으로 호출되는 콜백
+	 * @return 생성된 슬롯 개수
+	 */
+	int generateSlotsThroughForAllRooms(LocalDate horizon, Runnable heartbeat);
+	
+	/**
+	 * 룸 ID 샤드 하나에서 워터마크가 기준 날짜에 도달하지 못한 룸의 ID를 조회한다.
+	 *
+	 * @param horizon    생성되어 있어야 하는 마지막 날짜
+	 * @param shardCount 전체 샤드 수
+	 * @param shardIndex 샤드 번호 (roomId % shardCount)
+	 * @return Room ID 목록
+	 */
+	List<Long> findRoomIdsBehind(LocalDate horizon, int shardCount, int shardIndex);
+	
+	/**
+	 * 지정한 룸들의 슬롯을 기준 날짜까지 병렬로 보충 생성한다.
+	 * <p>
+	 * 같은 스케줄 템플릿을 쓰는 룸끼리 묶어 묶음마다 별도 트랜잭션으로 처리한다.
+	 * 실패한 묶음은 룸 단위로 다시 처리하므로, 한 룸의 실패는 다른 룸에 영향을 주지 않는다.
+	 *
+	 * @param roomIds   처리할 룸 ID 목록
+	 * @param horizon   생성되어 있어야 하는 마지막 날짜
+	 * @param heartbeat 실행 중 주기적으로 호출되는 콜백
+	 * @return 생성된 슬롯 개수
+	 */
+	int generateSlotsThroughForRooms(List<Long> roomIds, LocalDate horizon, Runnable heartbeat);
+	
 	/**
 	 * 어제 날짜의 슬롯을 삭제한다.
 	 * <p>
@@ -70,20 +172,11 @@ public interface TimeSlotGenerationService {
 	 */
 	int deleteSlotsBeforeDate(LocalDate beforeDate);
 	
-	/**
-	 * 특정 룸의 미래 슬롯을 재생성한다.
-	 * <p>
-	 * 정책 변경 시 호출된다.
-	 *
-	 * @param roomId 룸 ID
-	 * @return 재생성된 슬롯 개수
-	 */
-	int regenerateFutureSlots(Long roomId);
-	
 	/**
 	 * 특정 룸의 오늘부터 30일 이후까지 슬롯을 확인하고, 없는 날짜에만 생성한다.
 	 * <p>
-	 * 이미 슬롯이 존재하는 날짜는 건너뛰고, 슬롯이 없는 날짜에만 새로 생성한다.
+	 * 워터마크가 이미 기간 끝에 도달했으면 슬롯을 조회하지 않고 바로 반환한다.
+	 * 그렇지 않으면 워터마크 이후 구간에서 슬롯이 없는 날짜에만 새로 생성한다.
 	 * Room이 새로 등록되거나 슬롯이 누락된 경우 보완하는 용도로 사용된다.
 	 *
 	 * @param roomId 룸 ID
@@ -2,19 +2,36 @@ package com.teambind.springproject.room.command.domain.service;
 
 import com.teambind.springproject.common.exceptions.application.SlotGenerationFailedException;
 import com.teambind.springproject.common.exceptions.domain.PolicyNotFoundException;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.port.GenerationWatermarkPort;
+import com.teambind.springproject.room.domain.port.HolidayCalendarPort;
 import com.teambind.springproject.room.domain.port.OperatingPolicyPort;
 import com.teambind.springproject.room.domain.port.TimeSlotPort;
+import com.teambind.springproject.room.entity.RoomGenerationWatermark;
 import com.teambind.springproject.room.entity.RoomOperatingPolicy;
 import com.teambind.springproject.room.entity.RoomTimeSlot;
-import com.teambind.springproject.room.entity.enums.SlotUnit;
+import com.teambind.springproject.room.entity.enums.SlotStorageMode;
+import com.teambind.springproject.room.entity.vo.CompiledOperatingPolicy;
+import com.teambind.springproject.room.entity.vo.HolidayCalendar;
+import com.teambind.springproject.room.entity.vo.ScheduleTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 시간 슬롯 생성 서비스 구현체.
@@ -23,6 +40,9 @@ import java.util.List;
  * <p>
  * Infrastructure 계층(JPA)에 직접 의존하지 않고 Port 인터페이스에 의존
  * DIP (Dependency Inversion Principle) 준수
+ * <p>
+ * LAZY 저장 방식(room.timeSlot.storage-mode)에서는 슬롯 행을 미리 생성하지 않으며,
+ * 예약 시 요청한 슬롯의 행만 생성한다 (materializeSlots).
  *
  */
 @Service
@@ -30,43 +50,57 @@ public class TimeSlotGenerationServiceImpl implements TimeSlotGenerationService
 	
 	private static final Logger log = LoggerFactory.getLogger(TimeSlotGenerationServiceImpl.class);
 	
+	// 스케줄 템플릿 묶음 하나가 한 트랜잭션에서 처리하는 최대 룸 수
+	private static final int MAX_TEMPLATE_GROUP_SIZE = 100;
+	
 	private final TimeSlotPort timeSlotPort;
 	private final OperatingPolicyPort operatingPolicyPort;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ParallelSlotGenerationEngine generationEngine;
+	private final GenerationWatermarkPort watermarkPort;
+	private final HolidayCalendarPort holidayCalendarPort;
 	
 	@Value("${room.timeSlot.rollingWindow.days:30}")
 	private int rollingWindowDays;
 	
+	@Value("${room.timeSlot.storage-mode:EAGER}")
+	private SlotStorageMode storageMode = SlotStorageMode.EAGER;
+	
 	public TimeSlotGenerationServiceImpl(
 			TimeSlotPort timeSlotPort,
-			OperatingPolicyPort operatingPolicyPort
+			OperatingPolicyPort operatingPolicyPort,
+			ApplicationEventPublisher eventPublisher,
+			ParallelSlotGenerationEngine generationEngine,
+			GenerationWatermarkPort watermarkPort,
+			HolidayCalendarPort holidayCalendarPort
 	) {
 		this.timeSlotPort = timeSlotPort;
 		this.operatingPolicyPort = operatingPolicyPort;
+		this.eventPublisher = eventPublisher;
+		this.generationEngine = generationEngine;
+		this.watermarkPort = watermarkPort;
+		this.holidayCalendarPort = holidayCalendarPort;
 	}
 	
 	@Override
 	@Transactional
 	public int generateSlotsForDate(Long roomId, LocalDate date) {
+		if (storageMode.isLazy()) {
+			return 0;
+		}
 		
 		try {
 			// 1. 운영 정책 조회 (Port 사용)
-			RoomOperatingPolicy policy = operatingPolicyPort
-					.findByRoomId(roomId)
-					.orElseThrow(() -> new PolicyNotFoundException(roomId, true));
-			
-			// 2. 정책에 저장된 SlotUnit 사용
-			SlotUnit slotUnit = policy.getSlotUnit();
+			RoomOperatingPolicy policy = findPolicy(roomId);
 			
-			// 3. 정책 기반 슬롯 생성
-			List<RoomTimeSlot> slots = policy.generateSlotsFor(date, slotUnit);
-			
-			// 4. DB 저장 (배치 처리 - Port 사용)
-			List<RoomTimeSlot> savedSlots = timeSlotPort.saveAll(slots);
-			
-			log.debug("Generated {} slots for roomId={}, date={}",
-					savedSlots.size(), roomId, date);
+			// 2. 룸의 예약 가능 기간 밖의 날짜는 생성하지 않는다
+			if (date.isAfter(policy.bookableThrough(LocalDate.now(), rollingWindowDays))) {
+				log.debug("Skipped slot generation beyond booking horizon: roomId={}, date={}", roomId, date);
+				return 0;
+			}
 			
-			return savedSlots.size();
+			// 3. 정책 기반 슬롯 생성 및 저장 (공통 휴일에는 생성하지 않음)
+			return generateSlotsForDate(compile(policy, date, date), date);
 			
 		} catch (Exception e) {
 			log.error("Failed to generate slots for roomId={}, date={}", roomId, date, e);
@@ -76,14 +110,34 @@ public class TimeSlotGenerationServiceImpl implements TimeSlotGenerationService
 	
 	@Override
 	public int generateSlotsForDateRange(Long roomId, LocalDate startDate, LocalDate endDate) {
-		int totalGenerated = 0;
+		if (storageMode.isLazy()) {
+			return 0;
+		}
 		
-		// 트랜잭션 분할: 각 날짜마다 별도 트랜잭션으로 처리
-		// 60일치 데이터를 한 트랜잭션에서 처리하면 타임아웃 위험
-		LocalDate currentDate = startDate;
-		while (!currentDate.isAfter(endDate)) {
-			totalGenerated += generateSlotsForDate(roomId, currentDate);
-			currentDate = currentDate.plusDays(1);
+		// 정책 조회/컴파일과 휴일 조회는 범위 전체에 대해 한 번만 수행하고 날짜별로 평가만 한다
+		LocalDate until;
+		CompiledOperatingPolicy compiled;
+		try {
+			RoomOperatingPolicy policy = findPolicy(roomId);
+			LocalDate bookableThrough = policy.bookableThrough(LocalDate.now(), rollingWindowDays);
+			until = endDate.isAfter(bookableThrough) ? bookableThrough : endDate;
+			if (startDate.isAfter(until)) {
+				return 0;
+			}
+			compiled = compile(policy, startDate, until);
+		} catch (Exception e) {
+			log.error("Failed to generate slots for roomId={}, dateRange=[{} to {}]", roomId, startDate, endDate, e);
+			throw SlotGenerationFailedException.forDate(startDate.toString(), e);
+		}
+		
+		int totalGenerated = 0;
+		for (LocalDate date = startDate; !date.isAfter(until); date = date.plusDays(1)) {
+			try {
+				totalGenerated += generateSlotsForDate(compiled, date);
+			} catch (Exception e) {
+				log.error("Failed to generate slots for roomId={}, date={}", roomId, date, e);
+				throw SlotGenerationFailedException.forDate(date.toString(), e);
+			}
 		}
 		
 		log.info("Generated {} slots for roomId={}, dateRange=[{} to {}]",
@@ -92,95 +146,396 @@ public class TimeSlotGenerationServiceImpl implements TimeSlotGenerationService
 		return totalGenerated;
 	}
 	
+	/**
+	 * 컴파일된 정책으로 하루치 슬롯을 생성하고 저장한다.
+	 * <p>
+	 * 정책 조회, 예약 가능 기간 확인, 휴일 반영은 호출자가 범위 단위로 끝낸 상태여야 한다.
+	 */
+	private int generateSlotsForDate(CompiledOperatingPolicy compiled, LocalDate date) {
+		Long roomId = compiled.getRoomId();
+		List<RoomTimeSlot> savedSlots = timeSlotPort.saveAll(compiled.generateSlotsFor(date));
+		if (!savedSlots.isEmpty()) {
+			eventPublisher.publishEvent(new SlotAvailabilityChangedEvent(roomId, date));
+		}
+		
+		log.debug("Generated {} slots for roomId={}, date={}", savedSlots.size(), roomId, date);
+		
+		return savedSlots.size();
+	}
+	
+	private RoomOperatingPolicy findPolicy(Long roomId) {
+		return operatingPolicyPort.findByRoomId(roomId)
+				.orElseThrow(() -> new PolicyNotFoundException(roomId, true));
+	}
+	
+	/**
+	 * 같은 룸의 슬롯 생성 경로를 직렬화한 뒤 워터마크를 잠그고 조회한다.
+	 * <p>
+	 * 워터마크 행이 아직 없는 룸은 워터마크 잠금이 아무것도 잠그지 않으므로, 항상 존재하는 운영 정책 행을 먼저 잠근다
+	 * (OperatingHoursRegenerationJobRunner.claim과 같은 잠금, 순서는 정책 → 워터마크).
+	 */
+	private Optional<RoomGenerationWatermark> lockWatermark(Long roomId) {
+		operatingPolicyPort.findByRoomIdWithLock(roomId);
+		return watermarkPort.findByRoomIdWithLock(roomId);
+	}
+	
+	/**
+	 * 정책을 컴파일하고 [from, to] 구간의 공통 휴일을 한 번에 반영한다.
+	 */
+	private CompiledOperatingPolicy compile(RoomOperatingPolicy policy, LocalDate from, LocalDate to) {
+		return policy.compile().withHolidays(holidayCalendarPort.findCalendar(from, to));
+	}
+	
 	@Override
 	public int generateSlotsForAllRooms(LocalDate date) {
-		// 모든 정책 조회 (Port 사용)
-		List<RoomOperatingPolicy> policies = operatingPolicyPort.findAll();
+		return generateSlotsForAllRooms(date, () -> {
+		});
+	}
+	
+	@Override
+	public int generateSlotsForAllRooms(LocalDate date, Runnable heartbeat) {
+		// 정책 엔티티 전체가 아닌 Room ID만 조회하고, 정책은 룸별 트랜잭션 안에서 로딩한다
+		List<Long> roomIds = operatingPolicyPort.findAllRoomIds();
 		
-		int totalGenerated = 0;
+		// 룸 단위 트랜잭션은 엔진이 감싼다 (자기 호출이라 generateSlotsForDate의 @Transactional은 적용되지 않음)
+		int totalGenerated = generationEngine.run(
+				roomIds, roomId -> generateSlotsForDate(roomId, date), heartbeat);
 		
-		for (RoomOperatingPolicy policy : policies) {
-			try {
-				int generated = generateSlotsForDate(policy.getRoomId(), date);
-				totalGenerated += generated;
-			} catch (Exception e) {
-				log.error("Failed to generate slots for roomId={}, date={}",
-						policy.getRoomId(), date, e);
-				// 한 룸 실패해도 다른 룸은 계속 처리
+		log.info("Generated {} slots for all rooms on date={}", totalGenerated, date);
+		
+		return totalGenerated;
+	}
+	
+	@Override
+	@Transactional
+	public int generateSlotsThrough(Long roomId, LocalDate horizon) {
+		if (storageMode.isLazy()) {
+			return 0;
+		}
+		
+		// 같은 룸의 다른 생성 경로가 끝날 때까지 대기 (동일 날짜 중복 생성 방지)
+		RoomGenerationWatermark watermark = lockWatermark(roomId)
+				.orElseGet(() -> RoomGenerationWatermark.create(roomId));
+		
+		LocalDate today = LocalDate.now();
+		LocalDate from = watermark.nextDateToGenerate(today);
+		if (from.isAfter(horizon)) {
+			return 0;
+		}
+		
+		// 예약 가능 기간이 hot 구간보다 짧은 룸은 그 이후 날짜를 생성하지 않고 워터마크도 넘기지 않는다
+		RoomOperatingPolicy policy = findPolicy(roomId);
+		LocalDate bookableThrough = policy.bookableThrough(today, rollingWindowDays);
+		LocalDate until = bookableThrough.isBefore(horizon) ? bookableThrough : horizon;
+		if (from.isAfter(until)) {
+			return 0;
+		}
+		
+		// 워터마크 도입 이전 또는 다른 경로로 이미 생성된 날짜는 건너뛴다
+		Set<LocalDate> datesWithSlots = new HashSet<>(
+				timeSlotPort.findSlotDatesByRoomIdAndSlotDateBetween(roomId, from, until));
+		
+		CompiledOperatingPolicy compiled = compile(policy, from, until);
+		int totalGenerated = 0;
+		for (LocalDate date = from; !date.isAfter(until); date = date.plusDays(1)) {
+			if (!datesWithSlots.contains(date)) {
+				totalGenerated += generateSlotsForDate(compiled, date);
 			}
 		}
 		
-		log.info("Generated {} slots for all rooms on date={}", totalGenerated, date);
+		watermark.advanceTo(until);
+		watermarkPort.save(watermark);
+		
+		log.debug("Generated slots through watermark: roomId={}, range=[{} to {}], skippedDates={}, slots={}",
+				roomId, from, until, datesWithSlots.size(), totalGenerated);
 		
 		return totalGenerated;
 	}
 	
 	@Override
-	public int deleteYesterdaySlots() {
-		LocalDate yesterday = LocalDate.now().minusDays(1);
-		return deleteSlotsBeforeDate(yesterday.plusDays(1)); // yesterday 포함해서 삭제
+	@Transactional
+	public int materializeDate(Long roomId, LocalDate date) {
+		if (storageMode.isLazy()) {
+			return 0;
+		}
+		
+		LocalDate today = LocalDate.now();
+		Optional<RoomOperatingPolicy> policy = operatingPolicyPort.findByRoomId(roomId);
+		boolean bookable = !date.isBefore(today) && policy
+				.map(found -> !date.isAfter(found.bookableThrough(today, rollingWindowDays)))
+				.orElse(false);
+		if (!bookable) {
+			return 0;
+		}
+		
+		// 배치/초기 생성과 같은 날짜를 동시에 만들지 않도록 워터마크 행을 잠근다
+		Optional<RoomGenerationWatermark> watermark = lockWatermark(roomId);
+		if (watermark.isPresent() && watermark.get().isGeneratedThrough(date)) {
+			return 0;
+		}
+		if (!timeSlotPort.findSlotDatesByRoomIdAndSlotDateBetween(roomId, date, date).isEmpty()) {
+			return 0;
+		}
+		
+		int generated = generateSlotsForDate(compile(policy.get(), date, date), date);
+		
+		log.info("Materialized slots on demand: roomId={}, date={}, slots={}", roomId, date, generated);
+		
+		return generated;
 	}
 	
 	@Override
 	@Transactional
-	public int deleteSlotsBeforeDate(LocalDate beforeDate) {
-		int deletedCount = timeSlotPort.deleteBySlotDateBefore(beforeDate);
+	public int materializeSlots(Long roomId, LocalDate date, List<LocalTime> slotTimes) {
+		if (!storageMode.isLazy()) {
+			return materializeDate(roomId, date);
+		}
 		
-		log.info("Deleted {} slots before date={}", deletedCount, beforeDate);
+		LocalDate today = LocalDate.now();
+		Optional<RoomOperatingPolicy> policy = operatingPolicyPort.findByRoomId(roomId);
+		if (date.isBefore(today) || policy.isEmpty()
+				|| date.isAfter(policy.get().bookableThrough(today, rollingWindowDays))) {
+			return 0;
+		}
 		
-		return deletedCount;
+		// 정책이 만드는 슬롯 중 요청한 시각만 삽입한다 (휴무로 CLOSED인 슬롯도 포함해 호출자가 상태를 판단)
+		Set<LocalTime> requested = new HashSet<>(slotTimes);
+		List<RoomTimeSlot> slots = policy.get().compile()
+				.withHolidays(holidayCalendarPort.findCalendar(date, date))
+				.generateSlotsFor(date).stream()
+				.filter(slot -> requested.contains(slot.getSlotTime()))
+				.toList();
+		if (slots.isEmpty()) {
+			return 0;
+		}
+		
+		int inserted = timeSlotPort.insertIfAbsent(slots);
+		
+		log.debug("Materialized requested slots: roomId={}, date={}, requested={}, inserted={}",
+				roomId, date, slotTimes.size(), inserted);
+		
+		// 동시 요청이 먼저 삽입한 행도 이제 존재하므로 삽입 여부와 관계없이 대상 수를 반환한다
+		return slots.size();
 	}
 	
 	@Override
-	public int regenerateFutureSlots(Long roomId) {
-		try {
-			// 1. 미래 슬롯 삭제 (Port 사용)
-			timeSlotPort.deleteByRoomId(roomId);
-
-			log.info("Deleted future slots for roomId={}", roomId);
+	@Transactional
+	public int fillMissingDates(Long roomId, LocalDate startDate, LocalDate endDate) {
+		if (storageMode.isLazy()) {
+			return 0;
+		}
+		
+		// 배치/요청 시 생성과 같은 날짜를 동시에 만들지 않도록 워터마크 행을 잠근다
+		LocalDate generatedThrough = lockWatermark(roomId)
+				.map(RoomGenerationWatermark::getGeneratedThrough)
+				.orElse(null);
+		LocalDate today = LocalDate.now();
+		LocalDate from = startDate.isBefore(today) ? today : startDate;
+		if (generatedThrough == null || from.isAfter(endDate) || from.isAfter(generatedThrough)) {
+			return 0;
+		}
+		LocalDate to = endDate.isAfter(generatedThrough) ? generatedThrough : endDate;
+		
+		RoomOperatingPolicy policy = findPolicy(roomId);
+		LocalDate bookableThrough = policy.bookableThrough(today, rollingWindowDays);
+		if (to.isAfter(bookableThrough)) {
+			to = bookableThrough;
+		}
+		if (from.isAfter(to)) {
+			return 0;
+		}
+		
+		Set<LocalDate> datesWithSlots = new HashSet<>(
+				timeSlotPort.findSlotDatesByRoomIdAndSlotDateBetween(roomId, from, to));
+		
+		CompiledOperatingPolicy compiled = compile(policy, from, to);
+		int totalGenerated = 0;
+		for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+			if (!datesWithSlots.contains(date)) {
+				totalGenerated += generateSlotsForDate(compiled, date);
+			}
+		}
+		
+		log.debug("Filled missing dates: roomId={}, range=[{} to {}], slots={}", roomId, from, to, totalGenerated);
+		
+		return totalGenerated;
+	}
+	
+	@Override
+	public int generateSlotsThroughForAllRooms(LocalDate horizon, Runnable heartbeat) {
+		// 워터마크가 horizon에 도달한 룸은 조회 단계에서 제외된다
+		return generateSlotsThroughForRooms(watermarkPort.findRoomIdsGeneratedBefore(horizon), horizon, heartbeat);
+	}
+	
+	@Override
+	public List<Long> findRoomIdsBehind(LocalDate horizon, int shardCount, int shardIndex) {
+		return watermarkPort.findRoomIdsGeneratedBefore(horizon, shardCount, shardIndex);
+	}
+	
+	@Override
+	public int generateSlotsThroughForRooms(List<Long> roomIds, LocalDate horizon, Runnable heartbeat) {
+		if (storageMode.isLazy()) {
+			return 0;
+		}
+		
+		// 같은 스케줄 템플릿을 쓰는 룸끼리 묶어 한 트랜잭션에서 생성하고 한 번에 삽입한다
+		List<List<Long>> groups = groupByScheduleTemplate(roomIds);
+		Set<Long> failedRoomIds = ConcurrentHashMap.newKeySet();
+		
+		int totalGenerated = generationEngine.run(groups, group -> {
+			try {
+				return generateTemplateGroup(group, horizon);
+			} catch (RuntimeException e) {
+				failedRoomIds.addAll(group);
+				throw e;
+			}
+		}, heartbeat);
+		
+		// 실패한 묶음은 룸 단위로 다시 처리해 문제가 있는 룸만 실패로 남긴다
+		if (!failedRoomIds.isEmpty()) {
+			List<Long> retryRoomIds = roomIds.stream().filter(failedRoomIds::contains).toList();
+			log.warn("Retrying {} rooms of failed template groups one by one", retryRoomIds.size());
+			totalGenerated += generationEngine.run(
+					retryRoomIds, roomId -> generateSlotsThrough(roomId, horizon), heartbeat);
+		}
+		
+		log.info("Generated {} slots for {} rooms ({} template groups) behind horizon={}",
+				totalGenerated, roomIds.size(), groups.size(), horizon);
+		
+		return totalGenerated;
+	}
+	
+	/**
+	 * 룸을 스케줄 템플릿 해시로 묶는다. 해시가 없는 정책(해시 도입 이전 데이터)은 단독 묶음이 된다.
+	 */
+	private List<List<Long>> groupByScheduleTemplate(List<Long> roomIds) {
+		if (roomIds.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, String> hashes = operatingPolicyPort.findScheduleHashesByRoomIds(roomIds);
+		
+		Map<String, List<Long>> byHash = new LinkedHashMap<>();
+		List<List<Long>> groups = new ArrayList<>();
+		for (Long roomId : roomIds) {
+			String hash = hashes.get(roomId);
+			if (hash == null) {
+				groups.add(List.of(roomId));
+				continue;
+			}
+			List<Long> group = byHash.computeIfAbsent(hash, key -> new ArrayList<>());
+			group.add(roomId);
+			// 한 트랜잭션이 너무 커지지 않도록 묶음 크기를 제한한다
+			if (group.size() == MAX_TEMPLATE_GROUP_SIZE) {
+				groups.add(group);
+				byHash.remove(hash);
+			}
+		}
+		groups.addAll(byHash.values());
+		return groups;
+	}
+	
+	/**
+	 * 같은 스케줄 템플릿을 쓰는 룸 묶음의 슬롯을 기준 날짜까지 생성한다 (엔진이 감싼 트랜잭션 안에서 실행).
+	 * <p>
+	 * 휴무가 없는 날짜는 템플릿의 시작 시각을 그대로 쓰고, 휴무가 있는 날짜만 룸별 정책으로 평가한다.
+	 * 묶음 전체의 슬롯은 한 번의 배치 삽입으로 저장한다.
+	 */
+	private int generateTemplateGroup(List<Long> roomIds, LocalDate horizon) {
+		Map<Long, RoomOperatingPolicy> policies = new HashMap<>();
+		operatingPolicyPort.findAllByRoomIds(roomIds).forEach(policy -> policies.put(policy.getRoomId(), policy));
+		
+		LocalDate today = LocalDate.now();
+		HolidayCalendar holidays = holidayCalendarPort.findCalendar(today, horizon);
+		List<RoomTimeSlot> slots = new ArrayList<>();
+		List<SlotAvailabilityChangedEvent> events = new ArrayList<>();
+		
+		// 워터마크 잠금 순서를 고정해 다른 묶음/경로와의 교착을 피한다
+		for (Long roomId : roomIds.stream().sorted().toList()) {
+			RoomOperatingPolicy policy = policies.get(roomId);
+			if (policy == null) {
+				throw new PolicyNotFoundException(roomId, true);
+			}
 			
-			// 2. N일치 슬롯 재생성 (설정값 사용)
-			LocalDate today = LocalDate.now();
-			LocalDate endDate = today.plusDays(rollingWindowDays);
-			int regenerated = generateSlotsForDateRange(roomId, today, endDate);
+			RoomGenerationWatermark watermark = lockWatermark(roomId)
+					.orElseGet(() -> RoomGenerationWatermark.create(roomId));
+			// 예약 가능 기간이 hot 구간보다 짧은 룸은 그 이후 날짜를 생성하지 않는다
+			LocalDate bookableThrough = policy.bookableThrough(today, rollingWindowDays);
+			LocalDate until = bookableThrough.isBefore(horizon) ? bookableThrough : horizon;
+			LocalDate from = watermark.nextDateToGenerate(today);
+			if (from.isAfter(until)) {
+				continue;
+			}
 			
-			log.info("Regenerated {} slots for roomId={} (rollingWindowDays={})",
-					regenerated, roomId, rollingWindowDays);
+			Set<LocalDate> datesWithSlots = new HashSet<>(
+					timeSlotPort.findSlotDatesByRoomIdAndSlotDateBetween(roomId, from, until));
+			CompiledOperatingPolicy compiled = policy.compile().withHolidays(holidays);
+			ScheduleTemplate template = compiled.getTemplate();
 			
-			return regenerated;
+			for (LocalDate date = from; !date.isAfter(until); date = date.plusDays(1)) {
+				if (datesWithSlots.contains(date)) {
+					continue;
+				}
+				int before = slots.size();
+				if (compiled.hasClosuresOn(date)) {
+					slots.addAll(compiled.generateSlotsFor(date));
+				} else {
+					for (LocalTime startTime : template.startTimesOn(date)) {
+						slots.add(RoomTimeSlot.available(roomId, date, startTime));
+					}
+				}
+				if (slots.size() > before) {
+					events.add(new SlotAvailabilityChangedEvent(roomId, date));
+				}
+			}
 			
-		} catch (Exception e) {
-			log.error("Failed to regenerate future slots for roomId={}", roomId, e);
-			throw SlotGenerationFailedException.forRoom(roomId, e);
+			// 예약 가능 기간 끝까지만 전진 - 다음 날 예약 가능해지는 날짜를 다시 생성하도록 뒤처진 상태로 남긴다
+			watermark.advanceTo(until);
+			watermarkPort.save(watermark);
 		}
+		
+		int inserted = timeSlotPort.insertAll(slots);
+		events.forEach(eventPublisher::publishEvent);
+		
+		log.debug("Generated template group slots: rooms={}, horizon={}, slots={}", roomIds.size(), horizon, inserted);
+		
+		return inserted;
 	}
 	
 	@Override
-	public int ensureSlotsForNext30Days(Long roomId) {
-		LocalDate today = LocalDate.now();
-		LocalDate endDate = today.plusDays(rollingWindowDays);
+	public int deleteYesterdaySlots() {
+		LocalDate yesterday = LocalDate.now().minusDays(1);
+		return deleteSlotsBeforeDate(yesterday.plusDays(1)); // yesterday 포함해서 삭제
+	}
+	
+	@Override
+	@Transactional
+	public int deleteSlotsBeforeDate(LocalDate beforeDate) {
+		int deletedCount = timeSlotPort.deleteBySlotDateBefore(beforeDate);
 		
-		// 1. 해당 기간의 기존 슬롯 조회
-		List<RoomTimeSlot> existingSlots = timeSlotPort.findByRoomIdAndSlotDateBetween(
-				roomId, today, endDate);
+		log.info("Deleted {} slots before date={}", deletedCount, beforeDate);
 		
-		// 2. 슬롯이 존재하는 날짜를 Set으로 수집
-		java.util.Set<LocalDate> datesWithSlots = existingSlots.stream()
-				.map(RoomTimeSlot::getSlotDate)
-				.collect(java.util.stream.Collectors.toSet());
+		return deletedCount;
+	}
+	
+	@Override
+	@Transactional
+	public int ensureSlotsForNext30Days(Long roomId) {
+		LocalDate endDate = LocalDate.now().plusDays(rollingWindowDays);
 		
-		// 3. 슬롯이 없는 날짜에만 생성
-		int totalGenerated = 0;
-		LocalDate currentDate = today;
-		while (!currentDate.isAfter(endDate)) {
-			if (!datesWithSlots.contains(currentDate)) {
-				totalGenerated += generateSlotsForDate(roomId, currentDate);
-			}
-			currentDate = currentDate.plusDays(1);
+		// 1. 워터마크가 기간 끝에 도달했으면 슬롯 조회 없이 종료
+		boolean upToDate = watermarkPort.findByRoomId(roomId)
+				.map(watermark -> watermark.isGeneratedThrough(endDate))
+				.orElse(false);
+		if (upToDate) {
+			log.debug("Slots already generated through {}: roomId={}", endDate, roomId);
+			return 0;
 		}
 		
-		log.info("Ensured slots for roomId={}: {} new slots generated, {} dates already had slots",
-				roomId, totalGenerated, datesWithSlots.size());
+		// 2. 워터마크 이후 구간에서 슬롯이 없는 날짜에만 생성
+		int totalGenerated = generateSlotsThrough(roomId, endDate);
+		
+		log.info("Ensured slots for roomId={}: {} new slots generated through {}",
+				roomId, totalGenerated, endDate);
 		
 		return totalGenerated;
 	}
@@ -71,6 +71,26 @@ public interface TimeSlotManagementService {
 	 */
 	void cancelSlotsByReservationId(Long reservationId);
 	
+	/**
+	 * 여러 예약의 PENDING 슬롯을 한 번의 조회와 조건부 UPDATE로 확정한다.
+	 * <p>
+	 * 결제 완료 이벤트를 배치로 처리할 때 호출된다. PENDING이 아닌 슬롯은 건너뛴다 (중복 이벤트에 멱등).
+	 *
+	 * @param reservationIds 예약 ID 목록
+	 * @return 확정된 슬롯 개수
+	 */
+	int confirmSlotsByReservationIds(java.util.Collection<Long> reservationIds);
+	
+	/**
+	 * 여러 예약의 PENDING / RESERVED 슬롯을 한 번의 조회와 조건부 UPDATE로 취소한다.
+	 * <p>
+	 * 예약 취소 이벤트를 배치로 처리할 때 호출된다. 이미 해제된 슬롯은 건너뛴다 (중복 이벤트에 멱등).
+	 *
+	 * @param reservationIds 예약 ID 목록
+	 * @return 취소된 슬롯 개수
+	 */
+	int cancelSlotsByReservationIds(java.util.Collection<Long> reservationIds);
+	
 	/**
 	 * 만료된 PENDING 슬롯을 다시 AVAILABLE 상태로 복구한다.
 	 * <p>
@@ -131,6 +151,8 @@ public interface TimeSlotManagementService {
 	/**
 	 * 운영 정책의 휴무일 설정에 따라 슬롯을 CLOSED 상태로 업데이트한다.
 	 * <p>
+	 * 휴무 해제(REOPEN) 요청이면 요청의 대상 기간에서 남은 휴무에 포함되지 않는 CLOSED 슬롯을 AVAILABLE로 되돌린다.
+	 * <p>
 	 * 비동기 처리를 위해 요청 상태를 관리한다:
 	 * - IN_PROGRESS: 처리 중
 	 * - COMPLETED: 완료
@@ -148,4 +170,18 @@ public interface TimeSlotManagementService {
 	 * @return 업데이트된 슬롯 개수
 	 */
 	int updateClosedDatesForRoom(Long roomId, String requestId);
+	
+	/**
+	 * 공통 휴일 달력을 모든 룸의 기존 슬롯에 적용한다.
+	 * <p>
+	 * 처리 플로우:
+	 * 1. ClosedDateUpdateRequest 상태를 IN_PROGRESS로 변경
+	 * 2. 오늘부터 최대 예약 가능 기간까지의 휴일 조회
+	 * 3. 휴일의 AVAILABLE 슬롯을 모든 룸에서 한 번에 CLOSED 상태로 변경
+	 * 4. 요청 상태를 COMPLETED 또는 FAILED로 변경
+	 *
+	 * @param requestId 휴무일 업데이트 요청 ID
+	 * @return 업데이트된 슬롯 개수
+	 */
+	int applyHolidayCalendar(String requestId);
 }
@@ -3,24 +3,37 @@ package com.teambind.springproject.room.command.domain.service;
 import com.teambind.springproject.common.exceptions.domain.PolicyNotFoundException;
 import com.teambind.springproject.common.exceptions.domain.SlotNotAvailableException;
 import com.teambind.springproject.common.exceptions.domain.SlotNotFoundException;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.event.SlotTransition;
 import com.teambind.springproject.room.domain.port.ClosedDateUpdateRequestPort;
+import com.teambind.springproject.room.domain.port.HolidayCalendarPort;
 import com.teambind.springproject.room.domain.port.OperatingPolicyPort;
 import com.teambind.springproject.room.domain.port.TimeSlotPort;
 import com.teambind.springproject.room.entity.ClosedDateUpdateRequest;
 import com.teambind.springproject.room.entity.RoomOperatingPolicy;
 import com.teambind.springproject.room.entity.RoomTimeSlot;
 import com.teambind.springproject.room.entity.enums.SlotStatus;
+import com.teambind.springproject.room.entity.enums.SlotStorageMode;
+import com.teambind.springproject.room.entity.vo.ClosedDateIndex;
 import com.teambind.springproject.room.entity.vo.ClosedDateRange;
+import com.teambind.springproject.room.entity.vo.HolidayCalendar;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -41,17 +54,32 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 	private final TimeSlotPort timeSlotPort;
 	private final OperatingPolicyPort operatingPolicyPort;
 	private final ClosedDateUpdateRequestPort closedDateUpdateRequestPort;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TimeSlotGenerationService generationService;
+	private final HolidayCalendarPort holidayCalendarPort;
 	private final int pendingExpirationMinutes;
 	
+	@Value("${room.timeSlot.rollingWindow.days:30}")
+	private int rollingWindowDays;
+	
+	@Value("${room.timeSlot.storage-mode:EAGER}")
+	private SlotStorageMode storageMode = SlotStorageMode.EAGER;
+	
 	public TimeSlotManagementServiceImpl(
 			TimeSlotPort timeSlotPort,
 			OperatingPolicyPort operatingPolicyPort,
 			ClosedDateUpdateRequestPort closedDateUpdateRequestPort,
+			ApplicationEventPublisher eventPublisher,
+			TimeSlotGenerationService generationService,
+			HolidayCalendarPort holidayCalendarPort,
 			@Value("${room.timeSlot.pending.expiration.minutes}") int pendingExpirationMinutes
 	) {
 		this.timeSlotPort = timeSlotPort;
 		this.operatingPolicyPort = operatingPolicyPort;
 		this.closedDateUpdateRequestPort = closedDateUpdateRequestPort;
+		this.eventPublisher = eventPublisher;
+		this.generationService = generationService;
+		this.holidayCalendarPort = holidayCalendarPort;
 		this.pendingExpirationMinutes = pendingExpirationMinutes;
 	}
 	
@@ -77,8 +105,10 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 		Long reservationId = slot.getReservationId();
 		
 		// 도메인 로직: 상태 전이
+		SlotStatus previousStatus = slot.getStatus();
 		slot.confirm();
 		timeSlotPort.save(slot);
+		publishAvailabilityChanged(List.of(slot), List.of(previousStatus));
 		
 		log.info("Slot confirmed: slotId={}, roomId={}, reservationId={}",
 				slot.getSlotId(), roomId, reservationId);
@@ -91,8 +121,10 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 		Long reservationId = slot.getReservationId();
 		
 		// 도메인 로직: 상태 전이
+		SlotStatus previousStatus = slot.getStatus();
 		slot.cancel();
 		timeSlotPort.save(slot);
+		publishAvailabilityChanged(List.of(slot), List.of(previousStatus));
 		
 		log.info("Slot cancelled: slotId={}, roomId={}, reservationId={}",
 				slot.getSlotId(), roomId, reservationId);
@@ -108,12 +140,14 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 			return;
 		}
 		
+		List<SlotStatus> previousStatuses = statusesOf(slots);
 		for (RoomTimeSlot slot : slots) {
 			// PENDING → RESERVED 상태 전환
 			slot.confirm();
 		}
 		
 		timeSlotPort.saveAll(slots);
+		publishAvailabilityChanged(slots, previousStatuses);
 		
 		log.info("Confirmed {} slots for reservationId={}", slots.size(), reservationId);
 	}
@@ -123,26 +157,63 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 		// Port를 통해 예약 ID로 슬롯 조회
 		List<RoomTimeSlot> slots = timeSlotPort.findByReservationId(reservationId);
 		
+		List<SlotStatus> previousStatuses = statusesOf(slots);
 		for (RoomTimeSlot slot : slots) {
 			slot.cancel();
 		}
 		
 		timeSlotPort.saveAll(slots);
+		publishAvailabilityChanged(slots, previousStatuses);
 		
 		log.info("Cancelled {} slots for reservationId={}", slots.size(), reservationId);
 	}
 	
+	@Override
+	public int confirmSlotsByReservationIds(Collection<Long> reservationIds) {
+		List<RoomTimeSlot> pending = timeSlotPort.findByReservationIds(reservationIds).stream()
+				.filter(slot -> slot.getStatus() == SlotStatus.PENDING)
+				.toList();
+		if (pending.isEmpty()) {
+			log.warn("No pending slots found for reservationIds={}", reservationIds);
+			return 0;
+		}
+		
+		int confirmed = timeSlotPort.confirmPendingSlotsByIds(pending.stream().map(RoomTimeSlot::getSlotId).toList());
+		publishTransitions(appliedSlots(pending, confirmed, SlotStatus.RESERVED), SlotStatus.RESERVED);
+		
+		log.info("Confirmed {} slots for {} reservations", confirmed, reservationIds.size());
+		return confirmed;
+	}
+	
+	@Override
+	public int cancelSlotsByReservationIds(Collection<Long> reservationIds) {
+		List<RoomTimeSlot> held = timeSlotPort.findByReservationIds(reservationIds).stream()
+				.filter(slot -> slot.getStatus() == SlotStatus.PENDING || slot.getStatus() == SlotStatus.RESERVED)
+				.toList();
+		if (held.isEmpty()) {
+			return 0;
+		}
+		
+		int cancelled = timeSlotPort.releaseReservedSlotsByIds(held.stream().map(RoomTimeSlot::getSlotId).toList());
+		publishTransitions(appliedSlots(held, cancelled, SlotStatus.AVAILABLE), SlotStatus.AVAILABLE);
+		
+		log.info("Cancelled {} slots for {} reservations", cancelled, reservationIds.size());
+		return cancelled;
+	}
+	
 	@Override
 	public int restoreExpiredPendingSlots() {
 		// Port를 통해 만료된 PENDING 슬롯 조회
 		List<RoomTimeSlot> expiredSlots = timeSlotPort.findExpiredPendingSlots(pendingExpirationMinutes);
 		
+		List<SlotStatus> previousStatuses = statusesOf(expiredSlots);
 		for (RoomTimeSlot slot : expiredSlots) {
 			// PENDING → AVAILABLE 상태로 변경 및 reservationId 제거
 			slot.cancel();
 		}
 		
 		timeSlotPort.saveAll(expiredSlots);
+		publishAvailabilityChanged(expiredSlots, previousStatuses);
 		
 		if (!expiredSlots.isEmpty()) {
 			log.info("Restored {} expired pending slots", expiredSlots.size());
@@ -166,6 +237,12 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 				roomId, slotDate, slotTimes
 		);
 		
+		// 미리 생성되지 않은 슬롯(hot 구간 밖, LAZY 저장 방식)은 첫 예약 시점에 행을 생성한다
+		if (slots.size() != slotTimes.size()
+				&& generationService.materializeSlots(roomId, slotDate, slotTimes) > 0) {
+			slots = timeSlotPort.findByRoomIdAndSlotDateAndSlotTimeInWithLock(roomId, slotDate, slotTimes);
+		}
+		
 		// 2. 요청한 슬롯 수와 조회된 슬롯 수 확인
 		if (slots.size() != slotTimes.size()) {
 			List<LocalTime> foundTimes = slots.stream()
@@ -200,12 +277,14 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 		}
 		
 		// 4. 모든 슬롯을 PENDING 상태로 변경
+		List<SlotStatus> previousStatuses = statusesOf(slots);
 		for (RoomTimeSlot slot : slots) {
 			slot.markAsPending(reservationId);
 		}
 		
 		// 5. 일괄 저장
 		timeSlotPort.saveAll(slots);
+		publishAvailabilityChanged(slots, previousStatuses);
 		
 		log.info("Successfully marked {} slots as pending: roomId={}, slotDate={}, reservationId={}",
 				slots.size(), roomId, slotDate, reservationId);
@@ -246,6 +325,7 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 		}
 		
 		// 3. 도메인 규칙 검증 및 상태 전이
+		List<SlotStatus> previousStatuses = statusesOf(slots);
 		for (RoomTimeSlot slot : slots) {
 			// 예약되지 않은 슬롯에 대한 복구 시도 시 경고 로그
 			if (slot.getStatus() != SlotStatus.RESERVED && slot.getStatus() != SlotStatus.PENDING) {
@@ -259,6 +339,7 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 		
 		// 4. 일괄 저장
 		timeSlotPort.saveAll(slots);
+		publishAvailabilityChanged(slots, previousStatuses);
 		
 		log.info("Successfully restored {} slots after refund: roomId={}, slotDate={}",
 				slots.size(), roomId, slotDate);
@@ -285,57 +366,10 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 			RoomOperatingPolicy policy = operatingPolicyPort.findByRoomId(roomId)
 					.orElseThrow(() -> new PolicyNotFoundException(roomId, true));
 			
-			List<ClosedDateRange> closedDateRanges = policy.getClosedDates();
-			
-			log.info("Found {} closed date ranges for roomId={}", closedDateRanges.size(), roomId);
-			
-			int affectedSlots = 0;
-			
-			// 4. 각 휴무일 범위에 대해 슬롯 업데이트
-			for (ClosedDateRange range : closedDateRanges) {
-				List<RoomTimeSlot> slots;
-				
-				if (range.isPatternBased()) {
-					// 패턴 기반 휴무일: 60일치 슬롯 조회
-					LocalDate today = LocalDate.now();
-					LocalDate futureDate = today.plusMonths(2);
-					
-					slots = timeSlotPort.findByRoomIdAndSlotDateBetween(roomId, today, futureDate);
-					
-					log.debug("Pattern-based closed date: dayOfWeek={}, pattern={}, found {} slots in range",
-							range.getDayOfWeek(), range.getRecurrencePattern(), slots.size());
-				} else {
-					// 날짜 기반 휴무일: 해당 날짜 범위의 슬롯만 조회
-					LocalDate startDate = range.getStartDate();
-					LocalDate endDate = range.getEndDate() != null ? range.getEndDate() : startDate;
-					
-					slots = timeSlotPort.findByRoomIdAndSlotDateBetween(roomId, startDate, endDate);
-					
-					log.debug("Date-based closed date: {} to {}, found {} slots",
-							startDate, endDate, slots.size());
-				}
-				
-				// 휴무 범위에 해당하는 슬롯만 CLOSED로 변경
-				List<RoomTimeSlot> slotsToUpdate = new ArrayList<>();
-				for (RoomTimeSlot slot : slots) {
-					if (range.contains(slot.getSlotDate(), slot.getSlotTime())) {
-						try {
-							slot.markAsClosed();
-							slotsToUpdate.add(slot);
-						} catch (Exception e) {
-							// 이미 예약된 슬롯 등 상태 전환이 불가능한 경우 로그만 남기고 계속 진행
-							log.warn("Failed to mark slot as closed: slotId={}, status={}, reason={}",
-									slot.getSlotId(), slot.getStatus(), e.getMessage());
-						}
-					}
-				}
-				
-				// 일괄 저장
-				if (!slotsToUpdate.isEmpty()) {
-					timeSlotPort.saveAll(slotsToUpdate);
-					affectedSlots += slotsToUpdate.size();
-				}
-			}
+			// 4. 휴무 추가는 AVAILABLE → CLOSED, 휴무 해제는 남은 휴무에 포함되지 않는 CLOSED → AVAILABLE
+			int affectedSlots = request.isReopen()
+					? reopenSlots(roomId, policy, request)
+					: closeSlots(roomId, policy);
 			
 			// 5. 완료 상태로 변경
 			request.markAsCompleted(affectedSlots);
@@ -358,6 +392,261 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 		}
 	}
 	
+	/**
+	 * 정책의 휴무 범위마다 조건부 UPDATE 한 번으로 AVAILABLE 슬롯을 CLOSED로 변경한다.
+	 *
+	 * @return 변경된 슬롯 개수
+	 */
+	private int closeSlots(Long roomId, RoomOperatingPolicy policy) {
+		ClosedDateIndex closedDateIndex = policy.closedDateIndex();
+		
+		log.info("Found {} closed date ranges for roomId={}", closedDateIndex.getRanges().size(), roomId);
+		
+		int affectedSlots = 0;
+		
+		// 휴무 범위마다 조건부 UPDATE 한 번으로 AVAILABLE 슬롯만 CLOSED로 변경
+		// (슬롯을 메모리로 읽지 않으므로 비용이 슬롯 수와 무관 - 예약 중인 슬롯은 상태 조건으로 제외)
+		LocalDate today = LocalDate.now();
+		// 패턴 휴무는 슬롯이 있을 수 있는 기간(룸의 예약 가능 기간, 미설정 시 최대 예약 가능 기간)까지 적용한다
+		LocalDate patternEndDate = policy.bookableThrough(today, RoomOperatingPolicy.MAX_BOOKING_HORIZON_DAYS);
+		LocalDate bookableThrough = policy.bookableThrough(today, rollingWindowDays);
+		Set<LocalDate> changedDates = new TreeSet<>();
+		for (ClosedDateRange range : closedDateIndex.getRanges()) {
+			List<LocalDate> coveredDates;
+			int updated;
+			if (range.isPatternBased()) {
+				// 요일/주 홀짝 판단은 대상 날짜 목록으로 미리 계산해 IN 조건으로 넘긴다
+				coveredDates = today.datesUntil(patternEndDate.plusDays(1))
+						.filter(range::containsDate)
+						.toList();
+				updated = timeSlotPort.closeAvailableSlotsOn(
+						roomId, coveredDates, range.getStartTime(), range.getEndTime());
+			} else {
+				// 지난 휴무 이력은 적용할 슬롯이 없으므로 건너뛰고, 진행 중인 범위는 오늘부터 적용한다
+				LocalDate endDate = range.getEndDate() != null ? range.getEndDate() : range.getStartDate();
+				if (endDate.isBefore(today)) {
+					continue;
+				}
+				LocalDate startDate = range.getStartDate().isBefore(today) ? today : range.getStartDate();
+				updated = timeSlotPort.closeAvailableSlotsBetween(
+						roomId, startDate, endDate, range.getStartTime(), range.getEndTime());
+				// 슬롯이 있을 수 있는 기간(최대 예약 가능 기간)까지만 알린다
+				LocalDate lastSlotDate = today.plusDays(RoomOperatingPolicy.MAX_BOOKING_HORIZON_DAYS);
+				coveredDates = startDate.isAfter(lastSlotDate)
+						? List.of()
+						: startDate.datesUntil((endDate.isAfter(lastSlotDate) ? lastSlotDate : endDate).plusDays(1)).toList();
+			}
+			
+			log.debug("Applied closed date range: roomId={}, patternBased={}, coveredDates={}, updated={}",
+					roomId, range.isPatternBased(), coveredDates.size(), updated);
+			
+			if (updated > 0) {
+				changedDates.addAll(coveredDates);
+				affectedSlots += updated;
+			} else {
+				// 행이 없어도 조회 시 정책으로 계산되는 날짜는 휴무 반영으로 결과가 바뀐다
+				coveredDates.stream()
+						.filter(date -> isComputedDate(date, today, bookableThrough))
+						.forEach(changedDates::add);
+			}
+		}
+		
+		// 변경된 슬롯을 읽지 않았으므로 범위가 덮는 날짜 단위로 알린다
+		changedDates.forEach(date -> eventPublisher.publishEvent(new SlotAvailabilityChangedEvent(roomId, date)));
+		
+		return affectedSlots;
+	}
+	
+	/**
+	 * 해제한 휴무가 덮던 기간에서 남은 휴무(공통 휴일 포함)에 포함되지 않는 CLOSED 슬롯을 AVAILABLE로 되돌린다.
+	 * <p>
+	 * 기간은 요청의 대상 날짜 범위를 오늘 ~ 최대 예약 가능 기간으로 제한한 구간이다.
+	 * 종일 휴무로 생성을 건너뛴 날짜는 다시 생성한다.
+	 *
+	 * @return 복구되거나 새로 생성된 슬롯 개수
+	 */
+	private int reopenSlots(Long roomId, RoomOperatingPolicy policy, ClosedDateUpdateRequest request) {
+		LocalDate today = LocalDate.now();
+		LocalDate lastSlotDate = today.plusDays(RoomOperatingPolicy.MAX_BOOKING_HORIZON_DAYS);
+		LocalDate from = request.getTargetStartDate() == null || request.getTargetStartDate().isBefore(today)
+				? today : request.getTargetStartDate();
+		LocalDate to = request.getTargetEndDate() == null || request.getTargetEndDate().isAfter(lastSlotDate)
+				? lastSlotDate : request.getTargetEndDate();
+		if (from.isAfter(to)) {
+			return 0;
+		}
+		
+		// 남은 휴무와 공통 휴일을 반영한 정책이 AVAILABLE로 만드는 위치만 복구 대상
+		Set<SlotPosition> openPositions = new HashSet<>();
+		policy.compile()
+				.withHolidays(holidayCalendarPort.findCalendar(from, to))
+				.generateSlotsBetween(from, to).stream()
+				.filter(RoomTimeSlot::isAvailable)
+				.forEach(slot -> openPositions.add(new SlotPosition(slot.getSlotDate(), slot.getSlotTime())));
+		
+		List<RoomTimeSlot> reopenable = timeSlotPort
+				.findByRoomIdAndStatusAndSlotDateBetween(roomId, SlotStatus.CLOSED, from, to).stream()
+				.filter(slot -> openPositions.contains(new SlotPosition(slot.getSlotDate(), slot.getSlotTime())))
+				.toList();
+		
+		int reopened = reopenable.isEmpty() ? 0 : timeSlotPort.reopenClosedSlotsByIds(
+				reopenable.stream().map(RoomTimeSlot::getSlotId).toList());
+		
+		// 날짜별 CLOSED → AVAILABLE 전이로 알린다 (가용성 버전 증가, 캐시 무효화)
+		Map<LocalDate, List<SlotTransition>> transitions = new TreeMap<>();
+		for (RoomTimeSlot slot : reopenable) {
+			transitions.computeIfAbsent(slot.getSlotDate(), date -> new ArrayList<>())
+					.add(new SlotTransition(slot.getSlotTime(), SlotStatus.CLOSED, SlotStatus.AVAILABLE));
+		}
+		transitions.forEach((date, changes) ->
+				eventPublisher.publishEvent(new SlotAvailabilityChangedEvent(roomId, date, changes)));
+		
+		// 전이가 없는 날짜라도 조회 시 정책으로 계산되는 날짜는 해제된 휴무가 반영되므로 알린다
+		LocalDate bookableThrough = policy.bookableThrough(today, rollingWindowDays);
+		from.datesUntil(to.plusDays(1))
+				.filter(date -> !transitions.containsKey(date) && isComputedDate(date, today, bookableThrough))
+				.forEach(date -> eventPublisher.publishEvent(new SlotAvailabilityChangedEvent(roomId, date)));
+		
+		int regenerated = generationService.fillMissingDates(roomId, from, to);
+		
+		log.info("Reopened closed slots: roomId={}, range=[{} to {}], closed={}, reopened={}, regenerated={}",
+				roomId, from, to, reopenable.size(), reopened, regenerated);
+		
+		return reopened + regenerated;
+	}
+	
+	@Override
+	public int applyHolidayCalendar(String requestId) {
+		log.info("Applying holiday calendar to all rooms: requestId={}", requestId);
+		
+		ClosedDateUpdateRequest request = closedDateUpdateRequestPort.findById(requestId)
+				.orElseThrow(() -> new IllegalStateException(
+						"ClosedDateUpdateRequest not found: " + requestId
+				));
+		
+		try {
+			request.markAsInProgress();
+			closedDateUpdateRequestPort.save(request);
+			
+			// 슬롯이 있을 수 있는 기간(최대 예약 가능 기간) 안의 휴일만 적용한다
+			LocalDate today = LocalDate.now();
+			HolidayCalendar calendar = holidayCalendarPort.findCalendar(
+					today, today.plusDays(RoomOperatingPolicy.MAX_BOOKING_HORIZON_DAYS));
+			List<LocalDate> holidays = List.copyOf(calendar.getDates());
+			
+			// 알림 대상 (룸, 날짜)를 먼저 조회한 뒤, 룸 수와 무관하게 조건부 UPDATE 한 번으로 CLOSED로 변경
+			// (예약 중인 슬롯은 상태 조건으로 제외)
+			Map<LocalDate, List<Long>> roomIdsByDate = timeSlotPort.findRoomIdsWithAvailableSlotsOn(holidays);
+			int affectedSlots = timeSlotPort.closeAvailableSlotsOnAllRooms(holidays);
+			
+			Map<LocalDate, Set<Long>> notifyTargets = new TreeMap<>();
+			roomIdsByDate.forEach((date, roomIds) ->
+					notifyTargets.computeIfAbsent(date, key -> new TreeSet<>()).addAll(roomIds));
+			// 행이 없어도 조회 시 정책으로 계산되는 날짜는 휴일 반영으로 결과가 바뀌므로 룸의 예약 가능 기간까지 알린다
+			LocalDate hotThrough = storageMode.materializedThrough(today, rollingWindowDays);
+			if (holidays.stream().anyMatch(date -> date.isAfter(hotThrough))) {
+				operatingPolicyPort.findBookingHorizonDays().forEach((roomId, horizonDays) -> {
+					LocalDate bookableThrough = today.plusDays(horizonDays != null ? horizonDays : rollingWindowDays);
+					holidays.stream()
+							.filter(date -> isComputedDate(date, today, bookableThrough))
+							.forEach(date -> notifyTargets.computeIfAbsent(date, key -> new TreeSet<>()).add(roomId));
+				});
+			}
+			notifyTargets.forEach((date, roomIds) -> roomIds.forEach(
+					roomId -> eventPublisher.publishEvent(new SlotAvailabilityChangedEvent(roomId, date))));
+			
+			request.markAsCompleted(affectedSlots);
+			closedDateUpdateRequestPort.save(request);
+			
+			log.info("Holiday calendar applied: requestId={}, holidays={}, rooms={}, affectedSlots={}",
+					requestId, holidays.size(),
+					notifyTargets.values().stream().flatMap(Set::stream).distinct().count(), affectedSlots);
+			
+			return affectedSlots;
+			
+		} catch (Exception e) {
+			log.error("Holiday calendar apply failed: requestId={}", requestId, e);
+			
+			request.markAsFailed(e.getMessage());
+			closedDateUpdateRequestPort.save(request);
+			
+			// 예외를 다시 던지지 않음 - DLQ로 이동하지 않고 상태만 업데이트
+			return 0;
+		}
+	}
+	
+	/**
+	 * 슬롯 행 없이 조회 시 정책으로 계산되는 날짜인지 확인한다.
+	 * <p>
+	 * LAZY 방식은 오늘부터, EAGER 방식은 Rolling Window 다음 날부터 룸의 예약 가능 기간 끝까지가 해당한다.
+	 * 이 날짜의 휴무 변경은 UPDATE되는 행이 없어도 조회 결과를 바꾸므로 가용성 변경을 알려야 한다.
+	 */
+	private boolean isComputedDate(LocalDate date, LocalDate today, LocalDate bookableThrough) {
+		return !date.isBefore(today)
+				&& date.isAfter(storageMode.materializedThrough(today, rollingWindowDays))
+				&& !date.isAfter(bookableThrough);
+	}
+	
+	
+	/**
+	 * 상태가 변경된 슬롯의 (roomId, date)별 가용성 변경 이벤트를 발행한다.
+	 * <p>
+	 * 수신 측은 트랜잭션 커밋 이후에 처리한다 (가용성 버전 증가, 실시간 스트림 전송 등).
+	 *
+	 * @param changedSlots     상태 전이가 적용된 슬롯 목록
+	 * @param previousStatuses changedSlots와 같은 순서의 전이 전 상태 목록
+	 */
+	private void publishAvailabilityChanged(List<RoomTimeSlot> changedSlots, List<SlotStatus> previousStatuses) {
+		SlotAvailabilityChangedEvent.of(changedSlots, previousStatuses).forEach(eventPublisher::publishEvent);
+	}
+	
+	/**
+	 * 조건부 UPDATE로 변경한 슬롯의 전이를 (roomId, date)별로 알린다 (가용성 버전 증가, 캐시 무효화).
+	 *
+	 * @param slots    변경 전 상태로 조회한 슬롯 목록
+	 * @param toStatus 변경 후 상태
+	 */
+	private void publishTransitions(List<RoomTimeSlot> slots, SlotStatus toStatus) {
+		Map<Long, Map<LocalDate, List<SlotTransition>>> transitions = new TreeMap<>();
+		for (RoomTimeSlot slot : slots) {
+			transitions.computeIfAbsent(slot.getRoomId(), roomId -> new TreeMap<>())
+					.computeIfAbsent(slot.getSlotDate(), date -> new ArrayList<>())
+					.add(new SlotTransition(slot.getSlotTime(), slot.getStatus(), toStatus));
+		}
+		transitions.forEach((roomId, byDate) -> byDate.forEach((date, changes) ->
+				eventPublisher.publishEvent(new SlotAvailabilityChangedEvent(roomId, date, changes))));
+	}
+	
+	/**
+	 * 조건부 UPDATE가 실제로 변경한 슬롯만 남긴다.
+	 * <p>
+	 * 변경 건수가 조회 결과와 같으면 그대로 쓴다. 조회 이후 다른 트랜잭션이 상태를 바꿔 조건에서 제외된 슬롯이 있으면,
+	 * 현재 상태를 한 번 조회해 변경 후 상태가 된 슬롯만 남긴다.
+	 *
+	 * @param candidates 변경 전 상태로 조회한 슬롯 목록
+	 * @param updated    UPDATE로 변경된 슬롯 개수
+	 * @param toStatus   변경 후 상태
+	 */
+	private List<RoomTimeSlot> appliedSlots(List<RoomTimeSlot> candidates, int updated, SlotStatus toStatus) {
+		if (updated == candidates.size()) {
+			return candidates;
+		}
+		Map<Long, SlotStatus> statuses = timeSlotPort.findStatusesByIds(
+				candidates.stream().map(RoomTimeSlot::getSlotId).toList());
+		return candidates.stream()
+				.filter(slot -> statuses.get(slot.getSlotId()) == toStatus)
+				.toList();
+	}
+	
+	/**
+	 * 상태 전이 전 슬롯 상태를 같은 순서로 기록한다.
+	 */
+	private static List<SlotStatus> statusesOf(List<RoomTimeSlot> slots) {
+		return slots.stream()
+				.map(RoomTimeSlot::getStatus)
+				.toList();
+	}
+	
 	/**
 	 * 슬롯을 조회한다. 없으면 예외를 던진다.
 	 */
@@ -366,4 +655,7 @@ public class TimeSlotManagementServiceImpl implements TimeSlotManagementService
 				.findByRoomIdAndSlotDateAndSlotTime(roomId, slotDate, slotTime)
 				.orElseThrow(() -> new SlotNotFoundException(roomId, slotDate.toString(), slotTime.toString()));
 	}
+	
+	private record SlotPosition(LocalDate slotDate, LocalTime slotTime) {
+	}
 }
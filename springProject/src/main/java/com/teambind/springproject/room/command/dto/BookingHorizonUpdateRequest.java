@@ -0,0 +1,26 @@
+package com.teambind.springproject.room.command.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 가능 기간 변경 요청 DTO.
+ * <p>
+ * 룸별로 오늘부터 며칠 뒤까지 예약을 받을지 설정한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingHorizonUpdateRequest {
+
+	/**
+	 * 룸 ID
+	 */
+	private Long roomId;
+
+	/**
+	 * 예약 가능 기간 (일). null이면 전역 기본값을 따른다
+	 */
+	private Integer bookingHorizonDays;
+}
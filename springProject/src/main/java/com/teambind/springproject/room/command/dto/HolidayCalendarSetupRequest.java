@@ -0,0 +1,23 @@
+package com.teambind.springproject.room.command.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공통 휴일 등록 요청 DTO.
+ * <p>
+ * 모든 룸에 공통으로 적용되는 휴일을 등록하고, 이미 생성된 슬롯의 상태를 CLOSED로 변경한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HolidayCalendarSetupRequest {
+	
+	/**
+	 * 휴일 목록
+	 */
+	private List<HolidayDto> holidays;
+}
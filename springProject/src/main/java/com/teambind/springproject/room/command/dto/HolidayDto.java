@@ -0,0 +1,26 @@
+package com.teambind.springproject.room.command.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 공통 휴일 정보를 담는 DTO.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HolidayDto {
+	
+	/**
+	 * 휴일 날짜
+	 */
+	private LocalDate date;
+	
+	/**
+	 * 휴일 이름 (예: 설날)
+	 */
+	private String name;
+}
@@ -31,4 +31,13 @@ public class RoomOperatingPolicySetupRequest {
 	 * 슬롯 단위 (HOUR: 1시간, HALF_HOUR: 30분)
 	 */
 	private SlotUnit slotUnit;
+	
+	/**
+	 * 예약 가능 기간 (일, 선택). 생략하면 전역 기본값을 따른다
+	 */
+	private Integer bookingHorizonDays;
+	
+	public RoomOperatingPolicySetupRequest(Long roomId, List<WeeklySlotDto> slots, SlotUnit slotUnit) {
+		this(roomId, slots, slotUnit, null);
+	}
 }
@@ -1,20 +1,36 @@
 package com.teambind.springproject.room.controller;
 
+import com.teambind.springproject.common.exceptions.application.InvalidRequestException;
+import com.teambind.springproject.common.exceptions.application.InvalidTimeRangeException;
 import com.teambind.springproject.room.command.application.ReservationApplicationService;
 import com.teambind.springproject.room.command.dto.MultiSlotReservationRequest;
 import com.teambind.springproject.room.command.dto.MultiSlotReservationResponse;
 import com.teambind.springproject.room.command.dto.SlotReservationRequest;
 import com.teambind.springproject.room.mapper.TimeSlotMapper;
+import com.teambind.springproject.room.query.application.SlotAvailabilityVersionService;
+import com.teambind.springproject.room.query.application.SlotStreamService;
 import com.teambind.springproject.room.query.application.TimeSlotQueryService;
+import com.teambind.springproject.room.query.cache.EncodedAvailabilityResponseCache;
+import com.teambind.springproject.room.query.cache.EncodedAvailabilityResponseCache.EncodedResponse;
+import com.teambind.springproject.room.query.dto.AvailabilityRepresentation;
 import com.teambind.springproject.room.query.dto.AvailableSlotResponse;
+import com.teambind.springproject.room.query.dto.BatchSlotAvailabilityRequest;
+import com.teambind.springproject.room.query.dto.BatchSlotAvailabilityResponse;
+import com.teambind.springproject.room.query.dto.CompactDailyAvailabilityResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 예약 관리 컨트롤러.
@@ -27,30 +43,156 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReservationController {
 	
+	private static final int MAX_RANGE_DAYS = 31;
+	private static final String GZIP = "gzip";
+	
 	private final ReservationApplicationService reservationService;
 	private final TimeSlotQueryService queryService;
+	private final SlotAvailabilityVersionService availabilityVersionService;
+	private final SlotStreamService slotStreamService;
+	private final EncodedAvailabilityResponseCache responseCache;
 	private final TimeSlotMapper mapper;
 	
 	/**
 	 * 특정 룸의 특정 날짜에 예약 가능한 슬롯 목록을 조회한다.
+	 * <p>
+	 * Conditional GET 지원:
+	 * 응답에 (roomId, date) 가용성 버전 기반 ETag를 포함하며,
+	 * If-None-Match가 현재 ETag와 일치하면 304 Not Modified로 응답한다
+	 * (인코딩 캐시에 현재 버전의 항목이 있으면 DB 조회 없이).
+	 * <p>
+	 * 압축 포맷: {@code format=compact} 또는 {@code Accept: application/vnd.teambind.availability-compact+json}이면
+	 * 해당 날짜의 전체 슬롯 상태를 {@link CompactDailyAvailabilityResponse}로 응답한다 (CBOR 요청 시 CBOR 인코딩).
+	 * <p>
+	 * 인코딩 캐시: 직렬화된 응답 바이트(및 gzip 압축본)를 ETag로 검증하여 재사용하므로,
+	 * 변경이 없는 동안에는 DB 조회와 직렬화 없이 바이트를 그대로 응답한다.
+	 * 응답이 실제로 gzip으로 인코딩될 때만 content-coding별로 구분되는 ETag({@code -gzip} 접미사)와
+	 * Content-Encoding을 응답한다. gzip을 허용(q > 0)해도 압축 기준보다 작은 응답은 원문과 같은 ETag로 나간다.
 	 *
-	 * @param roomId 룸 ID
-	 * @param date   조회할 날짜
-	 * @return 예약 가능한 슬롯 목록 (AVAILABLE 상태만)
+	 * @param roomId     룸 ID
+	 * @param date       조회할 날짜
+	 * @param format     응답 포맷 (compact, 생략 시 기본 JSON)
+	 * @param webRequest If-None-Match/Accept 확인용 요청
+	 * @return 예약 가능한 슬롯 목록 (AVAILABLE 상태만) 또는 압축 응답, 변경이 없으면 304
 	 */
 	@GetMapping("/available-slots")
-	public ResponseEntity<List<AvailableSlotResponse>> getAvailableSlots(
+	public ResponseEntity<?> getAvailableSlots(
 			@RequestParam Long roomId,
-			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-		log.info("GET /api/v1/reservations/available-slots - roomId: {}, date: {}", roomId, date);
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+			@RequestParam(required = false) String format,
+			WebRequest webRequest) {
+		log.info("GET /api/v1/reservations/available-slots - roomId: {}, date: {}, format: {}", roomId, date, format);
 		
-		List<AvailableSlotResponse> availableSlots = mapper.toAvailableSlotResponseList(
-				queryService.getAvailableSlots(roomId, date)
+		String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+		AvailabilityRepresentation representation = AvailabilityRepresentation.resolve(format, accept);
+		
+		// 버전은 반드시 슬롯 조회 전에 읽는다 (조회 중 변경 시 다음 폴링에서 갱신됨)
+		Optional<String> eTag = availabilityVersionService.findAvailabilityETag(
+				roomId, date, representation.eTagSuffix());
+		
+		if (eTag.isEmpty()) {
+			// 버전 저장소 장애: 캐시 항목을 검증할 수 없으므로 매번 조회/직렬화
+			return ResponseEntity.ok()
+					.varyBy(HttpHeaders.ACCEPT)
+					.contentType(representation.contentType(accept))
+					.body(availableSlotsBody(roomId, date, representation));
+		}
+		
+		// 실제로 내보낼 content-coding을 먼저 정한다. 작은 응답은 gzip을 허용해도 원문으로 나가므로
+		// Accept-Encoding만으로는 판단할 수 없다 (캐시 항목 검증에는 인코딩과 무관한 eTag를 그대로 사용)
+		EncodedResponse encoded = responseCache.getOrEncode(
+				roomId, date, representation, eTag.get(),
+				() -> availableSlotsBody(roomId, date, representation)
 		);
+		boolean gzip = encoded.hasGzippedBody() && acceptsGzip(webRequest);
 		
-		log.info("Found {} available slots for roomId={}, date={}", availableSlots.size(), roomId, date);
+		// strong ETag는 content-coding마다 달라야 하므로 gzip으로 보낼 때만 접미사를 붙인다
+		String responseETag = gzip ? withContentCoding(eTag.get(), GZIP) : eTag.get();
+		if (webRequest.checkNotModified(responseETag)) {
+			log.debug("Availability not modified: roomId={}, date={}, eTag={}", roomId, date, responseETag);
+			return null; // checkNotModified()가 304 응답을 설정함
+		}
+		
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+				.eTag(responseETag)
+				.varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+				.contentType(representation.contentType(accept));
+		if (gzip) {
+			response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+		}
+		return response.body(gzip ? encoded.gzippedBody() : encoded.body());
+	}
+	
+	/**
+	 * 특정 룸의 날짜 범위 슬롯 상태를 압축 포맷으로 조회한다.
+	 * <p>
+	 * 날짜별로 기준 시각, 간격, 상태 run-length 문자열만 응답하므로
+	 * 슬롯별 객체를 나열하는 것보다 응답 크기와 직렬화 비용이 훨씬 작다.
+	 * {@code Accept: application/cbor}이면 CBOR로 인코딩된다.
+	 *
+	 * @param roomId 룸 ID
+	 * @param from   시작 날짜
+	 * @param to     종료 날짜 (최대 {@value #MAX_RANGE_DAYS}일)
+	 * @return 날짜별 압축 응답 목록
+	 */
+	@GetMapping("/availability")
+	public ResponseEntity<List<CompactDailyAvailabilityResponse>> getCompactAvailability(
+			@RequestParam Long roomId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		log.info("GET /api/v1/reservations/availability - roomId: {}, from: {}, to: {}", roomId, from, to);
+		
+		if (to.isBefore(from)) {
+			throw InvalidTimeRangeException.endDateBeforeStartDate(from.toString(), to.toString());
+		}
+		if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+			throw InvalidRequestException.valueOutOfRange("조회 기간", "최대 " + MAX_RANGE_DAYS + "일");
+		}
+		
+		return ResponseEntity.ok(mapper.toCompactDailyAvailabilityList(
+				roomId, from, to, queryService.getSlotsByDateRange(roomId, from, to)
+		));
+	}
+	
+	/**
+	 * 여러 슬롯의 예약 가능 여부를 한 번에 확인한다.
+	 * <p>
+	 * 장바구니 검증처럼 여러 (roomId, slotDate, slotTime)을 확인할 때 슬롯마다 요청하지 않고 한 번에 처리한다.
+	 *
+	 * @param request 확인할 슬롯 목록
+	 * @return 요청 순서와 같은 순서의 가용 여부 목록
+	 */
+	@PostMapping("/available-slots/check")
+	public ResponseEntity<BatchSlotAvailabilityResponse> checkSlotsAvailability(
+			@RequestBody BatchSlotAvailabilityRequest request) {
+		log.info("POST /api/v1/reservations/available-slots/check - count: {}",
+				request.slots() != null ? request.slots().size() : 0);
+		
+		List<Boolean> available = queryService.checkSlotsAvailability(request.slots());
+		
+		return ResponseEntity.ok(BatchSlotAvailabilityResponse.of(available));
+	}
+	
+	/**
+	 * 특정 룸의 날짜 범위에 대한 슬롯 상태 전이를 실시간(SSE)으로 구독한다.
+	 * <p>
+	 * 이벤트 종류:
+	 * - slot-transition: 커밋된 슬롯별 상태 전이 (예: AVAILABLE → PENDING)
+	 * - resync: 날짜 전체 변경 또는 전송 지연으로 인한 누락 발생, 가용 슬롯을 다시 조회해야 함
+	 *
+	 * @param roomId 룸 ID
+	 * @param from   구독 시작 날짜
+	 * @param to     구독 종료 날짜 (생략 시 from 하루)
+	 * @return SSE 스트림
+	 */
+	@GetMapping(value = "/slot-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamSlotTransitions(
+			@RequestParam Long roomId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		log.info("GET /api/v1/reservations/slot-stream - roomId: {}, from: {}, to: {}", roomId, from, to);
 		
-		return ResponseEntity.ok(availableSlots);
+		return slotStreamService.subscribe(roomId, from, to);
 	}
 	
 	/**
@@ -95,4 +237,72 @@ public class ReservationController {
 		
 		return ResponseEntity.ok(response);
 	}
+	
+	/**
+	 * 응답 표현에 맞는 가용 슬롯 응답 객체를 조회/생성한다.
+	 */
+	private Object availableSlotsBody(Long roomId, LocalDate date, AvailabilityRepresentation representation) {
+		if (representation.isCompact()) {
+			return mapper.toCompactDailyAvailabilityList(
+					roomId, date, date, queryService.getAllSlotsForDate(roomId, date)
+			).get(0);
+		}
+		
+		List<AvailableSlotResponse> availableSlots = mapper.toAvailableSlotResponseList(
+				queryService.getAvailableSlots(roomId, date)
+		);
+		log.info("Found {} available slots for roomId={}, date={}", availableSlots.size(), roomId, date);
+		return availableSlots;
+	}
+	
+	/**
+	 * Accept-Encoding의 q-value를 반영하여 gzip 허용 여부를 판단한다.
+	 * <p>
+	 * {@code gzip;q=0}은 거부로 보고, gzip 항목이 없으면 {@code *} 항목의 q-value를 따른다.
+	 */
+	private static boolean acceptsGzip(WebRequest webRequest) {
+		String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		if (acceptEncoding == null) {
+			return false;
+		}
+		
+		Double gzipQuality = null;
+		Double wildcardQuality = null;
+		for (String entry : acceptEncoding.split(",")) {
+			String[] parts = entry.split(";");
+			String coding = parts[0].trim().toLowerCase();
+			double quality = qualityOf(parts);
+			if (GZIP.equals(coding) || "x-gzip".equals(coding)) {
+				gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+			} else if ("*".equals(coding)) {
+				wildcardQuality = quality;
+			}
+		}
+		
+		if (gzipQuality != null) {
+			return gzipQuality > 0;
+		}
+		return wildcardQuality != null && wildcardQuality > 0;
+	}
+	
+	private static double qualityOf(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String parameter = parts[i].trim();
+			if (parameter.length() > 2 && (parameter.startsWith("q=") || parameter.startsWith("Q="))) {
+				try {
+					return Double.parseDouble(parameter.substring(2).trim());
+				} catch (NumberFormatException e) {
+					return 0; // 잘못된 q-value는 허용하지 않는 것으로 본다
+				}
+			}
+		}
+		return 1;
+	}
+	
+	/**
+	 * {@code "v-compact"} 형태의 ETag에 content-coding 접미사를 덧붙인다.
+	 */
+	private static String withContentCoding(String eTag, String coding) {
+		return eTag.substring(0, eTag.length() - 1) + "-" + coding + "\"";
+	}
 }
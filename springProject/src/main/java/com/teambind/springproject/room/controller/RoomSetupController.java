@@ -1,13 +1,18 @@
 package com.teambind.springproject.room.controller;
 
+import com.teambind.springproject.room.command.application.BookingHorizonApplicationService;
 import com.teambind.springproject.room.command.application.ClosedDateSetupApplicationService;
+import com.teambind.springproject.room.command.application.HolidayCalendarApplicationService;
 import com.teambind.springproject.room.command.application.OperatingHoursUpdateApplicationService;
 import com.teambind.springproject.room.command.application.RoomSetupApplicationService;
 import com.teambind.springproject.room.command.domain.service.TimeSlotGenerationService;
+import com.teambind.springproject.room.command.dto.BookingHorizonUpdateRequest;
 import com.teambind.springproject.room.command.dto.ClosedDateSetupRequest;
+import com.teambind.springproject.room.command.dto.HolidayCalendarSetupRequest;
 import com.teambind.springproject.room.command.dto.OperatingHoursUpdateRequest;
 import com.teambind.springproject.room.command.dto.RoomOperatingPolicySetupRequest;
 import com.teambind.springproject.room.controller.annotation.RequireRoomManager;
+import com.teambind.springproject.room.query.dto.BookingHorizonUpdateResponse;
 import com.teambind.springproject.room.query.dto.ClosedDateSetupResponse;
 import com.teambind.springproject.room.query.dto.EnsureSlotsResponse;
 import com.teambind.springproject.room.query.dto.OperatingHoursUpdateResponse;
@@ -34,11 +39,14 @@ public class RoomSetupController {
 	private final ClosedDateSetupApplicationService closedDateSetupService;
 	private final TimeSlotGenerationService timeSlotGenerationService;
 	private final OperatingHoursUpdateApplicationService operatingHoursUpdateService;
+	private final BookingHorizonApplicationService bookingHorizonService;
+	private final HolidayCalendarApplicationService holidayCalendarService;
 	
 	/**
 	 * 룸 운영 정책을 설정하고 슬롯 생성을 요청한다.
 	 * <p>
 	 * 운영 정책을 저장한 후, 슬롯 생성이 비동기로 처리되며, 즉시 202 Accepted 응답을 반환한다.
+	 * 처리되지 않은 슬롯 생성 요청이 한도 이상이면 429 Too Many Requests를 반환한다.
 	 *
 	 * @param request 운영 정책 설정 요청
 	 * @return 설정 응답 (요청 ID 포함)
@@ -101,6 +109,55 @@ public class RoomSetupController {
 				.body(response);
 	}
 	
+	/**
+	 * 휴무일을 해제하고 기존 슬롯 복구를 요청한다.
+	 * <p>
+	 * 일치하는 휴무일이 RoomOperatingPolicy에서 제거되며,
+	 * 남은 휴무에 포함되지 않는 CLOSED 슬롯이 비동기로 AVAILABLE로 변경된다.
+	 *
+	 * @param request 해제할 휴무일 (설정 요청과 같은 형식)
+	 * @return 설정 응답 (요청 ID 포함)
+	 */
+	@DeleteMapping("/closed-dates")
+	@RequireRoomManager
+	public ResponseEntity<ClosedDateSetupResponse> removeClosedDates(
+			@RequestBody ClosedDateSetupRequest request) {
+		log.info("DELETE /api/rooms/setup/closed-dates - roomId: {}, closedDateCount: {}",
+				request.getRoomId(), request.getClosedDates().size());
+		
+		ClosedDateSetupResponse response = closedDateSetupService.removeClosedDates(request);
+		
+		log.info("Closed date removal request accepted: requestId={}", response.getRequestId());
+		
+		return ResponseEntity
+				.status(HttpStatus.ACCEPTED)
+				.body(response);
+	}
+	
+	/**
+	 * 모든 룸에 공통으로 적용되는 휴일을 등록하고 기존 슬롯 업데이트를 요청한다.
+	 * <p>
+	 * 룸별 휴무일 설정을 룸마다 호출하지 않고, 모든 룸의 기존 슬롯을 하나의 작업으로 CLOSED로 변경한다.
+	 *
+	 * @param request 공통 휴일 등록 요청
+	 * @return 설정 응답 (요청 ID 포함, roomId 없음)
+	 */
+	@PostMapping("/holidays")
+	@RequireRoomManager
+	public ResponseEntity<ClosedDateSetupResponse> registerHolidays(
+			@RequestBody HolidayCalendarSetupRequest request) {
+		log.info("POST /api/rooms/setup/holidays - holidayCount: {}",
+				request.getHolidays() != null ? request.getHolidays().size() : 0);
+		
+		ClosedDateSetupResponse response = holidayCalendarService.registerHolidays(request);
+		
+		log.info("Holiday calendar setup request accepted: requestId={}", response.getRequestId());
+		
+		return ResponseEntity
+				.status(HttpStatus.ACCEPTED)
+				.body(response);
+	}
+	
 	/**
 	 * 룸의 슬롯을 확인하고 없는 날짜에만 생성한다.
 	 * <p>
@@ -125,10 +182,10 @@ public class RoomSetupController {
 	}
 
 	/**
-	 * 운영 시간을 업데이트하고 슬롯을 재생성한다.
+	 * 운영 시간을 업데이트하고 슬롯 재생성을 요청한다.
 	 * <p>
-	 * 기존 AVAILABLE 슬롯만 삭제하고 새 운영 시간 기준으로 재생성한다.
-	 * CLOSED, RESERVED, PENDING 슬롯은 유지된다.
+	 * 새 운영 시간과 차이가 나는 AVAILABLE 슬롯만 삭제/생성하며, CLOSED, RESERVED, PENDING 슬롯은 유지된다.
+	 * 재생성은 커밋 이후 별도 작업으로 처리되며, 진행 상태는 상태 조회 API로 확인한다.
 	 *
 	 * @param request 운영 시간 업데이트 요청
 	 * @return 업데이트 응답 (요청 ID 포함)
@@ -147,4 +204,43 @@ public class RoomSetupController {
 				.status(HttpStatus.ACCEPTED)
 				.body(response);
 	}
+
+	/**
+	 * 처리 대기 중인 운영 시간 업데이트(슬롯 재생성) 요청을 취소한다.
+	 * <p>
+	 * 이미 처리가 시작되었거나 끝난 요청은 409 Conflict를 반환한다.
+	 *
+	 * @param requestId 요청 ID
+	 * @return 204 No Content
+	 */
+	@PostMapping("/operating-hours/{requestId}/cancel")
+	@RequireRoomManager
+	public ResponseEntity<Void> cancelOperatingHoursUpdate(@PathVariable String requestId) {
+		log.info("POST /api/rooms/setup/operating-hours/{}/cancel", requestId);
+
+		operatingHoursUpdateService.cancelOperatingHoursUpdate(requestId);
+
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * 룸의 예약 가능 기간을 변경한다.
+	 * <p>
+	 * Rolling Window 밖의 날짜는 슬롯 행을 만들지 않고 운영 정책으로 계산해 응답하므로,
+	 * 기간을 늘려도 저장되는 슬롯 수는 실제 예약이 들어온 날짜만큼만 늘어난다.
+	 *
+	 * @param request 예약 가능 기간 변경 요청
+	 * @return 변경 결과
+	 */
+	@PutMapping("/booking-horizon")
+	@RequireRoomManager
+	public ResponseEntity<BookingHorizonUpdateResponse> updateBookingHorizon(
+			@RequestBody BookingHorizonUpdateRequest request) {
+		log.info("PUT /api/rooms/setup/booking-horizon - roomId: {}, bookingHorizonDays: {}",
+				request.getRoomId(), request.getBookingHorizonDays());
+
+		BookingHorizonUpdateResponse response = bookingHorizonService.updateBookingHorizon(request);
+
+		return ResponseEntity.ok(response);
+	}
 }
@@ -0,0 +1,22 @@
+package com.teambind.springproject.room.domain.event;
+
+import java.util.Objects;
+
+/**
+ * 운영 시간 변경으로 슬롯 재생성이 요청되었음을 알리는 애플리케이션 내부 이벤트.
+ * <p>
+ * 요청 트랜잭션이 커밋된 이후(AFTER_COMMIT) 재생성 작업 실행기가 수신해 작업을 큐에 넣는다.
+ * 커밋 전에는 변경된 운영 정책과 요청 레코드가 다른 스레드에 보이지 않기 때문이다.
+ *
+ * @param requestId 슬롯 생성 요청 ID
+ * @param roomId    룸 ID
+ */
+public record OperatingHoursRegenerationRequestedEvent(
+		String requestId,
+		Long roomId
+) {
+	public OperatingHoursRegenerationRequestedEvent {
+		Objects.requireNonNull(requestId, "requestId must not be null");
+		Objects.requireNonNull(roomId, "roomId must not be null");
+	}
+}
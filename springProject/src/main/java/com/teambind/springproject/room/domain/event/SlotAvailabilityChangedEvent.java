@@ -0,0 +1,89 @@
+package com.teambind.springproject.room.domain.event;
+
+import com.teambind.springproject.room.entity.RoomTimeSlot;
+import com.teambind.springproject.room.entity.enums.SlotStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 특정 룸/날짜의 슬롯 가용성이 변경되었음을 알리는 애플리케이션 내부 이벤트.
+ * <p>
+ * 슬롯 상태 전이(AVAILABLE ↔ PENDING ↔ RESERVED, CLOSED 등), 슬롯 생성/삭제 시 발행되며
+ * 트랜잭션 커밋 이후(AFTER_COMMIT) 가용성 버전 갱신, 실시간 스트림 전송 등 조회 측 후처리에 사용된다.
+ * <p>
+ * 개별 슬롯 상태 전이로 인한 변경은 {@code transitions}에 전이 내역을 담고,
+ * 슬롯 생성/재생성처럼 날짜 전체가 바뀌는 변경은 {@code transitions}가 비어 있다 ({@link #isBulkChange()}).
+ * <p>
+ * Kafka로 발행되는 도메인 이벤트({@link com.teambind.springproject.message.event.Event})와 달리
+ * 프로세스 내부(Spring ApplicationEvent)에서만 전달된다.
+ *
+ * @param roomId      룸 ID
+ * @param slotDate    변경된 슬롯 날짜
+ * @param transitions 슬롯별 상태 전이 내역 (날짜 단위 일괄 변경이면 빈 목록)
+ */
+public record SlotAvailabilityChangedEvent(
+		Long roomId,
+		LocalDate slotDate,
+		List<SlotTransition> transitions
+) {
+	public SlotAvailabilityChangedEvent {
+		Objects.requireNonNull(roomId, "roomId must not be null");
+		Objects.requireNonNull(slotDate, "slotDate must not be null");
+		transitions = transitions == null ? List.of() : List.copyOf(transitions);
+	}
+	
+	/**
+	 * 날짜 단위 일괄 변경(슬롯 생성/재생성 등) 이벤트를 생성한다.
+	 */
+	public SlotAvailabilityChangedEvent(Long roomId, LocalDate slotDate) {
+		this(roomId, slotDate, List.of());
+	}
+	
+	/**
+	 * 개별 슬롯 전이 없이 날짜 전체가 변경되었는지 여부.
+	 * <p>
+	 * 수신 측은 전이 내역 대신 해당 날짜의 슬롯을 다시 조회해야 한다.
+	 */
+	public boolean isBulkChange() {
+		return transitions.isEmpty();
+	}
+	
+	/**
+	 * 상태가 변경된 슬롯 목록과 변경 전 상태로부터 (roomId, date)별 이벤트 목록을 생성한다.
+	 * <p>
+	 * 변경 전후 상태가 같은 슬롯은 제외하며, 실제 전이가 없는 날짜는 이벤트를 만들지 않는다.
+	 *
+	 * @param slots            상태가 변경된 슬롯 목록 (변경 후 상태)
+	 * @param previousStatuses slots와 같은 순서의 변경 전 상태 목록
+	 * @return (roomId, date)별 이벤트 목록
+	 */
+	public static List<SlotAvailabilityChangedEvent> of(List<RoomTimeSlot> slots, List<SlotStatus> previousStatuses) {
+		if (slots.size() != previousStatuses.size()) {
+			throw new IllegalArgumentException("slots and previousStatuses must have the same size");
+		}
+		
+		Map<RoomDate, List<SlotTransition>> grouped = new LinkedHashMap<>();
+		for (int i = 0; i < slots.size(); i++) {
+			RoomTimeSlot slot = slots.get(i);
+			SlotStatus previous = previousStatuses.get(i);
+			if (previous == slot.getStatus()) {
+				continue;
+			}
+			grouped.computeIfAbsent(new RoomDate(slot.getRoomId(), slot.getSlotDate()), key -> new ArrayList<>())
+					.add(new SlotTransition(slot.getSlotTime(), previous, slot.getStatus()));
+		}
+		
+		return grouped.entrySet().stream()
+				.map(entry -> new SlotAvailabilityChangedEvent(
+						entry.getKey().roomId(), entry.getKey().slotDate(), entry.getValue()))
+				.toList();
+	}
+	
+	private record RoomDate(Long roomId, LocalDate slotDate) {
+	}
+}
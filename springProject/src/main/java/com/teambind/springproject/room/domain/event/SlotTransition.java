@@ -0,0 +1,25 @@
+package com.teambind.springproject.room.domain.event;
+
+import com.teambind.springproject.room.entity.enums.SlotStatus;
+
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * 단일 슬롯의 상태 전이 (예: AVAILABLE → PENDING).
+ *
+ * @param slotTime 슬롯 시작 시각
+ * @param from     전이 전 상태
+ * @param to       전이 후 상태
+ */
+public record SlotTransition(
+		LocalTime slotTime,
+		SlotStatus from,
+		SlotStatus to
+) {
+	public SlotTransition {
+		Objects.requireNonNull(slotTime, "slotTime must not be null");
+		Objects.requireNonNull(from, "from must not be null");
+		Objects.requireNonNull(to, "to must not be null");
+	}
+}
@@ -0,0 +1,34 @@
+package com.teambind.springproject.room.domain.port;
+
+import java.time.LocalDate;
+
+/**
+ * 룸/날짜별 슬롯 가용성 버전 저장소 포트.
+ * <p>
+ * 슬롯 상태가 전이될 때마다 단조 증가하는 버전을 (roomId, date) 단위로 관리한다.
+ * 조회 API는 이 버전으로 ETag를 생성하여, 변경이 없는 폴링 요청에 DB 조회 없이 304로 응답한다.
+ * <p>
+ * 여러 슬롯 서버 인스턴스가 같은 버전을 바라봐야 하므로 공유 저장소(Redis) 구현을 전제로 한다.
+ */
+public interface AvailabilityVersionPort {
+	
+	/**
+	 * 현재 가용성 버전을 조회한다.
+	 * <p>
+	 * 버전이 존재하지 않으면 새로 초기화하여 반환한다.
+	 *
+	 * @param roomId 룸 ID
+	 * @param date   슬롯 날짜
+	 * @return 현재 버전
+	 */
+	long currentVersion(Long roomId, LocalDate date);
+	
+	/**
+	 * 가용성 버전을 1 증가시킨다.
+	 *
+	 * @param roomId 룸 ID
+	 * @param date   슬롯 날짜
+	 * @return 증가된 버전
+	 */
+	long increment(Long roomId, LocalDate date);
+}
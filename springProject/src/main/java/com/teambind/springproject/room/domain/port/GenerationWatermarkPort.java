@@ -0,0 +1,58 @@
+package com.teambind.springproject.room.domain.port;
+
+import com.teambind.springproject.room.entity.RoomGenerationWatermark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 룸별 슬롯 생성 워터마크 영속성 포트.
+ * <p>
+ * Hexagonal Architecture의 Port 인터페이스로, 도메인 계층이 인프라 계층에 의존하지 않도록
+ * 추상화를 제공한다.
+ */
+public interface GenerationWatermarkPort {
+
+	/**
+	 * Room ID로 워터마크를 조회한다.
+	 *
+	 * @param roomId 룸 ID
+	 * @return 워터마크가 존재하면 Optional에 담아 반환, 없으면 빈 Optional
+	 */
+	Optional<RoomGenerationWatermark> findByRoomId(Long roomId);
+
+	/**
+	 * 트랜잭션이 끝날 때까지 잠근 상태로 워터마크를 조회한다.
+	 *
+	 * @param roomId 룸 ID
+	 * @return 워터마크가 존재하면 Optional에 담아 반환, 없으면 빈 Optional
+	 */
+	Optional<RoomGenerationWatermark> findByRoomIdWithLock(Long roomId);
+
+	/**
+	 * 워터마크를 저장한다.
+	 *
+	 * @param watermark 저장할 워터마크
+	 * @return 저장된 워터마크
+	 */
+	RoomGenerationWatermark save(RoomGenerationWatermark watermark);
+
+	/**
+	 * 워터마크가 기준 날짜에 도달하지 못한 룸의 ID를 조회한다 (워터마크가 없는 룸 포함).
+	 *
+	 * @param horizon 생성되어 있어야 하는 마지막 날짜
+	 * @return Room ID 목록
+	 */
+	List<Long> findRoomIdsGeneratedBefore(LocalDate horizon);
+	
+	/**
+	 * 룸 ID 샤드(roomId % shardCount == shardIndex) 중 워터마크가 기준 날짜에 도달하지 못한 룸의 ID를 조회한다.
+	 *
+	 * @param horizon    생성되어 있어야 하는 마지막 날짜
+	 * @param shardCount 전체 샤드 수
+	 * @param shardIndex 샤드 번호
+	 * @return Room ID 목록
+	 */
+	List<Long> findRoomIdsGeneratedBefore(LocalDate horizon, int shardCount, int shardIndex);
+}
@@ -0,0 +1,33 @@
+package com.teambind.springproject.room.domain.port;
+
+import com.teambind.springproject.room.entity.Holiday;
+import com.teambind.springproject.room.entity.vo.HolidayCalendar;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 공통 휴일 달력 영속성 포트.
+ * <p>
+ * Hexagonal Architecture의 Port 인터페이스로, 도메인 계층이 인프라 계층에 의존하지 않도록
+ * 추상화를 제공한다.
+ */
+public interface HolidayCalendarPort {
+
+	/**
+	 * 기간 안의 휴일 달력을 조회한다.
+	 *
+	 * @param startDate 시작 날짜 (inclusive)
+	 * @param endDate   종료 날짜 (inclusive)
+	 * @return 휴일 달력 (휴일이 없으면 HolidayCalendar.EMPTY)
+	 */
+	HolidayCalendar findCalendar(LocalDate startDate, LocalDate endDate);
+
+	/**
+	 * 휴일을 저장한다. 같은 날짜의 휴일이 있으면 덮어쓴다.
+	 *
+	 * @param holidays 저장할 휴일 목록
+	 * @return 저장된 휴일 목록
+	 */
+	List<Holiday> saveAll(List<Holiday> holidays);
+}
@@ -2,7 +2,9 @@ package com.teambind.springproject.room.domain.port;
 
 import com.teambind.springproject.room.entity.RoomOperatingPolicy;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -27,6 +29,16 @@ public interface OperatingPolicyPort {
 	 */
 	Optional<RoomOperatingPolicy> findByRoomId(Long roomId);
 	
+	/**
+	 * Pessimistic Lock을 사용하여 운영 정책을 조회한다.
+	 * <p>
+	 * 호출한 트랜잭션이 끝날 때까지 같은 룸의 정책 행을 잠근다.
+	 *
+	 * @param roomId 룸 ID
+	 * @return 정책이 존재하면 Optional에 담아 반환, 없으면 빈 Optional
+	 */
+	Optional<RoomOperatingPolicy> findByRoomIdWithLock(Long roomId);
+	
 	/**
 	 * 운영 정책을 저장한다.
 	 *
@@ -56,4 +68,34 @@ public interface OperatingPolicyPort {
 	 * @return 모든 정책 목록
 	 */
 	List<RoomOperatingPolicy> findAll();
+	
+	/**
+	 * 운영 정책이 등록된 모든 Room ID를 조회한다.
+	 *
+	 * @return Room ID 목록
+	 */
+	List<Long> findAllRoomIds();
+	
+	/**
+	 * 여러 룸의 운영 정책을 한 번에 조회한다.
+	 *
+	 * @param roomIds Room ID 목록
+	 * @return 정책 목록 (정책이 없는 룸은 제외)
+	 */
+	List<RoomOperatingPolicy> findAllByRoomIds(Collection<Long> roomIds);
+	
+	/**
+	 * 여러 룸의 스케줄 템플릿 해시를 조회한다.
+	 *
+	 * @param roomIds Room ID 목록
+	 * @return Room ID -> 스케줄 템플릿 해시 (해시 도입 이전에 저장된 정책은 null)
+	 */
+	Map<Long, String> findScheduleHashesByRoomIds(Collection<Long> roomIds);
+	
+	/**
+	 * 모든 룸의 예약 가능 기간(일)을 조회한다.
+	 *
+	 * @return Room ID -> 예약 가능 기간 (기간을 설정하지 않은 룸은 null)
+	 */
+	Map<Long, Integer> findBookingHorizonDays();
 }
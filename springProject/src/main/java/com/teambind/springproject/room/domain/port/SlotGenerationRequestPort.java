@@ -1,7 +1,11 @@
 package com.teambind.springproject.room.domain.port;
 
 import com.teambind.springproject.room.entity.SlotGenerationRequest;
+import com.teambind.springproject.room.entity.enums.GenerationJobType;
+import com.teambind.springproject.room.entity.enums.GenerationStatus;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,4 +37,44 @@ public interface SlotGenerationRequestPort {
 	 * @return 저장된 요청
 	 */
 	SlotGenerationRequest save(SlotGenerationRequest request);
+	
+	/**
+	 * Room ID와 상태로 슬롯 생성 요청 목록을 조회한다.
+	 *
+	 * @param roomId 룸 ID
+	 * @param status 요청 상태
+	 * @return 조회된 요청 목록
+	 */
+	List<SlotGenerationRequest> findByRoomIdAndStatus(Long roomId, GenerationStatus status);
+	
+	/**
+	 * 처리를 시작하거나 이어서 처리해야 하는 요청을 오래된 순으로 조회한다.
+	 * <p>
+	 * 대기 중(REQUESTED)인 요청과, 처리 중(IN_PROGRESS)이지만 생존 신호가 기준 시각 이전인 요청이 대상이다.
+	 *
+	 * @param jobType     작업 유형
+	 * @param staleBefore 생존 신호 기준 시각
+	 * @param limit       최대 조회 개수
+	 * @return 조회된 요청 목록
+	 */
+	List<SlotGenerationRequest> findResumable(GenerationJobType jobType, LocalDateTime staleBefore, int limit);
+	
+	/**
+	 * 룸에서 다른 실행자가 처리 중인 요청이 있는지 확인한다.
+	 *
+	 * @param roomId           룸 ID
+	 * @param jobType          작업 유형
+	 * @param staleBefore      이 시각 이전에 생존 신호가 끊긴 요청은 중단된 것으로 보고 제외
+	 * @param excludeRequestId 제외할 요청 ID
+	 * @return 생존 신호가 유효한 IN_PROGRESS 요청이 있으면 true
+	 */
+	boolean existsRunning(Long roomId, GenerationJobType jobType, LocalDateTime staleBefore, String excludeRequestId);
+	
+	/**
+	 * 아직 끝나지 않은(REQUESTED, IN_PROGRESS) 요청 개수를 조회한다.
+	 *
+	 * @param jobType 작업 유형
+	 * @return 요청 개수
+	 */
+	long countUnfinished(GenerationJobType jobType);
 }
@@ -0,0 +1,20 @@
+package com.teambind.springproject.room.domain.port;
+
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+
+/**
+ * 슬롯 가용성 변경을 모든 슬롯 서버 인스턴스에 전파하는 포트.
+ * <p>
+ * 실시간 스트림(SSE) 구독자는 각 인스턴스에 분산 연결되어 있으므로,
+ * 한 인스턴스에서 커밋된 상태 전이를 다른 인스턴스의 구독자에게도 전달해야 한다.
+ * 구현체는 전파받은 이벤트를 각 인스턴스의 로컬 구독자에게 전달한다.
+ */
+public interface SlotTransitionFanoutPort {
+	
+	/**
+	 * 커밋된 가용성 변경을 전체 인스턴스에 전파한다.
+	 *
+	 * @param event 가용성 변경 이벤트
+	 */
+	void broadcast(SlotAvailabilityChangedEvent event);
+}
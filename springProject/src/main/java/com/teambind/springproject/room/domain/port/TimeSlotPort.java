@@ -5,7 +5,9 @@ import com.teambind.springproject.room.entity.enums.SlotStatus;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -44,6 +46,17 @@ public interface TimeSlotPort {
 	List<RoomTimeSlot> findByRoomIdAndSlotDateBetween(
 			Long roomId, LocalDate startDate, LocalDate endDate);
 	
+	/**
+	 * Room ID와 날짜 범위에서 슬롯이 하나라도 존재하는 날짜를 조회한다.
+	 *
+	 * @param roomId    룸 ID
+	 * @param startDate 시작 날짜 (inclusive)
+	 * @param endDate   종료 날짜 (inclusive)
+	 * @return 슬롯이 존재하는 날짜 목록
+	 */
+	List<LocalDate> findSlotDatesByRoomIdAndSlotDateBetween(
+			Long roomId, LocalDate startDate, LocalDate endDate);
+	
 	/**
 	 * Room ID와 날짜, 상태로 슬롯 목록을 조회한다.
 	 *
@@ -63,6 +76,14 @@ public interface TimeSlotPort {
 	 */
 	List<RoomTimeSlot> findByReservationId(Long reservationId);
 	
+	/**
+	 * 여러 Reservation ID의 슬롯 목록을 한 번에 조회한다.
+	 *
+	 * @param reservationIds 예약 ID 목록
+	 * @return 조회된 슬롯 목록
+	 */
+	List<RoomTimeSlot> findByReservationIds(Collection<Long> reservationIds);
+	
 	/**
 	 * 슬롯을 저장한다.
 	 *
@@ -79,6 +100,28 @@ public interface TimeSlotPort {
 	 */
 	List<RoomTimeSlot> saveAll(List<RoomTimeSlot> slots);
 	
+	/**
+	 * 새 슬롯을 JDBC 배치로 한 번에 삽입한다.
+	 * <p>
+	 * 영속성 컨텍스트를 거치지 않으므로 삽입된 슬롯 객체에 ID가 채워지지 않는다.
+	 * 대량 생성(Rolling Window 배치)처럼 삽입 결과를 다시 사용하지 않는 경우에 사용한다.
+	 *
+	 * @param slots 삽입할 슬롯 목록
+	 * @return 삽입된 슬롯 개수
+	 */
+	int insertAll(List<RoomTimeSlot> slots);
+	
+	/**
+	 * 같은 (roomId, 날짜, 시각)의 행이 없는 슬롯만 삽입한다.
+	 * <p>
+	 * unique key 충돌은 무시하므로 동시에 같은 슬롯을 삽입해도 행은 하나만 남는다.
+	 * 다른 트랜잭션이 삽입 중인 행이 있으면 그 트랜잭션이 끝날 때까지 대기한다.
+	 *
+	 * @param slots 삽입할 슬롯 목록
+	 * @return 실제로 삽입된 슬롯 개수
+	 */
+	int insertIfAbsent(List<RoomTimeSlot> slots);
+	
 	/**
 	 * 특정 날짜 이전의 모든 슬롯을 삭제한다.
 	 *
@@ -103,6 +146,116 @@ public interface TimeSlotPort {
 	 * @return 삭제된 슬롯 개수
 	 */
 	int deleteAvailableSlotsByRoomIdAndDateRange(Long roomId, LocalDate startDate, LocalDate endDate);
+
+	/**
+	 * 슬롯 ID 목록 중 AVAILABLE 상태인 슬롯만 삭제한다.
+	 *
+	 * @param slotIds 삭제할 슬롯 ID 목록
+	 * @return 삭제된 슬롯 개수
+	 */
+	int deleteAvailableSlotsByIds(List<Long> slotIds);
+	
+	/**
+	 * 슬롯 ID 목록 중 AVAILABLE 상태인 슬롯만 CLOSED로 변경한다.
+	 * <p>
+	 * 조회 이후 예약된 슬롯은 변경하지 않는다.
+	 *
+	 * @param slotIds 변경할 슬롯 ID 목록
+	 * @return 변경된 슬롯 개수
+	 */
+	int closeAvailableSlotsByIds(List<Long> slotIds);
+	
+	/**
+	 * 슬롯 ID 목록의 현재 상태를 조회한다.
+	 *
+	 * @param slotIds 슬롯 ID 목록
+	 * @return 슬롯 ID별 상태 (삭제된 슬롯은 포함되지 않음)
+	 */
+	Map<Long, SlotStatus> findStatusesByIds(List<Long> slotIds);
+	
+	/**
+	 * Room ID와 상태, 날짜 범위로 슬롯 목록을 조회한다.
+	 *
+	 * @param roomId    룸 ID
+	 * @param status    슬롯 상태
+	 * @param startDate 시작 날짜 (inclusive)
+	 * @param endDate   종료 날짜 (inclusive)
+	 * @return 조회된 슬롯 목록
+	 */
+	List<RoomTimeSlot> findByRoomIdAndStatusAndSlotDateBetween(
+			Long roomId, SlotStatus status, LocalDate startDate, LocalDate endDate);
+	
+	/**
+	 * ID 목록에 해당하는 CLOSED 슬롯을 AVAILABLE로 변경한다 (휴무 해제).
+	 * <p>
+	 * 조회 이후 상태가 바뀐 슬롯은 상태 조건으로 제외된다.
+	 *
+	 * @param slotIds 변경할 슬롯 ID 목록
+	 * @return 변경된 슬롯 개수
+	 */
+	int reopenClosedSlotsByIds(List<Long> slotIds);
+	
+	/**
+	 * ID 목록에 해당하는 PENDING 슬롯을 RESERVED로 변경한다 (결제 완료).
+	 * <p>
+	 * 조회 이후 상태가 바뀐 슬롯은 상태 조건으로 제외된다.
+	 *
+	 * @param slotIds 변경할 슬롯 ID 목록
+	 * @return 변경된 슬롯 개수
+	 */
+	int confirmPendingSlotsByIds(List<Long> slotIds);
+	
+	/**
+	 * ID 목록에 해당하는 PENDING / RESERVED 슬롯을 AVAILABLE로 변경하고 예약 ID를 해제한다 (예약 취소).
+	 * <p>
+	 * 조회 이후 상태가 바뀐 슬롯은 상태 조건으로 제외된다.
+	 *
+	 * @param slotIds 변경할 슬롯 ID 목록
+	 * @return 변경된 슬롯 개수
+	 */
+	int releaseReservedSlotsByIds(List<Long> slotIds);
+	
+	/**
+	 * 날짜 범위와 시간 범위에 해당하는 AVAILABLE 슬롯을 한 번의 UPDATE로 CLOSED로 변경한다.
+	 * <p>
+	 * 예약 중이거나 이미 CLOSED인 슬롯은 변경하지 않는다.
+	 *
+	 * @param roomId    룸 ID
+	 * @param startDate 시작 날짜 (inclusive)
+	 * @param endDate   종료 날짜 (inclusive)
+	 * @param startTime 시작 시각 (inclusive, null이면 하루 종일)
+	 * @param endTime   종료 시각 (inclusive, null이면 하루 종일)
+	 * @return 변경된 슬롯 개수
+	 */
+	int closeAvailableSlotsBetween(
+			Long roomId, LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime);
+	
+	/**
+	 * 지정한 날짜들의 시간 범위에 해당하는 AVAILABLE 슬롯을 한 번의 UPDATE로 CLOSED로 변경한다.
+	 *
+	 * @param roomId    룸 ID
+	 * @param slotDates 대상 날짜 목록
+	 * @param startTime 시작 시각 (inclusive, null이면 하루 종일)
+	 * @param endTime   종료 시각 (inclusive, null이면 하루 종일)
+	 * @return 변경된 슬롯 개수
+	 */
+	int closeAvailableSlotsOn(Long roomId, List<LocalDate> slotDates, LocalTime startTime, LocalTime endTime);
+	
+	/**
+	 * 모든 룸에서 지정한 날짜의 AVAILABLE 슬롯을 CLOSED로 변경한다.
+	 *
+	 * @param slotDates 대상 날짜 목록
+	 * @return 변경된 슬롯 개수
+	 */
+	int closeAvailableSlotsOnAllRooms(List<LocalDate> slotDates);
+	
+	/**
+	 * 지정한 날짜에 AVAILABLE 슬롯이 있는 룸을 날짜별로 조회한다.
+	 *
+	 * @param slotDates 대상 날짜 목록
+	 * @return 날짜별 룸 ID 목록
+	 */
+	Map<LocalDate, List<Long>> findRoomIdsWithAvailableSlotsOn(List<LocalDate> slotDates);
 	
 	/**
 	 * Room ID와 날짜 범위, 상태로 슬롯 개수를 조회한다.
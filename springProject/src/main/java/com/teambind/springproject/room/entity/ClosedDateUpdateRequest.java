@@ -1,17 +1,22 @@
 package com.teambind.springproject.room.entity;
 
+import com.teambind.springproject.room.entity.enums.ClosedDateJobType;
 import com.teambind.springproject.room.entity.enums.GenerationStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
  * 휴무일 업데이트 요청 엔티티.
  * <p>
  * 비동기 휴무일 업데이트 작업의 상태를 추적한다.
+ * <p>
+ * 공통 휴일 적용 작업은 특정 룸에 속하지 않으므로 roomId가 null이다.
+ * 휴무 해제(REOPEN) 작업은 해제한 휴무가 덮던 날짜 범위(targetStartDate ~ targetEndDate)만 다시 계산한다.
  */
 @Entity
 @Table(name = "closed_date_update_requests")
@@ -23,9 +28,19 @@ public class ClosedDateUpdateRequest {
 	@Column(length = 36)
 	private String requestId;
 	
-	@Column(nullable = false)
+	@Column
 	private Long roomId;
 	
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private ClosedDateJobType jobType;
+	
+	@Column
+	private LocalDate targetStartDate;
+	
+	@Column
+	private LocalDate targetEndDate;
+	
 	@Column(nullable = false)
 	private Integer closedDateCount;
 	
@@ -51,11 +66,17 @@ public class ClosedDateUpdateRequest {
 	private ClosedDateUpdateRequest(
 			String requestId,
 			Long roomId,
-			Integer closedDateCount
+			Integer closedDateCount,
+			ClosedDateJobType jobType,
+			LocalDate targetStartDate,
+			LocalDate targetEndDate
 	) {
 		this.requestId = requestId;
 		this.roomId = roomId;
 		this.closedDateCount = closedDateCount;
+		this.jobType = jobType;
+		this.targetStartDate = targetStartDate;
+		this.targetEndDate = targetEndDate;
 		this.status = GenerationStatus.REQUESTED;
 		this.requestedAt = LocalDateTime.now();
 	}
@@ -73,7 +94,48 @@ public class ClosedDateUpdateRequest {
 			Long roomId,
 			Integer closedDateCount
 	) {
-		return new ClosedDateUpdateRequest(requestId, roomId, closedDateCount);
+		return new ClosedDateUpdateRequest(requestId, roomId, closedDateCount, ClosedDateJobType.CLOSE, null, null);
+	}
+	
+	/**
+	 * 모든 룸에 공통 휴일을 적용하는 요청을 생성한다.
+	 *
+	 * @param requestId    요청 ID (UUID)
+	 * @param holidayCount 휴일 개수
+	 * @return 생성된 요청
+	 */
+	public static ClosedDateUpdateRequest forHolidayCalendar(String requestId, Integer holidayCount) {
+		return new ClosedDateUpdateRequest(requestId, null, holidayCount, ClosedDateJobType.CLOSE, null, null);
+	}
+	
+	/**
+	 * 휴무 해제 요청을 생성한다.
+	 *
+	 * @param requestId       요청 ID (UUID)
+	 * @param roomId          룸 ID
+	 * @param closedDateCount 해제한 휴무일 개수
+	 * @param targetStartDate 다시 계산할 첫 날짜
+	 * @param targetEndDate   다시 계산할 마지막 날짜
+	 * @return 생성된 요청
+	 */
+	public static ClosedDateUpdateRequest forReopen(
+			String requestId,
+			Long roomId,
+			Integer closedDateCount,
+			LocalDate targetStartDate,
+			LocalDate targetEndDate
+	) {
+		return new ClosedDateUpdateRequest(
+				requestId, roomId, closedDateCount, ClosedDateJobType.REOPEN, targetStartDate, targetEndDate);
+	}
+	
+	/**
+	 * 휴무 해제 작업인지 확인한다.
+	 *
+	 * @return REOPEN 작업이면 true
+	 */
+	public boolean isReopen() {
+		return jobType == ClosedDateJobType.REOPEN;
 	}
 	
 	/**
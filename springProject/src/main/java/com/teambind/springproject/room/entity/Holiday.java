@@ -0,0 +1,60 @@
+package com.teambind.springproject.room.entity;
+
+import com.teambind.springproject.common.exceptions.application.InvalidRequestException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 전체 룸에 공통으로 적용되는 휴일 엔티티 (공휴일 달력).
+ * <p>
+ * 룸별 휴무일(ClosedDateRange)과 달리 정책에 저장하지 않으며, 휴일에는 모든 룸의 슬롯을 생성하지 않는다.
+ * 이미 생성된 슬롯은 휴일 달력 적용 작업이 한 번에 CLOSED로 변경한다.
+ */
+@Entity
+@Table(name = "holidays")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Holiday {
+
+	@Id
+	@Column(name = "holiday_date")
+	private LocalDate holidayDate;
+
+	@Column(nullable = false, length = 100)
+	private String name;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	private Holiday(LocalDate holidayDate, String name) {
+		this.holidayDate = holidayDate;
+		this.name = name;
+		this.createdAt = LocalDateTime.now();
+	}
+
+	/**
+	 * 휴일을 생성한다.
+	 *
+	 * @param holidayDate 휴일 날짜
+	 * @param name        휴일 이름 (예: 설날)
+	 * @return 생성된 휴일
+	 * @throws InvalidRequestException 날짜나 이름이 없는 경우
+	 */
+	public static Holiday of(LocalDate holidayDate, String name) {
+		if (holidayDate == null) {
+			throw InvalidRequestException.requiredFieldMissing("holidayDate");
+		}
+		if (name == null || name.isBlank()) {
+			throw InvalidRequestException.requiredFieldMissing("name");
+		}
+		return new Holiday(holidayDate, name);
+	}
+}
@@ -0,0 +1,102 @@
+package com.teambind.springproject.room.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 룸별 슬롯 생성 워터마크 엔티티.
+ * <p>
+ * "오늘부터 generatedThrough까지의 모든 날짜는 슬롯 생성이 끝났다"를 기록한다.
+ * Rolling Window 배치와 슬롯 보장 API는 슬롯을 조회하지 않고 이 값만 비교해 생성할 구간을 결정한다.
+ * <p>
+ * 지난 날짜는 의미가 없으므로 generatedThrough가 어제 이전이면 아무것도 생성되지 않은 것으로 본다.
+ * 워터마크는 룸의 예약 가능 기간 끝까지만 전진한다. 기간이 hot 구간보다 짧은 룸은 매일 새로 예약 가능해지는 날짜를
+ * 생성하도록 뒤처진 상태로 남는다 (기간이 바뀌면 rewindTo로 새 기간에 맞춘다).
+ */
+@Entity
+@Table(name = "room_generation_watermarks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomGenerationWatermark {
+
+	@Id
+	private Long roomId;
+
+	@Column
+	private LocalDate generatedThrough;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+
+	private RoomGenerationWatermark(Long roomId) {
+		this.roomId = roomId;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	/**
+	 * 아직 생성된 날짜가 없는 워터마크를 생성한다.
+	 *
+	 * @param roomId 룸 ID
+	 * @return 생성된 워터마크
+	 */
+	public static RoomGenerationWatermark create(Long roomId) {
+		return new RoomGenerationWatermark(roomId);
+	}
+
+	/**
+	 * 다음으로 생성해야 하는 날짜를 반환한다.
+	 *
+	 * @param today 기준 날짜
+	 * @return 워터마크 다음 날, 워터마크가 없거나 지난 날짜이면 today
+	 */
+	public LocalDate nextDateToGenerate(LocalDate today) {
+		if (generatedThrough == null || generatedThrough.isBefore(today)) {
+			return today;
+		}
+		return generatedThrough.plusDays(1);
+	}
+
+	/**
+	 * 해당 날짜까지 생성이 끝났는지 확인한다.
+	 *
+	 * @param date 확인할 날짜
+	 * @return 워터마크가 date 이후이면 true
+	 */
+	public boolean isGeneratedThrough(LocalDate date) {
+		return generatedThrough != null && !generatedThrough.isBefore(date);
+	}
+
+	/**
+	 * 워터마크를 전진시킨다. 뒤로 되돌리지 않는다.
+	 *
+	 * @param date 생성이 끝난 마지막 날짜
+	 */
+	public void advanceTo(LocalDate date) {
+		if (generatedThrough == null || date.isAfter(generatedThrough)) {
+			this.generatedThrough = date;
+			this.updatedAt = LocalDateTime.now();
+		}
+	}
+
+	/**
+	 * 워터마크를 되돌린다. 이미 date 이전이면 그대로 둔다.
+	 * <p>
+	 * 예약 가능 기간이 늘어나 생성하지 않고 넘긴 날짜를 다시 생성해야 할 때 사용한다.
+	 *
+	 * @param date 생성이 끝났다고 볼 수 있는 마지막 날짜
+	 */
+	public void rewindTo(LocalDate date) {
+		if (generatedThrough != null && generatedThrough.isAfter(date)) {
+			this.generatedThrough = date;
+			this.updatedAt = LocalDateTime.now();
+		}
+	}
+}
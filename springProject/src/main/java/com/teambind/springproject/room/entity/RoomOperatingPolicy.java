@@ -3,11 +3,13 @@ package com.teambind.springproject.room.entity;
 import com.teambind.springproject.common.exceptions.application.InvalidRequestException;
 import com.teambind.springproject.room.entity.enums.RecurrencePattern;
 import com.teambind.springproject.room.entity.enums.SlotUnit;
+import com.teambind.springproject.room.entity.vo.ClosedDateIndex;
 import com.teambind.springproject.room.entity.vo.ClosedDateRange;
+import com.teambind.springproject.room.entity.vo.CompiledOperatingPolicy;
+import com.teambind.springproject.room.entity.vo.ScheduleTemplate;
 import com.teambind.springproject.room.entity.vo.WeeklySlotSchedule;
 import jakarta.persistence.*;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -15,7 +17,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * 룸의 운영 시간 정책을 나타내는 Aggregate Root.
@@ -34,6 +35,9 @@ import java.util.stream.Collectors;
 @Table(name = "room_operating_policies")
 public class RoomOperatingPolicy {
 	
+	// 룸별로 설정할 수 있는 최대 예약 가능 기간
+	public static final int MAX_BOOKING_HORIZON_DAYS = 365;
+	
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long policyId;
@@ -52,6 +56,14 @@ public class RoomOperatingPolicy {
 	@Column(name = "slot_unit", nullable = false)
 	private SlotUnit slotUnit;
 	
+	// 주간 스케줄 + 반복 패턴의 내용 해시 (ScheduleTemplate). 같은 값이면 생성 결과가 같은 템플릿을 공유한다
+	@Column(name = "schedule_hash", length = 64)
+	private String scheduleHash;
+	
+	// 예약 가능 기간 (오늘부터 N일). null이면 전역 기본값(room.timeSlot.rollingWindow.days)을 따른다
+	@Column(name = "booking_horizon_days")
+	private Integer bookingHorizonDays;
+	
 	@ElementCollection
 	@CollectionTable(name = "policy_closed_dates", joinColumns = @JoinColumn(name = "policy_id"))
 	private List<ClosedDateRange> closedDates = new ArrayList<>();
@@ -62,6 +74,10 @@ public class RoomOperatingPolicy {
 	@Column(name = "updated_at", nullable = false)
 	private LocalDateTime updatedAt;
 	
+	// 슬롯 생성용 컴파일 결과 캐시 (정책 변경 시 무효화)
+	@Transient
+	private CompiledOperatingPolicy compiled;
+	
 	protected RoomOperatingPolicy() {
 		// JPA를 위한 기본 생성자
 	}
@@ -78,6 +94,7 @@ public class RoomOperatingPolicy {
 		this.recurrence = Objects.requireNonNull(recurrence, "recurrence must not be null");
 		this.slotUnit = Objects.requireNonNull(slotUnit, "slotUnit must not be null");
 		this.closedDates = new ArrayList<>(closedDates);
+		this.scheduleHash = ScheduleTemplate.hashOf(weeklySchedule, recurrence);
 		this.createdAt = LocalDateTime.now();
 		this.updatedAt = LocalDateTime.now();
 	}
@@ -109,15 +126,14 @@ public class RoomOperatingPolicy {
 	 * <p>
 	 * 반복 패턴과 일치
 	 * 휴무일이 아님
+	 * <p>
+	 * 휴무 판단은 ClosedDateIndex를 사용한다 (휴무 이력이 많아도 날짜당 로그 시간).
 	 *
 	 * @param date 확인할 날짜
 	 * @return 슬롯 생성이 필요하면 true, 아니면 false
 	 */
 	public boolean shouldGenerateSlotsOn(LocalDate date) {
-		if (!recurrence.matches(date)) {
-			return false;
-		}
-		return !isFullDayClosedOn(date);
+		return compile().shouldGenerateSlotsOn(date);
 	}
 	
 	/**
@@ -128,22 +144,7 @@ public class RoomOperatingPolicy {
 	 * @return 휴무이면 true, 아니면 false
 	 */
 	public boolean isClosedAt(LocalDate date, LocalTime time) {
-		return closedDates.stream().anyMatch(range -> range.contains(date, time));
-	}
-	
-	/**
-	 * 특정 날짜가 하루 종일 휴무인지 확인한다.
-	 *
-	 * @param date 확인할 날짜
-	 * @return 하루 종일 휴무이면 true, 아니면 false
-	 */
-	private boolean isFullDayClosedOn(LocalDate date) {
-		return closedDates.stream()
-				.anyMatch(
-						range ->
-								range.containsDate(date)
-										&& range.getStartTime() == null
-										&& range.getEndTime() == null);
+		return compile().isClosedAt(date, time);
 	}
 	
 	/**
@@ -156,33 +157,38 @@ public class RoomOperatingPolicy {
 	 * 요일별 시작 시각 목록 조회
 	 * 각 시작 시각에서 SlotUnit 간격으로 슬롯 생성
 	 * 휴무 시간은 CLOSED 상태로 생성
+	 * <p>
+	 * 컴파일된 평가기(CompiledOperatingPolicy)를 사용한다.
 	 *
 	 * @param date     슬롯을 생성할 날짜
 	 * @param slotUnit 슬롯 단위 (HOUR 또는 HALF_HOUR)
 	 * @return 생성된 슬롯 목록
 	 */
 	public List<RoomTimeSlot> generateSlotsFor(LocalDate date, SlotUnit slotUnit) {
-		if (!shouldGenerateSlotsOn(date)) {
-			return Collections.emptyList();
-		}
-		
-		DayOfWeek dayOfWeek = date.getDayOfWeek();
-		List<LocalTime> startTimes = weeklySchedule.getStartTimesFor(dayOfWeek);
-		
-		if (startTimes.isEmpty()) {
-			return Collections.emptyList();
+		return compile().generateSlotsFor(date);
+	}
+	
+	/**
+	 * 휴무일 조회 인덱스를 반환한다.
+	 *
+	 * @return 휴무일 인덱스
+	 */
+	public ClosedDateIndex closedDateIndex() {
+		return compile().getClosedDateIndex();
+	}
+	
+	/**
+	 * 슬롯 생성용으로 컴파일된 평가기를 반환한다.
+	 * <p>
+	 * 최초 호출 시 한 번 컴파일하고, 정책이 변경될 때까지 재사용한다.
+	 *
+	 * @return 컴파일된 운영 정책 평가기
+	 */
+	public CompiledOperatingPolicy compile() {
+		if (compiled == null) {
+			compiled = CompiledOperatingPolicy.compile(roomId, weeklySchedule, recurrence, closedDates);
 		}
-		
-		return startTimes.stream()
-				.map(
-						startTime -> {
-							if (isClosedAt(date, startTime)) {
-								return RoomTimeSlot.closed(roomId, date, startTime);
-							} else {
-								return RoomTimeSlot.available(roomId, date, startTime);
-							}
-						})
-				.collect(Collectors.toList());
+		return compiled;
 	}
 	
 	/**
@@ -196,7 +202,9 @@ public class RoomOperatingPolicy {
 			throw InvalidRequestException.requiredFieldMissing("weeklySchedule");
 		}
 		this.weeklySchedule = newSchedule;
+		this.scheduleHash = ScheduleTemplate.hashOf(newSchedule, recurrence);
 		this.updatedAt = LocalDateTime.now();
+		this.compiled = null;
 	}
 	
 	/**
@@ -210,7 +218,9 @@ public class RoomOperatingPolicy {
 			throw InvalidRequestException.requiredFieldMissing("recurrence");
 		}
 		this.recurrence = newRecurrence;
+		this.scheduleHash = ScheduleTemplate.hashOf(weeklySchedule, newRecurrence);
 		this.updatedAt = LocalDateTime.now();
+		this.compiled = null;
 	}
 
 	/**
@@ -225,6 +235,7 @@ public class RoomOperatingPolicy {
 		}
 		this.slotUnit = newSlotUnit;
 		this.updatedAt = LocalDateTime.now();
+		this.compiled = null;
 	}
 
 	/**
@@ -242,8 +253,37 @@ public class RoomOperatingPolicy {
 			throw InvalidRequestException.requiredFieldMissing("slotUnit");
 		}
 		this.weeklySchedule = newSchedule;
+		this.scheduleHash = ScheduleTemplate.hashOf(newSchedule, recurrence);
 		this.slotUnit = newSlotUnit;
 		this.updatedAt = LocalDateTime.now();
+		this.compiled = null;
+	}
+	
+	/**
+	 * 예약 가능 기간을 변경한다.
+	 *
+	 * @param newBookingHorizonDays 오늘부터 예약 가능한 일 수 (null이면 전역 기본값 사용)
+	 * @throws InvalidRequestException 허용 범위를 벗어난 경우
+	 */
+	public void updateBookingHorizonDays(Integer newBookingHorizonDays) {
+		if (newBookingHorizonDays != null
+				&& (newBookingHorizonDays < 1 || newBookingHorizonDays > MAX_BOOKING_HORIZON_DAYS)) {
+			throw InvalidRequestException.valueOutOfRange(
+					"bookingHorizonDays", "1~" + MAX_BOOKING_HORIZON_DAYS + "일");
+		}
+		this.bookingHorizonDays = newBookingHorizonDays;
+		this.updatedAt = LocalDateTime.now();
+	}
+	
+	/**
+	 * 예약 가능한 마지막 날짜를 계산한다.
+	 *
+	 * @param today              기준 날짜
+	 * @param defaultHorizonDays 룸별 설정이 없을 때 사용할 기본 일 수
+	 * @return 이 날짜까지 슬롯을 예약할 수 있다
+	 */
+	public LocalDate bookableThrough(LocalDate today, int defaultHorizonDays) {
+		return today.plusDays(bookingHorizonDays != null ? bookingHorizonDays : defaultHorizonDays);
 	}
 	
 	/**
@@ -258,6 +298,7 @@ public class RoomOperatingPolicy {
 		}
 		this.closedDates.add(closedDateRange);
 		this.updatedAt = LocalDateTime.now();
+		this.compiled = null;
 	}
 	
 	/**
@@ -268,6 +309,7 @@ public class RoomOperatingPolicy {
 	public void removeClosedDate(ClosedDateRange closedDateRange) {
 		this.closedDates.remove(closedDateRange);
 		this.updatedAt = LocalDateTime.now();
+		this.compiled = null;
 	}
 	
 	/**
@@ -282,6 +324,7 @@ public class RoomOperatingPolicy {
 		}
 		this.closedDates = new ArrayList<>(newClosedDates);
 		this.updatedAt = LocalDateTime.now();
+		this.compiled = null;
 	}
 	
 	// Getters
@@ -305,6 +348,21 @@ public class RoomOperatingPolicy {
 		return slotUnit;
 	}
 	
+	/**
+	 * 스케줄 템플릿 해시를 반환한다.
+	 * <p>
+	 * 해시 컬럼 도입 이전에 저장된 정책은 null이 저장되어 있을 수 있으므로 컴파일 결과에서 계산한다.
+	 *
+	 * @return 스케줄 템플릿 해시
+	 */
+	public String getScheduleHash() {
+		return scheduleHash != null ? scheduleHash : compile().getTemplate().getHash();
+	}
+	
+	public Integer getBookingHorizonDays() {
+		return bookingHorizonDays;
+	}
+	
 	public List<ClosedDateRange> getClosedDates() {
 		return Collections.unmodifiableList(closedDates);
 	}
@@ -29,7 +29,6 @@ import java.util.Objects;
 @Table(
 		name = "room_time_slots",
 		indexes = {
-				@Index(name = "idx_room_date_time", columnList = "room_id,slot_date,slot_time"),
 				@Index(name = "idx_date_status", columnList = "slot_date,status"),
 				@Index(name = "idx_cleanup", columnList = "slot_date")
 		},
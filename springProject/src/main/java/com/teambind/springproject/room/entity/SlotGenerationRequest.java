@@ -1,5 +1,7 @@
 package com.teambind.springproject.room.entity;
 
+import com.teambind.springproject.common.exceptions.application.InvalidRequestException;
+import com.teambind.springproject.room.entity.enums.GenerationJobType;
 import com.teambind.springproject.room.entity.enums.GenerationStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -13,6 +15,9 @@ import java.time.LocalDateTime;
  * 슬롯 생성 요청 엔티티.
  * <p>
  * 비동기 슬롯 생성 작업의 상태를 추적한다.
+ * <p>
+ * 초기 설정 작업은 날짜 단위로 진행 상황(lastCompletedDate)을 기록하므로, 프로세스가 중단되어도
+ * 마지막으로 완료된 다음 날짜부터 이어서 처리할 수 있다. 처리 중인 작업은 heartbeatAt으로 생존을 알린다.
  */
 @Entity
 @Table(name = "slot_generation_requests")
@@ -27,6 +32,10 @@ public class SlotGenerationRequest {
 	@Column(nullable = false)
 	private Long roomId;
 	
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 30)
+	private GenerationJobType jobType;
+	
 	@Column(nullable = false)
 	private LocalDate startDate;
 	
@@ -52,14 +61,32 @@ public class SlotGenerationRequest {
 	@Column(length = 1000)
 	private String errorMessage;
 	
+	// 마지막으로 슬롯 생성이 완료(커밋)된 날짜 - 재개 시작점
+	@Column
+	private LocalDate lastCompletedDate;
+	
+	// 처리 중인 작업의 마지막 생존 신호 시각
+	@Column
+	private LocalDateTime heartbeatAt;
+	
+	// 현재 처리 중인 실행자 식별자 - 다른 실행자가 재개(takeover)했는지 판단
+	@Column(length = 36)
+	private String claimToken;
+	
+	// 작업 실행기의 처리 시작과 취소가 동시에 일어나도 한쪽만 반영되도록 한다
+	@Version
+	private Long version;
+	
 	private SlotGenerationRequest(
 			String requestId,
 			Long roomId,
 			LocalDate startDate,
-			LocalDate endDate
+			LocalDate endDate,
+			GenerationJobType jobType
 	) {
 		this.requestId = requestId;
 		this.roomId = roomId;
+		this.jobType = jobType;
 		this.startDate = startDate;
 		this.endDate = endDate;
 		this.status = GenerationStatus.REQUESTED;
@@ -67,7 +94,7 @@ public class SlotGenerationRequest {
 	}
 	
 	/**
-	 * 새로운 슬롯 생성 요청을 생성한다.
+	 * 새로운 슬롯 생성 요청(초기 설정)을 생성한다.
 	 *
 	 * @param requestId 요청 ID (UUID)
 	 * @param roomId    룸 ID
@@ -81,7 +108,27 @@ public class SlotGenerationRequest {
 			LocalDate startDate,
 			LocalDate endDate
 	) {
-		return new SlotGenerationRequest(requestId, roomId, startDate, endDate);
+		return create(requestId, roomId, startDate, endDate, GenerationJobType.INITIAL_SETUP);
+	}
+	
+	/**
+	 * 작업 유형을 지정해 새로운 슬롯 생성 요청을 생성한다.
+	 *
+	 * @param requestId 요청 ID (UUID)
+	 * @param roomId    룸 ID
+	 * @param startDate 시작 날짜
+	 * @param endDate   종료 날짜
+	 * @param jobType   작업 유형
+	 * @return 생성된 요청
+	 */
+	public static SlotGenerationRequest create(
+			String requestId,
+			Long roomId,
+			LocalDate startDate,
+			LocalDate endDate,
+			GenerationJobType jobType
+	) {
+		return new SlotGenerationRequest(requestId, roomId, startDate, endDate, jobType);
 	}
 	
 	/**
@@ -92,6 +139,68 @@ public class SlotGenerationRequest {
 		this.startedAt = LocalDateTime.now();
 	}
 	
+	/**
+	 * 실행자가 작업을 가져가 처리 중 상태로 전환한다.
+	 * <p>
+	 * 중단된 작업을 재개하는 경우 최초 시작 시각과 진행 상황은 유지한다.
+	 *
+	 * @param claimToken 실행자 식별자
+	 */
+	public void claim(String claimToken) {
+		LocalDateTime now = LocalDateTime.now();
+		this.status = GenerationStatus.IN_PROGRESS;
+		this.claimToken = claimToken;
+		this.heartbeatAt = now;
+		if (this.startedAt == null) {
+			this.startedAt = now;
+		}
+	}
+	
+	/**
+	 * 하루치 슬롯 생성 완료를 기록한다.
+	 *
+	 * @param completedDate  생성이 완료된 날짜
+	 * @param generatedSlots 해당 날짜에 생성된 슬롯 개수
+	 */
+	public void recordProgress(LocalDate completedDate, int generatedSlots) {
+		this.lastCompletedDate = completedDate;
+		this.totalSlots = (totalSlots == null ? 0 : totalSlots) + generatedSlots;
+		this.heartbeatAt = LocalDateTime.now();
+	}
+	
+	/**
+	 * 다음으로 생성할 날짜를 반환한다.
+	 *
+	 * @return 진행 기록이 없으면 시작 날짜, 있으면 마지막 완료 날짜의 다음 날
+	 */
+	public LocalDate nextDateToGenerate() {
+		return lastCompletedDate == null ? startDate : lastCompletedDate.plusDays(1);
+	}
+	
+	/**
+	 * 실행자가 가져갈 수 있는지 확인한다.
+	 *
+	 * @param staleBefore 생존 신호 기준 시각 - 이 시각 이전에 신호가 끊긴 처리 중 요청은 중단된 것으로 본다
+	 * @return 대기 중이거나 중단된 요청이면 true
+	 */
+	public boolean isClaimable(LocalDateTime staleBefore) {
+		if (status == GenerationStatus.REQUESTED) {
+			return true;
+		}
+		return status == GenerationStatus.IN_PROGRESS
+				&& (heartbeatAt == null || heartbeatAt.isBefore(staleBefore));
+	}
+	
+	/**
+	 * 지정한 실행자가 처리 중인지 확인한다.
+	 *
+	 * @param claimToken 실행자 식별자
+	 * @return 처리 중이고 식별자가 같으면 true
+	 */
+	public boolean isClaimedBy(String claimToken) {
+		return status == GenerationStatus.IN_PROGRESS && claimToken.equals(this.claimToken);
+	}
+	
 	/**
 	 * 완료 상태로 전환한다.
 	 *
@@ -103,6 +212,13 @@ public class SlotGenerationRequest {
 		this.completedAt = LocalDateTime.now();
 	}
 	
+	/**
+	 * 날짜별로 기록된 진행 합계를 생성 슬롯 개수로 하여 완료 상태로 전환한다.
+	 */
+	public void markAsCompleted() {
+		markAsCompleted(totalSlots == null ? 0 : totalSlots);
+	}
+	
 	/**
 	 * 실패 상태로 전환한다.
 	 *
@@ -113,4 +229,34 @@ public class SlotGenerationRequest {
 		this.errorMessage = errorMessage;
 		this.completedAt = LocalDateTime.now();
 	}
+	
+	/**
+	 * 같은 룸의 새 요청으로 대체된 상태로 전환한다.
+	 */
+	public void markAsSuperseded() {
+		this.status = GenerationStatus.SUPERSEDED;
+		this.completedAt = LocalDateTime.now();
+	}
+	
+	/**
+	 * 처리 대기 중인 요청을 취소한다.
+	 *
+	 * @throws InvalidRequestException 이미 처리가 시작되었거나 끝난 경우
+	 */
+	public void cancel() {
+		if (!isWaiting()) {
+			throw InvalidRequestException.generationNotCancellable(status.name());
+		}
+		this.status = GenerationStatus.CANCELLED;
+		this.completedAt = LocalDateTime.now();
+	}
+	
+	/**
+	 * 처리 대기 중인지 확인한다.
+	 *
+	 * @return 상태가 REQUESTED이면 true
+	 */
+	public boolean isWaiting() {
+		return status == GenerationStatus.REQUESTED;
+	}
 }
@@ -0,0 +1,17 @@
+package com.teambind.springproject.room.entity.enums;
+
+/**
+ * 휴무일 업데이트 요청 작업 유형.
+ */
+public enum ClosedDateJobType {
+	
+	/**
+	 * 휴무 추가 - 휴무 범위의 AVAILABLE 슬롯을 CLOSED로 변경
+	 */
+	CLOSE,
+	
+	/**
+	 * 휴무 해제 - 남은 휴무에 포함되지 않는 CLOSED 슬롯을 AVAILABLE로 복구
+	 */
+	REOPEN
+}
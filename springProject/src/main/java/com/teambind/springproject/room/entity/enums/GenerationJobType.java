@@ -0,0 +1,17 @@
+package com.teambind.springproject.room.entity.enums;
+
+/**
+ * 슬롯 생성 요청 작업 유형.
+ */
+public enum GenerationJobType {
+	
+	/**
+	 * 룸 초기 설정 - 날짜 범위 슬롯 생성 (일 단위 체크포인트, 재시작 시 이어서 처리)
+	 */
+	INITIAL_SETUP,
+	
+	/**
+	 * 운영 시간 변경 - 저장된 슬롯과 새 스케줄의 차이만 반영
+	 */
+	OPERATING_HOURS_UPDATE
+}
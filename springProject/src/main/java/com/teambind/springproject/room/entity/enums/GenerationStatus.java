@@ -23,5 +23,15 @@ public enum GenerationStatus {
 	/**
 	 * 실패함
 	 */
-	FAILED
+	FAILED,
+	
+	/**
+	 * 같은 룸의 새 요청으로 대체됨 - 처리되지 않음
+	 */
+	SUPERSEDED,
+	
+	/**
+	 * 처리 전에 취소됨
+	 */
+	CANCELLED
 }
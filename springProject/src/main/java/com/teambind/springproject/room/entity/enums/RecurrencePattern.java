@@ -15,6 +15,11 @@ public enum RecurrencePattern {
 	EVERY_WEEK {
 		@Override
 		public boolean matches(LocalDate date) {
+			return true; // 주차 계산 불필요
+		}
+		
+		@Override
+		public boolean matchesWeek(int weekOfYear) {
 			return true;
 		}
 	},
@@ -24,8 +29,7 @@ public enum RecurrencePattern {
 	 */
 	ODD_WEEK {
 		@Override
-		public boolean matches(LocalDate date) {
-			int weekOfYear = date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+		public boolean matchesWeek(int weekOfYear) {
 			return weekOfYear % 2 == 1;
 		}
 	},
@@ -35,8 +39,7 @@ public enum RecurrencePattern {
 	 */
 	EVEN_WEEK {
 		@Override
-		public boolean matches(LocalDate date) {
-			int weekOfYear = date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+		public boolean matchesWeek(int weekOfYear) {
 			return weekOfYear % 2 == 0;
 		}
 	};
@@ -47,5 +50,17 @@ public enum RecurrencePattern {
 	 * @param date 확인할 날짜
 	 * @return 패턴과 일치하면 true, 아니면 false
 	 */
-	public abstract boolean matches(LocalDate date);
+	public boolean matches(LocalDate date) {
+		return matchesWeek(date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+	}
+	
+	/**
+	 * ISO 8601 주차(Week-based year 기준)가 이 반복 패턴과 일치하는지 확인한다.
+	 * <p>
+	 * 여러 패턴을 같은 날짜에 대해 평가할 때 주차 계산을 한 번만 하기 위해 사용한다.
+	 *
+	 * @param weekOfYear ISO 8601 주차 (1~53)
+	 * @return 패턴과 일치하면 true, 아니면 false
+	 */
+	public abstract boolean matchesWeek(int weekOfYear);
 }
@@ -0,0 +1,41 @@
+package com.teambind.springproject.room.entity.enums;
+
+import java.time.LocalDate;
+
+/**
+ * 시간 슬롯 저장 방식.
+ * <p>
+ * 설정: room.timeSlot.storage-mode (기본 EAGER)
+ */
+public enum SlotStorageMode {
+
+	/**
+	 * Rolling Window(hot 구간)의 슬롯 행을 배치로 미리 생성한다.
+	 * hot 구간 밖의 예약 가능 기간은 조회 시 계산하고 첫 예약 시 날짜 단위로 생성한다.
+	 */
+	EAGER,
+
+	/**
+	 * 슬롯 행을 미리 생성하지 않는다.
+	 * 가용성은 조회 시 운영 정책과 휴무로 계산하고, 정책과 다른 상태(PENDING, RESERVED, CLOSED)의 슬롯만 저장한다.
+	 * 예약 시 요청한 슬롯의 행만 unique key (room_id, slot_date, slot_time) 기준으로 삽입한다.
+	 */
+	LAZY;
+
+	/**
+	 * 슬롯 행을 미리 생성해 두는 마지막 날짜를 반환한다.
+	 * <p>
+	 * 이 날짜 이후의 슬롯은 운영 정책으로 계산한다.
+	 *
+	 * @param today             기준 날짜
+	 * @param rollingWindowDays Rolling Window 일수
+	 * @return EAGER는 today + rollingWindowDays, LAZY는 today 전날 (미리 생성하는 날짜 없음)
+	 */
+	public LocalDate materializedThrough(LocalDate today, int rollingWindowDays) {
+		return this == LAZY ? today.minusDays(1) : today.plusDays(rollingWindowDays);
+	}
+
+	public boolean isLazy() {
+		return this == LAZY;
+	}
+}
@@ -0,0 +1,375 @@
+package com.teambind.springproject.room.entity.vo;
+
+import com.teambind.springproject.room.entity.enums.RecurrencePattern;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+
+/**
+ * 휴무일 범위(ClosedDateRange) 조회용 불변 인덱스.
+ * <p>
+ * 휴무 이력이 쌓여도 날짜 단위 조회가 전체 목록 순회가 되지 않도록 두 가지 구조로 나눈다.
+ * <p>
+ * <p>
+ * 날짜 기반 휴무: 시작일로 정렬한 배열 위의 정적 구간 트리 (서브트리별 최대 종료일 보관)
+ * 특정 날짜/기간과 겹치는 범위를 O(log n + k)로 조회
+ * 패턴 기반 휴무: (요일, 반복 패턴) 버킷 - 날짜마다 해당 요일의 매주/홀수주/짝수주 버킷만 확인
+ * <p>
+ * 조회 결과는 인덱스 생성 시 전달한 목록의 위치(index)로도 얻을 수 있어,
+ * 휴무 항목별로 부가 정보를 미리 계산해 둔 쪽(CompiledOperatingPolicy)에서 재사용한다.
+ */
+public final class ClosedDateIndex {
+
+	private static final int DAYS_OF_WEEK = DayOfWeek.values().length;
+	private static final RecurrencePattern[] PATTERN_VALUES = RecurrencePattern.values();
+	private static final int PATTERNS = PATTERN_VALUES.length;
+	private static final int[] NONE = new int[0];
+
+	private final List<ClosedDateRange> ranges;
+
+	// 날짜 기반 휴무: startDay 오름차순, 암시적 균형 트리 (노드 = 구간 [lo, hi)의 중앙)
+	private final int[] datedPositions;
+	private final long[] startDays;
+	private final long[] endDays;
+	private final long[] subtreeMaxEnd;
+
+	// [DayOfWeek.ordinal()][RecurrencePattern.ordinal()] -> 패턴 기반 휴무 위치
+	private final int[][][] patternPositions;
+	private final boolean hasPatternRanges;
+
+	private ClosedDateIndex(List<ClosedDateRange> ranges) {
+		this.ranges = List.copyOf(ranges);
+
+		List<Integer> dated = new ArrayList<>();
+		List<List<List<Integer>>> buckets = new ArrayList<>(DAYS_OF_WEEK);
+		for (int d = 0; d < DAYS_OF_WEEK; d++) {
+			List<List<Integer>> byPattern = new ArrayList<>(PATTERNS);
+			for (int p = 0; p < PATTERNS; p++) {
+				byPattern.add(new ArrayList<>());
+			}
+			buckets.add(byPattern);
+		}
+
+		boolean patternFound = false;
+		for (int i = 0; i < this.ranges.size(); i++) {
+			ClosedDateRange range = this.ranges.get(i);
+			if (range.isPatternBased()) {
+				buckets.get(range.getDayOfWeek().ordinal())
+						.get(range.getRecurrencePattern().ordinal())
+						.add(i);
+				patternFound = true;
+			} else if (range.getStartDate() != null) {
+				dated.add(i);
+			}
+		}
+		this.hasPatternRanges = patternFound;
+
+		dated.sort(Comparator.comparingLong(i -> this.ranges.get(i).getStartDate().toEpochDay()));
+		int n = dated.size();
+		this.datedPositions = new int[n];
+		this.startDays = new long[n];
+		this.endDays = new long[n];
+		for (int k = 0; k < n; k++) {
+			ClosedDateRange range = this.ranges.get(dated.get(k));
+			datedPositions[k] = dated.get(k);
+			startDays[k] = range.getStartDate().toEpochDay();
+			endDays[k] = (range.getEndDate() != null ? range.getEndDate() : range.getStartDate()).toEpochDay();
+		}
+		this.subtreeMaxEnd = new long[n];
+		buildMaxEnd(0, n);
+
+		this.patternPositions = new int[DAYS_OF_WEEK][PATTERNS][];
+		for (int d = 0; d < DAYS_OF_WEEK; d++) {
+			for (int p = 0; p < PATTERNS; p++) {
+				List<Integer> positions = buckets.get(d).get(p);
+				patternPositions[d][p] = positions.isEmpty()
+						? NONE
+						: positions.stream().mapToInt(Integer::intValue).toArray();
+			}
+		}
+	}
+
+	/**
+	 * 휴무일 목록으로 인덱스를 생성한다.
+	 *
+	 * @param ranges 휴무일 목록
+	 * @return 생성된 인덱스
+	 */
+	public static ClosedDateIndex of(List<ClosedDateRange> ranges) {
+		return new ClosedDateIndex(ranges);
+	}
+
+	/**
+	 * 특정 날짜와 시각이 휴무인지 확인한다.
+	 *
+	 * @param date 확인할 날짜
+	 * @param time 확인할 시각
+	 * @return 휴무이면 true, 아니면 false
+	 */
+	public boolean isClosedAt(LocalDate date, LocalTime time) {
+		return anyPositionOn(date, i -> ranges.get(i).containsTime(time));
+	}
+
+	/**
+	 * 특정 날짜가 하루 종일 휴무(시작/종료 시각이 모두 없는 휴무)인지 확인한다.
+	 *
+	 * @param date 확인할 날짜
+	 * @return 하루 종일 휴무이면 true, 아니면 false
+	 */
+	public boolean isFullDayClosedOn(LocalDate date) {
+		return anyPositionOn(date, i -> {
+			ClosedDateRange range = ranges.get(i);
+			return range.getStartTime() == null && range.getEndTime() == null;
+		});
+	}
+
+	/**
+	 * 특정 날짜에 적용되는 휴무 범위의 위치(인덱스 생성 시 목록 기준)를 반환한다.
+	 *
+	 * @param date 확인할 날짜
+	 * @return 적용되는 휴무 범위 위치 (정렬되지 않음)
+	 */
+	public int[] positionsOn(LocalDate date) {
+		PositionCollector collector = new PositionCollector();
+		anyPositionOn(date, collector);
+		return collector.toArray();
+	}
+
+	/**
+	 * 특정 날짜에 적용되는 휴무 범위를 반환한다.
+	 *
+	 * @param date 확인할 날짜
+	 * @return 적용되는 휴무 범위 목록
+	 */
+	public List<ClosedDateRange> closuresOn(LocalDate date) {
+		return toRanges(positionsOn(date));
+	}
+
+	/**
+	 * 기간 [startDate, endDate]와 하루라도 겹치는 휴무 범위를 반환한다.
+	 * <p>
+	 * 패턴 기반 휴무는 기간 안에 요일과 반복 패턴이 모두 일치하는 날짜가 있을 때 포함된다.
+	 *
+	 * @param startDate 시작 날짜 (포함)
+	 * @param endDate   종료 날짜 (포함)
+	 * @return 겹치는 휴무 범위 목록 (인덱스 생성 시 목록 순서)
+	 */
+	public List<ClosedDateRange> closuresIntersecting(LocalDate startDate, LocalDate endDate) {
+		if (endDate.isBefore(startDate)) {
+			return List.of();
+		}
+		PositionCollector collector = new PositionCollector();
+		collectDated(0, startDays.length, startDate.toEpochDay(), endDate.toEpochDay(), collector);
+		if (hasPatternRanges) {
+			collectPatternsIntersecting(startDate, endDate, collector);
+		}
+		int[] positions = collector.toArray();
+		Arrays.sort(positions);
+		return toRanges(positions);
+	}
+
+	/**
+	 * 날짜 기반 휴무 중 가장 이른 시작일을 반환한다.
+	 *
+	 * @return 가장 이른 시작일, 날짜 기반 휴무가 없으면 빈 Optional
+	 */
+	public Optional<LocalDate> earliestDatedStart() {
+		return startDays.length == 0 ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(startDays[0]));
+	}
+
+	/**
+	 * 날짜 기반 휴무 중 가장 늦은 종료일을 반환한다.
+	 *
+	 * @return 가장 늦은 종료일, 날짜 기반 휴무가 없으면 빈 Optional
+	 */
+	public Optional<LocalDate> latestDatedEnd() {
+		return startDays.length == 0
+				? Optional.empty()
+				: Optional.of(LocalDate.ofEpochDay(subtreeMaxEnd[startDays.length >>> 1]));
+	}
+
+	/**
+	 * 패턴 기반 휴무가 있는지 확인한다.
+	 *
+	 * @return 패턴 기반 휴무가 하나라도 있으면 true
+	 */
+	public boolean hasPatternRanges() {
+		return hasPatternRanges;
+	}
+
+	/**
+	 * 인덱스에 포함된 휴무 범위가 없는지 확인한다.
+	 *
+	 * @return 비어 있으면 true
+	 */
+	public boolean isEmpty() {
+		return ranges.isEmpty();
+	}
+
+	/**
+	 * 인덱스 생성 시 전달한 휴무 범위 목록을 반환한다.
+	 *
+	 * @return 수정 불가능한 휴무 범위 목록
+	 */
+	public List<ClosedDateRange> getRanges() {
+		return ranges;
+	}
+
+	// ---- 날짜 단위 조회 ----
+
+	private boolean anyPositionOn(LocalDate date, IntPredicate predicate) {
+		long day = date.toEpochDay();
+		if (anyDatedContaining(0, startDays.length, day, predicate)) {
+			return true;
+		}
+		if (!hasPatternRanges) {
+			return false;
+		}
+		int[][] byPattern = patternPositions[date.getDayOfWeek().ordinal()];
+		int weekOfYear = -1;
+		for (RecurrencePattern pattern : PATTERN_VALUES) {
+			int[] positions = byPattern[pattern.ordinal()];
+			if (positions.length == 0) {
+				continue;
+			}
+			if (pattern != RecurrencePattern.EVERY_WEEK) {
+				if (weekOfYear < 0) {
+					weekOfYear = date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+				}
+				if (!pattern.matchesWeek(weekOfYear)) {
+					continue;
+				}
+			}
+			for (int position : positions) {
+				if (predicate.test(position)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean anyDatedContaining(int lo, int hi, long day, IntPredicate predicate) {
+		if (lo >= hi) {
+			return false;
+		}
+		int mid = (lo + hi) >>> 1;
+		if (subtreeMaxEnd[mid] < day) {
+			return false;
+		}
+		if (anyDatedContaining(lo, mid, day, predicate)) {
+			return true;
+		}
+		if (startDays[mid] > day) {
+			// 오른쪽 서브트리는 시작일이 더 늦으므로 볼 필요 없음
+			return false;
+		}
+		if (endDays[mid] >= day && predicate.test(datedPositions[mid])) {
+			return true;
+		}
+		return anyDatedContaining(mid + 1, hi, day, predicate);
+	}
+
+	// ---- 기간 조회 ----
+
+	private void collectDated(int lo, int hi, long fromDay, long toDay, PositionCollector collector) {
+		if (lo >= hi) {
+			return;
+		}
+		int mid = (lo + hi) >>> 1;
+		if (subtreeMaxEnd[mid] < fromDay) {
+			return;
+		}
+		collectDated(lo, mid, fromDay, toDay, collector);
+		if (startDays[mid] > toDay) {
+			return;
+		}
+		if (endDays[mid] >= fromDay) {
+			collector.test(datedPositions[mid]);
+		}
+		collectDated(mid + 1, hi, fromDay, toDay, collector);
+	}
+
+	private void collectPatternsIntersecting(LocalDate startDate, LocalDate endDate, PositionCollector collector) {
+		long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+		if (days >= 21) {
+			// 3주 이상이면 모든 요일의 홀수/짝수 주가 한 번 이상 포함된다
+			// (53주 연도의 연말은 53주 -> 1주로 홀수 주가 연속되므로 2주로는 부족)
+			for (int[][] byPattern : patternPositions) {
+				for (int[] positions : byPattern) {
+					for (int position : positions) {
+						collector.test(position);
+					}
+				}
+			}
+			return;
+		}
+		boolean[] added = new boolean[ranges.size()];
+		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+			int[][] byPattern = patternPositions[date.getDayOfWeek().ordinal()];
+			int weekOfYear = date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+			for (RecurrencePattern pattern : PATTERN_VALUES) {
+				if (!pattern.matchesWeek(weekOfYear)) {
+					continue;
+				}
+				for (int position : byPattern[pattern.ordinal()]) {
+					if (!added[position]) {
+						added[position] = true;
+						collector.test(position);
+					}
+				}
+			}
+		}
+	}
+
+	// ---- 내부 유틸 ----
+
+	private long buildMaxEnd(int lo, int hi) {
+		if (lo >= hi) {
+			return Long.MIN_VALUE;
+		}
+		int mid = (lo + hi) >>> 1;
+		long max = Math.max(endDays[mid], Math.max(buildMaxEnd(lo, mid), buildMaxEnd(mid + 1, hi)));
+		subtreeMaxEnd[mid] = max;
+		return max;
+	}
+
+	private List<ClosedDateRange> toRanges(int[] positions) {
+		List<ClosedDateRange> result = new ArrayList<>(positions.length);
+		for (int position : positions) {
+			result.add(ranges.get(position));
+		}
+		return result;
+	}
+
+	/**
+	 * 조회 결과 위치를 모으는 술어. 항상 false를 반환해 전체 탐색을 계속하게 한다.
+	 */
+	private static final class PositionCollector implements IntPredicate {
+
+		private int[] positions = new int[4];
+		private int size;
+
+		@Override
+		public boolean test(int position) {
+			if (size == positions.length) {
+				positions = Arrays.copyOf(positions, size * 2);
+			}
+			positions[size++] = position;
+			return false;
+		}
+
+		private int[] toArray() {
+			return size == 0 ? NONE : Arrays.copyOf(positions, size);
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package com.teambind.springproject.room.entity.vo;
+
+import com.teambind.springproject.room.entity.RoomTimeSlot;
+import com.teambind.springproject.room.entity.enums.RecurrencePattern;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 운영 정책을 슬롯 생성용으로 미리 컴파일한 불변 평가기.
+ * <p>
+ * RoomOperatingPolicy의 주간 스케줄과 휴무일을 한 번만 변환해 두고, 이후 날짜별 평가는
+ * 정렬/중복 제거나 휴무 목록 전체 순회 없이 처리한다.
+ * <p>
+ * <p>
+ * 요일별 슬롯 시작 시각: 같은 스케줄의 룸끼리 공유하는 ScheduleTemplate (정렬·중복 제거된 분 배열)
+ * 휴무: ClosedDateIndex (날짜 기반은 구간 트리, 패턴 기반은 요일/반복 패턴 버킷)
+ * 휴무 항목별 분 단위 경계는 인덱스 위치와 같은 순서의 배열로 미리 계산
+ * 공통 휴일: withHolidays로 덧씌운 HolidayCalendar - 휴일에는 슬롯을 생성하지 않음 (하루 종일 휴무와 동일)
+ * <p>
+ * 슬롯 시작 시각은 분 단위로 정렬되어 있다고 가정한다 (HH:mm).
+ * 평가 결과는 RoomOperatingPolicy의 기존 판단 로직과 동일하다.
+ */
+public final class CompiledOperatingPolicy {
+
+	private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+	private final Long roomId;
+	private final ScheduleTemplate template;
+
+	// 휴무 인덱스와, 인덱스 위치별로 미리 계산한 휴무 항목
+	private final ClosedDateIndex closedDateIndex;
+	private final Closure[] closures;
+
+	private final HolidayCalendar holidays;
+
+	private CompiledOperatingPolicy(
+			Long roomId,
+			ScheduleTemplate template,
+			ClosedDateIndex closedDateIndex,
+			Closure[] closures,
+			HolidayCalendar holidays) {
+		this.roomId = roomId;
+		this.template = template;
+		this.closedDateIndex = closedDateIndex;
+		this.closures = closures;
+		this.holidays = holidays;
+	}
+
+	/**
+	 * 운영 정책 구성 요소로부터 평가기를 컴파일한다.
+	 *
+	 * @param roomId      룸 ID
+	 * @param schedule    주간 운영 시간 스케줄
+	 * @param recurrence  반복 패턴
+	 * @param closedDates 휴무일 목록
+	 * @return 컴파일된 평가기
+	 */
+	public static CompiledOperatingPolicy compile(
+			Long roomId,
+			WeeklySlotSchedule schedule,
+			RecurrencePattern recurrence,
+			List<ClosedDateRange> closedDates) {
+		Objects.requireNonNull(schedule, "schedule must not be null");
+		Objects.requireNonNull(recurrence, "recurrence must not be null");
+
+		ClosedDateIndex closedDateIndex = ClosedDateIndex.of(closedDates);
+		return new CompiledOperatingPolicy(
+				roomId,
+				ScheduleTemplate.of(schedule, recurrence),
+				closedDateIndex,
+				closedDateIndex.getRanges().stream().map(Closure::new).toArray(Closure[]::new),
+				HolidayCalendar.EMPTY);
+	}
+
+	/**
+	 * 공통 휴일 달력을 덧씌운 평가기를 반환한다.
+	 * <p>
+	 * 템플릿과 휴무 인덱스는 그대로 공유한다.
+	 *
+	 * @param holidays 휴일 달력
+	 * @return 휴일에는 슬롯을 생성하지 않는 평가기 (달력이 비어 있으면 자기 자신)
+	 */
+	public CompiledOperatingPolicy withHolidays(HolidayCalendar holidays) {
+		Objects.requireNonNull(holidays, "holidays must not be null");
+		if (holidays.isEmpty() && this.holidays.isEmpty()) {
+			return this;
+		}
+		return new CompiledOperatingPolicy(roomId, template, closedDateIndex, closures, holidays);
+	}
+
+	/**
+	 * 특정 날짜에 슬롯을 생성해야 하는지 판단한다.
+	 *
+	 * @param date 확인할 날짜
+	 * @return 반복 패턴과 일치하고 하루 종일 휴무가 아니면 true
+	 */
+	public boolean shouldGenerateSlotsOn(LocalDate date) {
+		return template.getRecurrence().matches(date)
+				&& !holidays.isHoliday(date)
+				&& !closedDateIndex.isFullDayClosedOn(date);
+	}
+
+	/**
+	 * 특정 날짜와 시각이 휴무인지 확인한다.
+	 *
+	 * @param date 확인할 날짜
+	 * @param time 확인할 시각
+	 * @return 휴무이면 true, 아니면 false
+	 */
+	public boolean isClosedAt(LocalDate date, LocalTime time) {
+		return holidays.isHoliday(date) || closedDateIndex.isClosedAt(date, time);
+	}
+
+	/**
+	 * 특정 날짜에 대한 시간 슬롯을 생성한다.
+	 * <p>
+	 * 휴무 시간대의 슬롯은 CLOSED, 나머지는 AVAILABLE 상태로 생성한다.
+	 *
+	 * @param date 슬롯을 생성할 날짜
+	 * @return 생성된 슬롯 목록 (시작 시각 오름차순)
+	 */
+	public List<RoomTimeSlot> generateSlotsFor(LocalDate date) {
+		List<RoomTimeSlot> slots = new ArrayList<>(template.startMinutesOf(date.getDayOfWeek()).length);
+		appendSlotsFor(date, slots);
+		return slots.isEmpty() ? Collections.emptyList() : slots;
+	}
+
+	/**
+	 * 날짜 범위에 대한 시간 슬롯을 생성한다 (시작일, 종료일 포함).
+	 *
+	 * @param startDate 시작 날짜
+	 * @param endDate   종료 날짜
+	 * @return 생성된 슬롯 목록 (날짜, 시작 시각 오름차순)
+	 */
+	public List<RoomTimeSlot> generateSlotsBetween(LocalDate startDate, LocalDate endDate) {
+		List<RoomTimeSlot> slots = new ArrayList<>();
+		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+			appendSlotsFor(date, slots);
+		}
+		return slots;
+	}
+
+	/**
+	 * 해당 날짜에 이 룸에만 적용되는 휴무나 공통 휴일이 있는지 확인한다.
+	 * <p>
+	 * 없으면 템플릿의 시작 시각을 그대로 AVAILABLE 슬롯으로 만들면 된다.
+	 *
+	 * @param date 확인할 날짜
+	 * @return 휴무 항목이 하나라도 해당하거나 휴일이면 true
+	 */
+	public boolean hasClosuresOn(LocalDate date) {
+		return holidays.isHoliday(date) || closedDateIndex.positionsOn(date).length > 0;
+	}
+
+	public Long getRoomId() {
+		return roomId;
+	}
+
+	public ScheduleTemplate getTemplate() {
+		return template;
+	}
+
+	public ClosedDateIndex getClosedDateIndex() {
+		return closedDateIndex;
+	}
+
+	private void appendSlotsFor(LocalDate date, List<RoomTimeSlot> target) {
+		DayOfWeek day = date.getDayOfWeek();
+		int[] minutes = template.startMinutesOf(day);
+		if (minutes.length == 0) {
+			return;
+		}
+
+		if (!template.getRecurrence().matches(date) || holidays.isHoliday(date)) {
+			return;
+		}
+
+		int[] positions = closedDateIndex.positionsOn(date);
+		boolean closedAllDay = false;
+		int intervalCount = 0;
+		// 휴무 시간 범위를 (from << 11 | to)로 묶어 시작 분 기준으로 정렬한다 (하루 1440분 < 2^11)
+		int[] packedIntervals = new int[positions.length];
+		for (int position : positions) {
+			Closure closure = closures[position];
+			if (closure.suppressesGeneration) {
+				return;
+			}
+			if (closure.wholeDay) {
+				closedAllDay = true;
+			} else if (closure.fromMinute <= closure.toMinute) {
+				packedIntervals[intervalCount++] = (closure.fromMinute << 11) | closure.toMinute;
+			}
+		}
+		Arrays.sort(packedIntervals, 0, intervalCount);
+
+		LocalTime[] times = template.startTimesOf(day);
+		int next = 0;
+		int reach = -1;
+		for (int i = 0; i < minutes.length; i++) {
+			int minute = minutes[i];
+			while (next < intervalCount && (packedIntervals[next] >>> 11) <= minute) {
+				reach = Math.max(reach, packedIntervals[next] & 0x7FF);
+				next++;
+			}
+			boolean closed = closedAllDay || reach >= minute;
+			target.add(closed
+					? RoomTimeSlot.closed(roomId, date, times[i])
+					: RoomTimeSlot.available(roomId, date, times[i]));
+		}
+	}
+
+	/**
+	 * 컴파일된 휴무 항목.
+	 * <p>
+	 * ClosedDateRange와 동일하게 startTime/endTime 중 하나라도 없으면 시간 판단은 하루 종일 휴무로,
+	 * 둘 다 없을 때만 해당 날짜의 슬롯 생성 자체를 생략한다.
+	 */
+	private static final class Closure {
+
+		private final boolean wholeDay;
+		private final boolean suppressesGeneration;
+		private final int fromMinute;
+		private final int toMinute;
+
+		private Closure(ClosedDateRange range) {
+			LocalTime startTime = range.getStartTime();
+			LocalTime endTime = range.getEndTime();
+			this.wholeDay = startTime == null || endTime == null;
+			this.suppressesGeneration = startTime == null && endTime == null;
+			// 분 단위 슬롯 기준: 시작은 올림, 종료는 내림 (양 끝 포함)
+			this.fromMinute = wholeDay ? 0 : (int) ((startTime.toNanoOfDay() + NANOS_PER_MINUTE - 1) / NANOS_PER_MINUTE);
+			this.toMinute = wholeDay ? 0 : (int) (endTime.toNanoOfDay() / NANOS_PER_MINUTE);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.teambind.springproject.room.entity.vo;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * 특정 기간의 공통 휴일 목록을 담은 불변 값 객체.
+ * <p>
+ * 슬롯 생성/조회 시 CompiledOperatingPolicy에 덧씌워 휴일 날짜의 슬롯을 만들지 않도록 한다.
+ */
+public final class HolidayCalendar {
+
+	public static final HolidayCalendar EMPTY = new HolidayCalendar(Collections.emptySortedSet());
+
+	private final SortedSet<LocalDate> dates;
+
+	private HolidayCalendar(SortedSet<LocalDate> dates) {
+		this.dates = dates;
+	}
+
+	/**
+	 * 휴일 날짜 목록으로 달력을 생성한다.
+	 *
+	 * @param dates 휴일 날짜 목록
+	 * @return 생성된 달력
+	 */
+	public static HolidayCalendar of(Collection<LocalDate> dates) {
+		if (dates == null || dates.isEmpty()) {
+			return EMPTY;
+		}
+		return new HolidayCalendar(Collections.unmodifiableSortedSet(new TreeSet<>(dates)));
+	}
+
+	/**
+	 * 해당 날짜가 휴일인지 확인한다.
+	 *
+	 * @param date 확인할 날짜
+	 * @return 휴일이면 true
+	 */
+	public boolean isHoliday(LocalDate date) {
+		return dates.contains(date);
+	}
+
+	public boolean isEmpty() {
+		return dates.isEmpty();
+	}
+
+	/**
+	 * @return 휴일 날짜 (오름차순)
+	 */
+	public Set<LocalDate> getDates() {
+		return dates;
+	}
+}
@@ -0,0 +1,211 @@
+package com.teambind.springproject.room.entity.vo;
+
+import com.teambind.springproject.room.entity.enums.RecurrencePattern;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 내용 기반으로 식별되는 공유 주간 스케줄 템플릿.
+ * <p>
+ * 주간 슬롯 시작 시각(정렬·중복 제거)과 반복 패턴을 정규화한 문자열의 SHA-256 해시로 식별한다.
+ * 같은 스케줄을 가진 룸들은 하나의 템플릿 인스턴스를 공유한다 (intern).
+ * <p>
+ * <p>
+ * 룸별 휴무일은 템플릿에 포함하지 않으며, 생성 시 룸 단위로 덧씌운다 (CompiledOperatingPolicy)
+ * 슬롯 단위(SlotUnit)는 생성되는 시작 시각에 영향을 주지 않으므로 해시에 포함하지 않는다
+ * <p>
+ * 불변 객체이며 thread-safe하다.
+ */
+public final class ScheduleTemplate {
+
+	private static final int DAYS_OF_WEEK = DayOfWeek.values().length;
+	private static final LocalTime[] NO_TIMES = new LocalTime[0];
+
+	// hash -> 템플릿. 사용하는 정책이 없어지면 GC 대상이 된다
+	private static final ConcurrentMap<String, TemplateReference> INTERNED = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<ScheduleTemplate> RELEASED = new ReferenceQueue<>();
+
+	private final String hash;
+	private final RecurrencePattern recurrence;
+
+	// [DayOfWeek.ordinal()] -> 정렬된 시작 분 / 동일 인덱스의 LocalTime
+	private final int[][] startMinutesByDay;
+	private final LocalTime[][] startTimesByDay;
+
+	private ScheduleTemplate(
+			String hash,
+			RecurrencePattern recurrence,
+			int[][] startMinutesByDay,
+			LocalTime[][] startTimesByDay) {
+		this.hash = hash;
+		this.recurrence = recurrence;
+		this.startMinutesByDay = startMinutesByDay;
+		this.startTimesByDay = startTimesByDay;
+	}
+
+	/**
+	 * 스케줄과 반복 패턴에 해당하는 템플릿을 반환한다.
+	 * <p>
+	 * 같은 내용의 템플릿이 이미 사용 중이면 그 인스턴스를 반환한다.
+	 *
+	 * @param schedule   주간 운영 시간 스케줄
+	 * @param recurrence 반복 패턴
+	 * @return 공유 템플릿
+	 */
+	public static ScheduleTemplate of(WeeklySlotSchedule schedule, RecurrencePattern recurrence) {
+		Objects.requireNonNull(schedule, "schedule must not be null");
+		Objects.requireNonNull(recurrence, "recurrence must not be null");
+
+		LocalTime[][] startTimesByDay = normalize(schedule);
+		String hash = hash(startTimesByDay, recurrence);
+
+		expungeReleased();
+		ScheduleTemplate[] result = new ScheduleTemplate[1];
+		INTERNED.compute(hash, (key, reference) -> {
+			ScheduleTemplate existing = reference != null ? reference.get() : null;
+			if (existing != null) {
+				result[0] = existing;
+				return reference;
+			}
+			result[0] = create(hash, recurrence, startTimesByDay);
+			return new TemplateReference(key, result[0]);
+		});
+		return result[0];
+	}
+
+	/**
+	 * 스케줄과 반복 패턴의 내용 해시를 계산한다.
+	 *
+	 * @param schedule   주간 운영 시간 스케줄
+	 * @param recurrence 반복 패턴
+	 * @return SHA-256 해시 (16진수 64자)
+	 */
+	public static String hashOf(WeeklySlotSchedule schedule, RecurrencePattern recurrence) {
+		return hash(normalize(schedule), recurrence);
+	}
+
+	/**
+	 * 특정 날짜에 생성할 슬롯 시작 시각을 반환한다 (휴무 적용 전).
+	 *
+	 * @param date 슬롯을 생성할 날짜
+	 * @return 시작 시각 배열 (오름차순). 반복 패턴과 일치하지 않으면 빈 배열. 수정하지 않아야 한다
+	 */
+	public LocalTime[] startTimesOn(LocalDate date) {
+		LocalTime[] times = startTimesByDay[date.getDayOfWeek().ordinal()];
+		if (times.length == 0 || !recurrence.matches(date)) {
+			return NO_TIMES;
+		}
+		return times;
+	}
+
+	public String getHash() {
+		return hash;
+	}
+
+	public RecurrencePattern getRecurrence() {
+		return recurrence;
+	}
+
+	int[] startMinutesOf(DayOfWeek day) {
+		return startMinutesByDay[day.ordinal()];
+	}
+
+	LocalTime[] startTimesOf(DayOfWeek day) {
+		return startTimesByDay[day.ordinal()];
+	}
+
+	private static ScheduleTemplate create(String hash, RecurrencePattern recurrence, LocalTime[][] startTimesByDay) {
+		int[][] startMinutesByDay = new int[DAYS_OF_WEEK][];
+		for (int day = 0; day < DAYS_OF_WEEK; day++) {
+			startMinutesByDay[day] = Arrays.stream(startTimesByDay[day])
+					.mapToInt(time -> time.getHour() * 60 + time.getMinute())
+					.toArray();
+		}
+		return new ScheduleTemplate(hash, recurrence, startMinutesByDay, startTimesByDay);
+	}
+
+	private static LocalTime[][] normalize(WeeklySlotSchedule schedule) {
+		LocalTime[][] startTimesByDay = new LocalTime[DAYS_OF_WEEK][];
+		for (DayOfWeek day : DayOfWeek.values()) {
+			startTimesByDay[day.ordinal()] = schedule.getSlotTimes().stream()
+					.filter(slot -> slot.getDayOfWeek() == day)
+					.map(WeeklySlotTime::getStartTime)
+					.distinct()
+					.sorted()
+					.toArray(LocalTime[]::new);
+		}
+		return startTimesByDay;
+	}
+
+	private static String hash(LocalTime[][] startTimesByDay, RecurrencePattern recurrence) {
+		// 예: "EVERY_WEEK|MONDAY=09:00,10:00|TUESDAY=|..."
+		StringBuilder canonical = new StringBuilder(recurrence.name());
+		for (DayOfWeek day : DayOfWeek.values()) {
+			canonical.append('|').append(day.name()).append('=');
+			LocalTime[] times = startTimesByDay[day.ordinal()];
+			for (int i = 0; i < times.length; i++) {
+				if (i > 0) {
+					canonical.append(',');
+				}
+				canonical.append(times[i]);
+			}
+		}
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+					.digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private static void expungeReleased() {
+		TemplateReference released;
+		while ((released = (TemplateReference) RELEASED.poll()) != null) {
+			INTERNED.remove(released.hash, released);
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ScheduleTemplate that)) {
+			return false;
+		}
+		return hash.equals(that.hash);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "ScheduleTemplate{" + hash.substring(0, 12) + ", " + recurrence + "}";
+	}
+
+	private static final class TemplateReference extends WeakReference<ScheduleTemplate> {
+
+		private final String hash;
+
+		private TemplateReference(String hash, ScheduleTemplate template) {
+			super(template, RELEASED);
+			this.hash = hash;
+		}
+	}
+}
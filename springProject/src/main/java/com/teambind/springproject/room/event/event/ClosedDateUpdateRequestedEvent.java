@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
  * RoomOperatingPolicy에 휴무일이 추가되었으며, 기존 슬롯의 상태를 CLOSED로 변경해야 함을 알린다.
  * <p>
  * 경량 이벤트: 휴무일 데이터는 이벤트에 포함하지 않고, 핸들러가 DB에서 직접 조회한다.
+ * roomId가 null이면 공통 휴일 달력을 모든 룸에 적용하는 요청이다.
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -49,6 +50,16 @@ public class ClosedDateUpdateRequestedEvent extends Event {
 		return new ClosedDateUpdateRequestedEvent(requestId, roomId);
 	}
 	
+	/**
+	 * 공통 휴일 달력 적용 이벤트를 생성한다.
+	 *
+	 * @param requestId 요청 ID
+	 * @return 생성된 이벤트 (roomId 없음)
+	 */
+	public static ClosedDateUpdateRequestedEvent forHolidayCalendar(String requestId) {
+		return new ClosedDateUpdateRequestedEvent(requestId, null);
+	}
+	
 	@Override
 	public String getEventTypeName() {
 		return EVENT_TYPE;
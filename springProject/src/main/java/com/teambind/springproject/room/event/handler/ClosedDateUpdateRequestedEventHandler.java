@@ -15,7 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
  * - Infrastructure Layer의 Repository를 직접 참조하지 않음
  * - Domain Service를 통한 간접 참조로 계층 격리 유지
  * <p>
- * 비동기로 기존 슬롯의 상태를 CLOSED로 변경한다.
+ * 비동기로 기존 슬롯의 상태를 CLOSED로 변경한다 (룸 휴무일 또는 공통 휴일 달력).
  */
 @Slf4j
 @Component
@@ -31,10 +31,10 @@ public class ClosedDateUpdateRequestedEventHandler implements EventHandler<Close
 				event.getRequestId(), event.getRoomId());
 		
 		// Domain Service를 통한 휴무일 업데이트 (트랜잭션 원자성 보장)
-		int affectedSlots = timeSlotManagementService.updateClosedDatesForRoom(
-				event.getRoomId(),
-				event.getRequestId()
-		);
+		// roomId가 없으면 공통 휴일 달력을 모든 룸에 적용
+		int affectedSlots = event.getRoomId() == null
+				? timeSlotManagementService.applyHolidayCalendar(event.getRequestId())
+				: timeSlotManagementService.updateClosedDatesForRoom(event.getRoomId(), event.getRequestId());
 		
 		log.info("ClosedDateUpdateRequestedEvent processed: requestId={}, affectedSlots={}",
 				event.getRequestId(), affectedSlots);
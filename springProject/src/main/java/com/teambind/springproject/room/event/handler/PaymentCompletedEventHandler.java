@@ -1,6 +1,6 @@
 package com.teambind.springproject.room.event.handler;
 
-import com.teambind.springproject.message.handler.EventHandler;
+import com.teambind.springproject.message.handler.BatchEventHandler;
 import com.teambind.springproject.room.command.domain.service.TimeSlotManagementService;
 import com.teambind.springproject.room.event.event.PaymentCompletedEvent;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +8,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 결제 완료 이벤트 핸들러.
  * <p>
@@ -16,11 +20,12 @@ import org.springframework.transaction.annotation.Transactional;
  * - Domain Service를 통한 간접 참조로 계층 격리 유지
  * <p>
  * 해당 예약의 모든 슬롯을 PENDING → RESERVED 상태로 전환한다.
+ * 배치 처리 시 묶음의 모든 예약을 한 번의 조건부 UPDATE로 전환한다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class PaymentCompletedEventHandler implements EventHandler<PaymentCompletedEvent> {
+public class PaymentCompletedEventHandler implements BatchEventHandler<PaymentCompletedEvent> {
 	
 	private final TimeSlotManagementService timeSlotManagementService;
 	
@@ -50,6 +55,29 @@ public class PaymentCompletedEventHandler implements EventHandler<PaymentComplet
 		}
 	}
 	
+	@Override
+	@Transactional
+	public void handleBatch(List<PaymentCompletedEvent> events) {
+		Set<Long> reservationIds = new LinkedHashSet<>();
+		for (PaymentCompletedEvent event : events) {
+			reservationIds.add(reservationIdOf(event));
+		}
+		
+		int confirmed = timeSlotManagementService.confirmSlotsByReservationIds(reservationIds);
+		
+		log.info("PaymentCompletedEvent batch processed: events={}, reservations={}, confirmedSlots={}",
+				events.size(), reservationIds.size(), confirmed);
+	}
+	
+	@Override
+	public Long reservationIdOf(PaymentCompletedEvent event) {
+		try {
+			return Long.parseLong(event.getReservationId());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid reservationId format: " + event.getReservationId(), e);
+		}
+	}
+	
 	@Override
 	public String getSupportedEventType() {
 		return "PaymentCompleted";
@@ -1,6 +1,6 @@
 package com.teambind.springproject.room.event.handler;
 
-import com.teambind.springproject.message.handler.EventHandler;
+import com.teambind.springproject.message.handler.BatchEventHandler;
 import com.teambind.springproject.room.command.domain.service.TimeSlotManagementService;
 import com.teambind.springproject.room.event.event.ReservationCancelledEvent;
 import lombok.RequiredArgsConstructor;
@@ -8,16 +8,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 예약 취소 이벤트 핸들러.
  * <p>
  * 다른 서비스(예약 서비스)에서 예약이 취소되면 해당 예약의 슬롯 락을 해제한다.
  * PENDING/RESERVED 상태의 슬롯을 AVAILABLE 상태로 전환한다.
+ * 배치 처리 시 묶음의 모든 예약을 한 번의 조건부 UPDATE로 전환한다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ReservationCancelledEventHandler implements EventHandler<ReservationCancelledEvent> {
+public class ReservationCancelledEventHandler implements BatchEventHandler<ReservationCancelledEvent> {
 
 	private final TimeSlotManagementService timeSlotManagementService;
 
@@ -41,6 +46,25 @@ public class ReservationCancelledEventHandler implements EventHandler<Reservatio
 		}
 	}
 
+	@Override
+	@Transactional
+	public void handleBatch(List<ReservationCancelledEvent> events) {
+		Set<Long> reservationIds = new LinkedHashSet<>();
+		for (ReservationCancelledEvent event : events) {
+			reservationIds.add(event.getReservationId());
+		}
+
+		int cancelled = timeSlotManagementService.cancelSlotsByReservationIds(reservationIds);
+
+		log.info("ReservationCancelledEvent batch processed: events={}, reservations={}, cancelledSlots={}",
+				events.size(), reservationIds.size(), cancelled);
+	}
+
+	@Override
+	public Long reservationIdOf(ReservationCancelledEvent event) {
+		return event.getReservationId();
+	}
+
 	@Override
 	public String getSupportedEventType() {
 		return "ReservationCancelled";
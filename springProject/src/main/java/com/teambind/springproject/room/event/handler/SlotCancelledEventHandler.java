@@ -1,6 +1,6 @@
 package com.teambind.springproject.room.event.handler;
 
-import com.teambind.springproject.message.handler.EventHandler;
+import com.teambind.springproject.message.handler.BatchEventHandler;
 import com.teambind.springproject.room.command.domain.service.TimeSlotManagementService;
 import com.teambind.springproject.room.event.event.SlotCancelledEvent;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +8,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 슬롯 취소 이벤트 핸들러.
  * <p>
@@ -16,11 +20,12 @@ import org.springframework.transaction.annotation.Transactional;
  * - Domain Service를 통한 간접 참조로 계층 격리 유지
  * <p>
  * 해당 예약의 모든 슬롯을 PENDING/RESERVED → AVAILABLE 상태로 전환한다.
+ * 배치 처리 시 묶음의 모든 예약을 한 번의 조건부 UPDATE로 전환한다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class SlotCancelledEventHandler implements EventHandler<SlotCancelledEvent> {
+public class SlotCancelledEventHandler implements BatchEventHandler<SlotCancelledEvent> {
 	
 	private final TimeSlotManagementService timeSlotManagementService;
 	
@@ -44,6 +49,25 @@ public class SlotCancelledEventHandler implements EventHandler<SlotCancelledEven
 		}
 	}
 	
+	@Override
+	@Transactional
+	public void handleBatch(List<SlotCancelledEvent> events) {
+		Set<Long> reservationIds = new LinkedHashSet<>();
+		for (SlotCancelledEvent event : events) {
+			reservationIds.add(event.getReservationId());
+		}
+	
+		int cancelled = timeSlotManagementService.cancelSlotsByReservationIds(reservationIds);
+	
+		log.info("SlotCancelledEvent batch processed: events={}, reservations={}, cancelledSlots={}",
+				events.size(), reservationIds.size(), cancelled);
+	}
+	
+	@Override
+	public Long reservationIdOf(SlotCancelledEvent event) {
+		return event.getReservationId();
+	}
+	
 	@Override
 	public String getSupportedEventType() {
 		return "SlotCancelled";
@@ -0,0 +1,72 @@
+package com.teambind.springproject.room.infrastructure.cache;
+
+import com.teambind.springproject.room.domain.port.AvailabilityVersionPort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * AvailabilityVersionPort의 Redis 구현체 (Adapter).
+ * <p>
+ * Key 형식: "room:availability-version:{roomId}:{date}"
+ * <p>
+ * 버전 초기값은 현재 시각(마이크로초 단위) 기반 seed로 설정한다.
+ * Key가 만료/유실된 뒤 다시 생성되더라도 이전에 발급한 버전보다 큰 값에서 시작하므로
+ * 클라이언트가 가진 오래된 ETag와 우연히 일치하는 일이 없다.
+ * <p>
+ * Key는 슬롯 날짜가 지나고 {@value #RETENTION_DAYS_AFTER_SLOT_DATE}일 뒤 자동 만료된다.
+ */
+@Component
+public class RedisAvailabilityVersionAdapter implements AvailabilityVersionPort {
+	
+	private static final String KEY_PREFIX = "room:availability-version:";
+	private static final long RETENTION_DAYS_AFTER_SLOT_DATE = 1;
+	private static final Duration MIN_TTL = Duration.ofHours(1);
+	
+	private final StringRedisTemplate redisTemplate;
+	
+	public RedisAvailabilityVersionAdapter(StringRedisTemplate redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+	
+	@Override
+	public long currentVersion(Long roomId, LocalDate date) {
+		String key = key(roomId, date);
+		String value = redisTemplate.opsForValue().get(key);
+		if (value != null) {
+			return Long.parseLong(value);
+		}
+		
+		seedIfAbsent(key, date);
+		return Long.parseLong(redisTemplate.opsForValue().get(key));
+	}
+	
+	@Override
+	public long increment(Long roomId, LocalDate date) {
+		String key = key(roomId, date);
+		
+		// INCR는 Key가 없으면 0부터 시작하므로 먼저 seed를 보장한다
+		seedIfAbsent(key, date);
+		
+		Long incremented = redisTemplate.opsForValue().increment(key);
+		return incremented != null ? incremented : 0L;
+	}
+	
+	private void seedIfAbsent(String key, LocalDate date) {
+		long seed = System.currentTimeMillis() * 1000;
+		redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(seed), ttlFor(date));
+	}
+	
+	private Duration ttlFor(LocalDate date) {
+		LocalDateTime expireAt = date.plusDays(RETENTION_DAYS_AFTER_SLOT_DATE + 1).atStartOfDay();
+		Duration ttl = Duration.between(LocalDateTime.now(), expireAt);
+		return ttl.compareTo(MIN_TTL) < 0 ? MIN_TTL : ttl;
+	}
+	
+	private String key(Long roomId, LocalDate date) {
+		return KEY_PREFIX + roomId + ":" + date;
+	}
+}
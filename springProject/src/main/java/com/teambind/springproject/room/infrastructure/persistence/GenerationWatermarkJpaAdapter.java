@@ -0,0 +1,53 @@
+package com.teambind.springproject.room.infrastructure.persistence;
+
+import com.teambind.springproject.room.domain.port.GenerationWatermarkPort;
+import com.teambind.springproject.room.entity.RoomGenerationWatermark;
+import com.teambind.springproject.room.repository.RoomGenerationWatermarkRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * GenerationWatermarkPort의 JPA 구현체 (Adapter).
+ */
+@Component
+@Transactional
+public class GenerationWatermarkJpaAdapter implements GenerationWatermarkPort {
+
+	private final RoomGenerationWatermarkRepository repository;
+
+	public GenerationWatermarkJpaAdapter(RoomGenerationWatermarkRepository repository) {
+		this.repository = repository;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<RoomGenerationWatermark> findByRoomId(Long roomId) {
+		return repository.findById(roomId);
+	}
+
+	@Override
+	public Optional<RoomGenerationWatermark> findByRoomIdWithLock(Long roomId) {
+		return repository.findByRoomIdWithLock(roomId);
+	}
+
+	@Override
+	public RoomGenerationWatermark save(RoomGenerationWatermark watermark) {
+		return repository.save(watermark);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Long> findRoomIdsGeneratedBefore(LocalDate horizon) {
+		return repository.findRoomIdsGeneratedBefore(horizon);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<Long> findRoomIdsGeneratedBefore(LocalDate horizon, int shardCount, int shardIndex) {
+		return repository.findRoomIdsGeneratedBeforeInShard(horizon, shardCount, shardIndex);
+	}
+}
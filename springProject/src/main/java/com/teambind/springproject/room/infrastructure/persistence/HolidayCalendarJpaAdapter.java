@@ -0,0 +1,36 @@
+package com.teambind.springproject.room.infrastructure.persistence;
+
+import com.teambind.springproject.room.domain.port.HolidayCalendarPort;
+import com.teambind.springproject.room.entity.Holiday;
+import com.teambind.springproject.room.entity.vo.HolidayCalendar;
+import com.teambind.springproject.room.repository.HolidayRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * HolidayCalendarPort의 JPA 구현체 (Adapter).
+ */
+@Component
+@Transactional
+public class HolidayCalendarJpaAdapter implements HolidayCalendarPort {
+
+	private final HolidayRepository repository;
+
+	public HolidayCalendarJpaAdapter(HolidayRepository repository) {
+		this.repository = repository;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public HolidayCalendar findCalendar(LocalDate startDate, LocalDate endDate) {
+		return HolidayCalendar.of(repository.findHolidayDatesBetween(startDate, endDate));
+	}
+
+	@Override
+	public List<Holiday> saveAll(List<Holiday> holidays) {
+		return repository.saveAll(holidays);
+	}
+}
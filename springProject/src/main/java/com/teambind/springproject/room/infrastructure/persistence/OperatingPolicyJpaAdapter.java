@@ -6,6 +6,9 @@ import com.teambind.springproject.room.repository.RoomOperatingPolicyRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -36,6 +39,11 @@ public class OperatingPolicyJpaAdapter implements OperatingPolicyPort {
 		return repository.findByRoomIdWithClosedDates(roomId);
 	}
 	
+	@Override
+	public Optional<RoomOperatingPolicy> findByRoomIdWithLock(Long roomId) {
+		return repository.findByRoomIdWithLock(roomId);
+	}
+	
 	@Override
 	public RoomOperatingPolicy save(RoomOperatingPolicy policy) {
 		return repository.save(policy);
@@ -57,4 +65,40 @@ public class OperatingPolicyJpaAdapter implements OperatingPolicyPort {
 	public java.util.List<RoomOperatingPolicy> findAll() {
 		return repository.findAllWithClosedDates();
 	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public java.util.List<Long> findAllRoomIds() {
+		return repository.findAllRoomIds();
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public java.util.List<RoomOperatingPolicy> findAllByRoomIds(Collection<Long> roomIds) {
+		if (roomIds.isEmpty()) {
+			return java.util.List.of();
+		}
+		return repository.findAllByRoomIdInWithClosedDates(roomIds);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Long, String> findScheduleHashesByRoomIds(Collection<Long> roomIds) {
+		Map<Long, String> hashes = new HashMap<>();
+		if (roomIds.isEmpty()) {
+			return hashes;
+		}
+		repository.findScheduleHashesByRoomIdIn(roomIds)
+				.forEach(row -> hashes.put(row.getRoomId(), row.getScheduleHash()));
+		return hashes;
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Long, Integer> findBookingHorizonDays() {
+		Map<Long, Integer> horizons = new HashMap<>();
+		repository.findAllBookingHorizons()
+				.forEach(row -> horizons.put(row.getRoomId(), row.getBookingHorizonDays()));
+		return horizons;
+	}
 }
@@ -2,10 +2,15 @@ package com.teambind.springproject.room.infrastructure.persistence;
 
 import com.teambind.springproject.room.domain.port.SlotGenerationRequestPort;
 import com.teambind.springproject.room.entity.SlotGenerationRequest;
+import com.teambind.springproject.room.entity.enums.GenerationJobType;
+import com.teambind.springproject.room.entity.enums.GenerationStatus;
 import com.teambind.springproject.room.repository.SlotGenerationRequestRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -40,4 +45,30 @@ public class SlotGenerationRequestJpaAdapter implements SlotGenerationRequestPor
 	public SlotGenerationRequest save(SlotGenerationRequest request) {
 		return repository.save(request);
 	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<SlotGenerationRequest> findByRoomIdAndStatus(Long roomId, GenerationStatus status) {
+		return repository.findByRoomIdAndStatus(roomId, status);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<SlotGenerationRequest> findResumable(
+			GenerationJobType jobType, LocalDateTime staleBefore, int limit) {
+		return repository.findResumable(jobType, staleBefore, PageRequest.of(0, limit));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public boolean existsRunning(
+			Long roomId, GenerationJobType jobType, LocalDateTime staleBefore, String excludeRequestId) {
+		return repository.existsRunning(roomId, jobType, staleBefore, excludeRequestId);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public long countUnfinished(GenerationJobType jobType) {
+		return repository.countUnfinished(jobType);
+	}
 }
@@ -4,14 +4,20 @@ import com.teambind.springproject.room.domain.port.TimeSlotPort;
 import com.teambind.springproject.room.entity.RoomTimeSlot;
 import com.teambind.springproject.room.entity.enums.SlotStatus;
 import com.teambind.springproject.room.repository.RoomTimeSlotRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * TimeSlotPort의 JPA 구현체 (Adapter).
@@ -29,10 +35,28 @@ import java.util.Optional;
 @Transactional
 public class TimeSlotJpaAdapter implements TimeSlotPort {
 	
+	// IN 절 파라미터 수 제한을 피하기 위한 삭제/변경 단위
+	private static final int DELETE_CHUNK_SIZE = 1000;
+	
+	// 종일 휴무의 시간 조건 상한 (LocalTime.MAX는 초 단위 TIME 컬럼에 바인딩 시 반올림될 수 있음)
+	private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+	
+	// JDBC 배치 삽입 단위
+	private static final int INSERT_CHUNK_SIZE = 1000;
+	
+	private static final String INSERT_SQL = "INSERT INTO room_time_slots "
+			+ "(room_id, slot_date, slot_time, status, reservation_id, last_updated) VALUES (?, ?, ?, ?, ?, ?)";
+	
+	// uk_room_date_time 충돌 시 기존 행을 유지한다 (MariaDB, H2 MySQL 모드)
+	private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO room_time_slots "
+			+ "(room_id, slot_date, slot_time, status, reservation_id, last_updated) VALUES (?, ?, ?, ?, ?, ?)";
+	
 	private final RoomTimeSlotRepository repository;
+	private final JdbcTemplate jdbcTemplate;
 	
-	public TimeSlotJpaAdapter(RoomTimeSlotRepository repository) {
+	public TimeSlotJpaAdapter(RoomTimeSlotRepository repository, JdbcTemplate jdbcTemplate) {
 		this.repository = repository;
+		this.jdbcTemplate = jdbcTemplate;
 	}
 	
 	@Override
@@ -49,6 +73,13 @@ public class TimeSlotJpaAdapter implements TimeSlotPort {
 		return repository.findByRoomIdAndSlotDateBetween(roomId, startDate, endDate);
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public List<LocalDate> findSlotDatesByRoomIdAndSlotDateBetween(
+			Long roomId, LocalDate startDate, LocalDate endDate) {
+		return repository.findSlotDatesByRoomIdAndSlotDateBetween(roomId, startDate, endDate);
+	}
+	
 	@Override
 	@Transactional(readOnly = true)
 	public List<RoomTimeSlot> findByRoomIdAndSlotDateAndStatus(
@@ -62,6 +93,11 @@ public class TimeSlotJpaAdapter implements TimeSlotPort {
 		return repository.findByReservationId(reservationId);
 	}
 	
+	@Override
+	public List<RoomTimeSlot> findByReservationIds(Collection<Long> reservationIds) {
+		return reservationIds.isEmpty() ? List.of() : repository.findByReservationIdIn(reservationIds);
+	}
+	
 	@Override
 	public RoomTimeSlot save(RoomTimeSlot slot) {
 		return repository.save(slot);
@@ -72,6 +108,39 @@ public class TimeSlotJpaAdapter implements TimeSlotPort {
 		return repository.saveAll(slots);
 	}
 	
+	@Override
+	public int insertAll(List<RoomTimeSlot> slots) {
+		// IDENTITY 키는 Hibernate 배치 삽입이 적용되지 않으므로 JDBC 배치로 직접 삽입한다
+		for (int from = 0; from < slots.size(); from += INSERT_CHUNK_SIZE) {
+			List<RoomTimeSlot> chunk = slots.subList(from, Math.min(from + INSERT_CHUNK_SIZE, slots.size()));
+			jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, slot) -> {
+				ps.setLong(1, slot.getRoomId());
+				ps.setObject(2, slot.getSlotDate());
+				ps.setObject(3, slot.getSlotTime());
+				ps.setString(4, slot.getStatus().name());
+				ps.setObject(5, slot.getReservationId());
+				ps.setObject(6, slot.getLastUpdated());
+			});
+		}
+		return slots.size();
+	}
+	
+	@Override
+	public int insertIfAbsent(List<RoomTimeSlot> slots) {
+		// 예약 단위의 적은 건수만 다루므로 삽입 여부를 정확히 알 수 있는 단건 실행을 사용한다
+		int inserted = 0;
+		for (RoomTimeSlot slot : slots) {
+			inserted += jdbcTemplate.update(INSERT_IGNORE_SQL,
+					slot.getRoomId(),
+					slot.getSlotDate(),
+					slot.getSlotTime(),
+					slot.getStatus().name(),
+					slot.getReservationId(),
+					slot.getLastUpdated());
+		}
+		return inserted;
+	}
+	
 	@Override
 	public int deleteBySlotDateBefore(LocalDate date) {
 		return repository.deleteBySlotDateBefore(date);
@@ -109,4 +178,120 @@ public class TimeSlotJpaAdapter implements TimeSlotPort {
 			Long roomId, LocalDate startDate, LocalDate endDate) {
 		return repository.deleteAvailableSlotsByRoomIdAndDateRange(roomId, startDate, endDate);
 	}
+
+	@Override
+	public int deleteAvailableSlotsByIds(List<Long> slotIds) {
+		int deleted = 0;
+		for (int from = 0; from < slotIds.size(); from += DELETE_CHUNK_SIZE) {
+			List<Long> chunk = slotIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, slotIds.size()));
+			deleted += repository.deleteAvailableSlotsByIds(chunk);
+		}
+		return deleted;
+	}
+	
+	@Override
+	public int closeAvailableSlotsByIds(List<Long> slotIds) {
+		LocalDateTime now = LocalDateTime.now();
+		int closed = 0;
+		for (int from = 0; from < slotIds.size(); from += DELETE_CHUNK_SIZE) {
+			List<Long> chunk = slotIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, slotIds.size()));
+			closed += repository.closeAvailableSlotsByIds(chunk, now);
+		}
+		return closed;
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Long, SlotStatus> findStatusesByIds(List<Long> slotIds) {
+		Map<Long, SlotStatus> statuses = new HashMap<>();
+		for (int from = 0; from < slotIds.size(); from += DELETE_CHUNK_SIZE) {
+			List<Long> chunk = slotIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, slotIds.size()));
+			repository.findStatusesBySlotIdIn(chunk)
+					.forEach(row -> statuses.put(row.getSlotId(), row.getStatus()));
+		}
+		return statuses;
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<RoomTimeSlot> findByRoomIdAndStatusAndSlotDateBetween(
+			Long roomId, SlotStatus status, LocalDate startDate, LocalDate endDate) {
+		return repository.findByRoomIdAndStatusAndSlotDateBetween(roomId, status, startDate, endDate);
+	}
+	
+	@Override
+	public int reopenClosedSlotsByIds(List<Long> slotIds) {
+		LocalDateTime now = LocalDateTime.now();
+		int reopened = 0;
+		for (int from = 0; from < slotIds.size(); from += DELETE_CHUNK_SIZE) {
+			List<Long> chunk = slotIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, slotIds.size()));
+			reopened += repository.reopenClosedSlotsByIds(chunk, now);
+		}
+		return reopened;
+	}
+	
+	@Override
+	public int confirmPendingSlotsByIds(List<Long> slotIds) {
+		LocalDateTime now = LocalDateTime.now();
+		int confirmed = 0;
+		for (int from = 0; from < slotIds.size(); from += DELETE_CHUNK_SIZE) {
+			List<Long> chunk = slotIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, slotIds.size()));
+			confirmed += repository.confirmPendingSlotsByIds(chunk, now);
+		}
+		return confirmed;
+	}
+	
+	@Override
+	public int releaseReservedSlotsByIds(List<Long> slotIds) {
+		LocalDateTime now = LocalDateTime.now();
+		int released = 0;
+		for (int from = 0; from < slotIds.size(); from += DELETE_CHUNK_SIZE) {
+			List<Long> chunk = slotIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, slotIds.size()));
+			released += repository.releaseReservedSlotsByIds(chunk, now);
+		}
+		return released;
+	}
+	
+	@Override
+	public int closeAvailableSlotsBetween(
+			Long roomId, LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+		boolean fullDay = startTime == null || endTime == null;
+		return repository.closeAvailableSlotsBetween(roomId, startDate, endDate,
+				fullDay ? LocalTime.MIN : startTime,
+				fullDay ? END_OF_DAY : endTime,
+				LocalDateTime.now());
+	}
+	
+	@Override
+	public int closeAvailableSlotsOn(Long roomId, List<LocalDate> slotDates, LocalTime startTime, LocalTime endTime) {
+		if (slotDates.isEmpty()) {
+			return 0;
+		}
+		boolean fullDay = startTime == null || endTime == null;
+		return repository.closeAvailableSlotsOn(roomId, slotDates,
+				fullDay ? LocalTime.MIN : startTime,
+				fullDay ? END_OF_DAY : endTime,
+				LocalDateTime.now());
+	}
+	
+	@Override
+	public int closeAvailableSlotsOnAllRooms(List<LocalDate> slotDates) {
+		if (slotDates.isEmpty()) {
+			return 0;
+		}
+		return repository.closeAvailableSlotsOnDates(slotDates, LocalDateTime.now());
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<LocalDate, List<Long>> findRoomIdsWithAvailableSlotsOn(List<LocalDate> slotDates) {
+		if (slotDates.isEmpty()) {
+			return Map.of();
+		}
+		return repository.findRoomDatesWithAvailableSlotsOn(slotDates).stream()
+				.collect(Collectors.groupingBy(
+						RoomTimeSlotRepository.RoomSlotDate::getSlotDate,
+						TreeMap::new,
+						Collectors.mapping(RoomTimeSlotRepository.RoomSlotDate::getRoomId, Collectors.toList())));
+	}
 }
@@ -0,0 +1,29 @@
+package com.teambind.springproject.room.infrastructure.stream;
+
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.port.SlotTransitionFanoutPort;
+import com.teambind.springproject.room.query.stream.SlotStreamRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * SlotTransitionFanoutPort의 단일 인스턴스 구현체 (Adapter).
+ * <p>
+ * 인스턴스 간 전파 없이 현재 인스턴스의 구독자에게만 전달한다.
+ * 단일 인스턴스 환경이나 테스트 환경(room.slot-stream.fanout=local)에서 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "room.slot-stream.fanout", havingValue = "local")
+public class LocalSlotTransitionFanoutAdapter implements SlotTransitionFanoutPort {
+	
+	private final SlotStreamRegistry slotStreamRegistry;
+	
+	public LocalSlotTransitionFanoutAdapter(SlotStreamRegistry slotStreamRegistry) {
+		this.slotStreamRegistry = slotStreamRegistry;
+	}
+	
+	@Override
+	public void broadcast(SlotAvailabilityChangedEvent event) {
+		slotStreamRegistry.dispatch(event);
+	}
+}
@@ -0,0 +1,80 @@
+package com.teambind.springproject.room.infrastructure.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.event.SlotTransition;
+import com.teambind.springproject.room.domain.port.SlotTransitionFanoutPort;
+import com.teambind.springproject.room.query.stream.SlotStreamRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * SlotTransitionFanoutPort의 Redis Pub/Sub 구현체 (Adapter).
+ * <p>
+ * 채널: "{@value #CHANNEL}"
+ * <p>
+ * 발행한 인스턴스 자신도 채널을 구독하므로, 로컬 구독자 전달도 구독 경로 하나로 일원화된다.
+ * Redis 발행이 실패하면 최소한 현재 인스턴스의 구독자에게는 직접 전달한다.
+ * <p>
+ * Pub/Sub은 전달을 보장하지 않지만, 누락된 전이는 클라이언트의 ETag 기반 재조회로 보정된다.
+ */
+@Component
+@ConditionalOnProperty(name = "room.slot-stream.fanout", havingValue = "redis", matchIfMissing = true)
+public class RedisSlotTransitionFanoutAdapter implements SlotTransitionFanoutPort, MessageListener {
+	
+	public static final String CHANNEL = "room:slot-transitions";
+	
+	private static final Logger log = LoggerFactory.getLogger(RedisSlotTransitionFanoutAdapter.class);
+	
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final SlotStreamRegistry slotStreamRegistry;
+	
+	public RedisSlotTransitionFanoutAdapter(
+			StringRedisTemplate redisTemplate,
+			ObjectMapper objectMapper,
+			SlotStreamRegistry slotStreamRegistry
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.slotStreamRegistry = slotStreamRegistry;
+	}
+	
+	@Override
+	public void broadcast(SlotAvailabilityChangedEvent event) {
+		try {
+			String payload = objectMapper.writeValueAsString(
+					new Payload(event.roomId(), event.slotDate(), event.transitions()));
+			redisTemplate.convertAndSend(CHANNEL, payload);
+		} catch (Exception e) {
+			log.warn("Redis fan-out failed, delivering to local subscribers only: roomId={}, date={}, reason={}",
+					event.roomId(), event.slotDate(), e.getMessage());
+			slotStreamRegistry.dispatch(event);
+		}
+	}
+	
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			Payload payload = objectMapper.readValue(message.getBody(), Payload.class);
+			slotStreamRegistry.dispatch(
+					new SlotAvailabilityChangedEvent(payload.roomId(), payload.slotDate(), payload.transitions()));
+		} catch (Exception e) {
+			log.error("Failed to handle slot transition message from Redis", e);
+		}
+	}
+	
+	/**
+	 * Redis 채널 메시지 형식.
+	 */
+	record Payload(Long roomId, LocalDate slotDate, List<SlotTransition> transitions) {
+	}
+}
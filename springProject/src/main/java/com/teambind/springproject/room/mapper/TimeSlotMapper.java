@@ -1,14 +1,20 @@
 package com.teambind.springproject.room.mapper;
 
 import com.teambind.springproject.room.entity.RoomTimeSlot;
+import com.teambind.springproject.room.entity.enums.SlotStatus;
+import com.teambind.springproject.room.entity.enums.SlotUnit;
 import com.teambind.springproject.room.query.dto.AvailableSlotResponse;
+import com.teambind.springproject.room.query.dto.CompactDailyAvailabilityResponse;
 import com.teambind.springproject.room.query.dto.SlotAvailabilityResponse;
 import com.teambind.springproject.room.query.dto.TimeSlotResponse;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -17,6 +23,9 @@ import java.util.stream.Collectors;
 @Component
 public class TimeSlotMapper {
 	
+	private static final int DEFAULT_STEP_MINUTES = SlotUnit.HOUR.getMinutes();
+	private static final char NO_SLOT_CODE = '.';
+	
 	/**
 	 * RoomTimeSlot 엔티티를 TimeSlotResponse DTO로 변환한다.
 	 *
@@ -95,4 +104,87 @@ public class TimeSlotMapper {
 				available
 		);
 	}
+	
+	/**
+	 * RoomTimeSlot 엔티티 목록을 날짜별 압축 응답으로 변환한다.
+	 * <p>
+	 * 칸 간격은 슬롯 시각 간 차이의 최대공약수로 정하므로, 슬롯 단위가 바뀌어 단위가 섞인 날짜도 손실 없이 표현된다.
+	 *
+	 * @param roomId 룸 ID
+	 * @param from   시작 날짜 (inclusive)
+	 * @param to     종료 날짜 (inclusive)
+	 * @param slots  해당 기간의 슬롯 목록 (모든 상태)
+	 * @return 날짜 오름차순의 압축 응답 목록 (슬롯이 없는 날짜도 포함)
+	 */
+	public List<CompactDailyAvailabilityResponse> toCompactDailyAvailabilityList(
+			Long roomId,
+			LocalDate from,
+			LocalDate to,
+			List<RoomTimeSlot> slots
+	) {
+		Map<LocalDate, List<RoomTimeSlot>> slotsByDate = slots.stream()
+				.collect(Collectors.groupingBy(RoomTimeSlot::getSlotDate));
+		
+		return from.datesUntil(to.plusDays(1))
+				.map(date -> toCompactDailyAvailability(roomId, date, slotsByDate.getOrDefault(date, List.of())))
+				.collect(Collectors.toList());
+	}
+	
+	private CompactDailyAvailabilityResponse toCompactDailyAvailability(
+			Long roomId,
+			LocalDate date,
+			List<RoomTimeSlot> slots
+	) {
+		if (slots.isEmpty()) {
+			return new CompactDailyAvailabilityResponse(roomId, date, null, DEFAULT_STEP_MINUTES, "");
+		}
+		
+		List<RoomTimeSlot> sorted = slots.stream()
+				.sorted(Comparator.comparing(RoomTimeSlot::getSlotTime))
+				.toList();
+		LocalTime baseTime = sorted.get(0).getSlotTime();
+		int baseMinute = baseTime.toSecondOfDay() / 60;
+		
+		int step = 0;
+		for (RoomTimeSlot slot : sorted) {
+			step = gcd(step, slot.getSlotTime().toSecondOfDay() / 60 - baseMinute);
+		}
+		if (step == 0) {
+			step = DEFAULT_STEP_MINUTES;
+		}
+		
+		int lastIndex = (sorted.get(sorted.size() - 1).getSlotTime().toSecondOfDay() / 60 - baseMinute) / step;
+		char[] cells = new char[lastIndex + 1];
+		Arrays.fill(cells, NO_SLOT_CODE);
+		for (RoomTimeSlot slot : sorted) {
+			cells[(slot.getSlotTime().toSecondOfDay() / 60 - baseMinute) / step] = statusCode(slot.getStatus());
+		}
+		
+		return new CompactDailyAvailabilityResponse(roomId, date, baseTime, step, runLength(cells));
+	}
+	
+	private static String runLength(char[] cells) {
+		StringBuilder runs = new StringBuilder();
+		int start = 0;
+		for (int i = 1; i <= cells.length; i++) {
+			if (i == cells.length || cells[i] != cells[start]) {
+				runs.append(i - start).append(cells[start]);
+				start = i;
+			}
+		}
+		return runs.toString();
+	}
+	
+	private static char statusCode(SlotStatus status) {
+		return switch (status) {
+			case AVAILABLE -> 'A';
+			case PENDING -> 'P';
+			case RESERVED -> 'R';
+			case CLOSED -> 'C';
+		};
+	}
+	
+	private static int gcd(int a, int b) {
+		return b == 0 ? a : gcd(b, a % b);
+	}
 }
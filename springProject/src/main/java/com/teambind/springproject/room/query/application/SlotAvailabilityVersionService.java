@@ -0,0 +1,95 @@
+package com.teambind.springproject.room.query.application;
+
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.port.AvailabilityVersionPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 슬롯 가용성 버전(ETag) 관리 서비스.
+ * <p>
+ * 주요 책임:
+ * <p>
+ * 슬롯 가용성 변경 이벤트 수신 시 (roomId, date) 버전 증가
+ * 조회 API용 ETag 생성
+ * <p>
+ * 버전 저장소 장애는 조회/예약 흐름을 막지 않는다:
+ * 버전 조회 실패 시 ETag 없이 일반 조회로 동작하고, 증가 실패 시 로그만 남긴다.
+ */
+@Service
+public class SlotAvailabilityVersionService {
+	
+	private static final Logger log = LoggerFactory.getLogger(SlotAvailabilityVersionService.class);
+	
+	private final AvailabilityVersionPort availabilityVersionPort;
+	
+	public SlotAvailabilityVersionService(AvailabilityVersionPort availabilityVersionPort) {
+		this.availabilityVersionPort = availabilityVersionPort;
+	}
+	
+	/**
+	 * 특정 룸/날짜의 현재 가용성 ETag를 조회한다.
+	 * <p>
+	 * 반드시 슬롯 데이터를 조회하기 전에 호출해야 한다.
+	 * 조회 도중 버전이 증가하면 응답은 이전 ETag를 갖게 되고, 다음 폴링에서 최신 데이터를 받는다.
+	 *
+	 * @param roomId 룸 ID
+	 * @param date   슬롯 날짜
+	 * @return ETag (버전 저장소 장애 시 빈 Optional)
+	 */
+	public Optional<String> findAvailabilityETag(Long roomId, LocalDate date) {
+		return findAvailabilityETag(roomId, date, null);
+	}
+	
+	/**
+	 * 응답 표현(압축 포맷, 인코딩 등)별로 구분되는 가용성 ETag를 조회한다.
+	 * <p>
+	 * 같은 버전이라도 표현이 다르면 바이트가 다르므로 strong ETag에 표현 식별자를 덧붙인다.
+	 *
+	 * @param roomId  룸 ID
+	 * @param date    슬롯 날짜
+	 * @param variant 응답 표현 식별자 (null이면 기본 JSON)
+	 * @return ETag (버전 저장소 장애 시 빈 Optional)
+	 */
+	public Optional<String> findAvailabilityETag(Long roomId, LocalDate date, String variant) {
+		try {
+			long version = availabilityVersionPort.currentVersion(roomId, date);
+			return Optional.of(toETag(version, variant));
+		} catch (Exception e) {
+			log.warn("Failed to read availability version, serving without ETag: roomId={}, date={}, reason={}",
+					roomId, date, e.getMessage());
+			return Optional.empty();
+		}
+	}
+	
+	/**
+	 * 슬롯 가용성 변경 시 버전을 증가시킨다.
+	 * <p>
+	 * AFTER_COMMIT: 커밋된 데이터만 새 버전으로 노출되도록 커밋 이후에 증가시킨다.
+	 * fallbackExecution: 트랜잭션 밖에서 발행된 이벤트도 즉시 처리한다.
+	 *
+	 * @param event 슬롯 가용성 변경 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSlotAvailabilityChanged(SlotAvailabilityChangedEvent event) {
+		try {
+			long version = availabilityVersionPort.increment(event.roomId(), event.slotDate());
+			log.debug("Availability version bumped: roomId={}, date={}, version={}",
+					event.roomId(), event.slotDate(), version);
+		} catch (Exception e) {
+			log.error("Failed to bump availability version: roomId={}, date={}",
+					event.roomId(), event.slotDate(), e);
+		}
+	}
+	
+	private String toETag(long version, String variant) {
+		String tag = variant == null ? Long.toHexString(version) : Long.toHexString(version) + "-" + variant;
+		return "\"" + tag + "\"";
+	}
+}
@@ -0,0 +1,83 @@
+package com.teambind.springproject.room.query.application;
+
+import com.teambind.springproject.common.exceptions.application.InvalidRequestException;
+import com.teambind.springproject.common.exceptions.application.InvalidTimeRangeException;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.port.SlotTransitionFanoutPort;
+import com.teambind.springproject.room.query.stream.SlotStreamRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 슬롯 상태 실시간 스트림(SSE) 서비스.
+ * <p>
+ * 주요 책임:
+ * <p>
+ * 구독 요청 검증 및 로컬 구독 등록
+ * 커밋된 슬롯 상태 전이를 전체 인스턴스에 전파 (Redis Pub/Sub)
+ * <p>
+ * 전파 실패는 예약 흐름을 막지 않는다. 클라이언트는 resync 또는 ETag 기반 조회로 최종 상태를 맞춘다.
+ */
+@Service
+public class SlotStreamService {
+	
+	private static final Logger log = LoggerFactory.getLogger(SlotStreamService.class);
+	
+	private final SlotStreamRegistry slotStreamRegistry;
+	private final SlotTransitionFanoutPort slotTransitionFanoutPort;
+	private final int maxRangeDays;
+	
+	public SlotStreamService(
+			SlotStreamRegistry slotStreamRegistry,
+			SlotTransitionFanoutPort slotTransitionFanoutPort,
+			@Value("${room.slot-stream.max-range-days:31}") int maxRangeDays
+	) {
+		this.slotStreamRegistry = slotStreamRegistry;
+		this.slotTransitionFanoutPort = slotTransitionFanoutPort;
+		this.maxRangeDays = maxRangeDays;
+	}
+	
+	/**
+	 * 룸/날짜 범위의 슬롯 상태 전이를 구독한다.
+	 *
+	 * @param roomId 룸 ID
+	 * @param from   구독 시작 날짜 (포함)
+	 * @param to     구독 종료 날짜 (포함, null이면 from 하루)
+	 * @return SSE 연결
+	 */
+	public SseEmitter subscribe(Long roomId, LocalDate from, LocalDate to) {
+		LocalDate endDate = to != null ? to : from;
+		
+		if (endDate.isBefore(from)) {
+			throw InvalidTimeRangeException.endDateBeforeStartDate(from.toString(), endDate.toString());
+		}
+		if (ChronoUnit.DAYS.between(from, endDate) >= maxRangeDays) {
+			throw InvalidRequestException.valueOutOfRange("구독 기간", "최대 " + maxRangeDays + "일");
+		}
+		
+		return slotStreamRegistry.subscribe(roomId, from, endDate);
+	}
+	
+	/**
+	 * 슬롯 가용성 변경 이벤트를 트랜잭션 커밋 이후 전체 인스턴스에 전파한다.
+	 *
+	 * @param event 가용성 변경 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSlotAvailabilityChanged(SlotAvailabilityChangedEvent event) {
+		try {
+			slotTransitionFanoutPort.broadcast(event);
+		} catch (Exception e) {
+			log.error("Failed to broadcast slot transitions: roomId={}, date={}",
+					event.roomId(), event.slotDate(), e);
+		}
+	}
+}
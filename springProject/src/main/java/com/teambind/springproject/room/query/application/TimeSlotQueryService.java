@@ -2,6 +2,7 @@ package com.teambind.springproject.room.query.application;
 
 import com.teambind.springproject.room.entity.RoomTimeSlot;
 import com.teambind.springproject.room.entity.enums.SlotStatus;
+import com.teambind.springproject.room.query.dto.SlotKey;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -47,6 +48,16 @@ public interface TimeSlotQueryService {
 	 */
 	boolean isSlotAvailable(Long roomId, LocalDate slotDate, LocalTime slotTime);
 	
+	/**
+	 * 여러 슬롯의 예약 가능 여부를 한 번에 확인한다.
+	 * <p>
+	 * (roomId, date)별로 묶어 그룹당 한 번의 IN 쿼리로 조회한다.
+	 *
+	 * @param slotKeys 확인할 슬롯 목록
+	 * @return slotKeys와 같은 순서의 예약 가능 여부 목록
+	 */
+	List<Boolean> checkSlotsAvailability(List<SlotKey> slotKeys);
+	
 	/**
 	 * Room ID와 날짜 범위의 예약 가능한 슬롯 개수를 조회한다.
 	 *
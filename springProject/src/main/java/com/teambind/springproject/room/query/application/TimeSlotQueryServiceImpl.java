@@ -1,26 +1,67 @@
 package com.teambind.springproject.room.query.application;
 
+import com.teambind.springproject.common.exceptions.application.InvalidRequestException;
+import com.teambind.springproject.room.entity.RoomOperatingPolicy;
 import com.teambind.springproject.room.entity.RoomTimeSlot;
 import com.teambind.springproject.room.entity.enums.SlotStatus;
+import com.teambind.springproject.room.entity.enums.SlotStorageMode;
+import com.teambind.springproject.room.entity.vo.CompiledOperatingPolicy;
+import com.teambind.springproject.room.entity.vo.HolidayCalendar;
+import com.teambind.springproject.room.query.dto.SlotKey;
+import com.teambind.springproject.room.repository.HolidayRepository;
+import com.teambind.springproject.room.repository.RoomOperatingPolicyRepository;
 import com.teambind.springproject.room.repository.RoomTimeSlotRepository;
+import com.teambind.springproject.room.repository.RoomTimeSlotRepository.SlotTimeStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * 시간 슬롯 조회 서비스 구현체.
+ * <p>
+ * Rolling Window(hot 구간) 밖이지만 룸의 예약 가능 기간 안에 있는 날짜는 슬롯 행을 미리 만들지 않는다.
+ * 이 구간에서 아직 슬롯 행이 없는 날짜는 운영 정책으로 계산한 슬롯을 함께 응답한다 (slotId 없음).
+ * 행은 첫 예약 시점이나 날짜가 hot 구간에 들어올 때 생성된다.
+ * <p>
+ * LAZY 저장 방식에서는 hot 구간이 없으므로 오늘부터 예약 가능 기간 끝까지 모든 날짜를 계산하고,
+ * 저장된 행(예약, 휴무 등 정책과 다른 슬롯)이 있는 시각은 저장된 행으로 덮어쓴다.
  */
 @Service
 @Transactional(readOnly = true)
 public class TimeSlotQueryServiceImpl implements TimeSlotQueryService {
 	
 	private final RoomTimeSlotRepository slotRepository;
+	private final RoomOperatingPolicyRepository policyRepository;
+	private final HolidayRepository holidayRepository;
+	private final int maxBatchSize;
+	private final int rollingWindowDays;
+	private final SlotStorageMode storageMode;
 	
-	public TimeSlotQueryServiceImpl(RoomTimeSlotRepository slotRepository) {
+	public TimeSlotQueryServiceImpl(
+			RoomTimeSlotRepository slotRepository,
+			RoomOperatingPolicyRepository policyRepository,
+			HolidayRepository holidayRepository,
+			@Value("${room.availability.batch.max-size:200}") int maxBatchSize,
+			@Value("${room.timeSlot.rollingWindow.days:30}") int rollingWindowDays,
+			@Value("${room.timeSlot.storage-mode:EAGER}") SlotStorageMode storageMode
+	) {
 		this.slotRepository = slotRepository;
+		this.policyRepository = policyRepository;
+		this.holidayRepository = holidayRepository;
+		this.maxBatchSize = maxBatchSize;
+		this.rollingWindowDays = rollingWindowDays;
+		this.storageMode = storageMode;
 	}
 	
 	@Override
@@ -29,39 +70,94 @@ public class TimeSlotQueryServiceImpl implements TimeSlotQueryService {
 			LocalDate startDate,
 			LocalDate endDate
 	) {
-		return slotRepository.findByRoomIdAndSlotDateBetween(roomId, startDate, endDate);
+		return withProjectedSlots(roomId, startDate, endDate,
+				slotRepository.findByRoomIdAndSlotDateBetween(roomId, startDate, endDate), slot -> true);
 	}
 	
 	@Override
 	public List<RoomTimeSlot> getAvailableSlots(Long roomId, LocalDate date) {
-		return slotRepository.findByRoomIdAndSlotDateAndStatus(
-				roomId,
-				date,
-				SlotStatus.AVAILABLE
-		);
+		return withProjectedSlots(roomId, date, date,
+				slotRepository.findByRoomIdAndSlotDateAndStatus(roomId, date, SlotStatus.AVAILABLE),
+				RoomTimeSlot::isAvailable);
 	}
 	
 	@Override
 	public boolean isSlotAvailable(Long roomId, LocalDate slotDate, LocalTime slotTime) {
 		return slotRepository
 				.findByRoomIdAndSlotDateAndSlotTime(roomId, slotDate, slotTime)
+				.or(() -> projectSlots(roomId, slotDate, slotDate).stream()
+						.filter(slot -> slot.getSlotTime().equals(slotTime))
+						.findFirst())
 				.map(RoomTimeSlot::isAvailable)
 				.orElse(false);
 	}
 	
+	@Override
+	public List<Boolean> checkSlotsAvailability(List<SlotKey> slotKeys) {
+		if (slotKeys == null || slotKeys.isEmpty()) {
+			throw InvalidRequestException.requiredFieldMissing("slots");
+		}
+		if (slotKeys.size() > maxBatchSize) {
+			throw InvalidRequestException.valueOutOfRange("slots", "최대 " + maxBatchSize + "건");
+		}
+		
+		// (roomId, date)별로 확인할 시각을 묶는다
+		Map<RoomDate, Set<LocalTime>> requestedTimes = new HashMap<>();
+		for (SlotKey key : slotKeys) {
+			if (key == null || key.roomId() == null || key.slotDate() == null || key.slotTime() == null) {
+				throw InvalidRequestException.requiredFieldMissing("slots[].roomId/slotDate/slotTime");
+			}
+			requestedTimes.computeIfAbsent(new RoomDate(key.roomId(), key.slotDate()), group -> new HashSet<>())
+					.add(key.slotTime());
+		}
+		
+		// hot 구간 밖 날짜는 룸별 정책과 공통 휴일을 요청 전체에서 한 번씩만 조회해 계산한다
+		Map<RoomDate, CompiledOperatingPolicy> farPolicies = compileFarZonePolicies(requestedTimes.keySet());
+		
+		// 그룹당 한 번의 IN 쿼리로 행이 있는 시각의 상태를 조회하고, 행이 없는 시각은 정책으로 계산
+		Map<RoomDate, Set<LocalTime>> availableTimes = new HashMap<>();
+		requestedTimes.forEach((group, times) -> {
+			Set<LocalTime> persisted = new HashSet<>();
+			Set<LocalTime> available = new HashSet<>();
+			for (SlotTimeStatus row : slotRepository.findSlotTimeStatusesByRoomIdAndSlotDateAndSlotTimeIn(
+					group.roomId(), group.slotDate(), times)) {
+				persisted.add(row.getSlotTime());
+				if (row.getStatus() == SlotStatus.AVAILABLE) {
+					available.add(row.getSlotTime());
+				}
+			}
+			CompiledOperatingPolicy compiled = farPolicies.get(group);
+			if (compiled != null && persisted.size() < times.size()) {
+				compiled.generateSlotsFor(group.slotDate()).stream()
+						.filter(RoomTimeSlot::isAvailable)
+						.map(RoomTimeSlot::getSlotTime)
+						.filter(time -> times.contains(time) && !persisted.contains(time))
+						.forEach(available::add);
+			}
+			availableTimes.put(group, available);
+		});
+		
+		return slotKeys.stream()
+				.map(key -> availableTimes.get(new RoomDate(key.roomId(), key.slotDate())).contains(key.slotTime()))
+				.toList();
+	}
+	
 	@Override
 	public long countAvailableSlots(Long roomId, LocalDate startDate, LocalDate endDate) {
-		return slotRepository.countByRoomIdAndDateRangeAndStatus(
+		long persisted = slotRepository.countByRoomIdAndDateRangeAndStatus(
 				roomId,
 				startDate,
 				endDate,
 				SlotStatus.AVAILABLE
 		);
+		return persisted + projectSlots(roomId, startDate, endDate).stream()
+				.filter(RoomTimeSlot::isAvailable)
+				.count();
 	}
 	
 	@Override
 	public List<RoomTimeSlot> getAllSlotsForDate(Long roomId, LocalDate date) {
-		return slotRepository.findByRoomIdAndSlotDateBetween(roomId, date, date);
+		return getSlotsByDateRange(roomId, date, date);
 	}
 	
 	@Override
@@ -70,6 +166,117 @@ public class TimeSlotQueryServiceImpl implements TimeSlotQueryService {
 			LocalDate date,
 			SlotStatus status
 	) {
-		return slotRepository.findByRoomIdAndSlotDateAndStatus(roomId, date, status);
+		return withProjectedSlots(roomId, date, date,
+				slotRepository.findByRoomIdAndSlotDateAndStatus(roomId, date, status),
+				slot -> slot.getStatus() == status);
+	}
+	
+	/**
+	 * 저장된 슬롯 뒤에 아직 행이 없는 슬롯의 계산 결과를 이어 붙인다.
+	 */
+	private List<RoomTimeSlot> withProjectedSlots(
+			Long roomId,
+			LocalDate startDate,
+			LocalDate endDate,
+			List<RoomTimeSlot> persisted,
+			Predicate<RoomTimeSlot> filter) {
+		List<RoomTimeSlot> projected = projectSlots(roomId, startDate, endDate);
+		if (projected.isEmpty()) {
+			return persisted;
+		}
+		List<RoomTimeSlot> merged = new ArrayList<>(persisted);
+		projected.stream().filter(filter).forEach(merged::add);
+		return merged;
+	}
+	
+	/**
+	 * hot 구간 밖, 예약 가능 기간 안에서 슬롯 행이 없는 시각의 슬롯을 운영 정책으로 계산한다.
+	 * <p>
+	 * 조회 범위가 hot 구간 안에 있으면 정책을 조회하지 않는다.
+	 *
+	 * @return 계산된 슬롯 목록 (저장되지 않음)
+	 */
+	private List<RoomTimeSlot> projectSlots(Long roomId, LocalDate startDate, LocalDate endDate) {
+		LocalDate today = LocalDate.now();
+		LocalDate hotThrough = storageMode.materializedThrough(today, rollingWindowDays);
+		if (!endDate.isAfter(hotThrough)) {
+			return List.of();
+		}
+		
+		Optional<RoomOperatingPolicy> policy = policyRepository.findByRoomIdWithClosedDates(roomId);
+		if (policy.isEmpty()) {
+			return List.of();
+		}
+		LocalDate from = startDate.isAfter(hotThrough) ? startDate : hotThrough.plusDays(1);
+		LocalDate bookableThrough = policy.get().bookableThrough(today, rollingWindowDays);
+		LocalDate to = endDate.isAfter(bookableThrough) ? bookableThrough : endDate;
+		if (from.isAfter(to)) {
+			return List.of();
+		}
+		
+		// 행이 있는 시각은 저장된 상태가 우선한다 (EAGER는 날짜 단위, LAZY는 슬롯 단위로 행이 생긴다)
+		Set<SlotPosition> persisted = new HashSet<>();
+		for (RoomTimeSlot slot : slotRepository.findByRoomIdAndSlotDateBetween(roomId, from, to)) {
+			persisted.add(new SlotPosition(slot.getSlotDate(), slot.getSlotTime()));
+		}
+		HolidayCalendar holidays = HolidayCalendar.of(holidayRepository.findHolidayDatesBetween(from, to));
+		List<RoomTimeSlot> projected = new ArrayList<>();
+		for (RoomTimeSlot slot : policy.get().compile().withHolidays(holidays).generateSlotsBetween(from, to)) {
+			if (!persisted.contains(new SlotPosition(slot.getSlotDate(), slot.getSlotTime()))) {
+				projected.add(slot);
+			}
+		}
+		return projected;
+	}
+	
+	/**
+	 * 다건 가용성 확인에서 hot 구간 밖 날짜를 계산할 정책을 준비한다.
+	 * <p>
+	 * 정책은 해당 룸들을 한 번에 조회해 룸마다 한 번만 컴파일하고, 공통 휴일은 요청 날짜 전체 범위로 한 번만 조회한다.
+	 *
+	 * @return (roomId, date) -> 공통 휴일을 덧씌운 정책 (hot 구간 안이거나 예약 가능 기간 밖인 그룹은 포함하지 않음)
+	 */
+	private Map<RoomDate, CompiledOperatingPolicy> compileFarZonePolicies(Set<RoomDate> groups) {
+		LocalDate today = LocalDate.now();
+		LocalDate hotThrough = storageMode.materializedThrough(today, rollingWindowDays);
+		Map<Long, List<RoomDate>> farGroups = new HashMap<>();
+		for (RoomDate group : groups) {
+			if (group.slotDate().isAfter(hotThrough) && !group.slotDate().isBefore(today)) {
+				farGroups.computeIfAbsent(group.roomId(), roomId -> new ArrayList<>()).add(group);
+			}
+		}
+		if (farGroups.isEmpty()) {
+			return Map.of();
+		}
+		
+		Map<Long, CompiledOperatingPolicy> compiledByRoom = new HashMap<>();
+		List<RoomDate> projectable = new ArrayList<>();
+		for (RoomOperatingPolicy policy : policyRepository.findAllByRoomIdInWithClosedDates(farGroups.keySet())) {
+			LocalDate bookableThrough = policy.bookableThrough(today, rollingWindowDays);
+			for (RoomDate group : farGroups.get(policy.getRoomId())) {
+				if (!group.slotDate().isAfter(bookableThrough)) {
+					projectable.add(group);
+					compiledByRoom.computeIfAbsent(policy.getRoomId(), roomId -> policy.compile());
+				}
+			}
+		}
+		if (projectable.isEmpty()) {
+			return Map.of();
+		}
+		
+		LocalDate from = projectable.stream().map(RoomDate::slotDate).min(LocalDate::compareTo).orElseThrow();
+		LocalDate to = projectable.stream().map(RoomDate::slotDate).max(LocalDate::compareTo).orElseThrow();
+		HolidayCalendar holidays = HolidayCalendar.of(holidayRepository.findHolidayDatesBetween(from, to));
+		compiledByRoom.replaceAll((roomId, compiled) -> compiled.withHolidays(holidays));
+		
+		Map<RoomDate, CompiledOperatingPolicy> policies = new HashMap<>();
+		projectable.forEach(group -> policies.put(group, compiledByRoom.get(group.roomId())));
+		return policies;
+	}
+	
+	private record RoomDate(Long roomId, LocalDate slotDate) {
+	}
+	
+	private record SlotPosition(LocalDate slotDate, LocalTime slotTime) {
 	}
 }
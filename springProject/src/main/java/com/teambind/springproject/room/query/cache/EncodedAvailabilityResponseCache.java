@@ -0,0 +1,170 @@
+package com.teambind.springproject.room.query.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.query.dto.AvailabilityRepresentation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 가용 슬롯 조회 응답의 인코딩 결과(바이트) 캐시.
+ * <p>
+ * (roomId, date, 표현)별로 직렬화가 끝난 응답 바이트와, 일정 크기 이상이면 gzip 압축본을 함께 보관한다.
+ * 캐시 항목은 생성 당시의 가용성 ETag로 검증하므로, 다른 인스턴스에서 발생한 변경도
+ * 버전 증가를 통해 자동으로 무효화된다. 현재 인스턴스에서 커밋된 변경은 이벤트 수신 시 즉시 제거한다.
+ * <p>
+ * 항목 수가 상한(room.availability.response-cache.max-entries)에 도달하면 일부 항목을 비워 메모리를 제한한다.
+ */
+@Component
+public class EncodedAvailabilityResponseCache {
+	
+	private static final Logger log = LoggerFactory.getLogger(EncodedAvailabilityResponseCache.class);
+	
+	private final ConcurrentMap<CacheKey, EncodedResponse> entries = new ConcurrentHashMap<>();
+	
+	private final ObjectMapper jsonMapper;
+	private final ObjectMapper cborMapper;
+	private final int maxEntries;
+	private final int gzipMinBytes;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	
+	public EncodedAvailabilityResponseCache(
+			ObjectMapper jsonMapper,
+			MeterRegistry meterRegistry,
+			@Value("${room.availability.response-cache.max-entries:10000}") int maxEntries,
+			@Value("${room.availability.response-cache.gzip-min-bytes:1024}") int gzipMinBytes
+	) {
+		this.jsonMapper = jsonMapper;
+		this.cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+		this.maxEntries = maxEntries;
+		this.gzipMinBytes = gzipMinBytes;
+		
+		Gauge.builder("room.availability.response_cache.size", entries, ConcurrentMap::size)
+				.description("인코딩 응답 캐시 항목 수")
+				.register(meterRegistry);
+		this.hitCounter = Counter.builder("room.availability.response_cache.requests")
+				.tag("result", "hit")
+				.register(meterRegistry);
+		this.missCounter = Counter.builder("room.availability.response_cache.requests")
+				.tag("result", "miss")
+				.register(meterRegistry);
+	}
+	
+	/**
+	 * 캐시된 인코딩 결과를 반환하고, 없거나 ETag가 다르면 새로 인코딩하여 저장한다.
+	 *
+	 * @param roomId         룸 ID
+	 * @param date           슬롯 날짜
+	 * @param representation 응답 표현
+	 * @param eTag           현재 가용성 ETag (캐시 항목 검증용)
+	 * @param bodySupplier   캐시 미스 시 응답 객체를 만드는 함수 (DB 조회 포함)
+	 * @return 인코딩된 응답
+	 */
+	public EncodedResponse getOrEncode(
+			Long roomId,
+			LocalDate date,
+			AvailabilityRepresentation representation,
+			String eTag,
+			Supplier<Object> bodySupplier
+	) {
+		CacheKey key = new CacheKey(roomId, date, representation);
+		EncodedResponse cached = entries.get(key);
+		if (cached != null && cached.eTag().equals(eTag)) {
+			hitCounter.increment();
+			return cached;
+		}
+		
+		missCounter.increment();
+		EncodedResponse encoded = encode(eTag, representation, bodySupplier.get());
+		
+		if (entries.size() >= maxEntries) {
+			evictSome();
+		}
+		entries.put(key, encoded);
+		return encoded;
+	}
+	
+	/**
+	 * 현재 인스턴스에서 커밋된 가용성 변경 시 해당 (roomId, date)의 모든 표현을 제거한다.
+	 *
+	 * @param event 가용성 변경 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSlotAvailabilityChanged(SlotAvailabilityChangedEvent event) {
+		for (AvailabilityRepresentation representation : AvailabilityRepresentation.values()) {
+			entries.remove(new CacheKey(event.roomId(), event.slotDate(), representation));
+		}
+	}
+	
+	int size() {
+		return entries.size();
+	}
+	
+	private EncodedResponse encode(String eTag, AvailabilityRepresentation representation, Object body) {
+		try {
+			ObjectMapper mapper = representation == AvailabilityRepresentation.COMPACT_CBOR ? cborMapper : jsonMapper;
+			byte[] bytes = mapper.writeValueAsBytes(body);
+			byte[] gzipped = bytes.length >= gzipMinBytes ? gzip(bytes) : null;
+			return new EncodedResponse(eTag, bytes, gzipped);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to encode availability response", e);
+		}
+	}
+	
+	private static byte[] gzip(byte[] bytes) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(bytes);
+		}
+		return out.toByteArray();
+	}
+	
+	/**
+	 * 상한 도달 시 약 10%의 항목을 제거한다 (읽기 경로에 잠금을 두지 않기 위한 근사 정책).
+	 */
+	private void evictSome() {
+		int toEvict = Math.max(1, maxEntries / 10);
+		Iterator<CacheKey> iterator = entries.keySet().iterator();
+		while (toEvict-- > 0 && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+		log.debug("Encoded availability response cache trimmed: size={}", entries.size());
+	}
+	
+	private record CacheKey(Long roomId, LocalDate date, AvailabilityRepresentation representation) {
+	}
+	
+	/**
+	 * 인코딩된 응답.
+	 *
+	 * @param eTag        인코딩 당시의 가용성 ETag
+	 * @param body        응답 바이트
+	 * @param gzippedBody gzip 압축된 응답 바이트 (크기가 작아 압축하지 않았으면 null)
+	 */
+	public record EncodedResponse(String eTag, byte[] body, byte[] gzippedBody) {
+		
+		public boolean hasGzippedBody() {
+			return gzippedBody != null;
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.teambind.springproject.room.query.dto;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 가용 슬롯 조회 응답 표현.
+ * <p>
+ * 같은 (roomId, date) 가용성이라도 표현별로 응답 바이트가 다르므로,
+ * ETag와 인코딩 캐시 키를 표현 단위로 구분한다.
+ */
+public enum AvailabilityRepresentation {
+	
+	/**
+	 * 기본 JSON ({@link AvailableSlotResponse} 목록)
+	 */
+	JSON(null),
+	
+	/**
+	 * 압축 JSON ({@link CompactDailyAvailabilityResponse})
+	 */
+	COMPACT("compact"),
+	
+	/**
+	 * 압축 CBOR ({@link CompactDailyAvailabilityResponse}, 내부 서비스 호출용)
+	 */
+	COMPACT_CBOR("compact-cbor");
+	
+	private static final MediaType COMPACT_MEDIA_TYPE =
+			MediaType.parseMediaType(CompactDailyAvailabilityResponse.MEDIA_TYPE_VALUE);
+	
+	private final String eTagSuffix;
+	
+	AvailabilityRepresentation(String eTagSuffix) {
+		this.eTagSuffix = eTagSuffix;
+	}
+	
+	/**
+	 * format 파라미터와 Accept 헤더로 응답 표현을 결정한다.
+	 * <p>
+	 * application/cbor는 압축 포맷으로만 제공한다.
+	 *
+	 * @param format format 쿼리 파라미터 (nullable)
+	 * @param accept Accept 헤더 (nullable)
+	 * @return 응답 표현
+	 */
+	public static AvailabilityRepresentation resolve(String format, String accept) {
+		if (accept != null && accept.contains(MediaType.APPLICATION_CBOR_VALUE)) {
+			return COMPACT_CBOR;
+		}
+		if (CompactDailyAvailabilityResponse.FORMAT_PARAMETER_VALUE.equals(format)
+				|| (accept != null && accept.contains(CompactDailyAvailabilityResponse.MEDIA_TYPE_VALUE))) {
+			return COMPACT;
+		}
+		return JSON;
+	}
+	
+	/**
+	 * ETag에 덧붙일 표현 식별자 (기본 JSON은 null).
+	 */
+	public String eTagSuffix() {
+		return eTagSuffix;
+	}
+	
+	public boolean isCompact() {
+		return this != JSON;
+	}
+	
+	/**
+	 * 응답 Content-Type을 결정한다.
+	 * <p>
+	 * 압축 JSON은 클라이언트가 전용 미디어 타입을 요청한 경우에만 해당 타입으로, 그 외에는 application/json으로 응답한다.
+	 *
+	 * @param accept Accept 헤더 (nullable)
+	 * @return Content-Type
+	 */
+	public MediaType contentType(String accept) {
+		return switch (this) {
+			case JSON -> MediaType.APPLICATION_JSON;
+			case COMPACT -> accept != null && accept.contains(CompactDailyAvailabilityResponse.MEDIA_TYPE_VALUE)
+					? COMPACT_MEDIA_TYPE
+					: MediaType.APPLICATION_JSON;
+			case COMPACT_CBOR -> MediaType.APPLICATION_CBOR;
+		};
+	}
+}
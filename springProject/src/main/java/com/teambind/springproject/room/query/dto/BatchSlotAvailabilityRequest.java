@@ -0,0 +1,13 @@
+package com.teambind.springproject.room.query.dto;
+
+import java.util.List;
+
+/**
+ * 다건 슬롯 가용성 확인 요청 DTO.
+ * <p>
+ * 장바구니 검증 등 여러 (roomId, slotDate, slotTime) 튜플을 한 번의 요청으로 확인한다.
+ */
+public record BatchSlotAvailabilityRequest(
+		List<SlotKey> slots
+) {
+}
@@ -0,0 +1,18 @@
+package com.teambind.springproject.room.query.dto;
+
+import java.util.List;
+
+/**
+ * 다건 슬롯 가용성 확인 응답 DTO.
+ *
+ * @param available    요청 순서와 같은 순서의 가용 여부 목록
+ * @param allAvailable 모든 슬롯이 예약 가능한지 여부
+ */
+public record BatchSlotAvailabilityResponse(
+		List<Boolean> available,
+		boolean allAvailable
+) {
+	public static BatchSlotAvailabilityResponse of(List<Boolean> available) {
+		return new BatchSlotAvailabilityResponse(available, !available.contains(Boolean.FALSE));
+	}
+}
@@ -0,0 +1,39 @@
+package com.teambind.springproject.room.query.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 가능 기간 변경 응답 DTO.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingHorizonUpdateResponse {
+
+	/**
+	 * 룸 ID
+	 */
+	private Long roomId;
+
+	/**
+	 * 설정된 예약 가능 기간 (일, null이면 전역 기본값)
+	 */
+	private Integer bookingHorizonDays;
+
+	/**
+	 * 예약 가능한 마지막 날짜
+	 */
+	private LocalDate bookableThrough;
+
+	/**
+	 * Rolling Window 안에서 새로 생성된 슬롯 개수 (기간이 늘어난 경우)
+	 */
+	private int generatedCount;
+
+	/**
+	 * 기간 밖으로 밀려나 삭제된 AVAILABLE 슬롯 개수 (기간이 줄어든 경우)
+	 */
+	private int deletedCount;
+}
@@ -0,0 +1,33 @@
+package com.teambind.springproject.room.query.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 룸/날짜별 슬롯 상태 압축 응답 DTO.
+ * <p>
+ * 슬롯마다 객체를 나열하는 대신, 기준 시각과 간격(분), 상태 run-length 문자열로 하루치 슬롯을 표현한다.
+ * <p>
+ * runs 형식: {@code <개수><상태코드>}의 반복 (예: "4A2P1.3R")
+ * - A: AVAILABLE, P: PENDING, R: RESERVED, C: CLOSED, .: 슬롯 없음
+ * - i번째 칸의 시각 = baseTime + i * stepMinutes
+ * <p>
+ * 요청 시 {@code format=compact} 또는 {@code Accept: }{@value #MEDIA_TYPE_VALUE}로 선택하며,
+ * {@code Accept: application/cbor}이면 CBOR로 인코딩된다.
+ *
+ * @param roomId      룸 ID
+ * @param slotDate    슬롯 날짜
+ * @param baseTime    첫 슬롯 시각 (슬롯이 없으면 null)
+ * @param stepMinutes 칸 간격 (분, SlotUnit 단위)
+ * @param runs        상태 run-length 문자열
+ */
+public record CompactDailyAvailabilityResponse(
+		Long roomId,
+		LocalDate slotDate,
+		LocalTime baseTime,
+		int stepMinutes,
+		String runs
+) {
+	public static final String MEDIA_TYPE_VALUE = "application/vnd.teambind.availability-compact+json";
+	public static final String FORMAT_PARAMETER_VALUE = "compact";
+}
@@ -65,6 +65,11 @@ public class SlotGenerationStatusResponse {
 	 */
 	private String errorMessage;
 	
+	/**
+	 * 마지막으로 슬롯 생성이 완료된 날짜 (진행 상황)
+	 */
+	private LocalDate lastCompletedDate;
+	
 	/**
 	 * Entity로부터 DTO를 생성한다.
 	 *
@@ -82,7 +87,8 @@ public class SlotGenerationStatusResponse {
 				request.getRequestedAt(),
 				request.getStartedAt(),
 				request.getCompletedAt(),
-				request.getErrorMessage()
+				request.getErrorMessage(),
+				request.getLastCompletedDate()
 		);
 	}
 }
@@ -0,0 +1,14 @@
+package com.teambind.springproject.room.query.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 슬롯 식별 튜플 (roomId, slotDate, slotTime).
+ */
+public record SlotKey(
+		Long roomId,
+		LocalDate slotDate,
+		LocalTime slotTime
+) {
+}
@@ -0,0 +1,31 @@
+package com.teambind.springproject.room.query.dto;
+
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.event.SlotTransition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 슬롯 실시간 스트림(SSE) 이벤트 데이터.
+ * <p>
+ * - slot-transition: transitions에 슬롯별 상태 전이 내역이 담긴다.
+ * - resync: transitions가 비어 있으며, 클라이언트는 해당 날짜(slotDate가 null이면 구독 범위 전체)를 다시 조회해야 한다.
+ *
+ * @param roomId      룸 ID
+ * @param slotDate    슬롯 날짜 (구독 범위 전체 재조회가 필요하면 null)
+ * @param transitions 슬롯별 상태 전이 내역
+ */
+public record SlotStreamResponse(
+		Long roomId,
+		LocalDate slotDate,
+		List<SlotTransition> transitions
+) {
+	public static SlotStreamResponse from(SlotAvailabilityChangedEvent event) {
+		return new SlotStreamResponse(event.roomId(), event.slotDate(), event.transitions());
+	}
+	
+	public static SlotStreamResponse resyncAll(Long roomId) {
+		return new SlotStreamResponse(roomId, null, List.of());
+	}
+}
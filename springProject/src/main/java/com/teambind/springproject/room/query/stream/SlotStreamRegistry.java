@@ -0,0 +1,171 @@
+package com.teambind.springproject.room.query.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.common.exceptions.application.CapacityExceededException;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.query.dto.SlotStreamResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 현재 인스턴스에 연결된 슬롯 스트림(SSE) 구독자 레지스트리.
+ * <p>
+ * 구독자는 roomId별로 색인되어, 가용성 변경 시 해당 룸의 구독자만 순회한다.
+ * 이벤트는 한 번만 직렬화하여 모든 구독자가 공유하고, 실제 전송은 구독자별 버퍼와
+ * 전용 Executor(slotStreamExecutor)를 통해 비동기로 수행한다.
+ * <p>
+ * 메모리 상한:
+ * - 인스턴스당 최대 구독자 수 (room.slot-stream.max-subscribers)
+ * - 구독자당 전송 버퍼 크기 (room.slot-stream.client-buffer-size), 초과 시 resync로 대체
+ * <p>
+ * 다른 인스턴스에서 발생한 변경은 {@link com.teambind.springproject.room.domain.port.SlotTransitionFanoutPort}
+ * 구현체가 수신하여 {@link #dispatch(SlotAvailabilityChangedEvent)}로 전달한다.
+ */
+@Component
+public class SlotStreamRegistry {
+	
+	static final String TRANSITION_EVENT = "slot-transition";
+	static final String RESYNC_EVENT = "resync";
+	
+	private static final Logger log = LoggerFactory.getLogger(SlotStreamRegistry.class);
+	
+	private final ConcurrentMap<Long, Set<SlotStreamSubscription>> subscriptionsByRoom = new ConcurrentHashMap<>();
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	
+	private final ObjectMapper objectMapper;
+	private final Executor deliveryExecutor;
+	private final Counter droppedCounter;
+	private final int maxSubscribers;
+	private final int clientBufferSize;
+	private final long emitterTimeoutMillis;
+	
+	public SlotStreamRegistry(
+			ObjectMapper objectMapper,
+			@Qualifier("slotStreamExecutor") Executor deliveryExecutor,
+			MeterRegistry meterRegistry,
+			@Value("${room.slot-stream.max-subscribers:5000}") int maxSubscribers,
+			@Value("${room.slot-stream.client-buffer-size:32}") int clientBufferSize,
+			@Value("${room.slot-stream.timeout:PT30M}") Duration emitterTimeout
+	) {
+		this.objectMapper = objectMapper;
+		this.deliveryExecutor = deliveryExecutor;
+		this.maxSubscribers = maxSubscribers;
+		this.clientBufferSize = clientBufferSize;
+		this.emitterTimeoutMillis = emitterTimeout.toMillis();
+		
+		Gauge.builder("room.slot_stream.subscribers", subscriberCount, AtomicInteger::get)
+				.description("현재 인스턴스의 슬롯 스트림 구독자 수")
+				.register(meterRegistry);
+		this.droppedCounter = Counter.builder("room.slot_stream.dropped")
+				.description("버퍼 초과로 resync 대체된 전송 수")
+				.register(meterRegistry);
+	}
+	
+	/**
+	 * 룸/날짜 범위에 대한 구독을 등록한다.
+	 *
+	 * @param roomId 룸 ID
+	 * @param from   구독 시작 날짜 (포함)
+	 * @param to     구독 종료 날짜 (포함)
+	 * @return SSE 연결
+	 * @throws CapacityExceededException 인스턴스의 최대 구독자 수를 초과한 경우
+	 */
+	public SseEmitter subscribe(Long roomId, LocalDate from, LocalDate to) {
+		if (subscriberCount.incrementAndGet() > maxSubscribers) {
+			subscriberCount.decrementAndGet();
+			throw CapacityExceededException.streamSubscribers(maxSubscribers);
+		}
+		
+		SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+		SlotStreamSubscription subscription = new SlotStreamSubscription(
+				roomId, from, to, emitter, clientBufferSize, deliveryExecutor,
+				toMessage(RESYNC_EVENT, SlotStreamResponse.resyncAll(roomId)),
+				this::unregister
+		);
+		
+		subscriptionsByRoom.compute(roomId, (key, subscriptions) -> {
+			Set<SlotStreamSubscription> target = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+			target.add(subscription);
+			return target;
+		});
+		
+		emitter.onCompletion(subscription::close);
+		emitter.onTimeout(subscription::close);
+		emitter.onError(e -> subscription.close());
+		
+		log.debug("Slot stream subscribed: roomId={}, from={}, to={}, subscribers={}",
+				roomId, from, to, subscriberCount.get());
+		return emitter;
+	}
+	
+	/**
+	 * 가용성 변경을 현재 인스턴스의 해당 구독자에게 전달한다.
+	 * <p>
+	 * 전송은 비동기로 수행되므로 호출 스레드를 막지 않는다.
+	 *
+	 * @param event 가용성 변경 이벤트
+	 */
+	public void dispatch(SlotAvailabilityChangedEvent event) {
+		Set<SlotStreamSubscription> subscriptions = subscriptionsByRoom.get(event.roomId());
+		if (subscriptions == null || subscriptions.isEmpty()) {
+			return;
+		}
+		
+		// 날짜 전체 변경(재생성 등)은 전이 내역이 없으므로 해당 날짜 재조회를 요청
+		String eventName = event.isBulkChange() ? RESYNC_EVENT : TRANSITION_EVENT;
+		SlotStreamSubscription.Message message = toMessage(eventName, SlotStreamResponse.from(event));
+		
+		for (SlotStreamSubscription subscription : subscriptions) {
+			if (subscription.covers(event.slotDate()) && !subscription.enqueue(message)) {
+				droppedCounter.increment();
+			}
+		}
+	}
+	
+	/**
+	 * 유휴 구독자에게 주기적으로 heartbeat를 보내 프록시 유휴 타임아웃을 방지하고 끊어진 연결을 정리한다.
+	 */
+	@Scheduled(fixedDelayString = "${room.slot-stream.heartbeat-interval:PT25S}")
+	public void sendHeartbeats() {
+		subscriptionsByRoom.values()
+				.forEach(subscriptions -> subscriptions.forEach(SlotStreamSubscription::heartbeat));
+	}
+	
+	public int subscriberCount() {
+		return subscriberCount.get();
+	}
+	
+	private void unregister(SlotStreamSubscription subscription) {
+		subscriptionsByRoom.computeIfPresent(subscription.roomId(), (key, subscriptions) -> {
+			if (subscriptions.remove(subscription)) {
+				subscriberCount.decrementAndGet();
+			}
+			return subscriptions.isEmpty() ? null : subscriptions;
+		});
+	}
+	
+	private SlotStreamSubscription.Message toMessage(String eventName, SlotStreamResponse response) {
+		try {
+			return new SlotStreamSubscription.Message(eventName, objectMapper.writeValueAsString(response));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize slot stream event", e);
+		}
+	}
+}
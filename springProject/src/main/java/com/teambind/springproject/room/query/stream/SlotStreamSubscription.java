@@ -0,0 +1,166 @@
+package com.teambind.springproject.room.query.stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 단일 SSE 구독 연결.
+ * <p>
+ * 구독자마다 크기가 고정된 전송 버퍼를 두고, 전송은 공용 Executor에서 구독자별로 한 번에 하나씩만 수행한다.
+ * 느린 클라이언트의 버퍼가 가득 차면 쌓인 메시지를 모두 버리고 resync 이벤트 하나로 대체한다
+ * (클라이언트는 resync 수신 시 가용 슬롯을 다시 조회한다). 따라서 구독자당 메모리는 버퍼 크기로 제한되며,
+ * 한 클라이언트의 지연이 다른 클라이언트나 트랜잭션 커밋 스레드를 막지 않는다.
+ */
+final class SlotStreamSubscription {
+	
+	private static final Logger log = LoggerFactory.getLogger(SlotStreamSubscription.class);
+	
+	private final Long roomId;
+	private final LocalDate from;
+	private final LocalDate to;
+	private final SseEmitter emitter;
+	private final BlockingQueue<Message> buffer;
+	private final Executor deliveryExecutor;
+	private final Message resyncMessage;
+	private final Consumer<SlotStreamSubscription> onClose;
+	
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+	private final AtomicBoolean overflowed = new AtomicBoolean(false);
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+	
+	SlotStreamSubscription(
+			Long roomId,
+			LocalDate from,
+			LocalDate to,
+			SseEmitter emitter,
+			int bufferSize,
+			Executor deliveryExecutor,
+			Message resyncMessage,
+			Consumer<SlotStreamSubscription> onClose
+	) {
+		this.roomId = roomId;
+		this.from = from;
+		this.to = to;
+		this.emitter = emitter;
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+		this.deliveryExecutor = deliveryExecutor;
+		this.resyncMessage = resyncMessage;
+		this.onClose = onClose;
+	}
+	
+	Long roomId() {
+		return roomId;
+	}
+	
+	boolean covers(LocalDate date) {
+		return !date.isBefore(from) && !date.isAfter(to);
+	}
+	
+	/**
+	 * 메시지를 전송 버퍼에 넣고 전송을 예약한다.
+	 *
+	 * @return 버퍼가 가득 차 기존 메시지를 버렸으면 false
+	 */
+	boolean enqueue(Message message) {
+		if (closed.get()) {
+			return true;
+		}
+		
+		boolean accepted = buffer.offer(message);
+		if (!accepted) {
+			// 드롭 정책: 밀린 델타는 의미가 없으므로 모두 버리고 resync 하나로 대체
+			buffer.clear();
+			overflowed.set(true);
+		}
+		
+		scheduleDrain();
+		return accepted;
+	}
+	
+	/**
+	 * 전송할 메시지가 없을 때만 heartbeat를 보낸다 (유휴 연결 유지 및 끊어진 연결 감지).
+	 */
+	void heartbeat() {
+		if (!closed.get() && buffer.isEmpty() && buffer.offer(Message.HEARTBEAT)) {
+			scheduleDrain();
+		}
+	}
+	
+	private void scheduleDrain() {
+		if (closed.get() || !draining.compareAndSet(false, true)) {
+			return;
+		}
+		
+		try {
+			deliveryExecutor.execute(this::drain);
+		} catch (RejectedExecutionException e) {
+			// 전송 스레드가 모두 사용 중: 다음 enqueue/heartbeat 시 재시도
+			draining.set(false);
+		}
+	}
+	
+	private void drain() {
+		try {
+			while (!closed.get()) {
+				if (overflowed.getAndSet(false)) {
+					send(resyncMessage);
+				}
+				
+				Message message = buffer.poll();
+				if (message == null) {
+					break;
+				}
+				send(message);
+			}
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트 연결 종료: 컨테이너가 에러 콜백을 호출하지만, 즉시 구독을 해제해 버퍼를 반환한다
+			log.debug("Slot stream subscriber disconnected: roomId={}, reason={}", roomId, e.getMessage());
+			close();
+		} finally {
+			draining.set(false);
+			if (!closed.get() && (!buffer.isEmpty() || overflowed.get())) {
+				scheduleDrain();
+			}
+		}
+	}
+	
+	private void send(Message message) throws IOException {
+		if (message == Message.HEARTBEAT) {
+			emitter.send(SseEmitter.event().comment("heartbeat"));
+			return;
+		}
+		emitter.send(SseEmitter.event()
+				.name(message.name())
+				.data(message.data(), MediaType.APPLICATION_JSON));
+	}
+	
+	void close() {
+		// 완료/타임아웃/오류 콜백과 전송 실패가 동시에 닫아도 정리와 onClose는 한 번만 실행한다
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+		buffer.clear();
+		onClose.accept(this);
+	}
+	
+	/**
+	 * 직렬화가 끝난 SSE 이벤트. 같은 메시지를 여러 구독자가 공유한다.
+	 *
+	 * @param name SSE 이벤트 이름
+	 * @param data JSON 데이터
+	 */
+	record Message(String name, String data) {
+		static final Message HEARTBEAT = new Message("heartbeat", "");
+	}
+}
@@ -0,0 +1,28 @@
+package com.teambind.springproject.room.repository;
+
+import com.teambind.springproject.room.entity.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Holiday 리포지토리.
+ */
+public interface HolidayRepository extends JpaRepository<Holiday, LocalDate> {
+
+	/**
+	 * 기간 안의 휴일 날짜만 조회한다.
+	 *
+	 * @param startDate 시작 날짜 (inclusive)
+	 * @param endDate   종료 날짜 (inclusive)
+	 * @return 휴일 날짜 목록 (오름차순)
+	 */
+	@Query("SELECT h.holidayDate FROM Holiday h WHERE h.holidayDate BETWEEN :startDate AND :endDate "
+			+ "ORDER BY h.holidayDate")
+	List<LocalDate> findHolidayDatesBetween(
+			@Param("startDate") LocalDate startDate,
+			@Param("endDate") LocalDate endDate);
+}
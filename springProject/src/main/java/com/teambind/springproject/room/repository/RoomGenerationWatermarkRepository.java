@@ -0,0 +1,59 @@
+package com.teambind.springproject.room.repository;
+
+import com.teambind.springproject.room.entity.RoomGenerationWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * RoomGenerationWatermark 리포지토리.
+ */
+public interface RoomGenerationWatermarkRepository extends JpaRepository<RoomGenerationWatermark, Long> {
+
+	/**
+	 * Pessimistic Lock을 사용하여 워터마크를 조회한다.
+	 * <p>
+	 * 같은 룸의 슬롯 생성(배치, 슬롯 보장 API, 초기 생성 작업)을 직렬화하여 같은 날짜가 중복 생성되지 않도록 한다.
+	 *
+	 * @param roomId 룸 ID
+	 * @return 조회된 워터마크 (잠금 상태)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT w FROM RoomGenerationWatermark w WHERE w.roomId = :roomId")
+	Optional<RoomGenerationWatermark> findByRoomIdWithLock(@Param("roomId") Long roomId);
+
+	/**
+	 * 워터마크가 기준 날짜에 도달하지 못한 룸의 ID를 조회한다.
+	 * <p>
+	 * 운영 정책이 있지만 워터마크가 없는 룸도 포함한다.
+	 *
+	 * @param horizon 생성되어 있어야 하는 마지막 날짜
+	 * @return Room ID 목록
+	 */
+	@Query("SELECT p.roomId FROM RoomOperatingPolicy p WHERE NOT EXISTS ("
+			+ "SELECT w.roomId FROM RoomGenerationWatermark w "
+			+ "WHERE w.roomId = p.roomId AND w.generatedThrough >= :horizon)")
+	List<Long> findRoomIdsGeneratedBefore(@Param("horizon") LocalDate horizon);
+	
+	/**
+	 * 룸 ID 샤드 하나에서 워터마크가 기준 날짜에 도달하지 못한 룸의 ID를 조회한다.
+	 *
+	 * @param horizon    생성되어 있어야 하는 마지막 날짜
+	 * @param shardCount 전체 샤드 수
+	 * @param shardIndex 샤드 번호 (roomId % shardCount)
+	 * @return Room ID 목록
+	 */
+	@Query("SELECT p.roomId FROM RoomOperatingPolicy p WHERE MOD(p.roomId, :shardCount) = :shardIndex "
+			+ "AND NOT EXISTS (SELECT w.roomId FROM RoomGenerationWatermark w "
+			+ "WHERE w.roomId = p.roomId AND w.generatedThrough >= :horizon)")
+	List<Long> findRoomIdsGeneratedBeforeInShard(
+			@Param("horizon") LocalDate horizon,
+			@Param("shardCount") int shardCount,
+			@Param("shardIndex") int shardIndex);
+}
@@ -1,11 +1,14 @@
 package com.teambind.springproject.room.repository;
 
 import com.teambind.springproject.room.entity.RoomOperatingPolicy;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +43,18 @@ public interface RoomOperatingPolicyRepository extends JpaRepository<RoomOperati
 	@Query("SELECT DISTINCT p FROM RoomOperatingPolicy p LEFT JOIN FETCH p.closedDates WHERE p.roomId = :roomId")
 	Optional<RoomOperatingPolicy> findByRoomIdWithClosedDates(@Param("roomId") Long roomId);
 	
+	/**
+	 * Pessimistic Lock을 사용하여 운영 정책을 조회한다.
+	 * <p>
+	 * 같은 룸의 운영 시간 재생성 작업 시작을 인스턴스 간에 직렬화한다.
+	 *
+	 * @param roomId 룸 ID
+	 * @return 조회된 정책 (잠금 상태)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT p FROM RoomOperatingPolicy p WHERE p.roomId = :roomId")
+	Optional<RoomOperatingPolicy> findByRoomIdWithLock(@Param("roomId") Long roomId);
+	
 	/**
 	 * 모든 운영 정책을 조회한다 (closedDates 포함).
 	 * LazyInitializationException 방지를 위해 fetch join 사용.
@@ -49,6 +64,42 @@ public interface RoomOperatingPolicyRepository extends JpaRepository<RoomOperati
 	@Query("SELECT DISTINCT p FROM RoomOperatingPolicy p LEFT JOIN FETCH p.closedDates")
 	List<RoomOperatingPolicy> findAllWithClosedDates();
 	
+	/**
+	 * 운영 정책이 등록된 모든 Room ID를 조회한다.
+	 * 엔티티(closedDates 포함)를 로딩하지 않고 ID만 조회한다.
+	 *
+	 * @return Room ID 목록 (오름차순)
+	 */
+	@Query("SELECT p.roomId FROM RoomOperatingPolicy p ORDER BY p.roomId")
+	List<Long> findAllRoomIds();
+	
+	/**
+	 * 여러 룸의 운영 정책을 한 번에 조회한다 (closedDates 포함).
+	 *
+	 * @param roomIds Room ID 목록
+	 * @return 정책 목록
+	 */
+	@Query("SELECT DISTINCT p FROM RoomOperatingPolicy p LEFT JOIN FETCH p.closedDates WHERE p.roomId IN :roomIds")
+	List<RoomOperatingPolicy> findAllByRoomIdInWithClosedDates(@Param("roomIds") Collection<Long> roomIds);
+	
+	/**
+	 * 여러 룸의 스케줄 템플릿 해시만 조회한다.
+	 *
+	 * @param roomIds Room ID 목록
+	 * @return (roomId, scheduleHash) 목록. 해시 도입 이전 정책은 scheduleHash가 null
+	 */
+	@Query("SELECT p.roomId AS roomId, p.scheduleHash AS scheduleHash FROM RoomOperatingPolicy p "
+			+ "WHERE p.roomId IN :roomIds")
+	List<RoomScheduleHash> findScheduleHashesByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
+	
+	/**
+	 * 모든 룸의 예약 가능 기간(일)만 조회한다.
+	 *
+	 * @return (roomId, bookingHorizonDays) 목록. 기간을 설정하지 않은 룸은 bookingHorizonDays가 null
+	 */
+	@Query("SELECT p.roomId AS roomId, p.bookingHorizonDays AS bookingHorizonDays FROM RoomOperatingPolicy p")
+	List<RoomBookingHorizon> findAllBookingHorizons();
+	
 	/**
 	 * Room ID로 정책이 존재하는지 확인한다.
 	 *
@@ -63,4 +114,24 @@ public interface RoomOperatingPolicyRepository extends JpaRepository<RoomOperati
 	 * @param roomId 룸 ID
 	 */
 	void deleteByRoomId(Long roomId);
+	
+	/**
+	 * Room ID와 스케줄 템플릿 해시 프로젝션.
+	 */
+	interface RoomScheduleHash {
+		
+		Long getRoomId();
+		
+		String getScheduleHash();
+	}
+	
+	/**
+	 * Room ID와 예약 가능 기간 프로젝션.
+	 */
+	interface RoomBookingHorizon {
+		
+		Long getRoomId();
+		
+		Integer getBookingHorizonDays();
+	}
 }
@@ -11,7 +11,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,6 +64,18 @@ public interface RoomTimeSlotRepository extends JpaRepository<RoomTimeSlot, Long
 	List<RoomTimeSlot> findByRoomIdAndSlotDateAndStatus(
 			Long roomId, LocalDate slotDate, SlotStatus status);
 	
+	/**
+	 * Room ID와 상태, 날짜 범위로 슬롯 목록을 조회한다.
+	 *
+	 * @param roomId    룸 ID
+	 * @param status    슬롯 상태
+	 * @param startDate 시작 날짜 (inclusive)
+	 * @param endDate   종료 날짜 (inclusive)
+	 * @return 조회된 슬롯 목록
+	 */
+	List<RoomTimeSlot> findByRoomIdAndStatusAndSlotDateBetween(
+			Long roomId, SlotStatus status, LocalDate startDate, LocalDate endDate);
+	
 	/**
 	 * Reservation ID로 슬롯 목록을 조회한다.
 	 *
@@ -70,6 +84,14 @@ public interface RoomTimeSlotRepository extends JpaRepository<RoomTimeSlot, Long
 	 */
 	List<RoomTimeSlot> findByReservationId(Long reservationId);
 	
+	/**
+	 * 여러 Reservation ID의 슬롯 목록을 한 번에 조회한다.
+	 *
+	 * @param reservationIds 예약 ID 목록
+	 * @return 조회된 슬롯 목록
+	 */
+	List<RoomTimeSlot> findByReservationIdIn(Collection<Long> reservationIds);
+	
 	/**
 	 * 특정 날짜의 모든 슬롯을 삭제한다. (Rolling Window 유지용)
 	 *
@@ -130,6 +152,41 @@ public interface RoomTimeSlotRepository extends JpaRepository<RoomTimeSlot, Long
 			@Param("status") SlotStatus status,
 			@Param("expirationTime") java.time.LocalDateTime expirationTime);
 	
+	/**
+	 * Room ID와 날짜, 시각 목록에 해당하는 슬롯의 시각과 상태만 조회한다.
+	 * <p>
+	 * 엔티티를 로딩하지 않고 시각/상태 컬럼만 조회하므로 다건 가용성 확인에 사용한다.
+	 * 행이 없는 시각은 결과에 포함되지 않는다 (hot 구간 밖이면 정책으로 계산).
+	 *
+	 * @param roomId    룸 ID
+	 * @param slotDate  슬롯 날짜
+	 * @param slotTimes 확인할 슬롯 시각 목록
+	 * @return (slotTime, status) 목록
+	 */
+	@Query("SELECT r.slotTime AS slotTime, r.status AS status FROM RoomTimeSlot r "
+			+ "WHERE r.roomId = :roomId AND r.slotDate = :slotDate AND r.slotTime IN :slotTimes")
+	List<SlotTimeStatus> findSlotTimeStatusesByRoomIdAndSlotDateAndSlotTimeIn(
+			@Param("roomId") Long roomId,
+			@Param("slotDate") LocalDate slotDate,
+			@Param("slotTimes") Collection<LocalTime> slotTimes);
+	
+	/**
+	 * Room ID와 날짜 범위에서 슬롯이 하나라도 존재하는 날짜를 조회한다.
+	 * <p>
+	 * 슬롯 엔티티를 로딩하지 않고 (room_id, slot_date) 인덱스만으로 처리된다.
+	 *
+	 * @param roomId    룸 ID
+	 * @param startDate 시작 날짜 (inclusive)
+	 * @param endDate   종료 날짜 (inclusive)
+	 * @return 슬롯이 존재하는 날짜 목록
+	 */
+	@Query("SELECT DISTINCT r.slotDate FROM RoomTimeSlot r WHERE r.roomId = :roomId "
+			+ "AND r.slotDate BETWEEN :startDate AND :endDate")
+	List<LocalDate> findSlotDatesByRoomIdAndSlotDateBetween(
+			@Param("roomId") Long roomId,
+			@Param("startDate") LocalDate startDate,
+			@Param("endDate") LocalDate endDate);
+	
 	/**
 	 * Pessimistic Lock을 사용하여 여러 슬롯을 한 번에 조회한다.
 	 * <p>
@@ -164,4 +221,191 @@ public interface RoomTimeSlotRepository extends JpaRepository<RoomTimeSlot, Long
 			@Param("roomId") Long roomId,
 			@Param("startDate") LocalDate startDate,
 			@Param("endDate") LocalDate endDate);
+
+	/**
+	 * 슬롯 ID 목록 중 AVAILABLE 상태인 슬롯만 삭제한다.
+	 * <p>
+	 * 조회 이후 다른 트랜잭션이 선점한 슬롯은 상태 조건으로 제외된다.
+	 *
+	 * @param slotIds 삭제할 슬롯 ID 목록
+	 * @return 삭제된 슬롯 개수
+	 */
+	@Modifying
+	@Query("DELETE FROM RoomTimeSlot r WHERE r.slotId IN :slotIds AND r.status = 'AVAILABLE'")
+	int deleteAvailableSlotsByIds(@Param("slotIds") Collection<Long> slotIds);
+	
+	/**
+	 * ID 목록에 해당하는 CLOSED 슬롯을 AVAILABLE로 변경한다.
+	 * <p>
+	 * 조회 이후 상태가 바뀐 슬롯은 상태 조건으로 제외된다.
+	 *
+	 * @param slotIds 변경할 슬롯 ID 목록
+	 * @param now     변경 시각
+	 * @return 변경된 슬롯 개수
+	 */
+	@Modifying
+	@Query("UPDATE RoomTimeSlot r SET r.status = 'AVAILABLE', r.lastUpdated = :now "
+			+ "WHERE r.slotId IN :slotIds AND r.status = 'CLOSED'")
+	int reopenClosedSlotsByIds(
+			@Param("slotIds") Collection<Long> slotIds,
+			@Param("now") LocalDateTime now);
+	
+	/**
+	 * ID 목록에 해당하는 AVAILABLE 슬롯을 CLOSED로 변경한다.
+	 * <p>
+	 * 조회 이후 예약된 슬롯은 상태 조건으로 제외된다.
+	 *
+	 * @param slotIds 변경할 슬롯 ID 목록
+	 * @param now     변경 시각
+	 * @return 변경된 슬롯 개수
+	 */
+	@Modifying
+	@Query("UPDATE RoomTimeSlot r SET r.status = 'CLOSED', r.lastUpdated = :now "
+			+ "WHERE r.slotId IN :slotIds AND r.status = 'AVAILABLE'")
+	int closeAvailableSlotsByIds(
+			@Param("slotIds") Collection<Long> slotIds,
+			@Param("now") LocalDateTime now);
+	
+	/**
+	 * ID 목록에 해당하는 슬롯의 현재 상태를 조회한다 (엔티티를 로딩하지 않음).
+	 *
+	 * @param slotIds 슬롯 ID 목록
+	 * @return 존재하는 슬롯의 (slotId, status) 목록
+	 */
+	@Query("SELECT r.slotId AS slotId, r.status AS status FROM RoomTimeSlot r WHERE r.slotId IN :slotIds")
+	List<SlotIdStatus> findStatusesBySlotIdIn(@Param("slotIds") Collection<Long> slotIds);
+	
+	/**
+	 * ID 목록에 해당하는 PENDING 슬롯을 RESERVED로 변경한다 (결제 완료).
+	 * <p>
+	 * 조회 이후 상태가 바뀐 슬롯은 상태 조건으로 제외된다.
+	 *
+	 * @param slotIds 변경할 슬롯 ID 목록
+	 * @param now     변경 시각
+	 * @return 변경된 슬롯 개수
+	 */
+	@Modifying
+	@Query("UPDATE RoomTimeSlot r SET r.status = 'RESERVED', r.lastUpdated = :now "
+			+ "WHERE r.slotId IN :slotIds AND r.status = 'PENDING'")
+	int confirmPendingSlotsByIds(
+			@Param("slotIds") Collection<Long> slotIds,
+			@Param("now") LocalDateTime now);
+	
+	/**
+	 * ID 목록에 해당하는 PENDING / RESERVED 슬롯을 AVAILABLE로 변경하고 예약 ID를 해제한다 (예약 취소).
+	 * <p>
+	 * 조회 이후 상태가 바뀐 슬롯은 상태 조건으로 제외된다.
+	 *
+	 * @param slotIds 변경할 슬롯 ID 목록
+	 * @param now     변경 시각
+	 * @return 변경된 슬롯 개수
+	 */
+	@Modifying
+	@Query("UPDATE RoomTimeSlot r SET r.status = 'AVAILABLE', r.reservationId = null, r.lastUpdated = :now "
+			+ "WHERE r.slotId IN :slotIds AND r.status IN ('PENDING', 'RESERVED')")
+	int releaseReservedSlotsByIds(
+			@Param("slotIds") Collection<Long> slotIds,
+			@Param("now") LocalDateTime now);
+	
+	/**
+	 * 날짜 범위와 시간 범위에 해당하는 AVAILABLE 슬롯을 CLOSED로 변경한다.
+	 * <p>
+	 * 예약 중(PENDING, RESERVED)이거나 이미 CLOSED인 슬롯은 상태 조건으로 제외된다.
+	 *
+	 * @param roomId    룸 ID
+	 * @param startDate 시작 날짜 (inclusive)
+	 * @param endDate   종료 날짜 (inclusive)
+	 * @param startTime 시작 시각 (inclusive)
+	 * @param endTime   종료 시각 (inclusive)
+	 * @param now       변경 시각
+	 * @return 변경된 슬롯 개수
+	 */
+	@Modifying
+	@Query("UPDATE RoomTimeSlot r SET r.status = 'CLOSED', r.lastUpdated = :now "
+			+ "WHERE r.roomId = :roomId AND r.status = 'AVAILABLE' "
+			+ "AND r.slotDate BETWEEN :startDate AND :endDate "
+			+ "AND r.slotTime BETWEEN :startTime AND :endTime")
+	int closeAvailableSlotsBetween(
+			@Param("roomId") Long roomId,
+			@Param("startDate") LocalDate startDate,
+			@Param("endDate") LocalDate endDate,
+			@Param("startTime") LocalTime startTime,
+			@Param("endTime") LocalTime endTime,
+			@Param("now") LocalDateTime now);
+	
+	/**
+	 * 지정한 날짜들의 시간 범위에 해당하는 AVAILABLE 슬롯을 CLOSED로 변경한다.
+	 *
+	 * @param roomId    룸 ID
+	 * @param slotDates 대상 날짜 목록
+	 * @param startTime 시작 시각 (inclusive)
+	 * @param endTime   종료 시각 (inclusive)
+	 * @param now       변경 시각
+	 * @return 변경된 슬롯 개수
+	 */
+	@Modifying
+	@Query("UPDATE RoomTimeSlot r SET r.status = 'CLOSED', r.lastUpdated = :now "
+			+ "WHERE r.roomId = :roomId AND r.status = 'AVAILABLE' "
+			+ "AND r.slotDate IN :slotDates "
+			+ "AND r.slotTime BETWEEN :startTime AND :endTime")
+	int closeAvailableSlotsOn(
+			@Param("roomId") Long roomId,
+			@Param("slotDates") Collection<LocalDate> slotDates,
+			@Param("startTime") LocalTime startTime,
+			@Param("endTime") LocalTime endTime,
+			@Param("now") LocalDateTime now);
+	
+	/**
+	 * 모든 룸에서 지정한 날짜의 AVAILABLE 슬롯을 CLOSED로 변경한다 (공통 휴일 적용).
+	 *
+	 * @param slotDates 대상 날짜 목록
+	 * @param now       변경 시각
+	 * @return 변경된 슬롯 개수
+	 */
+	@Modifying
+	@Query("UPDATE RoomTimeSlot r SET r.status = 'CLOSED', r.lastUpdated = :now "
+			+ "WHERE r.slotDate IN :slotDates AND r.status = 'AVAILABLE'")
+	int closeAvailableSlotsOnDates(
+			@Param("slotDates") Collection<LocalDate> slotDates,
+			@Param("now") LocalDateTime now);
+	
+	/**
+	 * 지정한 날짜에 AVAILABLE 슬롯이 있는 (룸, 날짜) 목록을 조회한다.
+	 *
+	 * @param slotDates 대상 날짜 목록
+	 * @return (roomId, slotDate) 목록
+	 */
+	@Query("SELECT DISTINCT r.roomId AS roomId, r.slotDate AS slotDate FROM RoomTimeSlot r "
+			+ "WHERE r.slotDate IN :slotDates AND r.status = 'AVAILABLE'")
+	List<RoomSlotDate> findRoomDatesWithAvailableSlotsOn(@Param("slotDates") Collection<LocalDate> slotDates);
+	
+	/**
+	 * (roomId, slotDate) 조회용 프로젝션.
+	 */
+	interface RoomSlotDate {
+		
+		Long getRoomId();
+		
+		LocalDate getSlotDate();
+	}
+	
+	/**
+	 * (slotTime, status) 조회용 프로젝션.
+	 */
+	interface SlotTimeStatus {
+		
+		LocalTime getSlotTime();
+		
+		SlotStatus getStatus();
+	}
+	
+	/**
+	 * (slotId, status) 조회용 프로젝션.
+	 */
+	interface SlotIdStatus {
+		
+		Long getSlotId();
+		
+		SlotStatus getStatus();
+	}
 }
@@ -1,10 +1,72 @@
 package com.teambind.springproject.room.repository;
 
 import com.teambind.springproject.room.entity.SlotGenerationRequest;
+import com.teambind.springproject.room.entity.enums.GenerationJobType;
+import com.teambind.springproject.room.entity.enums.GenerationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * SlotGenerationRequest 리포지토리.
  */
 public interface SlotGenerationRequestRepository extends JpaRepository<SlotGenerationRequest, String> {
-}
\ No newline at end of file
+	
+	/**
+	 * Room ID와 상태로 요청 목록을 조회한다.
+	 *
+	 * @param roomId 룸 ID
+	 * @param status 요청 상태
+	 * @return 조회된 요청 목록
+	 */
+	List<SlotGenerationRequest> findByRoomIdAndStatus(Long roomId, GenerationStatus status);
+	
+	/**
+	 * 처리를 시작하거나 이어서 처리해야 하는 요청을 오래된 순으로 조회한다.
+	 *
+	 * @param jobType     작업 유형
+	 * @param staleBefore 이 시각 이전에 생존 신호가 끊긴 IN_PROGRESS 요청을 포함
+	 * @param pageable    조회 개수 제한
+	 * @return 조회된 요청 목록
+	 */
+	@Query("SELECT r FROM SlotGenerationRequest r WHERE r.jobType = :jobType "
+			+ "AND (r.status = 'REQUESTED' "
+			+ "OR (r.status = 'IN_PROGRESS' AND (r.heartbeatAt IS NULL OR r.heartbeatAt < :staleBefore))) "
+			+ "ORDER BY r.requestedAt")
+	List<SlotGenerationRequest> findResumable(
+			@Param("jobType") GenerationJobType jobType,
+			@Param("staleBefore") LocalDateTime staleBefore,
+			Pageable pageable);
+	
+	/**
+	 * 룸에서 다른 실행자가 처리 중인 요청이 있는지 확인한다.
+	 *
+	 * @param roomId           룸 ID
+	 * @param jobType          작업 유형
+	 * @param staleBefore      이 시각 이전에 생존 신호가 끊긴 요청은 중단된 것으로 보고 제외
+	 * @param excludeRequestId 제외할 요청 ID (가져가려는 요청 자신)
+	 * @return 생존 신호가 유효한 IN_PROGRESS 요청이 있으면 true
+	 */
+	@Query("SELECT COUNT(r) > 0 FROM SlotGenerationRequest r WHERE r.roomId = :roomId "
+			+ "AND r.jobType = :jobType AND r.status = 'IN_PROGRESS' "
+			+ "AND r.heartbeatAt >= :staleBefore AND r.requestId <> :excludeRequestId")
+	boolean existsRunning(
+			@Param("roomId") Long roomId,
+			@Param("jobType") GenerationJobType jobType,
+			@Param("staleBefore") LocalDateTime staleBefore,
+			@Param("excludeRequestId") String excludeRequestId);
+	
+	/**
+	 * 아직 끝나지 않은 요청 개수를 조회한다.
+	 *
+	 * @param jobType 작업 유형
+	 * @return REQUESTED, IN_PROGRESS 상태 요청 개수
+	 */
+	@Query("SELECT COUNT(r) FROM SlotGenerationRequest r WHERE r.jobType = :jobType "
+			+ "AND r.status IN ('REQUESTED', 'IN_PROGRESS')")
+	long countUnfinished(@Param("jobType") GenerationJobType jobType);
+}
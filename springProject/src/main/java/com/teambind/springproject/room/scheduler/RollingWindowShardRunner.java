@@ -0,0 +1,231 @@
+package com.teambind.springproject.room.scheduler;
+
+import com.teambind.springproject.room.command.domain.service.TimeSlotGenerationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rolling Window 슬롯 생성을 룸 ID 샤드 단위로 나누어 여러 인스턴스가 함께 처리하는 실행기.
+ * <p>
+ * 처리 방식:
+ * <p>
+ * 룸을 roomId % shardCount 기준으로 shardCount개 샤드로 나누고, 샤드마다 별도 Lock(임대)을 건다
+ * 모든 인스턴스가 동시에 실행되어 Lock을 얻은 샤드부터 처리 - 인스턴스 수만큼 전체 실행 시간이 줄어듦
+ * 인스턴스마다 시작 샤드를 무작위로 정해 처음부터 같은 샤드를 두고 경합하지 않도록 함
+ * 다른 인스턴스가 처리 중인 샤드는 retryInterval 후 다시 시도 - 처리한 인스턴스가 죽으면 임대가 만료되어 이어서 처리
+ * <p>
+ * 샤드의 완료 여부는 워터마크로 판단하므로(뒤처진 룸이 없으면 완료) 같은 샤드를 다시 처리해도 안전하다.
+ */
+@Component
+public class RollingWindowShardRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(RollingWindowShardRunner.class);
+
+	private static final String LOCK_NAME_PREFIX = "maintainRollingWindow-shard-";
+
+	private final TimeSlotGenerationService generationService;
+	private final LockProvider lockProvider;
+	private final int shardCount;
+	private final Duration shardLease;
+	private final Duration retryInterval;
+	private final Duration maxRunDuration;
+
+	private final AtomicInteger[] roomsBehind;
+	private final AtomicInteger pendingShards = new AtomicInteger();
+	private final Counter completedShardsCounter;
+	private final Counter failedShardsCounter;
+	private final Counter busyShardsCounter;
+	private final Timer shardTimer;
+
+	public RollingWindowShardRunner(
+			TimeSlotGenerationService generationService,
+			LockProvider lockProvider,
+			MeterRegistry meterRegistry,
+			@Value("${room.rolling-window.shards.count:16}") int shardCount,
+			@Value("${room.rolling-window.shards.lease:PT2M}") Duration shardLease,
+			@Value("${room.rolling-window.shards.retry-interval:PT15S}") Duration retryInterval,
+			@Value("${room.rolling-window.shards.max-run-duration:PT2H}") Duration maxRunDuration
+	) {
+		this.generationService = generationService;
+		this.lockProvider = lockProvider;
+		this.shardCount = shardCount;
+		this.shardLease = shardLease;
+		this.retryInterval = retryInterval;
+		this.maxRunDuration = maxRunDuration;
+
+		this.roomsBehind = new AtomicInteger[shardCount];
+		for (int shard = 0; shard < shardCount; shard++) {
+			roomsBehind[shard] = new AtomicInteger();
+			Gauge.builder("room.rolling_window.shard.rooms_behind", roomsBehind[shard], AtomicInteger::get)
+					.tag("shard", String.valueOf(shard))
+					.description("마지막 확인 시점에 워터마크가 horizon에 도달하지 못한 룸 수 (샤드별 지연)")
+					.register(meterRegistry);
+		}
+		Gauge.builder("room.rolling_window.shards.pending", pendingShards, AtomicInteger::get)
+				.description("현재 실행에서 이 인스턴스가 완료를 확인하지 못한 샤드 수")
+				.register(meterRegistry);
+		this.completedShardsCounter = Counter.builder("room.rolling_window.shards")
+				.tag("result", "completed")
+				.description("처리를 완료한 샤드 수")
+				.register(meterRegistry);
+		this.failedShardsCounter = Counter.builder("room.rolling_window.shards")
+				.tag("result", "failed")
+				.description("일부 룸이 실패한 채 처리를 마친 샤드 수")
+				.register(meterRegistry);
+		this.busyShardsCounter = Counter.builder("room.rolling_window.shards")
+				.tag("result", "busy")
+				.description("다른 인스턴스가 처리 중이라 건너뛴 횟수")
+				.register(meterRegistry);
+		this.shardTimer = Timer.builder("room.rolling_window.shard.run")
+				.description("샤드 하나의 슬롯 생성 시간")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 모든 샤드가 horizon까지 생성될 때까지 Lock을 얻을 수 있는 샤드를 처리한다.
+	 *
+	 * @param horizon 생성되어 있어야 하는 마지막 날짜
+	 * @return 이 인스턴스가 생성한 슬롯 개수
+	 */
+	public int run(LocalDate horizon) {
+		List<Integer> pending = new ArrayList<>(shardCount);
+		int start = ThreadLocalRandom.current().nextInt(shardCount);
+		for (int i = 0; i < shardCount; i++) {
+			pending.add((start + i) % shardCount);
+		}
+		pendingShards.set(pending.size());
+
+		Instant deadline = Instant.now().plus(maxRunDuration);
+		int totalGenerated = 0;
+		int processedShards = 0;
+
+		try {
+			while (!pending.isEmpty()) {
+				List<Integer> busy = new ArrayList<>();
+				for (Integer shard : pending) {
+					ShardOutcome outcome = processShard(shard, horizon);
+					if (outcome == null) {
+						busy.add(shard);
+						continue;
+					}
+					totalGenerated += outcome.generated();
+					if (outcome.processed()) {
+						processedShards++;
+					}
+					pendingShards.decrementAndGet();
+				}
+				pending = busy;
+
+				if (pending.isEmpty()) {
+					break;
+				}
+				if (Instant.now().plus(retryInterval).isAfter(deadline)) {
+					log.warn("Rolling window run reached max duration: pendingShards={}", pending);
+					break;
+				}
+				// 다른 인스턴스가 처리를 끝내거나, 죽은 인스턴스의 임대가 만료될 때까지 대기
+				TimeUnit.MILLISECONDS.sleep(retryInterval.toMillis());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Rolling window run interrupted: pendingShards={}", pending);
+		} finally {
+			pendingShards.set(0);
+		}
+
+		log.info("Rolling window shards finished on this instance: horizon={}, processedShards={}, slots={}",
+				horizon, processedShards, totalGenerated);
+		return totalGenerated;
+	}
+
+	/**
+	 * 샤드 하나의 Lock을 얻어 뒤처진 룸을 생성한다.
+	 *
+	 * @return 다른 인스턴스가 처리 중이면 null
+	 */
+	private ShardOutcome processShard(int shard, LocalDate horizon) {
+		Optional<SimpleLock> acquired = lockProvider.lock(new LockConfiguration(
+				Instant.now(), LOCK_NAME_PREFIX + shard, shardLease, Duration.ZERO));
+		if (acquired.isEmpty()) {
+			busyShardsCounter.increment();
+			return null;
+		}
+
+		AtomicReference<SimpleLock> lock = new AtomicReference<>(acquired.get());
+		long startedAt = System.nanoTime();
+		try {
+			List<Long> roomIds = generationService.findRoomIdsBehind(horizon, shardCount, shard);
+			roomsBehind[shard].set(roomIds.size());
+			if (roomIds.isEmpty()) {
+				return new ShardOutcome(false, 0);
+			}
+
+			int generated = generationService.generateSlotsThroughForRooms(
+					roomIds, horizon, () -> extend(lock, shard));
+
+			// 실패한 룸은 워터마크가 전진하지 않으므로 남은 수가 곧 지연
+			int remaining = generationService.findRoomIdsBehind(horizon, shardCount, shard).size();
+			roomsBehind[shard].set(remaining);
+			if (remaining > 0) {
+				failedShardsCounter.increment();
+				log.warn("Rolling window shard finished with failures: shard={}, rooms={}, remaining={}",
+						shard, roomIds.size(), remaining);
+			} else {
+				completedShardsCounter.increment();
+			}
+			return new ShardOutcome(true, generated);
+		} catch (Exception e) {
+			failedShardsCounter.increment();
+			log.error("Rolling window shard failed: shard={}", shard, e);
+			return new ShardOutcome(true, 0);
+		} finally {
+			shardTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			unlock(lock.get(), shard);
+		}
+	}
+
+	private void unlock(SimpleLock lock, int shard) {
+		try {
+			lock.unlock();
+		} catch (IllegalStateException e) {
+			// 연장 실패로 이미 무효가 된 Lock - 임대 만료로 해제된다
+			log.debug("Rolling window shard lock already released: shard={}", shard);
+		}
+	}
+
+	/**
+	 * 처리 중인 샤드의 임대를 연장한다. 연장에 실패해도 생성은 계속한다 (워터마크 잠금으로 중복 생성 방지).
+	 */
+	private void extend(AtomicReference<SimpleLock> lock, int shard) {
+		try {
+			lock.get().extend(shardLease, Duration.ZERO)
+					.ifPresentOrElse(lock::set,
+							() -> log.warn("Lost rolling window shard lease: shard={}", shard));
+		} catch (UnsupportedOperationException e) {
+			log.warn("Lock provider does not support extension: shard={}", shard);
+		}
+	}
+
+	private record ShardOutcome(boolean processed, int generated) {
+	}
+}
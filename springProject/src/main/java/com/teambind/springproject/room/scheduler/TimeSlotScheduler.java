@@ -2,6 +2,7 @@ package com.teambind.springproject.room.scheduler;
 
 import com.teambind.springproject.room.command.domain.service.TimeSlotGenerationService;
 import com.teambind.springproject.room.command.domain.service.TimeSlotManagementService;
+import com.teambind.springproject.room.entity.enums.SlotStorageMode;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,7 +18,7 @@ import java.time.LocalDate;
  * 주요 책임:
  * <p>
  * <p>
- * 매일 Rolling Window 유지 (어제 슬롯 삭제, N일 후 슬롯 생성)
+ * 매일 Rolling Window 유지 (어제 슬롯 삭제, N일 후까지 누락된 슬롯 생성)
  * 만료된 PENDING 슬롯 복구
  * <p>
  * <p>
@@ -27,6 +28,7 @@ import java.time.LocalDate;
  * ShedLock을 사용하여 중복 실행 방지
  * lockAtMostFor: 작업 실패 시 자동 Lock 해제
  * lockAtLeastFor: 최소 실행 간격 보장
+ * 슬롯 생성은 룸 ID 샤드마다 Lock을 걸어 모든 인스턴스가 나누어 처리 (RollingWindowShardRunner)
  *
  */
 @Component
@@ -36,49 +38,74 @@ public class TimeSlotScheduler {
 	
 	private final TimeSlotGenerationService generationService;
 	private final TimeSlotManagementService managementService;
+	private final RollingWindowShardRunner shardRunner;
 	
 	@Value("${room.timeSlot.rollingWindow.days}")
 	private int rollingWindowDays;
 	
+	@Value("${room.timeSlot.storage-mode:EAGER}")
+	private SlotStorageMode storageMode = SlotStorageMode.EAGER;
+	
 	public TimeSlotScheduler(
-			TimeSlotGenerationService generationService, TimeSlotManagementService managementService) {
+			TimeSlotGenerationService generationService,
+			TimeSlotManagementService managementService,
+			RollingWindowShardRunner shardRunner) {
 		this.generationService = generationService;
 		this.managementService = managementService;
+		this.shardRunner = shardRunner;
 	}
 	
 	/**
 	 * 매일 새벽 2시에 Rolling Window를 유지한다.
 	 * 처리 플로우:
-	 * 어제 날짜의 슬롯 삭제
-	 * 설정된 일수(기본 30일) 후 날짜의 슬롯 생성
-	 * Lock 설정:
-	 * lockAtMostFor: 5분 (작업이 5분 이상 걸리면 자동 해제)
-	 * lockAtLeastFor: 1분 (최소 1분 간격 유지)
-	 *
+	 * 워터마크가 설정된 일수(기본 30일) 후 날짜에 도달하지 못한 룸의 누락 구간 생성
+	 * (배포, Lock 경합, 장애로 실행을 건너뛴 날이 있어도 다음 실행에서 모두 보충된다)
+	 * 전역 Lock 없이 모든 인스턴스에서 실행되며, 룸 ID 샤드 단위 Lock으로 작업을 나눈다.
+	 * 한 인스턴스가 처리 중 죽으면 샤드 임대(2분)가 만료된 뒤 다른 인스턴스가 이어서 처리한다.
+	 * LAZY 저장 방식에서는 미리 생성할 슬롯이 없으므로 실행하지 않는다.
 	 */
 	@Scheduled(cron = "0 0 2 * * *") // 매일 새벽 2시
-	@SchedulerLock(
-			name = "maintainRollingWindow",
-			lockAtMostFor = "PT5M", // ISO-8601 Duration: 5분
-			lockAtLeastFor = "PT1M") // 최소 1분 간격
 	public void maintainRollingWindow() {
-		log.info("Starting rolling window maintenance (rollingWindowDays={})", rollingWindowDays);
+		if (storageMode.isLazy()) {
+			log.debug("Skipped rolling window maintenance: storageMode={}", storageMode);
+			return;
+		}
+		
+		LocalDate horizon = LocalDate.now().plusDays(rollingWindowDays);
+		log.info("Starting rolling window maintenance (rollingWindowDays={}, horizon={})",
+				rollingWindowDays, horizon);
 		
 		try {
-			// 1. 어제 슬롯 삭제
+			int createdCount = shardRunner.run(horizon);
+			log.info("Rolling window maintenance completed on this instance: created={}", createdCount);
+		} catch (Exception e) {
+			log.error("Failed to maintain rolling window", e);
+			throw e;
+		}
+	}
+	
+	/**
+	 * 매일 새벽 2시에 어제 날짜의 슬롯을 삭제한다.
+	 * <p>
+	 * 단일 DELETE 문이므로 한 인스턴스에서만 실행한다.
+	 * <p>
+	 * Lock 설정:
+	 * <p>
+	 * lockAtMostFor: 10분 (작업 실패 시 자동 해제)
+	 * lockAtLeastFor: 30초 (인스턴스 간 시계 오차로 인한 중복 실행 방지)
+	 */
+	@Scheduled(cron = "0 0 2 * * *") // 매일 새벽 2시
+	@SchedulerLock(
+			name = "deleteYesterdaySlots",
+			lockAtMostFor = "PT10M",
+			lockAtLeastFor = "PT30S")
+	public void deleteYesterdaySlots() {
+		try {
 			int deletedCount = generationService.deleteYesterdaySlots();
 			log.info("Deleted yesterday's slots: count={}", deletedCount);
-			
-			// 2. 설정된 일수 후 슬롯 생성
-			LocalDate targetDate = LocalDate.now().plusDays(rollingWindowDays);
-			int createdCount = generationService.generateSlotsForAllRooms(targetDate);
-			log.info("Created slots for date {}: count={}", targetDate, createdCount);
-			
-			log.info("Rolling window maintenance completed: deleted={}, created={}",
-					deletedCount, createdCount);
 		} catch (Exception e) {
-			log.error("Failed to maintain rolling window", e);
-			throw e; // 재시도를 위해 예외 전파
+			log.error("Failed to delete yesterday's slots", e);
+			throw e;
 		}
 	}
 	
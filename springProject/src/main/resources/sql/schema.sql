@@ -7,6 +7,9 @@
 DROP TABLE IF EXISTS policy_closed_dates;
 DROP TABLE IF EXISTS weekly_slot_times;
 DROP TABLE IF EXISTS closed_date_update_requests;
+DROP TABLE IF EXISTS holidays;
+DROP TABLE IF EXISTS outbox_messages;
+DROP TABLE IF EXISTS room_generation_watermarks;
 DROP TABLE IF EXISTS slot_generation_requests;
 DROP TABLE IF EXISTS room_time_slots;
 DROP TABLE IF EXISTS room_operating_policies;
@@ -18,10 +21,13 @@ CREATE TABLE room_operating_policies
     room_id    BIGINT      NOT NULL,
     recurrence VARCHAR(20) NOT NULL,
     slot_unit  VARCHAR(20) NOT NULL,
+    schedule_hash CHAR(64),
+    booking_horizon_days INT,
     created_at DATETIME    NOT NULL,
     updated_at DATETIME    NOT NULL,
     UNIQUE KEY uk_room_id (room_id),
-    INDEX idx_room_id (room_id)
+    INDEX idx_room_id (room_id),
+    INDEX idx_schedule_hash (schedule_hash)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci;
@@ -64,7 +70,7 @@ CREATE TABLE room_time_slots
     status         VARCHAR(20) NOT NULL,
     reservation_id BIGINT,
     last_updated   DATETIME    NOT NULL,
-    INDEX idx_room_date_time (room_id, slot_date, slot_time),
+    UNIQUE KEY uk_room_date_time (room_id, slot_date, slot_time),
     INDEX idx_date_status (slot_date, status),
     INDEX idx_cleanup (slot_date)
 ) ENGINE = InnoDB
@@ -76,6 +82,7 @@ CREATE TABLE slot_generation_requests
 (
     request_id    VARCHAR(36) PRIMARY KEY,
     room_id       BIGINT      NOT NULL,
+    job_type      VARCHAR(30) NOT NULL DEFAULT 'INITIAL_SETUP',
     start_date    DATE        NOT NULL,
     end_date      DATE        NOT NULL,
     status        VARCHAR(20) NOT NULL,
@@ -84,8 +91,24 @@ CREATE TABLE slot_generation_requests
     started_at    DATETIME,
     completed_at  DATETIME,
     error_message VARCHAR(1000),
+    last_completed_date DATE,
+    heartbeat_at  DATETIME,
+    claim_token   VARCHAR(36),
+    version       BIGINT      NOT NULL DEFAULT 0,
     INDEX idx_room_id (room_id),
-    INDEX idx_status (status)
+    INDEX idx_status (status),
+    INDEX idx_job_type_status (job_type, status)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- Main Entity: Room Generation Watermark (오늘부터 generated_through까지 슬롯 생성 완료)
+CREATE TABLE room_generation_watermarks
+(
+    room_id           BIGINT   PRIMARY KEY,
+    generated_through DATE,
+    updated_at        DATETIME NOT NULL,
+    INDEX idx_generated_through (generated_through)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci;
@@ -94,7 +117,10 @@ CREATE TABLE slot_generation_requests
 CREATE TABLE closed_date_update_requests
 (
     request_id        VARCHAR(36) PRIMARY KEY,
-    room_id           BIGINT      NOT NULL,
+    room_id           BIGINT,
+    job_type          VARCHAR(20) NOT NULL DEFAULT 'CLOSE',
+    target_start_date DATE,
+    target_end_date   DATE,
     closed_date_count INT         NOT NULL,
     status            VARCHAR(20) NOT NULL,
     affected_slots    INT,
@@ -107,3 +133,37 @@ CREATE TABLE closed_date_update_requests
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci;
+
+-- Main Entity: Holiday (모든 룸에 공통 적용되는 휴일)
+CREATE TABLE holidays
+(
+    holiday_date DATE         PRIMARY KEY,
+    name         VARCHAR(100) NOT NULL,
+    created_at   DATETIME     NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- Main Entity: Outbox Message (Transactional Outbox, Kafka 발행 대기/이력)
+-- 기존 DB는 docs/migrate_outbox_retry_schedule.sql로 next_attempt_at 컬럼과 인덱스를 추가한다
+CREATE TABLE outbox_messages
+(
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    aggregate_type  VARCHAR(100) NOT NULL,
+    aggregate_id    VARCHAR(100) NOT NULL,
+    topic           VARCHAR(100) NOT NULL,
+    event_type      VARCHAR(100) NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    created_at      DATETIME     NOT NULL,
+    published_at    DATETIME,
+    retry_count     INT          NOT NULL,
+    next_attempt_at DATETIME     NOT NULL,
+    error_message   TEXT,
+    INDEX idx_status_created (status, created_at),
+    INDEX idx_status_next_attempt (status, next_attempt_at, id),
+    INDEX idx_status_published (status, published_at),
+    INDEX idx_aggregate (aggregate_type, aggregate_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
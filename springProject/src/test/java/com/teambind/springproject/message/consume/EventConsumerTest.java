@@ -0,0 +1,231 @@
+package com.teambind.springproject.message.consume;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.common.exceptions.application.SlotGenerationFailedException;
+import com.teambind.springproject.common.exceptions.domain.InvalidSlotStateTransitionException;
+import com.teambind.springproject.common.exceptions.domain.SlotNotFoundException;
+import com.teambind.springproject.message.handler.BatchEventHandler;
+import com.teambind.springproject.message.handler.EventHandler;
+import com.teambind.springproject.room.event.event.PaymentCompletedEvent;
+import com.teambind.springproject.room.event.event.SlotCancelledEvent;
+import com.teambind.springproject.room.event.event.SlotRestoredEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * EventConsumer 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - poll 단위 레코드를 핸들러 타입별로 묶어 handleBatch 한 번으로 처리
+ * - 같은 예약이 다른 핸들러로 들어오면 묶음을 나눠 도착 순서 유지
+ * - 배치 미지원 핸들러는 앞선 묶음 처리 후 하나씩 처리
+ * - 성공 시에만 offset 커밋, 묶음 실패 시 하나씩 다시 처리해 실제 실패 레코드 위치로 예외
+ * - 재시도해도 결과가 같은 업무 예외는 건너뜀
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventConsumer 테스트")
+class EventConsumerTest {
+	
+	@Mock
+	private BatchEventHandler<PaymentCompletedEvent> paymentHandler;
+	
+	@Mock
+	private BatchEventHandler<SlotCancelledEvent> cancelHandler;
+	
+	@Mock
+	private EventHandler<SlotRestoredEvent> restoreHandler;
+	
+	@Mock
+	private Acknowledgment acknowledgment;
+	
+	private EventConsumer consumer;
+	
+	@BeforeEach
+	void setUp() {
+		lenient().when(paymentHandler.getSupportedEventType()).thenReturn("PaymentCompleted");
+		lenient().when(cancelHandler.getSupportedEventType()).thenReturn("SlotCancelled");
+		lenient().when(restoreHandler.getSupportedEventType()).thenReturn("SlotRestored");
+		lenient().when(paymentHandler.reservationIdOf(any()))
+				.thenAnswer(invocation -> Long.parseLong(invocation.<PaymentCompletedEvent>getArgument(0).getReservationId()));
+		lenient().when(cancelHandler.reservationIdOf(any()))
+				.thenAnswer(invocation -> invocation.<SlotCancelledEvent>getArgument(0).getReservationId());
+		
+		consumer = new EventConsumer(List.of(paymentHandler, cancelHandler, restoreHandler), new ObjectMapper());
+	}
+	
+	private static String payment(long reservationId) {
+		return "{\"eventType\":\"PaymentCompleted\",\"paymentId\":\"P" + reservationId
+				+ "\",\"reservationId\":\"" + reservationId + "\",\"amount\":10000}";
+	}
+	
+	private static String cancel(long reservationId) {
+		return "{\"eventType\":\"SlotCancelled\",\"reservationId\":\"" + reservationId + "\",\"cancelReason\":\"USER\"}";
+	}
+	
+	private static String restore(long reservationId) {
+		return "{\"eventType\":\"SlotRestored\",\"reservationId\":\"" + reservationId + "\",\"restoreReason\":\"REFUND\"}";
+	}
+	
+	private static List<ConsumerRecord<String, String>> records(String... values) {
+		List<ConsumerRecord<String, String>> records = new ArrayList<>();
+		for (int i = 0; i < values.length; i++) {
+			records.add(new ConsumerRecord<>("topic", 0, i, null, values[i]));
+		}
+		return records;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private <T> List<List<T>> batches(BatchEventHandler<?> handler, int times) {
+		ArgumentCaptor<List<T>> captor = ArgumentCaptor.forClass(List.class);
+		verify((BatchEventHandler<?>) handler, times(times)).handleBatch((List) captor.capture());
+		return captor.getAllValues();
+	}
+	
+	@Test
+	@DisplayName("[정상] 같은 핸들러의 이벤트를 한 번의 handleBatch로 묶고 성공 후 offset을 커밋한다")
+	void consume_groupsByHandler() {
+		// When
+		consumer.consume(records(payment(1), payment(2), cancel(3), payment(4)), acknowledgment);
+		
+		// Then
+		List<List<PaymentCompletedEvent>> payments = batches(paymentHandler, 1);
+		assertThat(payments.get(0)).extracting(PaymentCompletedEvent::getReservationId)
+				.containsExactly("1", "2", "4");
+		List<List<SlotCancelledEvent>> cancels = batches(cancelHandler, 1);
+		assertThat(cancels.get(0)).extracting(SlotCancelledEvent::getReservationId).containsExactly(3L);
+		verify(acknowledgment).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("[정상] 같은 예약이 다른 핸들러로 들어오면 묶음을 나눠 도착 순서대로 처리한다")
+	void consume_splitsOnReservationConflict() {
+		// When
+		consumer.consume(records(payment(1), cancel(1), payment(2)), acknowledgment);
+		
+		// Then
+		InOrder order = inOrder(paymentHandler, cancelHandler);
+		order.verify(paymentHandler).handleBatch(anyList());
+		order.verify(cancelHandler).handleBatch(anyList());
+		order.verify(paymentHandler).handleBatch(anyList());
+		List<List<PaymentCompletedEvent>> payments = batches(paymentHandler, 2);
+		assertThat(payments.get(0)).extracting(PaymentCompletedEvent::getReservationId).containsExactly("1");
+		assertThat(payments.get(1)).extracting(PaymentCompletedEvent::getReservationId).containsExactly("2");
+		verify(acknowledgment).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("[정상] 배치 미지원 핸들러의 이벤트는 앞선 묶음을 처리한 뒤 하나씩 처리한다")
+	void consume_flushesBeforeSingleHandler() {
+		// When
+		consumer.consume(records(payment(1), restore(5), payment(2)), acknowledgment);
+		
+		// Then
+		InOrder order = inOrder(paymentHandler, restoreHandler);
+		order.verify(paymentHandler).handleBatch(anyList());
+		order.verify(restoreHandler).handle(any());
+		order.verify(paymentHandler).handleBatch(anyList());
+		verify(acknowledgment).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("[예외] 묶음 처리에 실패하면 하나씩 다시 처리해 실제로 실패한 레코드 위치를 알리고 offset을 커밋하지 않는다")
+	void consume_groupFailureReportsFailingRecord() {
+		// Given: 묶음 처리는 실패, 하나씩 처리하면 예약 2만 실패
+		doThrow(new IllegalStateException("db down")).when(paymentHandler).handleBatch(anyList());
+		lenient().doThrow(new IllegalStateException("db down")).when(paymentHandler)
+				.handle(argThat(event -> "2".equals(event.getReservationId())));
+		
+		// When & Then
+		assertThatThrownBy(() ->
+				consumer.consume(records(restore(5), payment(1), payment(2), payment(3)), acknowledgment))
+				.isInstanceOf(BatchListenerFailedException.class)
+				.satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(2));
+		verify(restoreHandler).handle(any());
+		verify(paymentHandler, times(2)).handle(any());
+		verify(paymentHandler, never()).handle(argThat(event -> "3".equals(event.getReservationId())));
+		verify(acknowledgment, never()).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("[예외] 묶음 실패 후 남은 묶음의 이벤트도 도착 순서대로 하나씩 처리한다")
+	void consume_groupFailureRetriesRemainingGroupsInOrder() {
+		// Given: 결제 묶음이 실패 (취소 묶음은 아직 처리 전)
+		doThrow(new IllegalStateException("db down")).when(paymentHandler).handleBatch(anyList());
+		
+		// When
+		consumer.consume(records(payment(1), cancel(2), payment(3)), acknowledgment);
+		
+		// Then
+		InOrder order = inOrder(paymentHandler, cancelHandler);
+		order.verify(paymentHandler).handle(argThat(event -> "1".equals(event.getReservationId())));
+		order.verify(cancelHandler).handle(any());
+		order.verify(paymentHandler).handle(argThat(event -> "3".equals(event.getReservationId())));
+		verify(cancelHandler, never()).handleBatch(anyList());
+		verify(acknowledgment).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("[예외] 재시도해도 결과가 같은 업무 예외는 로그만 남기고 건너뛴다")
+	void consume_skipsNonRetryableFailures() {
+		// Given: 슬롯이 이미 정리된 복구 이벤트, 묶음 실패 후 하나씩 처리하면 예약 1이 잘못된 상태
+		doThrow(new SlotNotFoundException()).when(restoreHandler).handle(any());
+		doThrow(new IllegalStateException("db down")).when(paymentHandler).handleBatch(anyList());
+		lenient().doThrow(new InvalidSlotStateTransitionException("AVAILABLE", "RESERVED")).when(paymentHandler)
+				.handle(argThat(event -> "1".equals(event.getReservationId())));
+		
+		// When
+		consumer.consume(records(restore(5), payment(1), payment(2)), acknowledgment);
+		
+		// Then
+		verify(paymentHandler, times(2)).handle(any());
+		verify(acknowledgment).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("[정상] 원인을 감싼 예외와 인프라 예외는 재시도 대상으로 분류한다")
+	void isNonRetryable_classifiesExceptions() {
+		assertThat(EventConsumer.isNonRetryable(new SlotNotFoundException())).isTrue();
+		assertThat(EventConsumer.isNonRetryable(new IllegalArgumentException("bad id"))).isTrue();
+		assertThat(EventConsumer.isNonRetryable(
+				SlotGenerationFailedException.forRoom(1L, new IllegalStateException("db down")))).isFalse();
+		assertThat(EventConsumer.isNonRetryable(new IllegalStateException("db down"))).isFalse();
+	}
+	
+	@Test
+	@DisplayName("[예외] 형식이 잘못되었거나 알 수 없는 이벤트는 건너뛰고 나머지를 처리한다")
+	void consume_skipsMalformed() {
+		// When
+		consumer.consume(records("not-json", "{\"eventType\":\"Unknown\"}", "{\"foo\":1}",
+				payment(1)), acknowledgment);
+		
+		// Then
+		List<List<PaymentCompletedEvent>> payments = batches(paymentHandler, 1);
+		assertThat(payments.get(0)).hasSize(1);
+		verify(acknowledgment).acknowledge();
+	}
+}
@@ -0,0 +1,146 @@
+package com.teambind.springproject.message.outbox.publisher;
+
+import com.teambind.springproject.message.outbox.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OutboxAckWriter 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 등록된 ID를 최대 배치 크기 단위의 UPDATE로 반영
+ * - 용량 초과 시 등록 거부 (Relay 재발행 대상)
+ * - 반영 실패 시 버리고 다음 flush에 영향 없음
+ * - 잠금 대기 시간 초과 시 다시 큐에 넣고 다음 flush에 반영
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxAckWriter 테스트")
+class OutboxAckWriterTest {
+
+	@Mock
+	private OutboxMessageRepository outboxRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OutboxAckWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		writer = new OutboxAckWriter(outboxRepository, transactionManager, meterRegistry,
+				3, 2, Duration.ofMillis(10), Duration.ofSeconds(1));
+	}
+
+	private double acks(String result) {
+		return meterRegistry.get("outbox.ack_writer.acks").tag("result", result).counter().count();
+	}
+
+	@Test
+	@DisplayName("[정상] 등록된 ID를 최대 배치 크기 단위의 UPDATE로 반영한다")
+	void flush_bulkUpdate() {
+		// Given
+		writer.acknowledge(1L);
+		writer.acknowledge(2L);
+		writer.acknowledge(3L);
+		when(outboxRepository.markAsPublished(eq(List.of(1L, 2L)), any())).thenReturn(2);
+		when(outboxRepository.markAsPublished(eq(List.of(3L)), any())).thenReturn(1);
+
+		// When
+		int updated = writer.flush();
+
+		// Then
+		assertThat(updated).isEqualTo(3);
+		assertThat(acks("flushed")).isEqualTo(3);
+		assertThat(meterRegistry.get("outbox.ack_writer.pending").gauge().value()).isZero();
+		assertThat(writer.flush()).isZero();
+	}
+
+	@Test
+	@DisplayName("[예외] 용량을 초과한 ID는 등록하지 않는다")
+	void acknowledge_overCapacity() {
+		// Given
+		writer.acknowledge(1L);
+		writer.acknowledge(2L);
+		writer.acknowledge(3L);
+
+		// When
+		boolean accepted = writer.acknowledge(4L);
+
+		// Then
+		assertThat(accepted).isFalse();
+		assertThat(acks("dropped")).isEqualTo(1);
+		assertThat(meterRegistry.get("outbox.ack_writer.pending").gauge().value()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("[예외] 반영에 실패한 ID는 버리고 Relay 재발행에 맡긴다")
+	void flush_failureDropsBatch() {
+		// Given
+		writer.acknowledge(1L);
+		when(outboxRepository.markAsPublished(anyCollection(), any()))
+				.thenThrow(new IllegalStateException("db down"));
+
+		// When
+		int updated = writer.flush();
+
+		// Then
+		assertThat(updated).isZero();
+		assertThat(acks("dropped")).isEqualTo(1);
+		assertThat(writer.flush()).isZero();
+	}
+
+	@Test
+	@DisplayName("[예외] 잠금 대기 시간을 넘긴 배치는 다시 큐에 넣고 다음 flush에 반영한다")
+	void flush_lockTimeoutRequeuesBatch() {
+		// Given
+		writer.acknowledge(1L);
+		writer.acknowledge(2L);
+		when(outboxRepository.markAsPublished(eq(List.of(1L, 2L)), any()))
+				.thenThrow(new QueryTimeoutException("lock wait timeout"))
+				.thenReturn(2);
+
+		// When
+		int first = writer.flush();
+		int second = writer.flush();
+
+		// Then
+		assertThat(first).isZero();
+		assertThat(second).isEqualTo(2);
+		assertThat(acks("requeued")).isEqualTo(2);
+		assertThat(acks("dropped")).isZero();
+		assertThat(acks("flushed")).isEqualTo(2);
+		verify(outboxRepository, times(2)).markAsPublished(eq(List.of(1L, 2L)), any());
+	}
+
+		@Test
+	@DisplayName("[정상] 등록된 ID가 없으면 UPDATE를 실행하지 않는다")
+	void flush_empty() {
+		// When
+		writer.flush();
+
+		// Then
+		verify(outboxRepository, never()).markAsPublished(anyCollection(), any());
+	}
+}
@@ -0,0 +1,218 @@
+package com.teambind.springproject.message.outbox.publisher;
+
+import com.teambind.springproject.message.outbox.event.OutboxSavedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OutboxImmediatePublisher / OutboxRingBuffer 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 링 버퍼 용량 올림, 가득 찼을 때 블록 없이 거부, FIFO 순서
+ * - 여러 생산자가 동시에 넣어도 유실/중복 없음
+ * - 버퍼가 가득 차면 이벤트를 버리고 지표에 기록
+ * - 배치 단위 전송 후 성공한 메시지만 Ack 등록
+ * - 버퍼가 비면 전송 스레드가 대기하고 등록 시 깨어남
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxImmediatePublisher 테스트")
+class OutboxImmediatePublisherTest {
+
+	@Mock
+	private KafkaTemplate<String, String> kafkaTemplate;
+
+	@Mock
+	private OutboxAckWriter ackWriter;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OutboxImmediatePublisher publisher;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		// 전송 스레드 없이 시작 - 테스트에서 publishBatch를 직접 호출
+		publisher = new OutboxImmediatePublisher(kafkaTemplate, ackWriter, meterRegistry,
+				4, 0, 3, Duration.ofMillis(50));
+		publisher.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		publisher.stop();
+	}
+
+	private OutboxSavedEvent event(long id) {
+		return new OutboxSavedEvent(id, "slot-topic", String.valueOf(id), "{}");
+	}
+
+	private double events(String result) {
+		return meterRegistry.get("outbox.immediate.events").tag("result", result).counter().count();
+	}
+
+	@Test
+	@DisplayName("[정상] 링 버퍼는 용량을 2의 거듭제곱으로 올리고 가득 차면 블록 없이 거부하며 FIFO로 꺼낸다")
+	void ringBuffer_boundedFifo() {
+		// Given
+		OutboxRingBuffer<Integer> buffer = new OutboxRingBuffer<>(3);
+
+		// When
+		for (int i = 0; i < 4; i++) {
+			assertThat(buffer.offer(i)).isTrue();
+		}
+		boolean overflow = buffer.offer(4);
+		List<Integer> drained = new ArrayList<>();
+		buffer.drainTo(drained, 10);
+
+		// Then
+		assertThat(buffer.capacity()).isEqualTo(4);
+		assertThat(overflow).isFalse();
+		assertThat(drained).containsExactly(0, 1, 2, 3);
+		assertThat(buffer.poll()).isNull();
+		assertThat(buffer.offer(5)).isTrue();
+	}
+
+	@Test
+	@DisplayName("[동시성] 여러 생산자와 소비자가 동시에 사용해도 유실이나 중복이 없다")
+	void ringBuffer_concurrentProducers() throws Exception {
+		// Given
+		OutboxRingBuffer<Integer> buffer = new OutboxRingBuffer<>(64);
+		int producers = 4;
+		int perProducer = 5000;
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		CountDownLatch start = new CountDownLatch(1);
+		for (int p = 0; p < producers; p++) {
+			int base = p * perProducer;
+			executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < perProducer; i++) {
+					while (!buffer.offer(base + i)) {
+						Thread.onSpinWait();
+					}
+				}
+				return null;
+			});
+		}
+
+		// When
+		start.countDown();
+		boolean[] seen = new boolean[producers * perProducer];
+		int received = 0;
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (received < seen.length && System.nanoTime() < deadline) {
+			Integer value = buffer.poll();
+			if (value == null) {
+				continue;
+			}
+			assertThat(seen[value]).isFalse();
+			seen[value] = true;
+			received++;
+		}
+		executor.shutdownNow();
+
+		// Then
+		assertThat(received).isEqualTo(producers * perProducer);
+	}
+
+	@Test
+	@DisplayName("[예외] 버퍼가 가득 차면 이벤트를 버리고 Scheduler 발행에 맡긴다")
+	void onOutboxSaved_overflowDrops() {
+		// When
+		for (long id = 1; id <= 5; id++) {
+			publisher.onOutboxSaved(event(id));
+		}
+
+		// Then
+		assertThat(events("enqueued")).isEqualTo(4);
+		assertThat(events("dropped")).isEqualTo(1);
+		assertThat(meterRegistry.get("outbox.immediate.buffer.occupancy").gauge().value()).isEqualTo(4);
+		verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("[정상] 배치 단위로 전송하고 성공한 메시지만 Ack에 등록한다")
+	void publishBatch_acksSuccesses() {
+		// Given
+		for (long id = 1; id <= 4; id++) {
+			publisher.onOutboxSaved(event(id));
+		}
+		when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+				.thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+		when(kafkaTemplate.send("slot-topic", "2", "{}"))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+		// When
+		int first = publisher.publishBatch();
+		int second = publisher.publishBatch();
+
+		// Then
+		assertThat(first).isEqualTo(3);
+		assertThat(second).isEqualTo(1);
+		verify(ackWriter).acknowledge(1L);
+		verify(ackWriter, never()).acknowledge(2L);
+		verify(ackWriter).acknowledge(3L);
+		verify(ackWriter).acknowledge(4L);
+		assertThat(meterRegistry.get("outbox.immediate.sends").tag("result", "failed").counter().count())
+				.isEqualTo(1);
+		assertThat(publisher.publishBatch()).isZero();
+		verify(kafkaTemplate, never()).send(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("[정상] 버퍼가 비면 전송 스레드는 시간 제한 없이 대기하고 이벤트 등록 시 깨어나 전송한다")
+	void consume_blocksUntilOffered() throws Exception {
+		// Given: 전송 스레드 1개
+		OutboxImmediatePublisher withWorker = new OutboxImmediatePublisher(kafkaTemplate, ackWriter,
+				new SimpleMeterRegistry(), 4, 1, 3, Duration.ofMillis(50));
+		when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+				.thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+		// 같은 JVM의 다른 Publisher 스레드와 구분하기 위해 시작 전 스레드를 기록
+		Set<Thread> existing = Thread.getAllStackTraces().keySet();
+		withWorker.start();
+		try {
+			Thread worker = Thread.getAllStackTraces().keySet().stream()
+					.filter(thread -> thread.getName().equals("outbox-publisher-0") && !existing.contains(thread))
+					.findFirst()
+					.orElseThrow();
+
+			// When: 버퍼가 빈 동안 대기 상태가 됨 (주기적으로 깨어나는 TIMED_WAITING이 아님)
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (worker.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+				Thread.sleep(1);
+			}
+			assertThat(worker.getState()).isEqualTo(Thread.State.WAITING);
+			withWorker.onOutboxSaved(event(1L));
+
+			// Then
+			verify(ackWriter, timeout(5000)).acknowledge(1L);
+		} finally {
+			withWorker.stop();
+		}
+	}
+}
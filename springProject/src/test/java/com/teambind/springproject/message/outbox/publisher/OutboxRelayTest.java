@@ -0,0 +1,173 @@
+package com.teambind.springproject.message.outbox.publisher;
+
+import com.teambind.springproject.message.outbox.entity.OutboxMessage;
+import com.teambind.springproject.message.outbox.enums.OutboxStatus;
+import com.teambind.springproject.message.outbox.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OutboxRelay 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 배치 잠금 후 성공 메시지를 한 번의 UPDATE로 반영
+ * - 실패/시간 초과 메시지만 재시도 횟수 증가 및 백오프
+ * - 최대 재시도 초과 시 FAILED 처리
+ * - 연속 실패 시 Circuit Breaker로 Relay 중지
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+	private static final int BATCH_SIZE = 2;
+	private static final int MAX_RETRIES = 3;
+
+	@Mock
+	private OutboxMessageRepository outboxRepository;
+
+	@Mock
+	private KafkaTemplate<String, String> kafkaTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OutboxCircuitBreaker circuitBreaker;
+	private OutboxRelay relay;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		circuitBreaker = new OutboxCircuitBreaker(meterRegistry, 2, Duration.ofHours(1));
+		relay = new OutboxRelay(outboxRepository, kafkaTemplate, circuitBreaker, meterRegistry,
+				BATCH_SIZE, MAX_RETRIES, Duration.ofMillis(50), Duration.ofSeconds(10), Duration.ofMinutes(1));
+	}
+
+	private OutboxMessage message(long id, String aggregateId) {
+		OutboxMessage message = OutboxMessage.create("RoomTimeSlot", aggregateId, "slot-topic", "SlotReserved", "{}");
+		ReflectionTestUtils.setField(message, "id", id);
+		return message;
+	}
+
+	private double messages(String result) {
+		return meterRegistry.get("outbox.relay.messages").tag("result", result).counter().count();
+	}
+
+	@Test
+	@DisplayName("[정상] 배치 전체가 성공하면 한 번의 UPDATE로 PUBLISHED 처리하고 다음 배치를 이어서 처리한다")
+	void relayBatch_allPublished() {
+		// Given
+		OutboxMessage first = message(1L, "10");
+		OutboxMessage second = message(2L, "20");
+		when(outboxRepository.claimRetryableMessages(eq(MAX_RETRIES), any(), any())).thenReturn(List.of(first, second));
+		when(kafkaTemplate.send(any(String.class), any(String.class), any(String.class)))
+				.thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+		// When
+		OutboxRelay.RelayResult result = relay.relayBatch();
+
+		// Then
+		assertThat(result.published()).isEqualTo(2);
+		assertThat(result.hasMore()).isTrue();
+		verify(outboxRepository).markAsPublished(eq(List.of(1L, 2L)), any());
+		assertThat(first.getRetryCount()).isZero();
+		assertThat(messages("published")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("[예외] 실패하거나 시간 안에 완료되지 않은 메시지만 재시도 횟수를 증가시킨다")
+	void relayBatch_partialFailure() {
+		// Given
+		OutboxMessage published = message(1L, "10");
+		OutboxMessage timedOut = message(2L, "20");
+		when(outboxRepository.claimRetryableMessages(eq(MAX_RETRIES), any(), any())).thenReturn(List.of(published, timedOut));
+		when(kafkaTemplate.send("slot-topic", "10", "{}"))
+				.thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+		when(kafkaTemplate.send("slot-topic", "20", "{}")).thenReturn(new CompletableFuture<>());
+
+		// When
+		OutboxRelay.RelayResult result = relay.relayBatch();
+
+		// Then
+		assertThat(result.published()).isEqualTo(1);
+		assertThat(result.failed()).isEqualTo(1);
+		assertThat(result.hasMore()).isFalse();
+		verify(outboxRepository).markAsPublished(eq(List.of(1L)), any());
+		assertThat(timedOut.getRetryCount()).isEqualTo(1);
+		assertThat(timedOut.getStatus()).isEqualTo(OutboxStatus.PENDING);
+		assertThat(timedOut.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(4));
+		assertThat(messages("retry")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[예외] 최대 재시도에 도달한 메시지는 FAILED 처리한다")
+	void relayBatch_exceedsMaxRetries() {
+		// Given
+		OutboxMessage message = message(1L, "10");
+		ReflectionTestUtils.setField(message, "retryCount", MAX_RETRIES - 1);
+		when(outboxRepository.claimRetryableMessages(eq(MAX_RETRIES), any(), any())).thenReturn(List.of(message));
+		when(kafkaTemplate.send(any(String.class), any(String.class), any(String.class)))
+				.thenThrow(new IllegalStateException("broker down"));
+
+		// When
+		relay.relayBatch();
+
+		// Then
+		assertThat(message.getStatus()).isEqualTo(OutboxStatus.FAILED);
+		assertThat(message.getErrorMessage()).contains("broker down");
+		verify(outboxRepository, never()).markAsPublished(anyCollection(), any());
+		assertThat(messages("failed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[정상] 재시도 지연은 지수적으로 늘어나고 jitter를 포함하며 최대값을 넘지 않는다")
+	void nextAttemptAt_exponentialBackoff() {
+		// Given
+		LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+		// When & Then: initial 10초, max 1분
+		assertThat(relay.nextAttemptAt(1, now)).isBetween(now.plusSeconds(5), now.plusSeconds(10));
+		assertThat(relay.nextAttemptAt(3, now)).isBetween(now.plusSeconds(20), now.plusSeconds(40));
+		assertThat(relay.nextAttemptAt(20, now)).isBetween(now.plusSeconds(30), now.plusSeconds(60));
+	}
+
+	@Test
+	@DisplayName("[예외] 발행에 전부 실패한 배치가 연속되면 Circuit을 열고 배치를 잠그지 않는다")
+	void relayBatch_circuitOpens() {
+		// Given
+		when(outboxRepository.claimRetryableMessages(eq(MAX_RETRIES), any(), any()))
+				.thenAnswer(invocation -> List.of(message(1L, "10")));
+		when(kafkaTemplate.send(any(String.class), any(String.class), any(String.class)))
+				.thenThrow(new IllegalStateException("broker down"));
+
+		// When
+		relay.relayBatch();
+		relay.relayBatch();
+		OutboxRelay.RelayResult paused = relay.relayBatch();
+
+		// Then
+		assertThat(circuitBreaker.getState()).isEqualTo(OutboxCircuitBreaker.State.OPEN);
+		assertThat(paused.claimed()).isZero();
+		verify(outboxRepository, times(2)).claimRetryableMessages(eq(MAX_RETRIES), any(), any());
+	}
+}
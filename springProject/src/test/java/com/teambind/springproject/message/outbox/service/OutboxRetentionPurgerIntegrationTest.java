@@ -0,0 +1,91 @@
+package com.teambind.springproject.message.outbox.service;
+
+import com.teambind.springproject.message.outbox.entity.OutboxMessage;
+import com.teambind.springproject.message.outbox.repository.OutboxMessageRepository;
+import com.teambind.springproject.room.BaseIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OutboxRetentionPurger 통합 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 보관 기간이 지난 PUBLISHED / FAILED 메시지를 청크 단위로 삭제
+ * - 보관 기간 내 메시지와 PENDING 메시지는 유지
+ */
+@DisplayName("OutboxRetentionPurger 통합 테스트")
+class OutboxRetentionPurgerIntegrationTest extends BaseIntegrationTest {
+
+	@Autowired
+	private OutboxMessageRepository outboxRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OutboxRetentionPurger purger;
+
+	@BeforeEach
+	void setUp() {
+		outboxRepository.deleteAll();
+		meterRegistry = new SimpleMeterRegistry();
+		purger = new OutboxRetentionPurger(outboxRepository, transactionManager, meterRegistry,
+				Duration.ofDays(7), Duration.ofDays(30), 2, 10, Duration.ZERO);
+	}
+
+	private OutboxMessage save(String aggregateId, LocalDateTime createdAt) {
+		OutboxMessage message = OutboxMessage.create("RoomTimeSlot", aggregateId, "slot-topic", "SlotReserved", "{}");
+		ReflectionTestUtils.setField(message, "createdAt", createdAt);
+		return message;
+	}
+
+	private OutboxMessage published(String aggregateId, LocalDateTime publishedAt) {
+		OutboxMessage message = save(aggregateId, publishedAt);
+		message.markAsPublished();
+		ReflectionTestUtils.setField(message, "publishedAt", publishedAt);
+		return outboxRepository.save(message);
+	}
+
+	private OutboxMessage failed(String aggregateId, LocalDateTime createdAt) {
+		OutboxMessage message = save(aggregateId, createdAt);
+		message.markAsFailed("Max retries exceeded");
+		return outboxRepository.save(message);
+	}
+
+	@Test
+	@DisplayName("[정상] 보관 기간이 지난 PUBLISHED / FAILED 메시지만 청크 단위로 삭제한다")
+	void purge_deletesExpiredInChunks() {
+		// Given
+		LocalDateTime now = LocalDateTime.now();
+		published("1", now.minusDays(10));
+		published("2", now.minusDays(9));
+		published("3", now.minusDays(8));
+		OutboxMessage recentPublished = published("4", now.minusDays(1));
+		failed("5", now.minusDays(40));
+		OutboxMessage recentFailed = failed("6", now.minusDays(10));
+		OutboxMessage pending = outboxRepository.save(save("7", now.minusDays(60)));
+
+		// When
+		int deleted = purger.purge();
+
+		// Then
+		assertThat(deleted).isEqualTo(4);
+		assertThat(outboxRepository.findAll()).extracting(OutboxMessage::getId)
+				.containsExactlyInAnyOrder(recentPublished.getId(), recentFailed.getId(), pending.getId());
+		assertThat(meterRegistry.get("outbox.retention.deleted").tag("status", "PUBLISHED").counter().count())
+				.isEqualTo(3);
+		assertThat(meterRegistry.get("outbox.retention.deleted").tag("status", "FAILED").counter().count())
+				.isEqualTo(1);
+	}
+}
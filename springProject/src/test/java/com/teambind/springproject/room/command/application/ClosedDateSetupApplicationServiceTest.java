@@ -1,5 +1,6 @@
 package com.teambind.springproject.room.command.application;
 
+import com.teambind.springproject.common.exceptions.application.InvalidRequestException;
 import com.teambind.springproject.common.exceptions.domain.RequestNotFoundException;
 import com.teambind.springproject.message.publish.EventPublisher;
 import com.teambind.springproject.room.command.dto.ClosedDateDto;
@@ -11,6 +12,7 @@ import com.teambind.springproject.room.entity.RoomOperatingPolicy;
 import com.teambind.springproject.room.entity.enums.GenerationStatus;
 import com.teambind.springproject.room.entity.enums.RecurrencePattern;
 import com.teambind.springproject.room.entity.enums.SlotUnit;
+import com.teambind.springproject.room.entity.vo.ClosedDateRange;
 import com.teambind.springproject.room.entity.vo.WeeklySlotSchedule;
 import com.teambind.springproject.room.entity.vo.WeeklySlotTime;
 import com.teambind.springproject.room.event.event.ClosedDateUpdateRequestedEvent;
@@ -410,4 +412,52 @@ class ClosedDateSetupApplicationServiceTest {
 		
 		log.info("=== [패턴 기반 휴무일 설정] 테스트 성공 ===");
 	}
+	
+	@Test
+	@DisplayName("등록된 휴무일을 해제하고 해제한 기간만 대상으로 슬롯 복구를 요청한다")
+	void removeClosedDates() {
+		log.info("=== [휴무일 해제 및 슬롯 복구 요청] 테스트 시작 ===");
+		
+		// Given: 2025-01-15 종일 휴무가 등록된 정책
+		policy.addClosedDate(ClosedDateRange.ofFullDay(LocalDate.of(2025, 1, 15)));
+		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(policy));
+		
+		// When
+		ClosedDateSetupResponse response = service.removeClosedDates(setupRequest);
+		
+		// Then
+		assertThat(response.getRoomId()).isEqualTo(roomId);
+		assertThat(response.getClosedDateCount()).isEqualTo(1);
+		assertThat(response.getStatus()).isEqualTo(GenerationStatus.REQUESTED);
+		assertThat(policy.getClosedDates()).isEmpty();
+		verify(operatingPolicyPort, times(1)).save(policy);
+		
+		ArgumentCaptor<ClosedDateUpdateRequest> requestCaptor = ArgumentCaptor.forClass(ClosedDateUpdateRequest.class);
+		verify(updateRequestPort, times(1)).save(requestCaptor.capture());
+		ClosedDateUpdateRequest capturedRequest = requestCaptor.getValue();
+		assertThat(capturedRequest.isReopen()).isTrue();
+		assertThat(capturedRequest.getTargetStartDate()).isEqualTo(LocalDate.of(2025, 1, 15));
+		assertThat(capturedRequest.getTargetEndDate()).isEqualTo(LocalDate.of(2025, 1, 15));
+		verify(eventPublisher, times(1)).publish(any(ClosedDateUpdateRequestedEvent.class));
+		
+		log.info("=== [휴무일 해제 및 슬롯 복구 요청] 테스트 성공 ===");
+	}
+	
+	@Test
+	@DisplayName("등록되지 않은 휴무일만 해제하면 예외가 발생한다")
+	void removeClosedDates_notRegistered() {
+		log.info("=== [등록되지 않은 휴무일 해제 예외] 테스트 시작 ===");
+		
+		// Given: 휴무일이 없는 정책
+		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(policy));
+		
+		// When & Then
+		assertThatThrownBy(() -> service.removeClosedDates(setupRequest))
+				.isInstanceOf(InvalidRequestException.class);
+		verify(operatingPolicyPort, never()).save(any());
+		verify(updateRequestPort, never()).save(any());
+		verify(eventPublisher, never()).publish(any());
+		
+		log.info("=== [등록되지 않은 휴무일 해제 예외] 테스트 성공 ===");
+	}
 }
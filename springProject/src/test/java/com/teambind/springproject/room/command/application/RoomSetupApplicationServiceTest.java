@@ -1,9 +1,13 @@
 package com.teambind.springproject.room.command.application;
 
+import com.teambind.springproject.common.exceptions.ErrorCode;
+import com.teambind.springproject.common.exceptions.application.CapacityExceededException;
 import com.teambind.springproject.common.exceptions.domain.RequestNotFoundException;
 import com.teambind.springproject.message.publish.EventPublisher;
+import com.teambind.springproject.room.command.domain.service.SlotGenerationJobQueue;
 import com.teambind.springproject.room.command.dto.RoomOperatingPolicySetupRequest;
 import com.teambind.springproject.room.command.dto.WeeklySlotDto;
+import com.teambind.springproject.room.domain.port.GenerationWatermarkPort;
 import com.teambind.springproject.room.domain.port.OperatingPolicyPort;
 import com.teambind.springproject.room.domain.port.SlotGenerationRequestPort;
 import com.teambind.springproject.room.entity.RoomOperatingPolicy;
@@ -54,6 +58,12 @@ class RoomSetupApplicationServiceTest {
 	@Mock
 	private EventPublisher eventPublisher;
 	
+	@Mock
+	private SlotGenerationJobQueue slotGenerationJobQueue;
+	
+	@Mock
+	private GenerationWatermarkPort generationWatermarkPort;
+	
 	@InjectMocks
 	private RoomSetupApplicationService service;
 	
@@ -150,6 +160,28 @@ class RoomSetupApplicationServiceTest {
 		log.info("=== [룸 운영 정책 설정 및 슬롯 생성 요청] 테스트 성공 ===");
 	}
 	
+	@Test
+	@DisplayName("대기 중인 슬롯 생성 요청이 한도를 넘으면 정책을 저장하지 않고 거부한다")
+	void setupRoom_queueFull() {
+		log.info("=== [슬롯 생성 큐 초과] 테스트 시작 ===");
+		
+		// Given
+		doThrow(CapacityExceededException.slotGenerationQueue(200))
+				.when(slotGenerationJobQueue).ensureCapacity();
+		log.info("[Given] - slotGenerationJobQueue.ensureCapacity() -> 한도 초과");
+		
+		// When & Then
+		assertThatThrownBy(() -> service.setupRoom(setupRequest))
+				.isInstanceOf(CapacityExceededException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.GENERATION_QUEUE_FULL);
+		verify(operatingPolicyPort, never()).save(any());
+		verify(slotGenerationRequestPort, never()).save(any());
+		verify(eventPublisher, never()).publish(any());
+		
+		log.info("=== [슬롯 생성 큐 초과] 테스트 성공 ===");
+	}
+	
 	@Test
 	@DisplayName("빈 슬롯 목록으로 설정 시 기본 recurrence 패턴을 사용한다")
 	void setupRoom_emptySlots() {
@@ -0,0 +1,262 @@
+package com.teambind.springproject.room.command.domain.service;
+
+import com.teambind.springproject.room.domain.port.OperatingPolicyPort;
+import com.teambind.springproject.room.domain.port.SlotGenerationRequestPort;
+import com.teambind.springproject.room.entity.SlotGenerationRequest;
+import com.teambind.springproject.room.entity.enums.GenerationJobType;
+import com.teambind.springproject.room.entity.enums.GenerationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OperatingHoursRegenerationJobRunner 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 요청 제출 후 워커 스레드에서 재생성 실행 및 상태 전이
+ * - 룸별 단일 실행 / 실행 중 들어온 요청 중 마지막 요청만 실행
+ * - 취소된 요청 건너뛰기
+ * - 다른 실행자가 처리 중인 룸의 요청은 대기 상태로 유지
+ * - 대기/중단된 요청 재제출
+ * - 큐 초과 및 실패 시 FAILED 기록
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OperatingHoursRegenerationJobRunner 테스트")
+class OperatingHoursRegenerationJobRunnerTest {
+
+	private static final Long ROOM_ID = 1L;
+
+	@Mock
+	private OperatingHoursUpdateService updateService;
+
+	@Mock
+	private SlotGenerationRequestPort requestPort;
+
+	@Mock
+	private OperatingPolicyPort operatingPolicyPort;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final Map<String, SlotGenerationRequest> requests = new HashMap<>();
+	private final List<String> executed = new CopyOnWriteArrayList<>();
+	private ThreadPoolTaskExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private OperatingHoursRegenerationJobRunner runner(int workers, int queueCapacity) {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setQueueCapacity(queueCapacity);
+		executor.initialize();
+
+		lenient().when(requestPort.findById(anyString()))
+				.thenAnswer(invocation -> Optional.ofNullable(requests.get(invocation.<String>getArgument(0))));
+		lenient().when(requestPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		return new OperatingHoursRegenerationJobRunner(
+				updateService, requestPort, operatingPolicyPort, executor, transactionManager, Duration.ofMinutes(10));
+	}
+
+	private SlotGenerationRequest request(String requestId, Long roomId) {
+		SlotGenerationRequest request = SlotGenerationRequest.create(
+				requestId, roomId, LocalDate.now(), LocalDate.now().plusDays(30), GenerationJobType.OPERATING_HOURS_UPDATE);
+		requests.put(requestId, request);
+		return request;
+	}
+
+	@Test
+	@DisplayName("[정상] 제출된 요청은 워커 스레드에서 실행되고 완료 후에도 요청이 남는다")
+	void runsOnWorkerThread() {
+		// Given
+		OperatingHoursRegenerationJobRunner runner = runner(1, 10);
+		SlotGenerationRequest request = request("r1", ROOM_ID);
+		String caller = Thread.currentThread().getName();
+		List<String> threads = new CopyOnWriteArrayList<>();
+		when(updateService.regenerateSlots("r1", ROOM_ID)).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread().getName());
+			request.markAsCompleted(3);
+			return 3;
+		});
+
+		// When
+		runner.submit("r1", ROOM_ID);
+
+		// Then
+		await().atMost(5, TimeUnit.SECONDS).until(() -> request.getStatus() == GenerationStatus.COMPLETED);
+		assertThat(threads).hasSize(1).doesNotContain(caller);
+		assertThat(request.getStartedAt()).isNotNull();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> runner.getActiveRoomCount() == 0);
+	}
+
+	@Test
+	@DisplayName("[정상] 같은 룸의 작업 실행 중 들어온 요청은 마지막 요청 하나만 이어서 실행된다")
+	void coalescesRequestsPerRoom() throws InterruptedException {
+		// Given
+		OperatingHoursRegenerationJobRunner runner = runner(2, 10);
+		request("r1", ROOM_ID);
+		request("r2", ROOM_ID);
+		request("r3", ROOM_ID);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(updateService.regenerateSlots(anyString(), anyLong())).thenAnswer(invocation -> {
+			String requestId = invocation.getArgument(0);
+			executed.add(requestId);
+			if (requestId.equals("r1")) {
+				started.countDown();
+				release.await(5, TimeUnit.SECONDS);
+			}
+			return 0;
+		});
+
+		// When
+		runner.submit("r1", ROOM_ID);
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		runner.submit("r2", ROOM_ID);
+		runner.submit("r3", ROOM_ID);
+		release.countDown();
+
+		// Then
+		await().atMost(5, TimeUnit.SECONDS).until(() -> executed.size() == 2 && runner.getActiveRoomCount() == 0);
+		assertThat(executed).containsExactly("r1", "r3");
+	}
+
+	@Test
+	@DisplayName("[정상] 실행 전에 취소된 요청은 재생성하지 않는다")
+	void skipsCancelledRequest() {
+		// Given
+		OperatingHoursRegenerationJobRunner runner = runner(1, 10);
+		request("r1", ROOM_ID).cancel();
+
+		// When
+		runner.submit("r1", ROOM_ID);
+
+		// Then
+		await().atMost(5, TimeUnit.SECONDS).until(() -> runner.getActiveRoomCount() == 0);
+		assertThat(requests.get("r1").getStatus()).isEqualTo(GenerationStatus.CANCELLED);
+		assertThat(executed).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[예외] 재생성이 실패하면 요청을 FAILED로 기록한다")
+	void recordsFailure() {
+		// Given
+		OperatingHoursRegenerationJobRunner runner = runner(1, 10);
+		SlotGenerationRequest request = request("r1", ROOM_ID);
+		when(updateService.regenerateSlots("r1", ROOM_ID)).thenThrow(new IllegalStateException("boom"));
+
+		// When
+		runner.submit("r1", ROOM_ID);
+
+		// Then
+		await().atMost(5, TimeUnit.SECONDS).until(() -> request.getStatus() == GenerationStatus.FAILED);
+		assertThat(request.getErrorMessage()).isEqualTo("boom");
+	}
+
+	@Test
+	@DisplayName("[예외] 큐가 가득 차면 요청을 즉시 FAILED로 기록한다")
+	void rejectsWhenQueueIsFull() throws InterruptedException {
+		// Given: 워커 1개, 대기 큐 없음
+		OperatingHoursRegenerationJobRunner runner = runner(1, 0);
+		request("r1", ROOM_ID);
+		SlotGenerationRequest other = request("r2", 2L);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(updateService.regenerateSlots("r1", ROOM_ID)).thenAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return 0;
+		});
+		runner.submit("r1", ROOM_ID);
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// When
+		runner.submit("r2", 2L);
+
+		// Then
+		assertThat(other.getStatus()).isEqualTo(GenerationStatus.FAILED);
+		assertThat(other.getErrorMessage()).contains("queue is full");
+		release.countDown();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> runner.getActiveRoomCount() == 0);
+	}
+
+	@Test
+	@DisplayName("[동시성] 다른 실행자가 같은 룸을 처리 중이면 재생성하지 않고 요청을 대기 상태로 둔다")
+	void leavesRequestWaitingWhileRoomIsBusy() {
+		// Given
+		OperatingHoursRegenerationJobRunner runner = runner(1, 10);
+		SlotGenerationRequest request = request("r1", ROOM_ID);
+		when(requestPort.existsRunning(eq(ROOM_ID), eq(GenerationJobType.OPERATING_HOURS_UPDATE), any(), eq("r1")))
+				.thenReturn(true);
+
+		// When
+		runner.submit("r1", ROOM_ID);
+
+		// Then
+		await().atMost(5, TimeUnit.SECONDS).until(() -> runner.getActiveRoomCount() == 0);
+		verify(operatingPolicyPort).findByRoomIdWithLock(ROOM_ID);
+		verify(updateService, never()).regenerateSlots(anyString(), anyLong());
+		assertThat(request.getStatus()).isEqualTo(GenerationStatus.REQUESTED);
+	}
+
+	@Test
+	@DisplayName("[정상] 실행 중 중단되어 lease가 지난 요청은 복구 스케줄러가 다시 가져가 실행한다")
+	void resubmitsStaleRequest() {
+		// Given: 이전 실행자가 가져간 뒤 생존 신호가 끊긴 요청
+		OperatingHoursRegenerationJobRunner runner = runner(1, 10);
+		SlotGenerationRequest request = request("r1", ROOM_ID);
+		request.claim("previous-worker");
+		ReflectionTestUtils.setField(request, "heartbeatAt", LocalDateTime.now().minusHours(1));
+		when(requestPort.findResumable(eq(GenerationJobType.OPERATING_HOURS_UPDATE), any(), anyInt()))
+				.thenReturn(List.of(request));
+		List<Boolean> takenOver = new CopyOnWriteArrayList<>();
+		when(updateService.regenerateSlots("r1", ROOM_ID)).thenAnswer(invocation -> {
+			takenOver.add(request.getStatus() == GenerationStatus.IN_PROGRESS
+					&& !request.isClaimedBy("previous-worker"));
+			request.markAsCompleted(0);
+			return 0;
+		});
+
+		// When
+		runner.resubmitPendingJobs();
+
+		// Then
+		await().atMost(5, TimeUnit.SECONDS).until(() -> request.getStatus() == GenerationStatus.COMPLETED);
+		assertThat(takenOver).containsExactly(true);
+	}
+}
@@ -0,0 +1,126 @@
+package com.teambind.springproject.room.command.domain.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * ParallelSlotGenerationEngine 단위 테스트.
+ * <p>
+ * 겹친 실행에서의 워커 제출 거부 처리와 남은 룸 수 게이지를 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParallelSlotGenerationEngine 단위 테스트")
+class ParallelSlotGenerationEngineTest {
+	
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	
+	private ThreadPoolTaskExecutor executor;
+	private SimpleMeterRegistry meterRegistry;
+	private ParallelSlotGenerationEngine engine;
+	
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+	
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+	
+	@Test
+	@DisplayName("워커 제출이 모두 거부되면 호출 스레드에서 처리한다")
+	void run_drainsInCallerWhenWorkersRejected() {
+		// Given: 워커 1개와 큐 1칸이 모두 점유된 Executor
+		initEngine(1);
+		CountDownLatch blocker = new CountDownLatch(1);
+		executor.execute(() -> awaitQuietly(blocker));
+		executor.execute(() -> awaitQuietly(blocker));
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		
+		try {
+			// When
+			int generated = engine.run(List.of(1L, 2L, 3L), roomId -> {
+				threads.add(Thread.currentThread());
+				return 2;
+			}, () -> {
+			});
+			
+			// Then
+			assertThat(generated).isEqualTo(6);
+			assertThat(threads).containsExactly(Thread.currentThread());
+		} finally {
+			blocker.countDown();
+		}
+	}
+	
+	@Test
+	@DisplayName("겹친 실행의 남은 룸 수를 합산하여 게이지에 노출한다")
+	void remainingRoomsGauge_sumsOverlappingRuns() throws Exception {
+		// Given: 두 실행의 워커가 모두 제출되도록 워커 2개, 큐 2칸
+		initEngine(2);
+		CountDownLatch release = new CountDownLatch(1);
+		
+		// When: 룸 2개짜리 실행 두 개가 동시에 진행
+		CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> engine.run(
+				List.of(1L, 2L), roomId -> awaitQuietly(release) ? 1 : 0, () -> {
+				}));
+		CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> engine.run(
+				List.of(3L, 4L), roomId -> awaitQuietly(release) ? 1 : 0, () -> {
+				}));
+		
+		try {
+			// Then: 한 실행이 다른 실행의 값을 덮어쓰지 않음
+			await().atMost(Duration.ofSeconds(5))
+					.until(() -> remainingRooms() == 4.0);
+		} finally {
+			release.countDown();
+		}
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+		assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+		assertThat(remainingRooms()).isZero();
+	}
+	
+	private void initEngine(int workers) {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setQueueCapacity(workers);
+		executor.initialize();
+		engine = new ParallelSlotGenerationEngine(
+				executor, transactionManager, meterRegistry, Duration.ofSeconds(30));
+	}
+	
+	private double remainingRooms() {
+		return meterRegistry.get("room.slot_generation.remaining_rooms").gauge().value();
+	}
+	
+	private static boolean awaitQuietly(CountDownLatch latch) {
+		try {
+			return latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
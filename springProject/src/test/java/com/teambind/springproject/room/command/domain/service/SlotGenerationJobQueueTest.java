@@ -0,0 +1,254 @@
+package com.teambind.springproject.room.command.domain.service;
+
+import com.teambind.springproject.common.exceptions.application.CapacityExceededException;
+import com.teambind.springproject.common.exceptions.application.SlotGenerationFailedException;
+import com.teambind.springproject.room.domain.port.SlotGenerationRequestPort;
+import com.teambind.springproject.room.entity.SlotGenerationRequest;
+import com.teambind.springproject.room.entity.enums.GenerationJobType;
+import com.teambind.springproject.room.entity.enums.GenerationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * SlotGenerationJobQueue 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 날짜별 체크포인트 기록 및 완료 처리
+ * - 중단된 작업의 재개 (마지막 완료일 다음 날부터)
+ * - 실패 시 진행 상황 유지
+ * - 다른 실행자가 소유권을 가져간 경우 중단
+ * - 백프레셔 (429) 및 큐 초과 시 제출 거부
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlotGenerationJobQueue 테스트")
+class SlotGenerationJobQueueTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final LocalDate START = LocalDate.of(2026, 11, 2);
+	private static final LocalDate END = START.plusDays(4);
+
+	@Mock
+	private TimeSlotGenerationService generationService;
+
+	@Mock
+	private SlotGenerationRequestPort requestPort;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final Map<String, SlotGenerationRequest> requests = new HashMap<>();
+	private final List<LocalDate> generatedDates = new CopyOnWriteArrayList<>();
+	private ThreadPoolTaskExecutor executor;
+	private SlotGenerationJobQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.initialize();
+
+		lenient().when(requestPort.findById(anyString()))
+				.thenAnswer(invocation -> Optional.ofNullable(requests.get(invocation.<String>getArgument(0))));
+		lenient().when(requestPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		lenient().when(generationService.generateSlotsThrough(eq(ROOM_ID), any())).thenAnswer(invocation -> {
+			generatedDates.add(invocation.getArgument(1));
+			return 10;
+		});
+
+		queue = new SlotGenerationJobQueue(generationService, requestPort, executor, transactionManager,
+				new SimpleMeterRegistry(), 3, Duration.ofMinutes(5));
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	private SlotGenerationRequest request(String requestId) {
+		SlotGenerationRequest request = SlotGenerationRequest.create(requestId, ROOM_ID, START, END);
+		requests.put(requestId, request);
+		return request;
+	}
+
+	@Test
+	@DisplayName("[정상] 날짜마다 진행 상황을 기록하고 완료 시 합계를 남긴다")
+	void processesAllDaysWithCheckpoints() {
+		// Given
+		SlotGenerationRequest request = request("r1");
+
+		// When
+		queue.process("r1");
+
+		// Then
+		assertThat(generatedDates).containsExactly(START, START.plusDays(1), START.plusDays(2),
+				START.plusDays(3), END);
+		assertThat(request.getStatus()).isEqualTo(GenerationStatus.COMPLETED);
+		assertThat(request.getLastCompletedDate()).isEqualTo(END);
+		assertThat(request.getTotalSlots()).isEqualTo(50);
+	}
+
+	@Test
+	@DisplayName("[정상] 생존 신호가 끊긴 작업은 마지막 완료일 다음 날부터 재개한다")
+	void resumesFromLastCompletedDay() {
+		// Given: 다른 실행자가 이틀 처리 후 중단
+		SlotGenerationRequest request = request("r1");
+		request.claim("crashed-worker");
+		request.recordProgress(START, 10);
+		request.recordProgress(START.plusDays(1), 10);
+		ReflectionTestUtils.setField(request, "heartbeatAt", LocalDateTime.now().minusMinutes(10));
+
+		// When
+		queue.process("r1");
+
+		// Then
+		assertThat(generatedDates).containsExactly(START.plusDays(2), START.plusDays(3), END);
+		assertThat(request.getStatus()).isEqualTo(GenerationStatus.COMPLETED);
+		assertThat(request.getTotalSlots()).isEqualTo(50);
+	}
+
+	@Test
+	@DisplayName("[정상] 다른 실행자가 처리 중(생존 신호 유효)인 작업은 가져가지 않는다")
+	void skipsLiveInProgressJob() {
+		// Given
+		SlotGenerationRequest request = request("r1");
+		request.claim("live-worker");
+
+		// When
+		queue.process("r1");
+
+		// Then
+		assertThat(generatedDates).isEmpty();
+		assertThat(request.isClaimedBy("live-worker")).isTrue();
+	}
+
+	@Test
+	@DisplayName("[예외] 중간 날짜에서 실패하면 FAILED로 기록하고 완료된 날짜까지의 진행 상황은 유지한다")
+	void keepsProgressOnFailure() {
+		// Given
+		SlotGenerationRequest request = request("r1");
+		when(generationService.generateSlotsThrough(ROOM_ID, START.plusDays(2)))
+				.thenThrow(SlotGenerationFailedException.forDate(START.plusDays(2).toString(),
+						new IllegalStateException("db down")));
+
+		// When
+		queue.process("r1");
+
+		// Then
+		assertThat(request.getStatus()).isEqualTo(GenerationStatus.FAILED);
+		assertThat(request.getLastCompletedDate()).isEqualTo(START.plusDays(1));
+		assertThat(request.nextDateToGenerate()).isEqualTo(START.plusDays(2));
+	}
+
+	@Test
+	@DisplayName("[정상] 처리 중 다른 실행자가 작업을 재개하면 더 이상 진행하지 않는다")
+	void stopsWhenTakenOver() {
+		// Given
+		SlotGenerationRequest request = request("r1");
+		when(generationService.generateSlotsThrough(ROOM_ID, START.plusDays(1))).thenAnswer(invocation -> {
+			request.claim("other-worker");
+			return 10;
+		});
+
+		// When
+		queue.process("r1");
+
+		// Then: 소유권 확인은 날짜 트랜잭션 시작 시점이므로 둘째 날까지만 처리
+		assertThat(request.isClaimedBy("other-worker")).isTrue();
+		assertThat(request.getLastCompletedDate()).isEqualTo(START.plusDays(1));
+		assertThat(request.getStatus()).isEqualTo(GenerationStatus.IN_PROGRESS);
+	}
+
+	@Test
+	@DisplayName("[정상] 진행 기록 저장이 version 충돌이면 소유권을 잃은 것으로 보고 실패로 기록하지 않는다")
+	void stopsWithoutFailingOnVersionConflict() {
+		// Given: 둘째 날 진행 기록 시점에 다른 실행자가 먼저 가져가 version이 바뀜
+		SlotGenerationRequest request = request("r1");
+		when(requestPort.save(any())).thenAnswer(invocation -> {
+			SlotGenerationRequest saved = invocation.getArgument(0);
+			if (START.plusDays(1).equals(saved.getLastCompletedDate())) {
+				throw new OptimisticLockingFailureException("taken over");
+			}
+			return saved;
+		});
+
+		// When
+		queue.process("r1");
+
+		// Then: FAILED로 바꾸지 않고 중단
+		assertThat(request.getStatus()).isEqualTo(GenerationStatus.IN_PROGRESS);
+		assertThat(generatedDates).containsExactly(START, START.plusDays(1));
+	}
+
+	@Test
+	@DisplayName("[예외] 끝나지 않은 요청이 한도 이상이면 429 예외를 던진다")
+	void ensureCapacityRejectsWhenFull() {
+		// Given
+		when(requestPort.countUnfinished(GenerationJobType.INITIAL_SETUP)).thenReturn(3L);
+
+		// When & Then
+		assertThatThrownBy(() -> queue.ensureCapacity())
+				.isInstanceOf(CapacityExceededException.class)
+				.hasFieldOrPropertyWithValue("httpStatus", HttpStatus.TOO_MANY_REQUESTS);
+	}
+
+	@Test
+	@DisplayName("[예외] 인스턴스 작업 큐가 가득 차면 제출을 거부하고 요청은 REQUESTED로 남는다")
+	void submitRejectsWhenExecutorIsFull() throws InterruptedException {
+		// Given: 워커 1개 + 큐 1개를 점유
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+		request("r1");
+		request("r2");
+		SlotGenerationRequest third = request("r3");
+		when(generationService.generateSlotsThrough(eq(ROOM_ID), eq(START))).thenAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return 10;
+		});
+		assertThat(queue.submit("r1")).isTrue();
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(queue.submit("r2")).isTrue();
+
+		// When
+		boolean submitted = queue.submit("r3");
+
+		// Then
+		assertThat(submitted).isFalse();
+		assertThat(third.getStatus()).isEqualTo(GenerationStatus.REQUESTED);
+		assertThat(queue.submit("r1")).as("이미 제출된 요청은 중복 제출하지 않는다").isFalse();
+		release.countDown();
+	}
+}
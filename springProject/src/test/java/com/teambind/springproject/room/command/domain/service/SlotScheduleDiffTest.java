@@ -0,0 +1,197 @@
+package com.teambind.springproject.room.command.domain.service;
+
+import com.teambind.springproject.room.entity.RoomTimeSlot;
+import com.teambind.springproject.room.entity.enums.SlotStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SlotScheduleDiff 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 제거/추가/CLOSED 전환 판단
+ * - CLOSED, RESERVED, PENDING 슬롯 보존
+ * - 무작위 입력에 대해 "AVAILABLE 전체 삭제 후 재생성" 결과와의 동치성
+ */
+@DisplayName("SlotScheduleDiff 테스트")
+class SlotScheduleDiffTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+
+	@Nested
+	@DisplayName("차이 계산")
+	class DiffTests {
+
+		@Test
+		@DisplayName("[정상] 한 시간대만 바뀌면 해당 시간대만 삭제/추가하고 그 날짜만 변경으로 본다")
+		void singleSlotChange() {
+			// Given
+			List<RoomTimeSlot> existing = List.of(
+					RoomTimeSlot.available(ROOM_ID, DATE, LocalTime.of(10, 0)),
+					RoomTimeSlot.available(ROOM_ID, DATE, LocalTime.of(9, 0)),
+					RoomTimeSlot.available(ROOM_ID, DATE.plusDays(1), LocalTime.of(9, 0)));
+			List<RoomTimeSlot> generated = List.of(
+					RoomTimeSlot.available(ROOM_ID, DATE, LocalTime.of(9, 0)),
+					RoomTimeSlot.available(ROOM_ID, DATE, LocalTime.of(11, 0)),
+					RoomTimeSlot.available(ROOM_ID, DATE.plusDays(1), LocalTime.of(9, 0)));
+
+			// When
+			SlotScheduleDiff diff = SlotScheduleDiff.between(existing, generated);
+
+			// Then
+			assertThat(diff.getRemoved()).containsExactly(existing.get(0));
+			assertThat(diff.getAdded()).containsExactly(generated.get(1));
+			assertThat(diff.getClosed()).isEmpty();
+			assertThat(diff.getChangedDates()).containsExactly(DATE);
+		}
+
+		@Test
+		@DisplayName("[정상] 예약/휴무 슬롯은 새 스케줄에 없어도 삭제하지 않는다")
+		void preservesNonAvailableSlots() {
+			// Given
+			RoomTimeSlot reserved = RoomTimeSlot.available(ROOM_ID, DATE, LocalTime.of(9, 0));
+			reserved.markAsPending(100L);
+			reserved.confirm();
+			RoomTimeSlot closed = RoomTimeSlot.closed(ROOM_ID, DATE, LocalTime.of(10, 0));
+			List<RoomTimeSlot> generated = List.of(
+					RoomTimeSlot.available(ROOM_ID, DATE, LocalTime.of(10, 0)));
+
+			// When
+			SlotScheduleDiff diff = SlotScheduleDiff.between(List.of(reserved, closed), generated);
+
+			// Then
+			assertThat(diff.isEmpty()).isTrue();
+			assertThat(diff.getRemoved()).isEmpty();
+			assertThat(diff.getAdded()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("[정상] 새 스케줄에서 휴무가 된 AVAILABLE 슬롯은 CLOSED 전환 대상이다")
+		void availableBecomesClosed() {
+			// Given
+			RoomTimeSlot existing = RoomTimeSlot.available(ROOM_ID, DATE, LocalTime.of(9, 0));
+			List<RoomTimeSlot> generated = List.of(RoomTimeSlot.closed(ROOM_ID, DATE, LocalTime.of(9, 0)));
+
+			// When
+			SlotScheduleDiff diff = SlotScheduleDiff.between(List.of(existing), generated);
+
+			// Then
+			assertThat(diff.getClosed()).containsExactly(existing);
+			assertThat(diff.getChangedDates()).containsExactly(DATE);
+		}
+	}
+
+	@Nested
+	@DisplayName("전체 재생성과의 동치성")
+	class EquivalenceTests {
+
+		@Test
+		@DisplayName("[속성] 차이를 적용한 결과가 AVAILABLE 삭제 후 재생성한 결과와 같다")
+		void matchesDeleteAndRegenerate() {
+			Random random = new Random(34L);
+
+			for (int n = 0; n < 300; n++) {
+				// Given
+				List<RoomTimeSlot> existing = randomSlots(random, true);
+				Collections.shuffle(existing, random);
+				List<RoomTimeSlot> generated = randomSlots(random, false);
+
+				// When
+				SlotScheduleDiff diff = SlotScheduleDiff.between(existing, generated);
+
+				// Then
+				assertThat(apply(existing, diff)).as("case #" + n).isEqualTo(regenerate(existing, generated));
+				assertThat(diff.getChangedDates()).as("case #" + n)
+						.isEqualTo(changedDates(existing, regenerate(existing, generated)));
+			}
+		}
+
+		private List<RoomTimeSlot> randomSlots(Random random, boolean withReservations) {
+			List<RoomTimeSlot> slots = new ArrayList<>();
+			for (int d = 0; d < 5; d++) {
+				for (int hour = 8; hour < 22; hour++) {
+					if (random.nextInt(3) != 0) {
+						continue;
+					}
+					LocalDate date = DATE.plusDays(d);
+					LocalTime time = LocalTime.of(hour, random.nextBoolean() ? 0 : 30);
+					RoomTimeSlot slot = random.nextInt(4) == 0
+							? RoomTimeSlot.closed(ROOM_ID, date, time)
+							: RoomTimeSlot.available(ROOM_ID, date, time);
+					if (withReservations && slot.isAvailable() && random.nextInt(4) == 0) {
+						slot.markAsPending(1L);
+					}
+					slots.add(slot);
+				}
+			}
+			return slots;
+		}
+
+		private Map<Long, SlotStatus> apply(List<RoomTimeSlot> existing, SlotScheduleDiff diff) {
+			Map<Long, SlotStatus> state = new TreeMap<>();
+			Set<RoomTimeSlot> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+			removed.addAll(diff.getRemoved());
+			Set<RoomTimeSlot> closed = Collections.newSetFromMap(new IdentityHashMap<>());
+			closed.addAll(diff.getClosed());
+			for (RoomTimeSlot slot : existing) {
+				if (!removed.contains(slot)) {
+					state.put(key(slot), closed.contains(slot) ? SlotStatus.CLOSED : slot.getStatus());
+				}
+			}
+			for (RoomTimeSlot slot : diff.getAdded()) {
+				assertThat(state.put(key(slot), slot.getStatus())).isNull();
+			}
+			return state;
+		}
+
+		// 기존 구현: AVAILABLE 삭제 후, 보존된 시간대를 제외하고 새로 생성
+		private Map<Long, SlotStatus> regenerate(List<RoomTimeSlot> existing, List<RoomTimeSlot> generated) {
+			Map<Long, SlotStatus> state = new TreeMap<>();
+			for (RoomTimeSlot slot : existing) {
+				if (slot.getStatus() != SlotStatus.AVAILABLE) {
+					state.put(key(slot), slot.getStatus());
+				}
+			}
+			for (RoomTimeSlot slot : generated) {
+				state.putIfAbsent(key(slot), slot.getStatus());
+			}
+			return state;
+		}
+
+		private Set<LocalDate> changedDates(List<RoomTimeSlot> existing, Map<Long, SlotStatus> after) {
+			Map<Long, SlotStatus> before = new TreeMap<>();
+			existing.forEach(slot -> before.put(key(slot), slot.getStatus()));
+			Set<Long> keys = new HashSet<>(before.keySet());
+			keys.addAll(after.keySet());
+			Set<LocalDate> dates = new TreeSet<>();
+			for (Long key : keys) {
+				if (before.get(key) != after.get(key)) {
+					dates.add(LocalDate.ofEpochDay(Math.floorDiv(key, 1440)));
+				}
+			}
+			return dates;
+		}
+
+		private long key(RoomTimeSlot slot) {
+			return SlotScheduleDiff.key(slot.getSlotDate(), slot.getSlotTime());
+		}
+	}
+}
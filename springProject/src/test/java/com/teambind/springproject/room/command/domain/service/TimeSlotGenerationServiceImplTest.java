@@ -1,31 +1,50 @@
 package com.teambind.springproject.room.command.domain.service;
 
 import com.teambind.springproject.common.exceptions.application.SlotGenerationFailedException;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.port.GenerationWatermarkPort;
+import com.teambind.springproject.room.domain.port.HolidayCalendarPort;
 import com.teambind.springproject.room.domain.port.OperatingPolicyPort;
 import com.teambind.springproject.room.domain.port.TimeSlotPort;
+import com.teambind.springproject.room.entity.RoomGenerationWatermark;
 import com.teambind.springproject.room.entity.RoomOperatingPolicy;
 import com.teambind.springproject.room.entity.RoomTimeSlot;
 import com.teambind.springproject.room.entity.enums.RecurrencePattern;
+import com.teambind.springproject.room.entity.enums.SlotStatus;
+import com.teambind.springproject.room.entity.enums.SlotStorageMode;
 import com.teambind.springproject.room.entity.enums.SlotUnit;
+import com.teambind.springproject.room.entity.vo.ClosedDateRange;
+import com.teambind.springproject.room.entity.vo.HolidayCalendar;
 import com.teambind.springproject.room.entity.vo.WeeklySlotSchedule;
 import com.teambind.springproject.room.entity.vo.WeeklySlotTime;
 import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -45,7 +64,20 @@ class TimeSlotGenerationServiceImplTest {
 	@Mock
 	private OperatingPolicyPort operatingPolicyPort;
 	
-	@InjectMocks
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	
+	@Mock
+	private GenerationWatermarkPort watermarkPort;
+	
+	@Mock
+	private HolidayCalendarPort holidayCalendarPort;
+	
+	private ThreadPoolTaskExecutor generationExecutor;
+	
 	private TimeSlotGenerationServiceImpl service;
 	
 	private Long roomId;
@@ -59,6 +91,18 @@ class TimeSlotGenerationServiceImplTest {
 		testDate = LocalDate.of(2025, 1, 20); // 월요일
 		slotUnit = SlotUnit.HALF_HOUR;
 		
+		generationExecutor = new ThreadPoolTaskExecutor();
+		generationExecutor.setCorePoolSize(2);
+		generationExecutor.setMaxPoolSize(2);
+		generationExecutor.setQueueCapacity(2);
+		generationExecutor.initialize();
+		ParallelSlotGenerationEngine engine = new ParallelSlotGenerationEngine(
+				generationExecutor, transactionManager, new SimpleMeterRegistry(), Duration.ofSeconds(30));
+		service = new TimeSlotGenerationServiceImpl(
+				timeSlotPort, operatingPolicyPort, eventPublisher, engine, watermarkPort, holidayCalendarPort);
+		ReflectionTestUtils.setField(service, "rollingWindowDays", 30);
+		lenient().when(holidayCalendarPort.findCalendar(any(), any())).thenReturn(HolidayCalendar.EMPTY);
+		
 		// 월요일 09:00, 10:00 운영 정책
 		List<WeeklySlotTime> slotTimes = List.of(
 				WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0)),
@@ -74,6 +118,11 @@ class TimeSlotGenerationServiceImplTest {
 		log.info("- policy: 월요일 09:00, 10:00 운영");
 	}
 	
+	@AfterEach
+	void tearDown() {
+		generationExecutor.shutdown();
+	}
+	
 	@Test
 	@DisplayName("특정 날짜에 대한 슬롯을 생성한다")
 	void generateSlotsForDate() {
@@ -184,9 +233,10 @@ class TimeSlotGenerationServiceImplTest {
 		assertThat(totalGenerated).isEqualTo(12);
 		log.info("[Then] - ✓ 생성 개수 확인됨");
 		
-		log.info("[Then] [검증2] operatingPolicyPort.findByRoomId()가 3번 호출되었는지 확인 (각 날짜마다)");
-		verify(operatingPolicyPort, times(3)).findByRoomId(roomId);
-		log.info("[Then] - ✓ findByRoomId() 호출 횟수 확인됨");
+		log.info("[Then] [검증2] 정책/휴일 조회가 범위 전체에 대해 1번만 수행되었는지 확인");
+		verify(operatingPolicyPort, times(1)).findByRoomId(roomId);
+		verify(holidayCalendarPort, times(1)).findCalendar(startDate, endDate);
+		log.info("[Then] - ✓ findByRoomId()/findCalendar() 호출 횟수 확인됨");
 		
 		log.info("[Then] [검증3] timeSlotPort.saveAll()이 3번 호출되었는지 확인 (각 날짜마다)");
 		verify(timeSlotPort, times(3)).saveAll(any());
@@ -228,9 +278,8 @@ class TimeSlotGenerationServiceImplTest {
 				List.of()
 		);
 		
-		List<RoomOperatingPolicy> allPolicies = List.of(policy1, policy2, policy3);
-		when(operatingPolicyPort.findAll()).thenReturn(allPolicies);
-		log.info("[Given] - operatingPolicyPort.findAll() -> 3개 정책 반환");
+		when(operatingPolicyPort.findAllRoomIds()).thenReturn(List.of(room1Id, room2Id, room3Id));
+		log.info("[Given] - operatingPolicyPort.findAllRoomIds() -> 3개 룸 반환");
 		
 		when(operatingPolicyPort.findByRoomId(room1Id)).thenReturn(Optional.of(policy1));
 		when(operatingPolicyPort.findByRoomId(room2Id)).thenReturn(Optional.of(policy2));
@@ -258,14 +307,20 @@ class TimeSlotGenerationServiceImplTest {
 		assertThat(totalGenerated).isEqualTo(6);
 		log.info("[Then] - ✓ 생성 개수 확인됨");
 		
-		log.info("[Then] [검증2] operatingPolicyPort.findAll()이 1번 호출되었는지 확인");
-		verify(operatingPolicyPort, times(1)).findAll();
-		log.info("[Then] - ✓ findAll() 호출 확인됨");
+		log.info("[Then] [검증2] operatingPolicyPort.findAllRoomIds()가 1번 호출되었는지 확인");
+		verify(operatingPolicyPort, times(1)).findAllRoomIds();
+		verify(operatingPolicyPort, never()).findAll();
+		log.info("[Then] - ✓ findAllRoomIds() 호출 확인됨");
 		
 		log.info("[Then] [검증3] timeSlotPort.saveAll()이 3번 호출되었는지 확인 (각 룸마다)");
 		verify(timeSlotPort, times(3)).saveAll(any());
 		log.info("[Then] - ✓ saveAll() 호출 횟수 확인됨");
 		
+		log.info("[Then] [검증4] 룸마다 별도 트랜잭션으로 커밋되었는지 확인");
+		verify(transactionManager, times(3)).getTransaction(any());
+		verify(transactionManager, times(3)).commit(any());
+		log.info("[Then] - ✓ 룸 단위 트랜잭션 확인됨");
+		
 		log.info("=== [모든 룸 슬롯 생성] 테스트 성공 ===");
 	}
 	
@@ -304,51 +359,6 @@ class TimeSlotGenerationServiceImplTest {
 		log.info("=== [특정 날짜 이전 슬롯 삭제] 테스트 성공 ===");
 	}
 	
-	@Test
-	@DisplayName("미래 슬롯을 재생성한다")
-	void regenerateFutureSlots() {
-		log.info("=== [미래 슬롯 재생성] 테스트 시작 ===");
-		
-		// Given
-		log.info("[Given] Mock 동작 설정");
-		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(policy));
-		
-		List<RoomTimeSlot> slotsPerDay = List.of(
-				RoomTimeSlot.available(roomId, testDate, LocalTime.of(9, 0)),
-				RoomTimeSlot.available(roomId, testDate, LocalTime.of(9, 30)),
-				RoomTimeSlot.available(roomId, testDate, LocalTime.of(10, 0)),
-				RoomTimeSlot.available(roomId, testDate, LocalTime.of(10, 30))
-		);
-		when(timeSlotPort.saveAll(any())).thenReturn(slotsPerDay);
-		log.info("[Given] - 각 날짜마다 {} 개 슬롯 생성 예정", slotsPerDay.size());
-		
-		// When
-		log.info("[When] regenerateFutureSlots() 호출");
-		log.info("[When] - 파라미터: roomId={}", roomId);
-		int regeneratedCount = service.regenerateFutureSlots(roomId);
-		log.info("[When] - 호출 완료: regeneratedCount={}", regeneratedCount);
-		
-		// Then
-		log.info("[Then] 결과 검증 시작");
-		
-		log.info("[Then] [검증1] 재생성된 슬롯 개수 확인 (60일 * 4개 = 240개 이상)");
-		log.info("[Then] - 실제 개수: {}", regeneratedCount);
-		assertThat(regeneratedCount).isGreaterThan(0);
-		log.info("[Then] - ✓ 재생성 개수 확인됨");
-		
-		log.info("[Then] [검증2] timeSlotPort.deleteByRoomId()가 1번 호출되었는지 확인");
-		verify(timeSlotPort, times(1)).deleteByRoomId(roomId);
-		log.info("[Then] - ✓ deleteByRoomId() 호출 확인됨 (기존 슬롯 삭제)");
-		
-		log.info("[Then] [검증3] timeSlotPort.saveAll()이 60번 호출되었는지 확인 (60일치)");
-		// 60일치 슬롯을 생성하므로 saveAll()이 60번 호출되어야 함
-		// 단, 월요일만 슬롯이 생성되므로 실제로는 8~9번 정도 호출됨
-		verify(timeSlotPort, atLeast(1)).saveAll(any());
-		log.info("[Then] - ✓ saveAll() 호출 확인됨");
-		
-		log.info("=== [미래 슬롯 재생성] 테스트 성공 ===");
-	}
-	
 	@Test
 	@DisplayName("슬롯 생성 중 예외 발생 시 SlotGenerationFailedException으로 래핑한다")
 	void generateSlotsForDate_exception() {
@@ -407,8 +417,7 @@ class TimeSlotGenerationServiceImplTest {
 				List.of()
 		);
 		
-		List<RoomOperatingPolicy> allPolicies = List.of(policy1, policy2, policy3);
-		when(operatingPolicyPort.findAll()).thenReturn(allPolicies);
+		when(operatingPolicyPort.findAllRoomIds()).thenReturn(List.of(room1Id, room2Id, room3Id));
 		
 		// Room1: 성공
 		when(operatingPolicyPort.findByRoomId(room1Id)).thenReturn(Optional.of(policy1));
@@ -448,6 +457,268 @@ class TimeSlotGenerationServiceImplTest {
 		verify(timeSlotPort, times(2)).saveAll(any());
 		log.info("[Then] - ✓ saveAll() 호출 횟수 확인됨");
 		
+		log.info("[Then] [검증3] 실패한 룸의 트랜잭션만 롤백되었는지 확인");
+		verify(transactionManager, times(2)).commit(any());
+		verify(transactionManager, times(1)).rollback(any());
+		log.info("[Then] - ✓ 실패 룸만 롤백 확인됨");
+		
 		log.info("=== [일부 룸 실패 시 계속 처리] 테스트 성공 ===");
 	}
+	
+	@Test
+	@DisplayName("워터마크 다음 날부터 기준 날짜까지 슬롯이 없는 날짜만 생성하고 워터마크를 전진시킨다")
+	void generateSlotsThrough_fillsGapAfterWatermark() {
+		// Given: 매일 09:00 운영, 워터마크는 내일, 3일 후는 이미 슬롯이 존재
+		LocalDate today = LocalDate.now();
+		LocalDate horizon = today.plusDays(4);
+		RoomOperatingPolicy everyDayPolicy = RoomOperatingPolicy.create(
+				roomId,
+				WeeklySlotSchedule.of(Arrays.stream(DayOfWeek.values())
+						.map(day -> WeeklySlotTime.of(day, LocalTime.of(9, 0)))
+						.toList()),
+				RecurrencePattern.EVERY_WEEK,
+				slotUnit,
+				List.of()
+		);
+		RoomGenerationWatermark watermark = RoomGenerationWatermark.create(roomId);
+		watermark.advanceTo(today.plusDays(1));
+		
+		when(watermarkPort.findByRoomIdWithLock(roomId)).thenReturn(Optional.of(watermark));
+		when(timeSlotPort.findSlotDatesByRoomIdAndSlotDateBetween(roomId, today.plusDays(2), horizon))
+				.thenReturn(List.of(today.plusDays(3)));
+		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(everyDayPolicy));
+		when(timeSlotPort.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		
+		// When
+		int generated = service.generateSlotsThrough(roomId, horizon);
+		
+		// Then: 오늘+2, 오늘+4만 생성 (정책 조회/휴일 조회는 구간 전체에 대해 1회)
+		verify(operatingPolicyPort, times(1)).findByRoomId(roomId);
+		verify(holidayCalendarPort, times(1)).findCalendar(today.plusDays(2), horizon);
+		verify(timeSlotPort, times(2)).saveAll(any());
+		assertThat(generated).isPositive();
+		assertThat(watermark.getGeneratedThrough()).isEqualTo(horizon);
+		verify(watermarkPort).save(watermark);
+	}
+	
+	@Test
+	@DisplayName("워터마크가 기간 끝에 도달했으면 슬롯을 조회하지 않고 0을 반환한다")
+	void ensureSlotsForNext30Days_watermarkUpToDate() {
+		// Given
+		RoomGenerationWatermark watermark = RoomGenerationWatermark.create(roomId);
+		watermark.advanceTo(LocalDate.now().plusDays(60));
+		when(watermarkPort.findByRoomId(roomId)).thenReturn(Optional.of(watermark));
+		
+		// When
+		int generated = service.ensureSlotsForNext30Days(roomId);
+		
+		// Then
+		assertThat(generated).isZero();
+		verifyNoInteractions(timeSlotPort, operatingPolicyPort);
+	}
+	
+	@Test
+	@DisplayName("배치가 건너뛴 날이 있어도 워터마크가 뒤처진 룸의 누락 구간을 모두 생성한다")
+	void generateSlotsThroughForAllRooms_catchesUpMissedDays() {
+		// Given: 이틀 전 배치 이후 실행되지 않아 워터마크가 horizon보다 2일 뒤처짐
+		LocalDate horizon = LocalDate.now().plusDays(5);
+		RoomGenerationWatermark watermark = RoomGenerationWatermark.create(roomId);
+		watermark.advanceTo(horizon.minusDays(2));
+		
+		when(watermarkPort.findRoomIdsGeneratedBefore(horizon)).thenReturn(List.of(roomId));
+		when(watermarkPort.findByRoomIdWithLock(roomId)).thenReturn(Optional.of(watermark));
+		when(timeSlotPort.findSlotDatesByRoomIdAndSlotDateBetween(roomId, horizon.minusDays(1), horizon))
+				.thenReturn(List.of());
+		when(operatingPolicyPort.findScheduleHashesByRoomIds(List.of(roomId)))
+				.thenReturn(Map.of(roomId, policy.getScheduleHash()));
+		when(operatingPolicyPort.findAllByRoomIds(List.of(roomId))).thenReturn(List.of(policy));
+		
+		// When
+		service.generateSlotsThroughForAllRooms(horizon, () -> {
+		});
+		
+		// Then
+		verify(timeSlotPort).findSlotDatesByRoomIdAndSlotDateBetween(roomId, horizon.minusDays(1), horizon);
+		verify(timeSlotPort, times(1)).insertAll(any());
+		assertThat(watermark.getGeneratedThrough()).isEqualTo(horizon);
+	}
+	
+	@Test
+	@DisplayName("같은 스케줄 템플릿의 룸은 한 번에 삽입하고, 휴무가 있는 룸만 휴무를 덧씌운다")
+	void generateSlotsThroughForRooms_sharesTemplateAndOverlaysClosures() {
+		// Given: 같은 스케줄의 두 룸, 두 번째 룸만 09:00 휴무
+		LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+		Long closedRoomId = 200L;
+		RoomOperatingPolicy closedPolicy = RoomOperatingPolicy.create(closedRoomId, policy.getWeeklySchedule(),
+				RecurrencePattern.EVERY_WEEK, slotUnit,
+				List.of(ClosedDateRange.ofTimeRange(monday, LocalTime.of(9, 0), LocalTime.of(9, 30))));
+		List<Long> roomIds = List.of(roomId, closedRoomId);
+		
+		RoomGenerationWatermark first = RoomGenerationWatermark.create(roomId);
+		first.advanceTo(monday.minusDays(1));
+		RoomGenerationWatermark second = RoomGenerationWatermark.create(closedRoomId);
+		second.advanceTo(monday.minusDays(1));
+		
+		assertThat(closedPolicy.getScheduleHash()).isEqualTo(policy.getScheduleHash());
+		when(operatingPolicyPort.findScheduleHashesByRoomIds(roomIds)).thenReturn(Map.of(
+				roomId, policy.getScheduleHash(), closedRoomId, closedPolicy.getScheduleHash()));
+		when(operatingPolicyPort.findAllByRoomIds(roomIds)).thenReturn(List.of(policy, closedPolicy));
+		when(watermarkPort.findByRoomIdWithLock(roomId)).thenReturn(Optional.of(first));
+		when(watermarkPort.findByRoomIdWithLock(closedRoomId)).thenReturn(Optional.of(second));
+		when(timeSlotPort.insertAll(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+		
+		// When
+		int generated = service.generateSlotsThroughForRooms(roomIds, monday, () -> {
+		});
+		
+		// Then: 두 룸의 슬롯이 한 번의 배치 삽입으로 저장됨
+		ArgumentCaptor<List<RoomTimeSlot>> captor = ArgumentCaptor.forClass(List.class);
+		verify(timeSlotPort, times(1)).insertAll(captor.capture());
+		assertThat(generated).isEqualTo(4);
+		assertThat(captor.getValue())
+				.extracting(RoomTimeSlot::getRoomId, RoomTimeSlot::getSlotTime, slot -> slot.getStatus().name())
+				.containsExactlyInAnyOrder(
+						tuple(roomId, LocalTime.of(9, 0), "AVAILABLE"),
+						tuple(roomId, LocalTime.of(10, 0), "AVAILABLE"),
+						tuple(closedRoomId, LocalTime.of(9, 0), "CLOSED"),
+						tuple(closedRoomId, LocalTime.of(10, 0), "AVAILABLE"));
+		verify(operatingPolicyPort, never()).findByRoomId(any());
+		verify(eventPublisher, times(2)).publishEvent(any(SlotAvailabilityChangedEvent.class));
+		assertThat(first.getGeneratedThrough()).isEqualTo(monday);
+		assertThat(second.getGeneratedThrough()).isEqualTo(monday);
+	}
+	
+	@Test
+	@DisplayName("예약 가능 기간 밖의 날짜는 슬롯을 생성하지 않는다")
+	void generateSlotsForDate_beyondBookingHorizon() {
+		// Given: 예약 가능 기간 7일
+		policy.updateBookingHorizonDays(7);
+		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(policy));
+		
+		// When
+		int generated = service.generateSlotsForDate(roomId, LocalDate.now().plusDays(8));
+		
+		// Then
+		assertThat(generated).isZero();
+		verify(timeSlotPort, never()).saveAll(any());
+	}
+	
+	@Test
+	@DisplayName("예약 가능 기간이 hot 구간보다 짧은 룸은 워터마크를 기간 끝까지만 전진시켜 매일 새 날짜를 생성한다")
+	@SuppressWarnings("unchecked")
+	void generateSlotsThroughForRooms_shortHorizonPicksUpNewDayEveryNight() {
+		// Given: 매일 09:00 운영, 예약 가능 기간 7일, hot 구간 30일
+		LocalDate today = LocalDate.now();
+		LocalDate horizon = today.plusDays(30);
+		RoomOperatingPolicy shortPolicy = RoomOperatingPolicy.create(
+				roomId,
+				WeeklySlotSchedule.of(Arrays.stream(DayOfWeek.values())
+						.map(day -> WeeklySlotTime.of(day, LocalTime.of(9, 0)))
+						.toList()),
+				RecurrencePattern.EVERY_WEEK,
+				slotUnit,
+				List.of()
+		);
+		shortPolicy.updateBookingHorizonDays(7);
+		RoomGenerationWatermark watermark = RoomGenerationWatermark.create(roomId);
+		
+		when(operatingPolicyPort.findScheduleHashesByRoomIds(List.of(roomId)))
+				.thenReturn(Map.of(roomId, shortPolicy.getScheduleHash()));
+		when(operatingPolicyPort.findAllByRoomIds(List.of(roomId))).thenReturn(List.of(shortPolicy));
+		when(watermarkPort.findByRoomIdWithLock(roomId)).thenReturn(Optional.of(watermark));
+		when(timeSlotPort.insertAll(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+		
+		// When: 첫째 날 배치
+		int firstNight = service.generateSlotsThroughForRooms(List.of(roomId), horizon, () -> {
+		});
+		
+		// Then: 오늘 ~ 오늘+7만 생성하고 워터마크는 기간 끝에 머묾 (다음 배치 대상으로 남음)
+		assertThat(firstNight).isEqualTo(8);
+		assertThat(watermark.getGeneratedThrough()).isEqualTo(today.plusDays(7));
+		
+		// When: 다음 날 배치 - 기준 날짜가 하루 지나 예약 가능 기간 끝이 하루 늘어난 상태
+		shortPolicy.updateBookingHorizonDays(8);
+		int secondNight = service.generateSlotsThroughForRooms(List.of(roomId), horizon, () -> {
+		});
+		
+		// Then: 새로 예약 가능해진 하루만 생성
+		ArgumentCaptor<List<RoomTimeSlot>> captor = ArgumentCaptor.forClass(List.class);
+		verify(timeSlotPort, times(2)).insertAll(captor.capture());
+		assertThat(secondNight).isEqualTo(1);
+		assertThat(captor.getAllValues().get(1))
+				.extracting(RoomTimeSlot::getSlotDate)
+				.containsExactly(today.plusDays(8));
+		assertThat(watermark.getGeneratedThrough()).isEqualTo(today.plusDays(8));
+		
+		// When: 같은 날 다시 실행 - 생성할 날짜 없음
+		int rerun = service.generateSlotsThroughForRooms(List.of(roomId), horizon, () -> {
+		});
+		
+		// Then
+		assertThat(rerun).isZero();
+		assertThat(watermark.getGeneratedThrough()).isEqualTo(today.plusDays(8));
+	}
+	
+	@Test
+	@DisplayName("Rolling Window 밖의 날짜는 행이 없을 때만 요청 시점에 생성한다")
+	void materializeDate_generatesFarDateOnce() {
+		// Given: 예약 가능 기간 90일, 워터마크는 hot 구간 끝
+		LocalDate farMonday = LocalDate.now().plusDays(60).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+		policy.updateBookingHorizonDays(90);
+		RoomGenerationWatermark watermark = RoomGenerationWatermark.create(roomId);
+		watermark.advanceTo(LocalDate.now().plusDays(30));
+		
+		when(watermarkPort.findByRoomIdWithLock(roomId)).thenReturn(Optional.of(watermark));
+		when(timeSlotPort.findSlotDatesByRoomIdAndSlotDateBetween(roomId, farMonday, farMonday))
+				.thenReturn(List.of())
+				.thenReturn(List.of(farMonday));
+		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(policy));
+		when(timeSlotPort.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		
+		// When
+		int first = service.materializeDate(roomId, farMonday);
+		int second = service.materializeDate(roomId, farMonday);
+		
+		// Then
+		assertThat(first).isEqualTo(2);
+		assertThat(second).isZero();
+		verify(timeSlotPort, times(1)).saveAll(any());
+	}
+	
+	@Test
+	@DisplayName("LAZY 저장 방식에서는 예약하려는 시각의 행만 삽입한다")
+	void materializeSlots_lazyInsertsRequestedSlotsOnly() {
+		// Given
+		ReflectionTestUtils.setField(service, "storageMode", SlotStorageMode.LAZY);
+		LocalDate monday = LocalDate.now().plusDays(3).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(policy));
+		when(timeSlotPort.insertIfAbsent(any())).thenReturn(1);
+		
+		// When
+		int materialized = service.materializeSlots(roomId, monday, List.of(LocalTime.of(10, 0)));
+		
+		// Then
+		ArgumentCaptor<List<RoomTimeSlot>> captor = ArgumentCaptor.forClass(List.class);
+		verify(timeSlotPort).insertIfAbsent(captor.capture());
+		assertThat(materialized).isEqualTo(1);
+		assertThat(captor.getValue())
+				.extracting(RoomTimeSlot::getSlotDate, RoomTimeSlot::getSlotTime, RoomTimeSlot::getStatus)
+				.containsExactly(tuple(monday, LocalTime.of(10, 0), SlotStatus.AVAILABLE));
+		verify(watermarkPort, never()).findByRoomIdWithLock(any());
+	}
+	
+	@Test
+	@DisplayName("LAZY 저장 방식에서는 슬롯을 미리 생성하지 않는다")
+	void generateSlotsThrough_lazySkipsPreGeneration() {
+		// Given
+		ReflectionTestUtils.setField(service, "storageMode", SlotStorageMode.LAZY);
+		
+		// When
+		int generated = service.generateSlotsThrough(roomId, LocalDate.now().plusDays(30));
+		
+		// Then
+		assertThat(generated).isZero();
+		verify(watermarkPort, never()).findByRoomIdWithLock(any());
+		verify(timeSlotPort, never()).saveAll(any());
+	}
 }
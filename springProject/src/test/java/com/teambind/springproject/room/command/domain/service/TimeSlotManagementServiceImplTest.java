@@ -1,11 +1,26 @@
 package com.teambind.springproject.room.command.domain.service;
 
 import com.teambind.springproject.common.exceptions.domain.SlotNotFoundException;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.event.SlotTransition;
+import com.teambind.springproject.room.domain.port.AvailabilityVersionPort;
 import com.teambind.springproject.room.domain.port.ClosedDateUpdateRequestPort;
+import com.teambind.springproject.room.domain.port.HolidayCalendarPort;
 import com.teambind.springproject.room.domain.port.OperatingPolicyPort;
 import com.teambind.springproject.room.domain.port.TimeSlotPort;
+import com.teambind.springproject.room.entity.ClosedDateUpdateRequest;
+import com.teambind.springproject.room.entity.RoomOperatingPolicy;
 import com.teambind.springproject.room.entity.RoomTimeSlot;
+import com.teambind.springproject.room.entity.enums.GenerationStatus;
+import com.teambind.springproject.room.entity.enums.RecurrencePattern;
 import com.teambind.springproject.room.entity.enums.SlotStatus;
+import com.teambind.springproject.room.entity.enums.SlotStorageMode;
+import com.teambind.springproject.room.entity.enums.SlotUnit;
+import com.teambind.springproject.room.entity.vo.ClosedDateRange;
+import com.teambind.springproject.room.entity.vo.HolidayCalendar;
+import com.teambind.springproject.room.entity.vo.WeeklySlotSchedule;
+import com.teambind.springproject.room.entity.vo.WeeklySlotTime;
+import com.teambind.springproject.room.query.application.SlotAvailabilityVersionService;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,11 +29,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,6 +62,12 @@ class TimeSlotManagementServiceImplTest {
 	private OperatingPolicyPort operatingPolicyPort;
 	@Mock
 	private ClosedDateUpdateRequestPort closedDateUpdateRequestPort;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private TimeSlotGenerationService generationService;
+	@Mock
+	private HolidayCalendarPort holidayCalendarPort;
 	private TimeSlotManagementServiceImpl service;
 	private Long roomId;
 	private LocalDate slotDate;
@@ -53,7 +78,7 @@ class TimeSlotManagementServiceImplTest {
 	@BeforeEach
 	void setUp() {
 		// Service 생성 (Constructor Injection)
-		service = new TimeSlotManagementServiceImpl(timeSlotPort, operatingPolicyPort, closedDateUpdateRequestPort, PENDING_EXPIRATION_MINUTES);
+		service = new TimeSlotManagementServiceImpl(timeSlotPort, operatingPolicyPort, closedDateUpdateRequestPort, eventPublisher, generationService, holidayCalendarPort, PENDING_EXPIRATION_MINUTES);
 		
 		roomId = 100L;
 		slotDate = LocalDate.of(2025, 1, 15);
@@ -256,6 +281,14 @@ class TimeSlotManagementServiceImplTest {
 // 		verify(eventPublisher, times(1)).publishEvent(any(SlotCancelledEvent.class));
 		log.info("[Then] - ✓ 이벤트 발행 확인됨 (일괄 처리)");
 		
+		log.info("[Then] [검증4] 같은 날짜의 가용성 변경 이벤트가 1번만 발행되었는지 확인");
+		verify(eventPublisher, times(1)).publishEvent(new SlotAvailabilityChangedEvent(roomId, slotDate, List.of(
+				new SlotTransition(LocalTime.of(10, 0), SlotStatus.PENDING, SlotStatus.AVAILABLE),
+				new SlotTransition(LocalTime.of(11, 0), SlotStatus.PENDING, SlotStatus.AVAILABLE),
+				new SlotTransition(LocalTime.of(12, 0), SlotStatus.PENDING, SlotStatus.AVAILABLE)
+		)));
+		log.info("[Then] - ✓ 가용성 변경 이벤트 발행 확인됨 (날짜 단위 중복 제거)");
+		
 		log.info("=== [예약 ID로 슬롯 일괄 취소] 테스트 성공 ===");
 	}
 	
@@ -312,6 +345,24 @@ class TimeSlotManagementServiceImplTest {
 		log.info("=== [만료된 PENDING 슬롯 복구] 테스트 성공 ===");
 	}
 	
+	@Test
+	@DisplayName("아직 생성되지 않은 먼 날짜의 슬롯은 생성한 뒤 PENDING으로 변경한다")
+	void markSlotAsPending_materializesFarDate() {
+		// Given: 첫 조회에는 슬롯이 없고, 요청 시점 생성 후 다시 조회하면 존재
+		when(timeSlotPort.findByRoomIdAndSlotDateAndSlotTimeInWithLock(roomId, slotDate, List.of(slotTime)))
+				.thenReturn(List.of())
+				.thenReturn(List.of(availableSlot));
+		when(generationService.materializeSlots(roomId, slotDate, List.of(slotTime))).thenReturn(1);
+		
+		// When
+		service.markSlotAsPending(roomId, slotDate, slotTime, reservationId);
+		
+		// Then
+		assertThat(availableSlot.getStatus()).isEqualTo(SlotStatus.PENDING);
+		verify(generationService).materializeSlots(roomId, slotDate, List.of(slotTime));
+		verify(timeSlotPort).saveAll(List.of(availableSlot));
+	}
+	
 	@Test
 	@DisplayName("존재하지 않는 슬롯을 PENDING으로 변경하면 예외가 발생한다")
 	void markSlotAsPending_notFound() {
@@ -595,4 +646,261 @@ class TimeSlotManagementServiceImplTest {
 		
 		log.info("=== [환불 슬롯 복구 - Port Lock 메서드 호출 검증] 테스트 성공 ===");
 	}
+	
+	@Test
+	@DisplayName("휴무일 업데이트는 휴무 범위마다 조건부 UPDATE 한 번으로 AVAILABLE 슬롯을 CLOSED로 변경한다")
+	void updateClosedDatesForRoom_bulkUpdate() {
+		log.info("=== [휴무일 업데이트 - 범위별 일괄 UPDATE] 테스트 시작 ===");
+		
+		// Given: 날짜 기반 시간 범위 휴무 1개, 지난 휴무 1개, 매주 월요일 종일 휴무 1개
+		String requestId = "closed-date-request";
+		LocalDate today = LocalDate.now();
+		LocalDate closedDate = today.plusDays(3);
+		RoomOperatingPolicy policy = RoomOperatingPolicy.create(
+				roomId,
+				WeeklySlotSchedule.of(List.of()),
+				RecurrencePattern.EVERY_WEEK,
+				SlotUnit.HOUR,
+				List.of(
+						ClosedDateRange.ofTimeRange(closedDate, LocalTime.of(9, 0), LocalTime.of(10, 0)),
+						ClosedDateRange.ofFullDay(today.minusDays(10)),
+						ClosedDateRange.ofPatternFullDay(DayOfWeek.MONDAY, RecurrencePattern.EVERY_WEEK)
+				)
+		);
+		
+		when(closedDateUpdateRequestPort.findById(requestId))
+				.thenReturn(Optional.of(ClosedDateUpdateRequest.create(requestId, roomId, 3)));
+		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(policy));
+		when(timeSlotPort.closeAvailableSlotsBetween(
+				roomId, closedDate, closedDate, LocalTime.of(9, 0), LocalTime.of(10, 0))).thenReturn(2);
+		when(timeSlotPort.closeAvailableSlotsOn(eq(roomId), anyList(), isNull(), isNull())).thenReturn(5);
+		
+		// When
+		int affected = service.updateClosedDatesForRoom(roomId, requestId);
+		
+		// Then: 슬롯을 읽지 않고 범위별 UPDATE 결과만 합산
+		assertThat(affected).isEqualTo(7);
+		verify(timeSlotPort, never()).findByRoomIdAndSlotDateBetween(any(), any(), any());
+		verify(timeSlotPort, never()).saveAll(any());
+		verify(timeSlotPort, times(1)).closeAvailableSlotsBetween(any(), any(), any(), any(), any());
+		
+		// 패턴 휴무는 최대 예약 가능 기간 안의 월요일 목록으로 변환됨 (2개월 이후 날짜 포함)
+		LocalDate lastSlotDate = today.plusDays(RoomOperatingPolicy.MAX_BOOKING_HORIZON_DAYS);
+		ArgumentCaptor<List<LocalDate>> datesCaptor = ArgumentCaptor.forClass(List.class);
+		verify(timeSlotPort).closeAvailableSlotsOn(eq(roomId), datesCaptor.capture(), isNull(), isNull());
+		assertThat(datesCaptor.getValue())
+				.isNotEmpty()
+				.allMatch(date -> date.getDayOfWeek() == DayOfWeek.MONDAY)
+				.allMatch(date -> !date.isBefore(today) && !date.isAfter(lastSlotDate))
+				.anyMatch(date -> date.isAfter(today.plusMonths(2)))
+				.anyMatch(date -> date.isAfter(lastSlotDate.minusDays(7)));
+		
+		// 범위가 덮는 날짜마다 가용성 변경 이벤트 발행
+		verify(eventPublisher, atLeast(datesCaptor.getValue().size()))
+				.publishEvent(any(SlotAvailabilityChangedEvent.class));
+		
+		log.info("=== [휴무일 업데이트 - 범위별 일괄 UPDATE] 테스트 성공 ===");
+	}
+	
+	@Test
+	@DisplayName("[정상] 패턴 휴무는 룸의 예약 가능 기간 끝까지만 적용한다")
+	void updateClosedDatesForRoom_patternBoundedByBookingHorizon() {
+		// Given: 예약 가능 기간 90일, 매주 수요일 종일 휴무
+		String requestId = "closed-date-request";
+		LocalDate today = LocalDate.now();
+		RoomOperatingPolicy policy = RoomOperatingPolicy.create(
+				roomId,
+				WeeklySlotSchedule.of(List.of()),
+				RecurrencePattern.EVERY_WEEK,
+				SlotUnit.HOUR,
+				List.of(ClosedDateRange.ofPatternFullDay(DayOfWeek.WEDNESDAY, RecurrencePattern.EVERY_WEEK))
+		);
+		policy.updateBookingHorizonDays(90);
+		
+		when(closedDateUpdateRequestPort.findById(requestId))
+				.thenReturn(Optional.of(ClosedDateUpdateRequest.create(requestId, roomId, 1)));
+		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(policy));
+		when(timeSlotPort.closeAvailableSlotsOn(eq(roomId), anyList(), isNull(), isNull())).thenReturn(1);
+		
+		// When
+		service.updateClosedDatesForRoom(roomId, requestId);
+		
+		// Then: 2개월 이후 수요일까지 포함하되 예약 가능 기간은 넘지 않음
+		ArgumentCaptor<List<LocalDate>> datesCaptor = ArgumentCaptor.forClass(List.class);
+		verify(timeSlotPort).closeAvailableSlotsOn(eq(roomId), datesCaptor.capture(), isNull(), isNull());
+		assertThat(datesCaptor.getValue())
+				.allMatch(date -> date.getDayOfWeek() == DayOfWeek.WEDNESDAY)
+				.allMatch(date -> !date.isAfter(today.plusDays(90)))
+				.anyMatch(date -> date.isAfter(today.plusDays(83)));
+	}
+	
+	@Test
+	@DisplayName("[정상] 공통 휴일은 모든 룸에 UPDATE 한 번으로 적용하고 작업 하나로 완료한다")
+	void applyHolidayCalendar_bulkUpdate() {
+		log.info("=== [공통 휴일 적용 - 전체 룸 일괄 UPDATE] 테스트 시작 ===");
+		
+		// Given: 휴일 2일, 룸 2개에 AVAILABLE 슬롯 존재
+		String requestId = "holiday-request";
+		LocalDate firstHoliday = LocalDate.now().plusDays(5);
+		LocalDate secondHoliday = LocalDate.now().plusDays(6);
+		ClosedDateUpdateRequest request = ClosedDateUpdateRequest.forHolidayCalendar(requestId, 2);
+		
+		when(closedDateUpdateRequestPort.findById(requestId)).thenReturn(Optional.of(request));
+		when(holidayCalendarPort.findCalendar(any(), any()))
+				.thenReturn(HolidayCalendar.of(List.of(secondHoliday, firstHoliday)));
+		when(timeSlotPort.findRoomIdsWithAvailableSlotsOn(List.of(firstHoliday, secondHoliday)))
+				.thenReturn(Map.of(firstHoliday, List.of(1L, 2L), secondHoliday, List.of(1L)));
+		when(timeSlotPort.closeAvailableSlotsOnAllRooms(List.of(firstHoliday, secondHoliday))).thenReturn(30);
+		
+		// When
+		int affected = service.applyHolidayCalendar(requestId);
+		
+		// Then: 룸별 정책 조회/작업 없이 UPDATE 한 번
+		assertThat(affected).isEqualTo(30);
+		assertThat(request.getStatus()).isEqualTo(GenerationStatus.COMPLETED);
+		assertThat(request.getAffectedSlots()).isEqualTo(30);
+		verify(operatingPolicyPort, never()).findByRoomId(any());
+		verify(timeSlotPort, times(1)).closeAvailableSlotsOnAllRooms(any());
+		
+		// (룸, 날짜)마다 가용성 변경 이벤트 발행
+		verify(eventPublisher, times(3)).publishEvent(any(SlotAvailabilityChangedEvent.class));
+		
+		log.info("=== [공통 휴일 적용 - 전체 룸 일괄 UPDATE] 테스트 성공 ===");
+	}
+	
+	@Test
+	@DisplayName("[정상] 휴무 해제 시 남은 휴무에 포함되지 않는 CLOSED 슬롯만 한 번에 AVAILABLE로 되돌린다")
+	void updateClosedDatesForRoom_reopen() {
+		log.info("=== [휴무 해제 - 일괄 복구] 테스트 시작 ===");
+		
+		// Given: 월요일 09:00, 10:00 운영, 09:00 시간 범위 휴무가 남아 있음
+		String requestId = "reopen-request";
+		LocalDate monday = LocalDate.now().plusWeeks(1).with(DayOfWeek.MONDAY);
+		RoomOperatingPolicy policy = RoomOperatingPolicy.create(
+				roomId,
+				WeeklySlotSchedule.of(List.of(
+						WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0)),
+						WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(10, 0)))),
+				RecurrencePattern.EVERY_WEEK,
+				SlotUnit.HOUR,
+				List.of(ClosedDateRange.ofTimeRange(monday, LocalTime.of(9, 0), LocalTime.of(9, 30)))
+		);
+		RoomTimeSlot stillClosed = RoomTimeSlot.closed(roomId, monday, LocalTime.of(9, 0));
+		RoomTimeSlot reopenable = RoomTimeSlot.closed(roomId, monday, LocalTime.of(10, 0));
+		ReflectionTestUtils.setField(stillClosed, "slotId", 1L);
+		ReflectionTestUtils.setField(reopenable, "slotId", 2L);
+		ClosedDateUpdateRequest request = ClosedDateUpdateRequest.forReopen(requestId, roomId, 1, monday, monday);
+		
+		when(closedDateUpdateRequestPort.findById(requestId)).thenReturn(Optional.of(request));
+		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(policy));
+		when(holidayCalendarPort.findCalendar(monday, monday)).thenReturn(HolidayCalendar.EMPTY);
+		when(timeSlotPort.findByRoomIdAndStatusAndSlotDateBetween(roomId, SlotStatus.CLOSED, monday, monday))
+				.thenReturn(List.of(stillClosed, reopenable));
+		when(timeSlotPort.reopenClosedSlotsByIds(List.of(2L))).thenReturn(1);
+		when(generationService.fillMissingDates(roomId, monday, monday)).thenReturn(0);
+		
+		// When
+		int affected = service.updateClosedDatesForRoom(roomId, requestId);
+		
+		// Then: 10:00 슬롯만 복구되고 CLOSED → AVAILABLE 전이로 알림
+		assertThat(affected).isEqualTo(1);
+		assertThat(request.getStatus()).isEqualTo(GenerationStatus.COMPLETED);
+		verify(timeSlotPort, never()).closeAvailableSlotsBetween(any(), any(), any(), any(), any());
+		ArgumentCaptor<SlotAvailabilityChangedEvent> eventCaptor =
+				ArgumentCaptor.forClass(SlotAvailabilityChangedEvent.class);
+		verify(eventPublisher).publishEvent(eventCaptor.capture());
+		assertThat(eventCaptor.getValue().transitions())
+				.containsExactly(new SlotTransition(LocalTime.of(10, 0), SlotStatus.CLOSED, SlotStatus.AVAILABLE));
+		
+		log.info("=== [휴무 해제 - 일괄 복구] 테스트 성공 ===");
+	}
+	
+	@Test
+	@DisplayName("[정상] LAZY 방식은 UPDATE된 행이 없어도 휴무가 덮는 날짜의 ETag가 바뀐다")
+	void updateClosedDatesForRoom_lazyClosureChangesETag() {
+		// Given: LAZY 저장 방식, 행이 없는 날짜의 종일 휴무
+		ReflectionTestUtils.setField(service, "storageMode", SlotStorageMode.LAZY);
+		ReflectionTestUtils.setField(service, "rollingWindowDays", 30);
+		String requestId = "lazy-closed-date-request";
+		LocalDate closedDate = LocalDate.now().plusDays(3);
+		RoomOperatingPolicy policy = RoomOperatingPolicy.create(
+				roomId,
+				WeeklySlotSchedule.of(List.of(WeeklySlotTime.of(closedDate.getDayOfWeek(), LocalTime.of(10, 0)))),
+				RecurrencePattern.EVERY_WEEK,
+				SlotUnit.HOUR,
+				List.of(ClosedDateRange.ofFullDay(closedDate))
+		);
+		
+		// 발행된 이벤트를 실제 가용성 버전 서비스로 전달 (버전 저장소는 메모리로 대체)
+		SlotAvailabilityVersionService versionService = new SlotAvailabilityVersionService(new InMemoryVersionPort());
+		doAnswer(invocation -> {
+			versionService.onSlotAvailabilityChanged(invocation.getArgument(0));
+			return null;
+		}).when(eventPublisher).publishEvent(any(SlotAvailabilityChangedEvent.class));
+		
+		when(closedDateUpdateRequestPort.findById(requestId))
+				.thenReturn(Optional.of(ClosedDateUpdateRequest.create(requestId, roomId, 1)));
+		when(operatingPolicyPort.findByRoomId(roomId)).thenReturn(Optional.of(policy));
+		when(timeSlotPort.closeAvailableSlotsBetween(roomId, closedDate, closedDate, null, null)).thenReturn(0);
+		
+		Optional<String> before = versionService.findAvailabilityETag(roomId, closedDate);
+		
+		// When
+		int affected = service.updateClosedDatesForRoom(roomId, requestId);
+		
+		// Then: 변경된 행은 없지만 계산 결과가 바뀌었으므로 ETag가 달라짐
+		assertThat(affected).isZero();
+		Optional<String> after = versionService.findAvailabilityETag(roomId, closedDate);
+		assertThat(before).isPresent();
+		assertThat(after).isPresent().isNotEqualTo(before);
+		
+		// 휴무가 덮지 않는 날짜의 ETag는 그대로
+		assertThat(versionService.findAvailabilityETag(roomId, closedDate.plusDays(1))).contains("\"0\"");
+	}
+	
+	@Test
+	@DisplayName("[동시성] 일괄 확정은 UPDATE가 실제로 변경한 슬롯의 전이만 알린다")
+	void confirmSlotsByReservationIds_publishesOnlyAppliedTransitions() {
+		// Given: 조회 시 PENDING이던 두 슬롯 중 하나는 UPDATE 전에 다른 트랜잭션이 만료 처리함
+		RoomTimeSlot confirmed = RoomTimeSlot.available(roomId, slotDate, LocalTime.of(10, 0));
+		RoomTimeSlot expired = RoomTimeSlot.available(roomId, slotDate, LocalTime.of(11, 0));
+		confirmed.markAsPending(1L);
+		expired.markAsPending(2L);
+		ReflectionTestUtils.setField(confirmed, "slotId", 1L);
+		ReflectionTestUtils.setField(expired, "slotId", 2L);
+		
+		when(timeSlotPort.findByReservationIds(List.of(1L, 2L))).thenReturn(List.of(confirmed, expired));
+		when(timeSlotPort.confirmPendingSlotsByIds(List.of(1L, 2L))).thenReturn(1);
+		when(timeSlotPort.findStatusesByIds(List.of(1L, 2L)))
+				.thenReturn(Map.of(1L, SlotStatus.RESERVED, 2L, SlotStatus.AVAILABLE));
+		
+		// When
+		int result = service.confirmSlotsByReservationIds(List.of(1L, 2L));
+		
+		// Then: 실제로 확정된 10:00 슬롯의 PENDING → RESERVED 전이만 발행
+		assertThat(result).isEqualTo(1);
+		ArgumentCaptor<SlotAvailabilityChangedEvent> eventCaptor =
+				ArgumentCaptor.forClass(SlotAvailabilityChangedEvent.class);
+		verify(eventPublisher).publishEvent(eventCaptor.capture());
+		assertThat(eventCaptor.getValue().transitions())
+				.containsExactly(new SlotTransition(LocalTime.of(10, 0), SlotStatus.PENDING, SlotStatus.RESERVED));
+	}
+	
+	/**
+	 * 가용성 버전 저장소의 메모리 구현.
+	 */
+	private static class InMemoryVersionPort implements AvailabilityVersionPort {
+		
+		private final Map<String, Long> versions = new HashMap<>();
+		
+		@Override
+		public long currentVersion(Long roomId, LocalDate date) {
+			return versions.getOrDefault(roomId + ":" + date, 0L);
+		}
+		
+		@Override
+		public long increment(Long roomId, LocalDate date) {
+			return versions.merge(roomId + ":" + date, 1L, Long::sum);
+		}
+	}
 }
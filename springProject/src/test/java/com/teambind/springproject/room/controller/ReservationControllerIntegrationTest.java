@@ -1,10 +1,17 @@
 package com.teambind.springproject.room.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.teambind.springproject.room.BaseIntegrationTest;
 import com.teambind.springproject.room.command.dto.SlotReservationRequest;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.event.SlotTransition;
 import com.teambind.springproject.room.entity.RoomTimeSlot;
 import com.teambind.springproject.room.entity.enums.SlotStatus;
+import com.teambind.springproject.room.query.dto.BatchSlotAvailabilityRequest;
+import com.teambind.springproject.room.query.dto.CompactDailyAvailabilityResponse;
+import com.teambind.springproject.room.query.dto.SlotKey;
+import com.teambind.springproject.room.query.stream.SlotStreamRegistry;
 import com.teambind.springproject.room.repository.RoomTimeSlotRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,15 +19,31 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -42,6 +65,12 @@ class ReservationControllerIntegrationTest extends BaseIntegrationTest {
 	@Autowired
 	private RoomTimeSlotRepository slotRepository;
 	
+	@Autowired
+	private SlotStreamRegistry slotStreamRegistry;
+	
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+	
 	private Long roomId;
 	private LocalDate slotDate;
 	private LocalTime slotTime;
@@ -206,4 +235,125 @@ class ReservationControllerIntegrationTest extends BaseIntegrationTest {
 		
 		log.info("=== [POST /api/v1/reservations 다중 요청] 테스트 성공 ===");
 	}
+	
+	@Test
+	@DisplayName("GET /api/v1/reservations/slot-stream - 구독 중인 날짜의 슬롯 전이를 SSE로 수신")
+	void streamSlotTransitions_ReceivesTransition() throws Exception {
+		log.info("=== [GET /api/v1/reservations/slot-stream 전이 수신] 테스트 시작 ===");
+		
+		// Given
+		MvcResult result = mockMvc.perform(get("/api/v1/reservations/slot-stream")
+						.param("roomId", roomId.toString())
+						.param("from", slotDate.toString()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		
+		// When: 다른 날짜 변경은 전달되지 않고, 구독 날짜 변경만 전달되어야 함
+		slotStreamRegistry.dispatch(new SlotAvailabilityChangedEvent(roomId, slotDate.plusDays(1)));
+		slotStreamRegistry.dispatch(new SlotAvailabilityChangedEvent(roomId, slotDate, List.of(
+				new SlotTransition(slotTime, SlotStatus.AVAILABLE, SlotStatus.PENDING))));
+		
+		// Then
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+				assertThat(result.getResponse().getContentAsString())
+						.contains("event:slot-transition")
+						.contains("\"from\":\"AVAILABLE\"")
+						.contains("\"to\":\"PENDING\""));
+		assertThat(result.getResponse().getContentAsString())
+				.doesNotContain("event:resync");
+		
+		log.info("=== [GET /api/v1/reservations/slot-stream 전이 수신] 테스트 성공 ===");
+	}
+	
+	@Test
+	@DisplayName("GET /api/v1/reservations/slot-stream - 종료 날짜가 시작 날짜보다 이전이면 400")
+	void streamSlotTransitions_InvalidRange() throws Exception {
+		mockMvc.perform(get("/api/v1/reservations/slot-stream")
+						.param("roomId", roomId.toString())
+						.param("from", slotDate.toString())
+						.param("to", slotDate.minusDays(1).toString()))
+				.andExpect(status().isBadRequest());
+	}
+	
+	@Test
+	@DisplayName("POST /api/v1/reservations/available-slots/check - 요청 순서대로 가용 여부 반환")
+	void checkSlotsAvailability_Success() throws Exception {
+		// Given
+		BatchSlotAvailabilityRequest request = new BatchSlotAvailabilityRequest(List.of(
+				new SlotKey(roomId, slotDate, slotTime),
+				new SlotKey(roomId, slotDate, slotTime.plusHours(1))
+		));
+		
+		// When & Then
+		mockMvc.perform(post("/api/v1/reservations/available-slots/check")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.available[0]").value(true))
+				.andExpect(jsonPath("$.available[1]").value(false))
+				.andExpect(jsonPath("$.allAvailable").value(false));
+	}
+	
+	@Test
+	@DisplayName("GET /api/v1/reservations/available-slots?format=compact - 압축 포맷으로 응답")
+	void getAvailableSlots_CompactFormat() throws Exception {
+		mockMvc.perform(get("/api/v1/reservations/available-slots")
+						.param("roomId", roomId.toString())
+						.param("date", slotDate.toString())
+						.param("format", "compact"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.baseTime").value("10:00:00"))
+				.andExpect(jsonPath("$.runs").value("1A"));
+	}
+	
+	@Test
+	@DisplayName("GET /api/v1/reservations/available-slots - gzip 허용이어도 압축하지 않은 응답은 -gzip ETag를 붙이지 않음")
+	@SuppressWarnings("unchecked")
+	void getAvailableSlots_UncompressedBodyKeepsIdentityETag() throws Exception {
+		// Given: 가용성 버전 1 (응답은 gzip 기준 크기보다 작은 단일 슬롯)
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get(anyString())).thenReturn("1");
+		
+		try {
+			// When & Then
+			MvcResult result = mockMvc.perform(get("/api/v1/reservations/available-slots")
+							.param("roomId", roomId.toString())
+							.param("date", slotDate.toString())
+							.header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+					.andExpect(status().isOk())
+					.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+					.andReturn();
+			String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+			assertThat(eTag).isNotNull().doesNotContain("-gzip");
+			
+			mockMvc.perform(get("/api/v1/reservations/available-slots")
+							.param("roomId", roomId.toString())
+							.param("date", slotDate.toString())
+							.header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+							.header(HttpHeaders.IF_NONE_MATCH, eTag))
+					.andExpect(status().isNotModified());
+		} finally {
+			reset(redisTemplate);
+		}
+	}
+	
+	@Test
+	@DisplayName("GET /api/v1/reservations/availability - Accept: application/cbor이면 CBOR로 응답")
+	void getCompactAvailability_Cbor() throws Exception {
+		MvcResult result = mockMvc.perform(get("/api/v1/reservations/availability")
+						.param("roomId", roomId.toString())
+						.param("from", slotDate.toString())
+						.param("to", slotDate.plusDays(2).toString())
+						.accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+				.andReturn();
+		
+		CompactDailyAvailabilityResponse[] days = new CBORMapper().findAndRegisterModules()
+				.readValue(result.getResponse().getContentAsByteArray(), CompactDailyAvailabilityResponse[].class);
+		assertThat(days).hasSize(3);
+		assertThat(days[0].runs()).isEqualTo("1A");
+		assertThat(days[1].runs()).isEmpty();
+	}
 }
@@ -0,0 +1,75 @@
+package com.teambind.springproject.room.domain.event;
+
+import com.teambind.springproject.room.entity.RoomTimeSlot;
+import com.teambind.springproject.room.entity.enums.SlotStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SlotAvailabilityChangedEvent 테스트")
+class SlotAvailabilityChangedEventTest {
+	
+	private static final Long ROOM_ID = 100L;
+	private static final LocalDate DAY1 = LocalDate.of(2025, 1, 20);
+	private static final LocalDate DAY2 = LocalDate.of(2025, 1, 21);
+	
+	@Test
+	@DisplayName("[정상] (roomId, date) 단위로 전이 내역을 묶는다")
+	void groupsTransitionsByRoomAndDate() {
+		// Given
+		RoomTimeSlot slot1 = RoomTimeSlot.available(ROOM_ID, DAY1, LocalTime.of(10, 0));
+		RoomTimeSlot slot2 = RoomTimeSlot.available(ROOM_ID, DAY1, LocalTime.of(11, 0));
+		RoomTimeSlot slot3 = RoomTimeSlot.available(ROOM_ID, DAY2, LocalTime.of(10, 0));
+		List<RoomTimeSlot> slots = List.of(slot1, slot2, slot3);
+		List<SlotStatus> previous = slots.stream().map(RoomTimeSlot::getStatus).toList();
+		slots.forEach(slot -> slot.markAsPending(1L));
+		
+		// When
+		List<SlotAvailabilityChangedEvent> events = SlotAvailabilityChangedEvent.of(slots, previous);
+		
+		// Then
+		assertThat(events).containsExactly(
+				new SlotAvailabilityChangedEvent(ROOM_ID, DAY1, List.of(
+						new SlotTransition(LocalTime.of(10, 0), SlotStatus.AVAILABLE, SlotStatus.PENDING),
+						new SlotTransition(LocalTime.of(11, 0), SlotStatus.AVAILABLE, SlotStatus.PENDING))),
+				new SlotAvailabilityChangedEvent(ROOM_ID, DAY2, List.of(
+						new SlotTransition(LocalTime.of(10, 0), SlotStatus.AVAILABLE, SlotStatus.PENDING)))
+		);
+		assertThat(events).noneMatch(SlotAvailabilityChangedEvent::isBulkChange);
+	}
+	
+	@Test
+	@DisplayName("[정상] 상태가 바뀌지 않은 슬롯은 이벤트에서 제외한다")
+	void skipsUnchangedSlots() {
+		// Given
+		RoomTimeSlot slot = RoomTimeSlot.available(ROOM_ID, DAY1, LocalTime.of(10, 0));
+		
+		// When
+		List<SlotAvailabilityChangedEvent> events =
+				SlotAvailabilityChangedEvent.of(List.of(slot), List.of(SlotStatus.AVAILABLE));
+		
+		// Then
+		assertThat(events).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("[정상] 전이 내역 없이 생성하면 날짜 단위 일괄 변경이다")
+	void bulkChange() {
+		assertThat(new SlotAvailabilityChangedEvent(ROOM_ID, DAY1).isBulkChange()).isTrue();
+	}
+	
+	@Test
+	@DisplayName("[예외] 슬롯 수와 이전 상태 수가 다르면 예외가 발생한다")
+	void sizeMismatch() {
+		RoomTimeSlot slot = RoomTimeSlot.available(ROOM_ID, DAY1, LocalTime.of(10, 0));
+		
+		assertThatThrownBy(() -> SlotAvailabilityChangedEvent.of(List.of(slot), List.of()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
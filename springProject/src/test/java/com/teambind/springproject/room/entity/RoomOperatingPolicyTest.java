@@ -554,4 +554,41 @@ class RoomOperatingPolicyTest {
 					.hasMessageContaining("slotUnit");
 		}
 	}
+
+	// ============================================================
+	// 예약 가능 기간 테스트
+	// ============================================================
+
+	@Nested
+	@DisplayName("예약 가능 기간 (bookableThrough)")
+	class BookingHorizonTests {
+
+		@Test
+		@DisplayName("[정상] 룸별 설정이 없으면 기본 일 수를 사용하고, 설정하면 그 값을 사용한다")
+		void bookableThroughUsesOverride() {
+			// Given
+			RoomOperatingPolicy policy = createBasicPolicy(RecurrencePattern.EVERY_WEEK);
+			LocalDate today = LocalDate.of(2025, 1, 1);
+
+			// When & Then
+			assertThat(policy.bookableThrough(today, 30)).isEqualTo(LocalDate.of(2025, 1, 31));
+			policy.updateBookingHorizonDays(90);
+			assertThat(policy.bookableThrough(today, 30)).isEqualTo(LocalDate.of(2025, 4, 1));
+			policy.updateBookingHorizonDays(null);
+			assertThat(policy.getBookingHorizonDays()).isNull();
+		}
+
+		@Test
+		@DisplayName("[오류] 허용 범위를 벗어난 예약 가능 기간은 설정할 수 없다")
+		void rejectsOutOfRangeHorizon() {
+			// Given
+			RoomOperatingPolicy policy = createBasicPolicy(RecurrencePattern.EVERY_WEEK);
+
+			// When & Then
+			assertThatThrownBy(() -> policy.updateBookingHorizonDays(0))
+					.isInstanceOf(InvalidRequestException.class);
+			assertThatThrownBy(() -> policy.updateBookingHorizonDays(RoomOperatingPolicy.MAX_BOOKING_HORIZON_DAYS + 1))
+					.isInstanceOf(InvalidRequestException.class);
+		}
+	}
 }
@@ -0,0 +1,159 @@
+package com.teambind.springproject.room.entity.vo;
+
+import com.teambind.springproject.room.entity.enums.RecurrencePattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ClosedDateIndex 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 날짜 기반 휴무 조회 (겹치는 범위, 경계일)
+ * - 패턴 기반 휴무의 기간 교차 판단 (53주 연도 연말 포함)
+ * - 무작위 휴무 목록에 대한 선형 탐색과의 동치성
+ */
+@DisplayName("ClosedDateIndex 테스트")
+class ClosedDateIndexTest {
+
+	private static final LocalDate BASE = LocalDate.of(2026, 11, 2);
+
+	@Nested
+	@DisplayName("날짜 기반 휴무")
+	class DatedRangeTests {
+
+		@Test
+		@DisplayName("[정상] 겹치는 날짜 범위 중 해당 날짜를 포함하는 범위만 반환한다")
+		void closuresOnReturnsContainingRanges() {
+			// Given
+			ClosedDateRange longRange = ClosedDateRange.ofDateRange(BASE, BASE.plusDays(30));
+			ClosedDateRange singleDay = ClosedDateRange.ofFullDay(BASE.plusDays(10));
+			ClosedDateRange later = ClosedDateRange.ofDateRange(BASE.plusDays(11), BASE.plusDays(12));
+			ClosedDateIndex index = ClosedDateIndex.of(List.of(longRange, singleDay, later));
+
+			// When / Then
+			assertThat(index.closuresOn(BASE.plusDays(10))).containsExactlyInAnyOrder(longRange, singleDay);
+			assertThat(index.closuresOn(BASE.plusDays(12))).containsExactlyInAnyOrder(longRange, later);
+			assertThat(index.closuresOn(BASE.plusDays(31))).isEmpty();
+			assertThat(index.closuresOn(BASE.minusDays(1))).isEmpty();
+		}
+
+		@Test
+		@DisplayName("[정상] 기간 조회는 경계일에 걸친 범위를 포함하고 원래 순서로 반환한다")
+		void closuresIntersectingIncludesBoundaries() {
+			// Given
+			ClosedDateRange before = ClosedDateRange.ofDateRange(BASE.minusDays(5), BASE.minusDays(1));
+			ClosedDateRange touchingStart = ClosedDateRange.ofDateRange(BASE.minusDays(3), BASE);
+			ClosedDateRange touchingEnd = ClosedDateRange.ofFullDay(BASE.plusDays(7));
+			ClosedDateRange after = ClosedDateRange.ofFullDay(BASE.plusDays(8));
+			ClosedDateIndex index = ClosedDateIndex.of(List.of(after, touchingEnd, before, touchingStart));
+
+			// When
+			List<ClosedDateRange> result = index.closuresIntersecting(BASE, BASE.plusDays(7));
+
+			// Then
+			assertThat(result).containsExactly(touchingEnd, touchingStart);
+			assertThat(index.earliestDatedStart()).contains(BASE.minusDays(5));
+			assertThat(index.latestDatedEnd()).contains(BASE.plusDays(8));
+		}
+	}
+
+	@Nested
+	@DisplayName("패턴 기반 휴무")
+	class PatternRangeTests {
+
+		@Test
+		@DisplayName("[정상] 53주 -> 1주로 이어지는 2주 기간에는 짝수 주 휴무가 겹치지 않는다")
+		void evenWeekDoesNotIntersectAcrossOddYearEnd() {
+			// Given: 2026-12-28(월)은 2026년 53주차, 2027-01-04(월)은 2027년 1주차
+			ClosedDateRange evenMonday = ClosedDateRange.ofPatternFullDay(DayOfWeek.MONDAY, RecurrencePattern.EVEN_WEEK);
+			ClosedDateIndex index = ClosedDateIndex.of(List.of(evenMonday));
+
+			// When / Then
+			assertThat(index.closuresIntersecting(LocalDate.of(2026, 12, 28), LocalDate.of(2027, 1, 10))).isEmpty();
+			assertThat(index.closuresIntersecting(LocalDate.of(2026, 12, 28), LocalDate.of(2027, 1, 11)))
+					.containsExactly(evenMonday);
+		}
+
+		@Test
+		@DisplayName("[정상] 시간 범위 패턴 휴무는 해당 요일의 시간 범위만 휴무로 판단한다")
+		void patternTimeRange() {
+			// Given
+			ClosedDateRange mondayMorning = ClosedDateRange.ofPatternTimeRange(
+					DayOfWeek.MONDAY, RecurrencePattern.EVERY_WEEK, LocalTime.of(9, 0), LocalTime.of(10, 0));
+			ClosedDateIndex index = ClosedDateIndex.of(List.of(mondayMorning));
+
+			// When / Then
+			assertThat(index.isClosedAt(BASE, LocalTime.of(9, 30))).isTrue();
+			assertThat(index.isClosedAt(BASE, LocalTime.of(11, 0))).isFalse();
+			assertThat(index.isClosedAt(BASE.plusDays(1), LocalTime.of(9, 30))).isFalse();
+			assertThat(index.isFullDayClosedOn(BASE)).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("선형 탐색과의 동치성")
+	class EquivalenceTests {
+
+		@Test
+		@DisplayName("[속성] 무작위 휴무 목록에서 날짜/기간 조회 결과가 선형 탐색과 같다")
+		void matchesLinearScan() {
+			Random random = new Random(33L);
+
+			for (int n = 0; n < 200; n++) {
+				// Given
+				List<ClosedDateRange> ranges = randomRanges(random, random.nextInt(60));
+				ClosedDateIndex index = ClosedDateIndex.of(ranges);
+
+				for (int q = 0; q < 50; q++) {
+					LocalDate date = BASE.plusDays(random.nextInt(120) - 10);
+					LocalTime time = LocalTime.of(random.nextInt(24), random.nextInt(2) * 30);
+					LocalDate to = date.plusDays(random.nextInt(30));
+
+					// When / Then
+					assertThat(index.closuresOn(date))
+							.containsExactlyInAnyOrderElementsOf(
+									ranges.stream().filter(r -> r.containsDate(date)).toList());
+					assertThat(index.isClosedAt(date, time))
+							.isEqualTo(ranges.stream().anyMatch(r -> r.contains(date, time)));
+					assertThat(index.closuresIntersecting(date, to))
+							.containsExactlyElementsOf(
+									ranges.stream().filter(r -> intersects(r, date, to)).toList());
+				}
+			}
+		}
+
+		private boolean intersects(ClosedDateRange range, LocalDate from, LocalDate to) {
+			return from.datesUntil(to.plusDays(1)).anyMatch(range::containsDate);
+		}
+
+		private List<ClosedDateRange> randomRanges(Random random, int count) {
+			RecurrencePattern[] patterns = RecurrencePattern.values();
+			List<ClosedDateRange> ranges = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				LocalDate start = BASE.plusDays(random.nextInt(120) - 20);
+				DayOfWeek day = DayOfWeek.of(1 + random.nextInt(7));
+				RecurrencePattern pattern = patterns[random.nextInt(patterns.length)];
+				LocalTime from = LocalTime.of(random.nextInt(20), 0);
+				switch (random.nextInt(5)) {
+					case 0 -> ranges.add(ClosedDateRange.ofFullDay(start));
+					case 1 -> ranges.add(ClosedDateRange.ofDateRange(start, start.plusDays(random.nextInt(40))));
+					case 2 -> ranges.add(ClosedDateRange.ofTimeRange(start, from, from.plusHours(2)));
+					case 3 -> ranges.add(ClosedDateRange.ofPatternFullDay(day, pattern));
+					default -> ranges.add(ClosedDateRange.ofPatternTimeRange(day, pattern, from, from.plusHours(3)));
+				}
+			}
+			return ranges;
+		}
+	}
+}
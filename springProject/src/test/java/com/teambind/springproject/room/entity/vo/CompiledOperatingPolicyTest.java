@@ -0,0 +1,280 @@
+package com.teambind.springproject.room.entity.vo;
+
+import com.teambind.springproject.room.entity.RoomTimeSlot;
+import com.teambind.springproject.room.entity.enums.RecurrencePattern;
+import com.teambind.springproject.room.entity.enums.SlotStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CompiledOperatingPolicy 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 요일별 시작 시각 정렬/중복 제거
+ * - 시간 범위 휴무 경계 (양 끝 포함)
+ * - 시작/종료 시각 중 하나만 있는 휴무 처리
+ * - 공통 휴일 적용
+ * - 무작위 정책에 대한 기존 판단 로직과의 동치성 (속성 기반)
+ */
+@DisplayName("CompiledOperatingPolicy 테스트")
+class CompiledOperatingPolicyTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final LocalDate MONDAY = LocalDate.of(2025, 1, 20);
+
+	// ============================================================
+	// 슬롯 생성 테스트
+	// ============================================================
+
+	@Nested
+	@DisplayName("슬롯 생성")
+	class GenerateSlotsTests {
+
+		@Test
+		@DisplayName("[정상] 시작 시각이 정렬되고 중복이 제거된다")
+		void sortsAndDeduplicatesStartTimes() {
+			// Given
+			WeeklySlotSchedule schedule = WeeklySlotSchedule.of(List.of(
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(11, 0)),
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0)),
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(11, 0))
+			));
+			CompiledOperatingPolicy compiled = CompiledOperatingPolicy.compile(
+					ROOM_ID, schedule, RecurrencePattern.EVERY_WEEK, List.of());
+
+			// When
+			List<RoomTimeSlot> slots = compiled.generateSlotsFor(MONDAY);
+
+			// Then
+			assertThat(slots).extracting(RoomTimeSlot::getSlotTime)
+					.containsExactly(LocalTime.of(9, 0), LocalTime.of(11, 0));
+		}
+
+		@Test
+		@DisplayName("[정상] 시간 범위 휴무의 시작/종료 시각 슬롯은 모두 CLOSED이다")
+		void timeRangeClosureIsInclusive() {
+			// Given
+			WeeklySlotSchedule schedule = WeeklySlotSchedule.of(List.of(
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0)),
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(10, 0)),
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(11, 0)),
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(12, 0))
+			));
+			ClosedDateRange closure = ClosedDateRange.ofTimeRange(
+					MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0));
+			CompiledOperatingPolicy compiled = CompiledOperatingPolicy.compile(
+					ROOM_ID, schedule, RecurrencePattern.EVERY_WEEK, List.of(closure));
+
+			// When
+			List<RoomTimeSlot> slots = compiled.generateSlotsFor(MONDAY);
+
+			// Then
+			assertThat(slots).extracting(slot -> slot.getStatus().name())
+					.containsExactly("AVAILABLE", "CLOSED", "CLOSED", "AVAILABLE");
+		}
+
+		@Test
+		@DisplayName("[정상] 종료 시각이 없는 휴무는 슬롯을 생성하되 모두 CLOSED로 만든다")
+		void openEndedClosureClosesAllSlots() {
+			// Given
+			WeeklySlotSchedule schedule = WeeklySlotSchedule.of(List.of(
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0)),
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(10, 0))
+			));
+			ClosedDateRange closure = ClosedDateRange.ofTimeRange(MONDAY, LocalTime.of(12, 0), null);
+			CompiledOperatingPolicy compiled = CompiledOperatingPolicy.compile(
+					ROOM_ID, schedule, RecurrencePattern.EVERY_WEEK, List.of(closure));
+
+			// When
+			List<RoomTimeSlot> slots = compiled.generateSlotsFor(MONDAY);
+
+			// Then
+			assertThat(compiled.shouldGenerateSlotsOn(MONDAY)).isTrue();
+			assertThat(slots).hasSize(2).allMatch(slot -> slot.getStatus() == SlotStatus.CLOSED);
+		}
+
+		@Test
+		@DisplayName("[정상] 날짜 범위 생성은 날짜별 생성 결과를 이어 붙인 것과 같다")
+		void generateSlotsBetweenConcatenatesDays() {
+			// Given
+			WeeklySlotSchedule schedule = WeeklySlotSchedule.of(List.of(
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0)),
+					WeeklySlotTime.of(DayOfWeek.WEDNESDAY, LocalTime.of(14, 0))
+			));
+			CompiledOperatingPolicy compiled = CompiledOperatingPolicy.compile(
+					ROOM_ID, schedule, RecurrencePattern.EVERY_WEEK,
+					List.of(ClosedDateRange.ofFullDay(MONDAY.plusDays(7))));
+
+			// When
+			List<RoomTimeSlot> slots = compiled.generateSlotsBetween(MONDAY, MONDAY.plusDays(13));
+
+			// Then
+			assertThat(slots).extracting(RoomTimeSlot::getSlotDate)
+					.containsExactly(MONDAY, MONDAY.plusDays(2), MONDAY.plusDays(9));
+		}
+
+		@Test
+		@DisplayName("[정상] 공통 휴일에는 룸 휴무와 관계없이 슬롯을 생성하지 않는다")
+		void holidaysSuppressGeneration() {
+			// Given
+			WeeklySlotSchedule schedule = WeeklySlotSchedule.of(List.of(
+					WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0))
+			));
+			CompiledOperatingPolicy compiled = CompiledOperatingPolicy.compile(
+					ROOM_ID, schedule, RecurrencePattern.EVERY_WEEK, List.of())
+					.withHolidays(HolidayCalendar.of(List.of(MONDAY.plusDays(7))));
+
+			// When
+			List<RoomTimeSlot> slots = compiled.generateSlotsBetween(MONDAY, MONDAY.plusDays(14));
+
+			// Then
+			assertThat(compiled.shouldGenerateSlotsOn(MONDAY.plusDays(7))).isFalse();
+			assertThat(compiled.isClosedAt(MONDAY.plusDays(7), LocalTime.of(9, 0))).isTrue();
+			assertThat(slots).extracting(RoomTimeSlot::getSlotDate)
+					.containsExactly(MONDAY, MONDAY.plusDays(14));
+		}
+	}
+
+	// ============================================================
+	// 동치성 테스트 (속성 기반)
+	// ============================================================
+
+	@Nested
+	@DisplayName("기존 판단 로직과의 동치성")
+	class EquivalenceTests {
+
+		private static final int POLICY_COUNT = 300;
+
+		// ISO 53주 연도(2026)의 연말을 포함해 홀수/짝수 주 경계를 검증한다
+		private static final LocalDate WINDOW_START = LocalDate.of(2026, 11, 20);
+		private static final int WINDOW_DAYS = 75;
+
+		@Test
+		@DisplayName("[속성] 무작위 정책에서 슬롯 생성/휴무 판단 결과가 기존 로직과 같다")
+		void matchesReferenceImplementation() {
+			Random random = new Random(20250120L);
+
+			for (int n = 0; n < POLICY_COUNT; n++) {
+				// Given
+				WeeklySlotSchedule schedule = randomSchedule(random);
+				RecurrencePattern recurrence = randomPattern(random);
+				List<ClosedDateRange> closedDates = randomClosedDates(random);
+				CompiledOperatingPolicy compiled = CompiledOperatingPolicy.compile(
+						ROOM_ID, schedule, recurrence, closedDates);
+				String context = "policy #" + n + " recurrence=" + recurrence + " closedDates=" + closedDates.size();
+
+				for (int d = 0; d < WINDOW_DAYS; d++) {
+					LocalDate date = WINDOW_START.plusDays(d);
+
+					// When / Then
+					assertThat(describe(compiled.generateSlotsFor(date)))
+							.as(context + " date=" + date)
+							.isEqualTo(describe(referenceSlots(schedule, recurrence, closedDates, date)));
+					assertThat(compiled.shouldGenerateSlotsOn(date))
+							.as(context + " date=" + date)
+							.isEqualTo(referenceShouldGenerate(recurrence, closedDates, date));
+
+					LocalTime probe = LocalTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(2) * 30);
+					assertThat(compiled.isClosedAt(date, probe))
+							.as(context + " date=" + date + " time=" + probe)
+							.isEqualTo(referenceIsClosedAt(closedDates, date, probe));
+				}
+			}
+		}
+
+		private WeeklySlotSchedule randomSchedule(Random random) {
+			List<WeeklySlotTime> times = new ArrayList<>();
+			int count = random.nextInt(80);
+			for (int i = 0; i < count; i++) {
+				DayOfWeek day = DayOfWeek.of(1 + random.nextInt(7));
+				int minute = random.nextBoolean() ? random.nextInt(48) * 30 : random.nextInt(24 * 60);
+				times.add(WeeklySlotTime.of(day, LocalTime.of(minute / 60, minute % 60)));
+			}
+			return WeeklySlotSchedule.of(times);
+		}
+
+		private List<ClosedDateRange> randomClosedDates(Random random) {
+			List<ClosedDateRange> ranges = new ArrayList<>();
+			int count = random.nextInt(12);
+			for (int i = 0; i < count; i++) {
+				LocalDate start = WINDOW_START.plusDays(random.nextInt(WINDOW_DAYS + 20) - 10);
+				LocalTime from = randomTime(random);
+				LocalTime to = from.plusMinutes(random.nextInt(240));
+				if (to.isBefore(from)) {
+					to = LocalTime.MAX;
+				}
+				DayOfWeek day = DayOfWeek.of(1 + random.nextInt(7));
+				switch (random.nextInt(7)) {
+					case 0 -> ranges.add(ClosedDateRange.ofFullDay(start));
+					case 1 -> ranges.add(ClosedDateRange.ofDateRange(start, start.plusDays(random.nextInt(15))));
+					case 2 -> ranges.add(ClosedDateRange.ofTimeRange(start, from, to));
+					case 3 -> ranges.add(ClosedDateRange.ofTimeRange(start, from, null));
+					case 4 -> ranges.add(ClosedDateRange.ofPatternFullDay(day, randomPattern(random)));
+					case 5 -> ranges.add(ClosedDateRange.ofPatternTimeRange(day, randomPattern(random), from, to));
+					default -> ranges.add(ClosedDateRange.ofPatternTimeRange(day, randomPattern(random), null, to));
+				}
+			}
+			return ranges;
+		}
+
+		private LocalTime randomTime(Random random) {
+			// 슬롯 격자(30분) 위의 경계와 초 단위 경계를 자주 만들어 분 단위 올림/내림 비교를 검증한다
+			int minute = random.nextBoolean() ? random.nextInt(48) * 30 : random.nextInt(24 * 60);
+			int second = random.nextBoolean() ? random.nextInt(60) : 0;
+			return LocalTime.of(minute / 60, minute % 60, second);
+		}
+		
+		private RecurrencePattern randomPattern(Random random) {
+			RecurrencePattern[] patterns = RecurrencePattern.values();
+			return patterns[random.nextInt(patterns.length)];
+		}
+
+		private List<String> describe(List<RoomTimeSlot> slots) {
+			return slots.stream()
+					.map(slot -> slot.getSlotDate() + "T" + slot.getSlotTime() + ":" + slot.getStatus())
+					.toList();
+		}
+
+		// ---- 기존 RoomOperatingPolicy 판단 로직 (기준 구현) ----
+
+		private List<RoomTimeSlot> referenceSlots(
+				WeeklySlotSchedule schedule,
+				RecurrencePattern recurrence,
+				List<ClosedDateRange> closedDates,
+				LocalDate date) {
+			if (!referenceShouldGenerate(recurrence, closedDates, date)) {
+				return List.of();
+			}
+			return schedule.getStartTimesFor(date.getDayOfWeek()).stream()
+					.map(time -> referenceIsClosedAt(closedDates, date, time)
+							? RoomTimeSlot.closed(ROOM_ID, date, time)
+							: RoomTimeSlot.available(ROOM_ID, date, time))
+					.toList();
+		}
+
+		private boolean referenceShouldGenerate(
+				RecurrencePattern recurrence, List<ClosedDateRange> closedDates, LocalDate date) {
+			if (!recurrence.matches(date)) {
+				return false;
+			}
+			return closedDates.stream().noneMatch(range -> range.containsDate(date)
+					&& range.getStartTime() == null
+					&& range.getEndTime() == null);
+		}
+
+		private boolean referenceIsClosedAt(List<ClosedDateRange> closedDates, LocalDate date, LocalTime time) {
+			return closedDates.stream().anyMatch(range -> range.contains(date, time));
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.teambind.springproject.room.entity.vo;
+
+import com.teambind.springproject.room.entity.enums.RecurrencePattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ScheduleTemplate 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 정규화된 내용이 같은 스케줄은 같은 해시/인스턴스를 공유
+ * - 반복 패턴이 다르면 다른 템플릿
+ * - 날짜별 시작 시각 조회 (반복 패턴 적용)
+ */
+@DisplayName("ScheduleTemplate 테스트")
+class ScheduleTemplateTest {
+
+	private static final LocalDate MONDAY = LocalDate.of(2025, 1, 20);
+
+	@Test
+	@DisplayName("[정상] 입력 순서와 중복만 다른 스케줄은 같은 템플릿 인스턴스를 공유한다")
+	void equivalentSchedulesShareTemplate() {
+		// Given
+		WeeklySlotSchedule ordered = WeeklySlotSchedule.of(List.of(
+				WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0)),
+				WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(10, 0))
+		));
+		WeeklySlotSchedule shuffled = WeeklySlotSchedule.of(List.of(
+				WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(10, 0)),
+				WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0)),
+				WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(10, 0))
+		));
+
+		// When
+		ScheduleTemplate first = ScheduleTemplate.of(ordered, RecurrencePattern.EVERY_WEEK);
+		ScheduleTemplate second = ScheduleTemplate.of(shuffled, RecurrencePattern.EVERY_WEEK);
+
+		// Then
+		assertThat(second).isSameAs(first);
+		assertThat(first.getHash())
+				.hasSize(64)
+				.isEqualTo(ScheduleTemplate.hashOf(shuffled, RecurrencePattern.EVERY_WEEK));
+	}
+
+	@Test
+	@DisplayName("[정상] 반복 패턴이 다르면 다른 템플릿이다")
+	void differentRecurrenceDiffers() {
+		// Given
+		WeeklySlotSchedule schedule = WeeklySlotSchedule.of(List.of(
+				WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0))
+		));
+
+		// When
+		ScheduleTemplate everyWeek = ScheduleTemplate.of(schedule, RecurrencePattern.EVERY_WEEK);
+		ScheduleTemplate oddWeek = ScheduleTemplate.of(schedule, RecurrencePattern.ODD_WEEK);
+
+		// Then
+		assertThat(oddWeek.getHash()).isNotEqualTo(everyWeek.getHash());
+		assertThat(oddWeek).isNotEqualTo(everyWeek);
+	}
+
+	@Test
+	@DisplayName("[정상] 반복 패턴과 일치하지 않는 날짜나 운영하지 않는 요일은 빈 배열을 반환한다")
+	void startTimesOnAppliesRecurrence() {
+		// Given: 2025-01-20은 ISO 4주차(짝수 주)
+		WeeklySlotSchedule schedule = WeeklySlotSchedule.of(List.of(
+				WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(10, 0)),
+				WeeklySlotTime.of(DayOfWeek.MONDAY, LocalTime.of(9, 0))
+		));
+		ScheduleTemplate everyWeek = ScheduleTemplate.of(schedule, RecurrencePattern.EVERY_WEEK);
+		ScheduleTemplate oddWeek = ScheduleTemplate.of(schedule, RecurrencePattern.ODD_WEEK);
+
+		// When & Then
+		assertThat(everyWeek.startTimesOn(MONDAY)).containsExactly(LocalTime.of(9, 0), LocalTime.of(10, 0));
+		assertThat(everyWeek.startTimesOn(MONDAY.plusDays(1))).isEmpty();
+		assertThat(oddWeek.startTimesOn(MONDAY)).isEmpty();
+		assertThat(oddWeek.startTimesOn(MONDAY.plusWeeks(1))).hasSize(2);
+	}
+}
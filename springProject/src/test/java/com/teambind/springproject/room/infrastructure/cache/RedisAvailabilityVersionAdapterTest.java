@@ -0,0 +1,89 @@
+package com.teambind.springproject.room.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisAvailabilityVersionAdapter 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisAvailabilityVersionAdapter 단위 테스트")
+class RedisAvailabilityVersionAdapterTest {
+	
+	private static final Long ROOM_ID = 100L;
+	private static final LocalDate DATE = LocalDate.now().plusDays(3);
+	private static final String KEY = "room:availability-version:100:" + DATE;
+	
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+	
+	private RedisAvailabilityVersionAdapter adapter;
+	
+	@BeforeEach
+	void setUp() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		adapter = new RedisAvailabilityVersionAdapter(redisTemplate);
+	}
+	
+	@Test
+	@DisplayName("[정상] 저장된 버전을 그대로 반환한다")
+	void currentVersion_Existing() {
+		// Given
+		when(valueOperations.get(KEY)).thenReturn("42");
+		
+		// When
+		long version = adapter.currentVersion(ROOM_ID, DATE);
+		
+		// Then
+		assertThat(version).isEqualTo(42L);
+		verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+	}
+	
+	@Test
+	@DisplayName("[정상] 버전이 없으면 시각 기반 seed로 초기화한다")
+	void currentVersion_Seeded() {
+		// Given
+		when(valueOperations.get(KEY)).thenReturn(null, "1700000000000000");
+		
+		// When
+		long version = adapter.currentVersion(ROOM_ID, DATE);
+		
+		// Then
+		assertThat(version).isEqualTo(1700000000000000L);
+		verify(valueOperations).setIfAbsent(eq(KEY), anyString(), any(Duration.class));
+	}
+	
+	@Test
+	@DisplayName("[정상] 증가 전에 seed를 보장하여 0부터 시작하지 않는다")
+	void increment_SeedsBeforeIncrement() {
+		// Given
+		when(valueOperations.increment(KEY)).thenReturn(1700000000000001L);
+		
+		// When
+		long version = adapter.increment(ROOM_ID, DATE);
+		
+		// Then
+		assertThat(version).isEqualTo(1700000000000001L);
+		var inOrder = inOrder(valueOperations);
+		inOrder.verify(valueOperations).setIfAbsent(eq(KEY), anyString(), any(Duration.class));
+		inOrder.verify(valueOperations).increment(KEY);
+	}
+}
@@ -13,9 +13,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * TimeSlotJpaAdapter 통합 테스트.
@@ -366,4 +368,146 @@ class TimeSlotJpaAdapterIntegrationTest extends BaseIntegrationTest {
 		
 		log.info("=== [상태별 슬롯 개수 조회] 테스트 성공 ===");
 	}
+	
+	@Test
+	@DisplayName("이미 있는 슬롯은 건너뛰고 없는 슬롯만 삽입한다")
+	void insertIfAbsent_skipsExistingSlots() {
+		// Given: 09:00 슬롯은 이미 PENDING으로 저장됨
+		RoomTimeSlot pending = RoomTimeSlot.available(roomId, testDate, testTime);
+		pending.markAsPending(1L);
+		timeSlotPort.save(pending);
+		
+		// When
+		int inserted = timeSlotPort.insertIfAbsent(List.of(
+				RoomTimeSlot.available(roomId, testDate, testTime),
+				RoomTimeSlot.available(roomId, testDate, LocalTime.of(10, 0))
+		));
+		
+		// Then: 기존 행의 상태는 유지됨
+		assertThat(inserted).isEqualTo(1);
+		assertThat(timeSlotPort.findByRoomIdAndSlotDateBetween(roomId, testDate, testDate))
+				.extracting(RoomTimeSlot::getSlotTime, RoomTimeSlot::getStatus)
+				.containsExactlyInAnyOrder(
+						tuple(testTime, SlotStatus.PENDING),
+						tuple(LocalTime.of(10, 0), SlotStatus.AVAILABLE));
+	}
+	
+	@Test
+	@DisplayName("휴무 시간 범위의 AVAILABLE 슬롯만 한 번의 UPDATE로 CLOSED로 변경한다")
+	void closeAvailableSlotsBetween_skipsReservedSlots() {
+		// Given: 09:00 PENDING, 10:00 AVAILABLE, 14:00 AVAILABLE
+		RoomTimeSlot pending = RoomTimeSlot.available(roomId, testDate, testTime);
+		pending.markAsPending(1L);
+		timeSlotPort.saveAll(List.of(
+				pending,
+				RoomTimeSlot.available(roomId, testDate, LocalTime.of(10, 0)),
+				RoomTimeSlot.available(roomId, testDate, LocalTime.of(14, 0))
+		));
+		
+		// When: 09:00 ~ 10:00 휴무
+		int closed = timeSlotPort.closeAvailableSlotsBetween(
+				roomId, testDate, testDate, LocalTime.of(9, 0), LocalTime.of(10, 0));
+		int closedOnDates = timeSlotPort.closeAvailableSlotsOn(roomId, List.of(testDate), null, null);
+		
+		// Then: 예약 중인 슬롯은 유지되고, 종일 휴무는 남은 AVAILABLE 슬롯에만 적용됨
+		assertThat(closed).isEqualTo(1);
+		assertThat(closedOnDates).isEqualTo(1);
+		assertThat(timeSlotPort.findByRoomIdAndSlotDateAndStatus(roomId, testDate, SlotStatus.CLOSED))
+				.extracting(RoomTimeSlot::getSlotTime)
+				.containsExactlyInAnyOrder(LocalTime.of(10, 0), LocalTime.of(14, 0));
+		assertThat(timeSlotPort.findByRoomIdAndSlotDateAndStatus(roomId, testDate, SlotStatus.PENDING))
+				.hasSize(1);
+	}
+	
+	@Test
+	@DisplayName("공통 휴일의 AVAILABLE 슬롯을 모든 룸에서 한 번의 UPDATE로 CLOSED로 변경한다")
+	void closeAvailableSlotsOnAllRooms_closesEveryRoom() {
+		// Given: 두 룸의 휴일 슬롯과 다른 날짜의 슬롯
+		Long otherRoomId = roomId + 1;
+		RoomTimeSlot pending = RoomTimeSlot.available(otherRoomId, testDate, LocalTime.of(10, 0));
+		pending.markAsPending(1L);
+		timeSlotPort.saveAll(List.of(
+				RoomTimeSlot.available(roomId, testDate, testTime),
+				RoomTimeSlot.available(otherRoomId, testDate, testTime),
+				pending,
+				RoomTimeSlot.available(roomId, testDate.plusDays(1), testTime)
+		));
+		
+		// When
+		Map<LocalDate, List<Long>> roomIdsByDate = timeSlotPort.findRoomIdsWithAvailableSlotsOn(List.of(testDate));
+		int closed = timeSlotPort.closeAvailableSlotsOnAllRooms(List.of(testDate));
+		
+		// Then: 휴일의 AVAILABLE 슬롯만 변경됨
+		assertThat(roomIdsByDate).containsOnlyKeys(testDate);
+		assertThat(roomIdsByDate.get(testDate)).containsExactlyInAnyOrder(roomId, otherRoomId);
+		assertThat(closed).isEqualTo(2);
+		assertThat(timeSlotPort.findByRoomIdAndSlotDateAndStatus(otherRoomId, testDate, SlotStatus.PENDING))
+				.hasSize(1);
+		assertThat(timeSlotPort.findByRoomIdAndSlotDateAndStatus(roomId, testDate.plusDays(1), SlotStatus.AVAILABLE))
+				.hasSize(1);
+	}
+	
+	@Test
+	@DisplayName("여러 예약의 슬롯을 한 번에 조회하고 상태 조건부 UPDATE로 확정/해제한다")
+	void confirmAndReleaseSlotsByIds_onlyMatchingStatus() {
+		// Given: 예약 1(PENDING 2개), 예약 2(RESERVED 1개), 다른 AVAILABLE 슬롯
+		RoomTimeSlot pending1 = RoomTimeSlot.available(roomId, testDate, testTime);
+		pending1.markAsPending(1L);
+		RoomTimeSlot pending2 = RoomTimeSlot.available(roomId, testDate, LocalTime.of(10, 0));
+		pending2.markAsPending(1L);
+		RoomTimeSlot reserved = RoomTimeSlot.available(roomId, testDate, LocalTime.of(11, 0));
+		reserved.markAsPending(2L);
+		reserved.confirm();
+		RoomTimeSlot available = RoomTimeSlot.available(roomId, testDate, LocalTime.of(12, 0));
+		List<RoomTimeSlot> saved = timeSlotPort.saveAll(List.of(pending1, pending2, reserved, available));
+		List<Long> slotIds = saved.stream().map(RoomTimeSlot::getSlotId).toList();
+		
+		// When
+		List<RoomTimeSlot> found = timeSlotPort.findByReservationIds(List.of(1L, 2L));
+		int confirmed = timeSlotPort.confirmPendingSlotsByIds(slotIds);
+		int released = timeSlotPort.releaseReservedSlotsByIds(List.of(saved.get(2).getSlotId(), saved.get(3).getSlotId()));
+		
+		// Then: PENDING만 확정되고, 해제는 예약된 슬롯에만 적용됨
+		assertThat(found).hasSize(3);
+		assertThat(timeSlotPort.findByReservationIds(List.of())).isEmpty();
+		assertThat(confirmed).isEqualTo(2);
+		assertThat(released).isEqualTo(1);
+		assertThat(timeSlotPort.findByRoomIdAndSlotDateAndStatus(roomId, testDate, SlotStatus.RESERVED))
+				.extracting(RoomTimeSlot::getSlotTime)
+				.containsExactlyInAnyOrder(testTime, LocalTime.of(10, 0));
+		assertThat(timeSlotPort.findByRoomIdAndSlotDateAndStatus(roomId, testDate, SlotStatus.AVAILABLE))
+				.extracting(RoomTimeSlot::getSlotTime)
+				.containsExactlyInAnyOrder(LocalTime.of(11, 0), LocalTime.of(12, 0));
+	}
+	
+	@Test
+	@DisplayName("운영시간 변경 닫기는 AVAILABLE 슬롯에만 적용되고 예약 진행 중인 슬롯은 그대로 둔다")
+	void closeAvailableSlotsByIds_onlyAvailable() {
+		// Given: 재생성 diff 계산 이후 한 슬롯이 PENDING으로 바뀐 상황
+		RoomTimeSlot available = RoomTimeSlot.available(roomId, testDate, testTime);
+		RoomTimeSlot pending = RoomTimeSlot.available(roomId, testDate, LocalTime.of(10, 0));
+		pending.markAsPending(1L);
+		RoomTimeSlot removed = RoomTimeSlot.available(roomId, testDate, LocalTime.of(11, 0));
+		List<RoomTimeSlot> saved = timeSlotPort.saveAll(List.of(available, pending, removed));
+		Long availableId = saved.get(0).getSlotId();
+		Long pendingId = saved.get(1).getSlotId();
+		Long removedId = saved.get(2).getSlotId();
+		timeSlotPort.deleteAvailableSlotsByIds(List.of(removedId));
+		
+		// When
+		int closed = timeSlotPort.closeAvailableSlotsByIds(List.of(availableId, pendingId));
+		Map<Long, SlotStatus> statuses = timeSlotPort.findStatusesByIds(List.of(availableId, pendingId, removedId));
+		
+		// Then: PENDING 슬롯과 예약 ID는 유지되고, 삭제된 슬롯은 조회되지 않음
+		assertThat(closed).isEqualTo(1);
+		assertThat(statuses)
+				.containsEntry(availableId, SlotStatus.CLOSED)
+				.containsEntry(pendingId, SlotStatus.PENDING)
+				.doesNotContainKey(removedId);
+		assertThat(timeSlotPort.findByReservationIds(List.of(1L)))
+				.extracting(RoomTimeSlot::getSlotId)
+				.containsExactly(pendingId);
+		assertThat(timeSlotPort.closeAvailableSlotsByIds(List.of())).isZero();
+		assertThat(timeSlotPort.findStatusesByIds(List.of())).isEmpty();
+	}
 }
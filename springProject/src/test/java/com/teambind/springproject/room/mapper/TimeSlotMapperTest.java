@@ -3,6 +3,7 @@ package com.teambind.springproject.room.mapper;
 import com.teambind.springproject.room.entity.RoomTimeSlot;
 import com.teambind.springproject.room.entity.enums.SlotStatus;
 import com.teambind.springproject.room.query.dto.AvailableSlotResponse;
+import com.teambind.springproject.room.query.dto.CompactDailyAvailabilityResponse;
 import com.teambind.springproject.room.query.dto.SlotAvailabilityResponse;
 import com.teambind.springproject.room.query.dto.TimeSlotResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -334,4 +335,51 @@ class TimeSlotMapperTest {
 		log.info("=== [빈 목록을 변환하면 빈 목록을 반환한다] 테스트 성공 ===");
 	}
 	
+	@Test
+	@DisplayName("슬롯 목록을 날짜별 상태 run-length 압축 응답으로 변환한다")
+	void toCompactDailyAvailabilityList() {
+		// Given: 9:00, 9:30 AVAILABLE / 10:00 PENDING / 10:30 없음 / 11:00 RESERVED / 11:30 CLOSED
+		LocalDate date = LocalDate.of(2025, 11, 5);
+		RoomTimeSlot pending = RoomTimeSlot.available(100L, date, LocalTime.of(10, 0));
+		pending.markAsPending(1L);
+		RoomTimeSlot reserved = RoomTimeSlot.available(100L, date, LocalTime.of(11, 0));
+		reserved.markAsPending(2L);
+		reserved.confirm();
+		RoomTimeSlot closed = RoomTimeSlot.available(100L, date, LocalTime.of(11, 30));
+		closed.markAsClosed();
+		List<RoomTimeSlot> slots = List.of(
+				closed,
+				RoomTimeSlot.available(100L, date, LocalTime.of(9, 30)),
+				reserved,
+				RoomTimeSlot.available(100L, date, LocalTime.of(9, 0)),
+				pending
+		);
+		
+		// When
+		List<CompactDailyAvailabilityResponse> result =
+				mapper.toCompactDailyAvailabilityList(100L, date, date.plusDays(1), slots);
+		
+		// Then
+		assertThat(result).hasSize(2);
+		assertThat(result.get(0)).isEqualTo(new CompactDailyAvailabilityResponse(
+				100L, date, LocalTime.of(9, 0), 30, "2A1P1.1R1C"));
+		assertThat(result.get(1)).isEqualTo(new CompactDailyAvailabilityResponse(
+				100L, date.plusDays(1), null, 60, ""));
+	}
+	
+	@Test
+	@DisplayName("슬롯이 하나뿐이면 기본 간격(60분)을 사용한다")
+	void toCompactDailyAvailabilityList_SingleSlot() {
+		// Given
+		LocalDate date = LocalDate.of(2025, 11, 5);
+		List<RoomTimeSlot> slots = List.of(RoomTimeSlot.available(100L, date, LocalTime.of(13, 0)));
+		
+		// When
+		List<CompactDailyAvailabilityResponse> result =
+				mapper.toCompactDailyAvailabilityList(100L, date, date, slots);
+		
+		// Then
+		assertThat(result).containsExactly(new CompactDailyAvailabilityResponse(
+				100L, date, LocalTime.of(13, 0), 60, "1A"));
+	}
 }
@@ -0,0 +1,110 @@
+package com.teambind.springproject.room.query.application;
+
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.domain.port.AvailabilityVersionPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+/**
+ * SlotAvailabilityVersionService 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlotAvailabilityVersionService 단위 테스트")
+class SlotAvailabilityVersionServiceTest {
+	
+	private static final Long ROOM_ID = 100L;
+	private static final LocalDate DATE = LocalDate.of(2025, 1, 20);
+	
+	@Mock
+	private AvailabilityVersionPort availabilityVersionPort;
+	
+	@InjectMocks
+	private SlotAvailabilityVersionService service;
+	
+	@Test
+	@DisplayName("[정상] 현재 버전으로 strong ETag를 생성한다")
+	void findAvailabilityETag() {
+		// Given
+		when(availabilityVersionPort.currentVersion(ROOM_ID, DATE)).thenReturn(255L);
+		
+		// When
+		Optional<String> eTag = service.findAvailabilityETag(ROOM_ID, DATE);
+		
+		// Then
+		assertThat(eTag).contains("\"ff\"");
+	}
+	
+	@Test
+	@DisplayName("[정상] 버전이 증가하면 ETag도 달라진다")
+	void eTagChangesWhenVersionChanges() {
+		// Given
+		when(availabilityVersionPort.currentVersion(ROOM_ID, DATE)).thenReturn(1L, 2L);
+		
+		// When
+		Optional<String> before = service.findAvailabilityETag(ROOM_ID, DATE);
+		Optional<String> after = service.findAvailabilityETag(ROOM_ID, DATE);
+		
+		// Then
+		assertThat(before).isNotEqualTo(after);
+	}
+	
+	@Test
+	@DisplayName("[정상] 응답 표현별로 구분되는 ETag를 생성한다")
+	void findAvailabilityETag_WithVariant() {
+		// Given
+		when(availabilityVersionPort.currentVersion(ROOM_ID, DATE)).thenReturn(255L);
+		
+		// When
+		Optional<String> eTag = service.findAvailabilityETag(ROOM_ID, DATE, "compact");
+		
+		// Then
+		assertThat(eTag).contains("\"ff-compact\"");
+	}
+	
+	@Test
+	@DisplayName("[장애] 버전 저장소 조회 실패 시 ETag 없이 동작한다")
+	void findAvailabilityETag_StoreFailure() {
+		// Given
+		when(availabilityVersionPort.currentVersion(ROOM_ID, DATE))
+				.thenThrow(new IllegalStateException("redis down"));
+		
+		// When
+		Optional<String> eTag = service.findAvailabilityETag(ROOM_ID, DATE);
+		
+		// Then
+		assertThat(eTag).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("[정상] 가용성 변경 이벤트 수신 시 버전을 증가시킨다")
+	void onSlotAvailabilityChanged() {
+		// When
+		service.onSlotAvailabilityChanged(new SlotAvailabilityChangedEvent(ROOM_ID, DATE));
+		
+		// Then
+		verify(availabilityVersionPort).increment(ROOM_ID, DATE);
+	}
+	
+	@Test
+	@DisplayName("[장애] 버전 증가 실패는 예외를 전파하지 않는다")
+	void onSlotAvailabilityChanged_StoreFailure() {
+		// Given
+		when(availabilityVersionPort.increment(ROOM_ID, DATE))
+				.thenThrow(new IllegalStateException("redis down"));
+		
+		// When & Then
+		assertThatCode(() -> service.onSlotAvailabilityChanged(new SlotAvailabilityChangedEvent(ROOM_ID, DATE)))
+				.doesNotThrowAnyException();
+	}
+}
@@ -0,0 +1,126 @@
+package com.teambind.springproject.room.query.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teambind.springproject.room.domain.event.SlotAvailabilityChangedEvent;
+import com.teambind.springproject.room.query.cache.EncodedAvailabilityResponseCache.EncodedResponse;
+import com.teambind.springproject.room.query.dto.AvailabilityRepresentation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EncodedAvailabilityResponseCache 단위 테스트")
+class EncodedAvailabilityResponseCacheTest {
+	
+	private static final Long ROOM_ID = 100L;
+	private static final LocalDate DATE = LocalDate.of(2025, 1, 20);
+	
+	private EncodedAvailabilityResponseCache cache;
+	private AtomicInteger bodyCalls;
+	private Supplier<Object> body;
+	
+	@BeforeEach
+	void setUp() {
+		cache = new EncodedAvailabilityResponseCache(
+				new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry(), 3, 64);
+		bodyCalls = new AtomicInteger();
+		body = () -> {
+			bodyCalls.incrementAndGet();
+			return List.of("10:00", "11:00");
+		};
+	}
+	
+	@Test
+	@DisplayName("[정상] ETag가 같으면 다시 조회/직렬화하지 않고 같은 바이트를 반환한다")
+	void hitWithSameETag() {
+		// When
+		EncodedResponse first = cache.getOrEncode(ROOM_ID, DATE, AvailabilityRepresentation.JSON, "\"1\"", body);
+		EncodedResponse second = cache.getOrEncode(ROOM_ID, DATE, AvailabilityRepresentation.JSON, "\"1\"", body);
+		
+		// Then
+		assertThat(bodyCalls).hasValue(1);
+		assertThat(second).isSameAs(first);
+		assertThat(new String(first.body(), StandardCharsets.UTF_8)).isEqualTo("[\"10:00\",\"11:00\"]");
+	}
+	
+	@Test
+	@DisplayName("[정상] ETag가 바뀌면(다른 인스턴스의 변경 포함) 다시 인코딩한다")
+	void missWithNewETag() {
+		// When
+		cache.getOrEncode(ROOM_ID, DATE, AvailabilityRepresentation.JSON, "\"1\"", body);
+		EncodedResponse refreshed = cache.getOrEncode(ROOM_ID, DATE, AvailabilityRepresentation.JSON, "\"2\"", body);
+		
+		// Then
+		assertThat(bodyCalls).hasValue(2);
+		assertThat(refreshed.eTag()).isEqualTo("\"2\"");
+	}
+	
+	@Test
+	@DisplayName("[정상] 표현별로 따로 캐시한다")
+	void separatedByRepresentation() {
+		// When
+		EncodedResponse json = cache.getOrEncode(ROOM_ID, DATE, AvailabilityRepresentation.COMPACT, "\"1-compact\"", body);
+		EncodedResponse cbor = cache.getOrEncode(ROOM_ID, DATE, AvailabilityRepresentation.COMPACT_CBOR, "\"1-compact-cbor\"", body);
+		
+		// Then
+		assertThat(bodyCalls).hasValue(2);
+		assertThat(cbor.body()).isNotEqualTo(json.body());
+	}
+	
+	@Test
+	@DisplayName("[정상] 가용성 변경 이벤트 수신 시 해당 날짜의 모든 표현을 제거한다")
+	void evictOnAvailabilityChanged() {
+		// Given
+		cache.getOrEncode(ROOM_ID, DATE, AvailabilityRepresentation.JSON, "\"1\"", body);
+		cache.getOrEncode(ROOM_ID, DATE, AvailabilityRepresentation.COMPACT, "\"1-compact\"", body);
+		cache.getOrEncode(ROOM_ID, DATE.plusDays(1), AvailabilityRepresentation.JSON, "\"1\"", body);
+		
+		// When
+		cache.onSlotAvailabilityChanged(new SlotAvailabilityChangedEvent(ROOM_ID, DATE));
+		
+		// Then
+		assertThat(cache.size()).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("[정상] 일정 크기 이상의 응답은 gzip 압축본을 함께 보관한다")
+	void gzipLargeBody() throws IOException {
+		// Given
+		String large = "A".repeat(200);
+		
+		// When
+		EncodedResponse small = cache.getOrEncode(ROOM_ID, DATE, AvailabilityRepresentation.JSON, "\"1\"", body);
+		EncodedResponse big = cache.getOrEncode(ROOM_ID, DATE.plusDays(1), AvailabilityRepresentation.JSON, "\"1\"", () -> large);
+		
+		// Then
+		assertThat(small.hasGzippedBody()).isFalse();
+		assertThat(big.hasGzippedBody()).isTrue();
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(big.gzippedBody()))) {
+			assertThat(in.readAllBytes()).isEqualTo(big.body());
+		}
+	}
+	
+	@Test
+	@DisplayName("[정상] 항목 수가 상한에 도달하면 일부를 제거하여 메모리를 제한한다")
+	void boundedSize() {
+		// When
+		for (int day = 0; day < 10; day++) {
+			cache.getOrEncode(ROOM_ID, DATE.plusDays(day), AvailabilityRepresentation.JSON, "\"1\"", body);
+		}
+		
+		// Then
+		assertThat(cache.size()).isLessThanOrEqualTo(3);
+	}
+}
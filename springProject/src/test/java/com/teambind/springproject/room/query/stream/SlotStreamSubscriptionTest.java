@@ -0,0 +1,165 @@
+package com.teambind.springproject.room.query.stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SlotStreamSubscription 단위 테스트.
+ * <p>
+ * 전송 작업을 즉시 실행하지 않고 모아 두었다가 수동으로 실행하여 느린 클라이언트를 재현한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlotStreamSubscription 단위 테스트")
+class SlotStreamSubscriptionTest {
+	
+	private static final LocalDate FROM = LocalDate.of(2025, 1, 20);
+	private static final LocalDate TO = LocalDate.of(2025, 1, 22);
+	private static final SlotStreamSubscription.Message RESYNC =
+			new SlotStreamSubscription.Message("resync", "{\"roomId\":100}");
+	
+	@Mock
+	private SseEmitter emitter;
+	
+	@Mock
+	private Consumer<SlotStreamSubscription> onClose;
+	
+	private final List<Runnable> pendingTasks = new ArrayList<>();
+	private SlotStreamSubscription subscription;
+	
+	@BeforeEach
+	void setUp() {
+		subscription = new SlotStreamSubscription(100L, FROM, TO, emitter, 2, pendingTasks::add, RESYNC, onClose);
+	}
+	
+	@Test
+	@DisplayName("[정상] 구독 날짜 범위에 포함되는지 판단한다")
+	void covers() {
+		assertThat(subscription.covers(FROM)).isTrue();
+		assertThat(subscription.covers(TO)).isTrue();
+		assertThat(subscription.covers(FROM.minusDays(1))).isFalse();
+		assertThat(subscription.covers(TO.plusDays(1))).isFalse();
+	}
+	
+	@Test
+	@DisplayName("[정상] 버퍼에 여유가 있으면 메시지를 순서대로 전송한다")
+	void deliversInOrder() throws IOException {
+		// When
+		assertThat(subscription.enqueue(message("a"))).isTrue();
+		assertThat(subscription.enqueue(message("b"))).isTrue();
+		runPendingTasks();
+		
+		// Then
+		assertThat(sentEventNames()).containsExactly("a", "b");
+		assertThat(pendingTasks).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("[드롭] 버퍼가 가득 차면 밀린 메시지를 버리고 resync 하나로 대체한다")
+	void overflowReplacedWithResync() throws IOException {
+		// When
+		subscription.enqueue(message("a"));
+		subscription.enqueue(message("b"));
+		boolean accepted = subscription.enqueue(message("c"));
+		runPendingTasks();
+		
+		// Then
+		assertThat(accepted).isFalse();
+		assertThat(sentEventNames()).containsExactly("resync");
+	}
+	
+	@Test
+	@DisplayName("[정상] 구독자당 전송 작업은 동시에 하나만 제출된다")
+	void singleDrainTaskPerSubscriber() {
+		// When
+		subscription.enqueue(message("a"));
+		subscription.enqueue(message("b"));
+		
+		// Then
+		assertThat(pendingTasks).hasSize(1);
+	}
+	
+	@Test
+	@DisplayName("[장애] 전송 실패 시 구독을 해제한다")
+	void closesOnSendFailure() throws IOException {
+		// Given
+		doThrow(new IOException("broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+		
+		// When
+		subscription.enqueue(message("a"));
+		runPendingTasks();
+		
+		// Then
+		verify(onClose).accept(subscription);
+		assertThat(subscription.enqueue(message("b"))).isTrue();
+		assertThat(pendingTasks).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("[동시성] 여러 스레드가 동시에 닫아도 onClose는 한 번만 호출된다")
+	void closesOnceUnderConcurrentClose() throws InterruptedException {
+		// Given
+		int threads = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		
+		// When: 완료/타임아웃/오류 콜백이 동시에 들어온 상황
+		for (int i = 0; i < threads; i++) {
+			pool.execute(() -> {
+				try {
+					start.await();
+					subscription.close();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		start.countDown();
+		pool.shutdown();
+		assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		
+		// Then
+		verify(onClose, times(1)).accept(subscription);
+	}
+	
+	private SlotStreamSubscription.Message message(String name) {
+		return new SlotStreamSubscription.Message(name, "{}");
+	}
+	
+	private void runPendingTasks() {
+		while (!pendingTasks.isEmpty()) {
+			pendingTasks.remove(0).run();
+		}
+	}
+	
+	private List<String> sentEventNames() throws IOException {
+		ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+		verify(emitter, atLeast(0)).send(captor.capture());
+		return captor.getAllValues().stream()
+				.map(builder -> builder.build().stream()
+						.map(data -> data.getData().toString())
+						.collect(Collectors.joining()))
+				.map(text -> text.substring("event:".length(), text.indexOf('\n')))
+				.toList();
+	}
+}
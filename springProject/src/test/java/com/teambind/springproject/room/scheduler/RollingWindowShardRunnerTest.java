@@ -0,0 +1,138 @@
+package com.teambind.springproject.room.scheduler;
+
+import com.teambind.springproject.room.command.domain.service.TimeSlotGenerationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RollingWindowShardRunner 단위 테스트.
+ * <p>
+ * 테스트 범위:
+ * <p>
+ * - 샤드별 Lock 획득 및 뒤처진 룸만 생성
+ * - 다른 인스턴스가 처리 중인 샤드는 재시도 후 처리
+ * - 일부 룸 실패 시 샤드 지연 지표 기록
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RollingWindowShardRunner 테스트")
+class RollingWindowShardRunnerTest {
+
+	private static final int SHARD_COUNT = 3;
+	private static final LocalDate HORIZON = LocalDate.of(2026, 11, 30);
+
+	@Mock
+	private TimeSlotGenerationService generationService;
+
+	@Mock
+	private LockProvider lockProvider;
+
+	@Mock
+	private SimpleLock lock;
+
+	private SimpleMeterRegistry meterRegistry;
+	private RollingWindowShardRunner runner;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		runner = new RollingWindowShardRunner(generationService, lockProvider, meterRegistry,
+				SHARD_COUNT, Duration.ofMinutes(2), Duration.ofMillis(10), Duration.ofSeconds(5));
+		lenient().when(generationService.findRoomIdsBehind(eq(HORIZON), eq(SHARD_COUNT), anyInt()))
+				.thenReturn(List.of());
+	}
+
+	private double roomsBehind(int shard) {
+		return meterRegistry.get("room.rolling_window.shard.rooms_behind")
+				.tag("shard", String.valueOf(shard)).gauge().value();
+	}
+
+	@Test
+	@DisplayName("[정상] 모든 샤드의 Lock을 얻어 뒤처진 룸이 있는 샤드만 생성한다")
+	void processesEveryShard() {
+		// Given: 샤드 1에만 뒤처진 룸 존재
+		when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+		when(generationService.findRoomIdsBehind(HORIZON, SHARD_COUNT, 1))
+				.thenReturn(List.of(1L, 4L))
+				.thenReturn(List.of());
+		when(generationService.generateSlotsThroughForRooms(eq(List.of(1L, 4L)), eq(HORIZON), any()))
+				.thenReturn(20);
+
+		// When
+		int generated = runner.run(HORIZON);
+
+		// Then
+		assertThat(generated).isEqualTo(20);
+		ArgumentCaptor<LockConfiguration> configs = ArgumentCaptor.forClass(LockConfiguration.class);
+		verify(lockProvider, times(SHARD_COUNT)).lock(configs.capture());
+		assertThat(configs.getAllValues()).extracting(LockConfiguration::getName)
+				.containsExactlyInAnyOrder("maintainRollingWindow-shard-0",
+						"maintainRollingWindow-shard-1", "maintainRollingWindow-shard-2");
+		verify(generationService, times(1)).generateSlotsThroughForRooms(any(), any(), any());
+		verify(lock, times(SHARD_COUNT)).unlock();
+		assertThat(roomsBehind(1)).isZero();
+	}
+
+	@Test
+	@DisplayName("[정상] 다른 인스턴스가 처리 중인 샤드는 Lock이 풀린 뒤 다시 확인한다")
+	void retriesBusyShard() {
+		// Given: 모든 샤드가 처음에는 다른 인스턴스에 잡혀 있음
+		when(lockProvider.lock(any()))
+				.thenReturn(Optional.empty(), Optional.empty(), Optional.empty())
+				.thenReturn(Optional.of(lock));
+
+		// When
+		runner.run(HORIZON);
+
+		// Then
+		verify(lockProvider, times(SHARD_COUNT * 2)).lock(any());
+		verify(generationService, times(SHARD_COUNT)).findRoomIdsBehind(eq(HORIZON), eq(SHARD_COUNT), anyInt());
+		verify(generationService, never()).generateSlotsThroughForRooms(any(), any(), any());
+		assertThat(meterRegistry.get("room.rolling_window.shards").tag("result", "busy").counter().count())
+				.isEqualTo(SHARD_COUNT);
+	}
+
+	@Test
+	@DisplayName("[예외] 일부 룸이 실패하면 남은 룸 수를 샤드 지연으로 기록하고 다음 샤드로 넘어간다")
+	void recordsLagWhenRoomsFail() {
+		// Given
+		when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+		when(generationService.findRoomIdsBehind(HORIZON, SHARD_COUNT, 2))
+				.thenReturn(List.of(2L, 5L, 8L))
+				.thenReturn(List.of(5L));
+		when(generationService.generateSlotsThroughForRooms(any(), eq(HORIZON), any())).thenReturn(10);
+
+		// When
+		runner.run(HORIZON);
+
+		// Then
+		assertThat(roomsBehind(2)).isEqualTo(1);
+		assertThat(meterRegistry.get("room.rolling_window.shards").tag("result", "failed").counter().count())
+				.isEqualTo(1);
+		verify(generationService, atLeast(1)).findRoomIdsBehind(HORIZON, SHARD_COUNT, 0);
+	}
+}
@@ -8,6 +8,7 @@ import com.teambind.springproject.room.entity.enums.RecurrencePattern;
 import com.teambind.springproject.room.entity.enums.SlotUnit;
 import com.teambind.springproject.room.entity.vo.WeeklySlotSchedule;
 import com.teambind.springproject.room.entity.vo.WeeklySlotTime;
+import com.teambind.springproject.room.repository.RoomGenerationWatermarkRepository;
 import com.teambind.springproject.room.repository.RoomOperatingPolicyRepository;
 import com.teambind.springproject.room.repository.RoomTimeSlotRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -15,11 +16,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -42,6 +51,9 @@ class TimeSlotGenerationServiceIntegrationTest extends BaseIntegrationTest {
 	@Autowired
 	private RoomOperatingPolicyRepository policyRepository;
 	
+	@Autowired
+	private RoomGenerationWatermarkRepository watermarkRepository;
+	
 	private Long roomId;
 	private RoomOperatingPolicy policy;
 	
@@ -250,8 +262,17 @@ class TimeSlotGenerationServiceIntegrationTest extends BaseIntegrationTest {
 	}
 	
 	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED) // 룸별 생성은 새 트랜잭션이므로 커밋된 정책만 볼 수 있다
 	@DisplayName("모든 룸에 대해 슬롯을 생성한다")
 	void generateSlotsForAllRooms() {
+		try {
+			generateSlotsForAllRoomsScenario();
+		} finally {
+			deleteCommittedData();
+		}
+	}
+	
+	private void generateSlotsForAllRoomsScenario() {
 		log.info("=== [모든 룸에 대해 슬롯을 생성한다] 테스트 시작 ===");
 		
 		// Given
@@ -442,72 +463,6 @@ class TimeSlotGenerationServiceIntegrationTest extends BaseIntegrationTest {
 		log.info("=== [특정 날짜 이전의 슬롯을 삭제한다] 테스트 성공 ===");
 	}
 	
-	@Test
-	@DisplayName("미래 슬롯을 재생성한다")
-	void regenerateFutureSlots() {
-		log.info("=== [미래 슬롯을 재생성한다] 테스트 시작 ===");
-		
-		// Given
-		log.info("[Given] 테스트 데이터 준비");
-		LocalDate today = LocalDate.now();
-		log.info("[Given] - 오늘 날짜: {}", today);
-		
-		// 기존 미래 슬롯 생성 (오늘 포함)
-		RoomTimeSlot oldSlot1 = RoomTimeSlot.available(roomId, today, LocalTime.of(9, 0));
-		RoomTimeSlot oldSlot2 = RoomTimeSlot.available(roomId, today.plusDays(1), LocalTime.of(9, 0));
-		
-		slotRepository.save(oldSlot1);
-		slotRepository.save(oldSlot2);
-		log.info("[Given] - 기존 슬롯 생성: {} 9시", today);
-		log.info("[Given] - 기존 슬롯 생성: {} 9시", today.plusDays(1));
-		
-		long oldSlotCount = slotRepository.count();
-		log.info("[Given] - 기존 슬롯 총 개수: {}", oldSlotCount);
-		
-		// When
-		log.info("[When] generationService.regenerateFutureSlots() 호출");
-		log.info("[When] - 파라미터: roomId={}", roomId);
-		log.info("[When] - 재생성 범위: 오늘({})부터 60일간", today);
-		int regeneratedCount = generationService.regenerateFutureSlots(roomId);
-		log.info("[When] - 반환 값: {} 개의 슬롯 재생성됨", regeneratedCount);
-		
-		// Then
-		log.info("[Then] 결과 검증 시작");
-		log.info("[Then] [검증1] 재생성된 슬롯 개수");
-		log.info("[Then] - 예상(Expected): 0개 초과 (기존 슬롯 삭제 후 새로 생성)");
-		log.info("[Then] - 실제(Actual): {}개", regeneratedCount);
-		// 기존 슬롯이 삭제되고 새 슬롯이 생성됨
-		assertThat(regeneratedCount).isGreaterThan(0);
-		log.info("[Then] - ✓ 슬롯이 재생성됨");
-		
-		// 오늘부터 60일치 슬롯이 생성됨 (수요일만)
-		LocalDate endDate = today.plusDays(60);
-		log.info("[Then] [검증2] 재생성된 슬롯 조회");
-		List<RoomTimeSlot> newSlots = slotRepository.findByRoomIdAndSlotDateBetween(
-				roomId, today, endDate
-		);
-		log.info("[Then] - 조회 범위: {} ~ {} (60일)", today, endDate);
-		log.info("[Then] - 조회된 슬롯 개수: {}", newSlots.size());
-		log.info("[Then] - 샘플 슬롯 (최대 5개):");
-		newSlots.stream().limit(5).forEach(slot ->
-				log.info("[Then]   - 슬롯: 날짜={} ({}), 시간={}시",
-						slot.getSlotDate(), slot.getSlotDate().getDayOfWeek(), slot.getSlotTime().getHour())
-		);
-		
-		log.info("[Then] [검증3] 슬롯이 운영 정책에 맞게 생성되었는지 확인");
-		long wednesdayCount = newSlots.stream().filter(slot -> slot.getSlotDate().getDayOfWeek() == DayOfWeek.WEDNESDAY).count();
-		log.info("[Then] - 수요일 슬롯 개수: {}", wednesdayCount);
-		log.info("[Then] - 예상(Expected): 모든 슬롯이 수요일이거나 roomId={}", roomId);
-		// 수요일만 생성되었는지 확인
-		assertThat(newSlots).allMatch(slot ->
-				slot.getSlotDate().getDayOfWeek() == DayOfWeek.WEDNESDAY ||
-						slot.getRoomId().equals(roomId)
-		);
-		log.info("[Then] - ✓ 운영 정책에 맞게 슬롯 생성됨");
-		
-		log.info("=== [미래 슬롯을 재생성한다] 테스트 성공 ===");
-	}
-	
 	@Test
 	@DisplayName("슬롯 생성 후 조회가 정상적으로 동작한다")
 	void generateAndQuery() {
@@ -638,4 +593,73 @@ class TimeSlotGenerationServiceIntegrationTest extends BaseIntegrationTest {
 		
 		log.info("=== [중복 생성을 시도하면 기존 슬롯을 유지한다] 테스트 성공 ===");
 	}
+	
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED) // 룸 묶음별 생성은 새 트랜잭션이므로 커밋된 정책만 볼 수 있다
+	@DisplayName("워터마크 기준 보충 생성은 누락 구간만 생성하고 다시 실행하면 아무것도 생성하지 않는다")
+	void generateSlotsThroughForAllRooms_isIdempotent() {
+		try {
+			// Given: 수요일만 운영, 2주 구간 (수요일 2번)
+			LocalDate horizon = LocalDate.now().plusDays(13);
+			
+			// When
+			int firstRun = generationService.generateSlotsThroughForAllRooms(horizon, () -> {
+			});
+			int secondRun = generationService.generateSlotsThroughForAllRooms(horizon, () -> {
+			});
+			
+			// Then
+			assertThat(firstRun).isEqualTo(8);
+			assertThat(secondRun).isZero();
+			assertThat(slotRepository.findByRoomIdAndSlotDateBetween(roomId, LocalDate.now(), horizon)).hasSize(8);
+			assertThat(watermarkRepository.findById(roomId))
+					.hasValueSatisfying(watermark -> assertThat(watermark.getGeneratedThrough()).isEqualTo(horizon));
+			assertThat(watermarkRepository.findRoomIdsGeneratedBefore(horizon)).doesNotContain(roomId);
+		} finally {
+			deleteCommittedData();
+		}
+	}
+	
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED) // 두 스레드가 각자 트랜잭션을 커밋해야 한다
+	@DisplayName("[동시성] 워터마크가 없는 룸을 두 경로가 동시에 생성해도 같은 날짜를 한 번만 생성한다")
+	void generateSlotsThrough_concurrentWithoutWatermark() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// Given: 워터마크가 아직 없는 룸, 수요일만 운영, 2주 구간 (수요일 2번)
+			LocalDate horizon = LocalDate.now().plusDays(13);
+			assertThat(watermarkRepository.findById(roomId)).isEmpty();
+			CountDownLatch start = new CountDownLatch(1);
+			Callable<Integer> generate = () -> {
+				start.await();
+				return generationService.generateSlotsThrough(roomId, horizon);
+			};
+			
+			// When: 작업 큐와 샤드 실행기가 같은 룸을 동시에 생성
+			Future<Integer> first = executor.submit(generate);
+			Future<Integer> second = executor.submit(generate);
+			start.countDown();
+			int firstGenerated = first.get(10, TimeUnit.SECONDS);
+			int secondGenerated = second.get(10, TimeUnit.SECONDS);
+			
+			// Then: 한쪽만 생성하고 다른 쪽은 기록된 워터마크를 보고 건너뜀 (PK 충돌/중복 슬롯 없음)
+			assertThat(firstGenerated + secondGenerated).isEqualTo(8);
+			assertThat(List.of(firstGenerated, secondGenerated)).contains(0);
+			assertThat(slotRepository.findByRoomIdAndSlotDateBetween(roomId, LocalDate.now(), horizon)).hasSize(8);
+			assertThat(watermarkRepository.findById(roomId))
+					.hasValueSatisfying(watermark -> assertThat(watermark.getGeneratedThrough()).isEqualTo(horizon));
+		} finally {
+			executor.shutdownNow();
+			deleteCommittedData();
+		}
+	}
+	
+	/**
+	 * 트랜잭션 롤백 없이 실행한 테스트가 커밋한 데이터를 정리한다.
+	 */
+	private void deleteCommittedData() {
+		slotRepository.deleteAllInBatch();
+		watermarkRepository.deleteAllInBatch();
+		policyRepository.deleteAll(); // 휴무일 컬렉션 테이블까지 함께 삭제
+	}
 }
@@ -1,9 +1,17 @@
 package com.teambind.springproject.room.service.integration;
 
+import com.teambind.springproject.common.exceptions.application.InvalidRequestException;
 import com.teambind.springproject.room.BaseIntegrationTest;
+import com.teambind.springproject.room.entity.RoomOperatingPolicy;
 import com.teambind.springproject.room.entity.RoomTimeSlot;
+import com.teambind.springproject.room.entity.enums.RecurrencePattern;
 import com.teambind.springproject.room.entity.enums.SlotStatus;
+import com.teambind.springproject.room.entity.enums.SlotUnit;
+import com.teambind.springproject.room.entity.vo.WeeklySlotSchedule;
+import com.teambind.springproject.room.entity.vo.WeeklySlotTime;
 import com.teambind.springproject.room.query.application.TimeSlotQueryService;
+import com.teambind.springproject.room.query.dto.SlotKey;
+import com.teambind.springproject.room.repository.RoomOperatingPolicyRepository;
 import com.teambind.springproject.room.repository.RoomTimeSlotRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,11 +19,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * TimeSlotQueryService 통합 테스트.
@@ -32,6 +44,9 @@ class TimeSlotQueryServiceIntegrationTest extends BaseIntegrationTest {
 	@Autowired
 	private RoomTimeSlotRepository slotRepository;
 	
+	@Autowired
+	private RoomOperatingPolicyRepository policyRepository;
+	
 	private Long roomId;
 	private LocalDate testDate;
 	
@@ -447,4 +462,98 @@ class TimeSlotQueryServiceIntegrationTest extends BaseIntegrationTest {
 		
 		log.info("=== [다른 룸의 슬롯은 조회되지 않는다] 테스트 성공 ===");
 	}
+	
+	@Test
+	@DisplayName("여러 슬롯의 가용 여부를 요청 순서대로 한 번에 확인한다")
+	void checkSlotsAvailability() {
+		log.info("=== [다건 슬롯 가용성 확인] 테스트 시작 ===");
+		
+		// Given: 11월 5일 9시(AVAILABLE), 10시(PENDING), 11시(RESERVED), 15시(없음), 11월 6일 9시(AVAILABLE), 다른 룸
+		List<SlotKey> slotKeys = List.of(
+				new SlotKey(roomId, testDate, LocalTime.of(9, 0)),
+				new SlotKey(roomId, testDate, LocalTime.of(10, 0)),
+				new SlotKey(roomId, testDate, LocalTime.of(11, 0)),
+				new SlotKey(roomId, testDate, LocalTime.of(15, 0)),
+				new SlotKey(roomId, testDate.plusDays(1), LocalTime.of(9, 0)),
+				new SlotKey(999L, testDate, LocalTime.of(9, 0)),
+				new SlotKey(roomId, testDate, LocalTime.of(9, 0))
+		);
+		
+		// When
+		List<Boolean> result = queryService.checkSlotsAvailability(slotKeys);
+		
+		// Then
+		assertThat(result).containsExactly(true, false, false, false, true, false, true);
+		
+		log.info("=== [다건 슬롯 가용성 확인] 테스트 성공 ===");
+	}
+	
+	@Test
+	@DisplayName("빈 목록으로 다건 가용성 확인 시 예외가 발생한다")
+	void checkSlotsAvailability_Empty() {
+		assertThatThrownBy(() -> queryService.checkSlotsAvailability(List.of()))
+				.isInstanceOf(InvalidRequestException.class);
+	}
+	
+	@Test
+	@DisplayName("예약 가능 기간이 Rolling Window보다 긴 룸은 먼 날짜 슬롯을 저장하지 않고 정책으로 계산해 응답한다")
+	void projectsFarDatesWithinBookingHorizon() {
+		// Given: 매일 09:00 운영, 예약 가능 기간 90일
+		Long farRoomId = 300L;
+		List<WeeklySlotTime> slotTimes = Arrays.stream(DayOfWeek.values())
+				.map(day -> WeeklySlotTime.of(day, LocalTime.of(9, 0)))
+				.toList();
+		RoomOperatingPolicy policy = RoomOperatingPolicy.create(farRoomId, WeeklySlotSchedule.of(slotTimes),
+				RecurrencePattern.EVERY_WEEK, SlotUnit.HOUR, List.of());
+		policy.updateBookingHorizonDays(90);
+		policyRepository.save(policy);
+		LocalDate farDate = LocalDate.now().plusDays(45);
+		
+		// When
+		List<RoomTimeSlot> available = queryService.getAvailableSlots(farRoomId, farDate);
+		
+		// Then: 계산된 슬롯만 응답하고 행은 생성되지 않음
+		assertThat(available).singleElement().satisfies(slot -> {
+			assertThat(slot.getSlotId()).isNull();
+			assertThat(slot.getSlotTime()).isEqualTo(LocalTime.of(9, 0));
+		});
+		assertThat(queryService.isSlotAvailable(farRoomId, farDate, LocalTime.of(9, 0))).isTrue();
+		assertThat(queryService.countAvailableSlots(farRoomId, farDate, farDate.plusDays(1))).isEqualTo(2);
+		assertThat(slotRepository.findByRoomIdAndSlotDateBetween(farRoomId, farDate, farDate)).isEmpty();
+		assertThat(queryService.getAvailableSlots(farRoomId, LocalDate.now().plusDays(91))).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("다건 가용성 확인은 먼 날짜를 룸 정책으로 계산하되 저장된 행과 예약 가능 기간을 따른다")
+	void checkSlotsAvailability_farDates() {
+		// Given: 매일 09:00, 10:00 운영, 예약 가능 기간 90일, 먼 날짜 09:00은 예약된 행이 있음
+		Long farRoomId = 301L;
+		List<WeeklySlotTime> slotTimes = Arrays.stream(DayOfWeek.values())
+				.flatMap(day -> Stream.of(
+						WeeklySlotTime.of(day, LocalTime.of(9, 0)), WeeklySlotTime.of(day, LocalTime.of(10, 0))))
+				.toList();
+		RoomOperatingPolicy policy = RoomOperatingPolicy.create(farRoomId, WeeklySlotSchedule.of(slotTimes),
+				RecurrencePattern.EVERY_WEEK, SlotUnit.HOUR, List.of());
+		policy.updateBookingHorizonDays(90);
+		policyRepository.save(policy);
+		LocalDate farDate = LocalDate.now().plusDays(45);
+		RoomTimeSlot reserved = RoomTimeSlot.available(farRoomId, farDate, LocalTime.of(9, 0));
+		reserved.markAsPending(300L);
+		reserved.confirm();
+		slotRepository.save(reserved);
+		
+		List<SlotKey> slotKeys = List.of(
+				new SlotKey(farRoomId, farDate, LocalTime.of(9, 0)),
+				new SlotKey(farRoomId, farDate, LocalTime.of(10, 0)),
+				new SlotKey(farRoomId, farDate, LocalTime.of(11, 0)),
+				new SlotKey(farRoomId, farDate.plusDays(1), LocalTime.of(9, 0)),
+				new SlotKey(farRoomId, LocalDate.now().plusDays(91), LocalTime.of(9, 0))
+		);
+		
+		// When
+		List<Boolean> result = queryService.checkSlotsAvailability(slotKeys);
+		
+		// Then: 예약된 행 우선, 운영 시각만 가능, 예약 가능 기간 밖은 불가
+		assertThat(result).containsExactly(false, true, false, true, false);
+	}
 }